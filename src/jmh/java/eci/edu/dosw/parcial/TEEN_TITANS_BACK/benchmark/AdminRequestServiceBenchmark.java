@@ -0,0 +1,57 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.benchmark;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.CourseRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.GroupRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.ScheduleChangeRequestRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentAcademicProgressRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.AdminRequestService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Benchmark del cálculo de estadísticas de aprobación ({@code calculateApprovalStats}) a través
+ * de {@link AdminRequestService#getGlobalApprovalRate()}, con el conteo por estado ya resuelto
+ * por el repositorio.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+public class AdminRequestServiceBenchmark {
+
+    private AdminRequestService adminRequestService;
+
+    @Setup
+    public void setUp() {
+        Map<RequestStatus, Long> statusCounts = new EnumMap<>(RequestStatus.class);
+        statusCounts.put(RequestStatus.PENDING, 5_000L);
+        statusCounts.put(RequestStatus.UNDER_REVIEW, 3_500L);
+        statusCounts.put(RequestStatus.APPROVED, 25_000L);
+        statusCounts.put(RequestStatus.REJECTED, 15_000L);
+        statusCounts.put(RequestStatus.CANCELLED, 1_500L);
+
+        ScheduleChangeRequestRepository requestRepository = InMemoryRepositories.of(ScheduleChangeRequestRepository.class)
+                .answer("countGroupedByStatus", args -> statusCounts)
+                .build();
+
+        adminRequestService = new AdminRequestService(requestRepository,
+                InMemoryRepositories.of(StudentRepository.class).build(),
+                InMemoryRepositories.of(GroupRepository.class).build(),
+                InMemoryRepositories.of(CourseRepository.class).build(),
+                InMemoryRepositories.of(StudentAcademicProgressRepository.class).build(),
+                null, null, null);
+    }
+
+    @Benchmark
+    public AdminRequestService.ApprovalStats getGlobalApprovalRate() {
+        return adminRequestService.getGlobalApprovalRate();
+    }
+}
@@ -0,0 +1,111 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.benchmark;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.CourseStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Course;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.CourseStatusDetail;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Group;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.StudentAcademicProgress;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Datos sintéticos para los benchmarks. Se generan con semilla fija para que todas las
+ * ejecuciones midan exactamente el mismo conjunto de datos.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+final class BenchmarkData {
+
+    static final String PROGRAM = "Ingeniería de Sistemas";
+
+    private static final String[] REASONS = {"Cruce de horario", "Motivos de trabajo", "Cita médica",
+            "Conflicto con otra materia", "Preferencia personal", ""};
+
+    private BenchmarkData() {
+    }
+
+    static String studentId(int index) {
+        return String.format("STU%05d", index);
+    }
+
+    static List<Student> students(int count) {
+        Random random = new Random(42);
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Student student = new Student(studentId(i), "Estudiante " + i, "estudiante" + i + "@escuelaing.edu.co",
+                    "secreto", PROGRAM, 1 + random.nextInt(10));
+            student.setGradeAverage(2.0 + random.nextDouble() * 3.0);
+            students.add(student);
+        }
+        return students;
+    }
+
+    static StudentAcademicProgress progress(Student student, Random random, int courses) {
+        StudentAcademicProgress progress = new StudentAcademicProgress();
+        progress.setId("PRG-" + student.getId());
+        progress.setStudent(student);
+        progress.setAcademicProgram(student.getAcademicProgram());
+        progress.setFaculty("Ingeniería");
+        progress.setCurriculumType("2020");
+        progress.setCurrentSemester(student.getSemester());
+        progress.setTotalSemesters(10);
+        progress.setTotalCreditsRequired(160);
+        progress.setCompletedCredits(Math.min(160, student.getSemester() * 16 - random.nextInt(20)));
+        progress.setCumulativeGPA(2.0 + random.nextDouble() * 3.0);
+        progress.setCoursesStatus(courseStatuses(student, random, courses));
+        return progress;
+    }
+
+    static List<CourseStatusDetail> courseStatuses(Student student, Random random, int count) {
+        CourseStatus[] statuses = CourseStatus.values();
+        List<CourseStatusDetail> details = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CourseStatusDetail detail = new CourseStatusDetail();
+            detail.setId(student.getId() + "-CSD" + i);
+            detail.setStudentId(student.getId());
+            detail.setStatus(statuses[random.nextInt(statuses.length)]);
+            detail.setGrade(random.nextDouble() * 5.0);
+            detail.setSemester(String.valueOf(1 + i % student.getSemester()));
+            detail.setEnrollmentDate(new Date());
+            detail.setCreditsEarned(3);
+            detail.setIsApproved(detail.getGrade() >= 3.0);
+
+            Course course = new Course();
+            course.setCourseCode("CRS" + i);
+            course.setName("Curso " + i);
+            detail.setCourse(course);
+
+            Group group = new Group();
+            group.setGroupId("GRP" + i);
+            group.setSection("A");
+            detail.setGroup(group);
+            details.add(detail);
+        }
+        return details;
+    }
+
+    static List<ScheduleChangeRequest> pendingRequests(List<Student> students, int count) {
+        Random random = new Random(7);
+        long now = System.currentTimeMillis();
+        List<ScheduleChangeRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(ScheduleChangeRequest.builder()
+                    .requestId(String.format("REQ%06d", i))
+                    .student(students.get(random.nextInt(students.size())))
+                    .reason(REASONS[random.nextInt(REASONS.length)])
+                    .status(RequestStatus.PENDING)
+                    .submissionDate(new Date(now - TimeUnit.HOURS.toMillis(random.nextInt(24 * 45))))
+                    .build());
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,49 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ejecuta los benchmarks de la capa de servicios.
+ *
+ * Publica el throughput (operaciones por milisegundo) y, mediante el perfilador de GC de JMH,
+ * la tasa de asignación ({@code gc.alloc.rate}) y los bytes asignados por operación
+ * ({@code gc.alloc.rate.norm}). Los resultados se guardan en {@code target/jmh-result.json}.
+ *
+ * Uso: {@code mvn -Pbenchmarks test-compile exec:exec [-Djmh.include=Regex]}
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*Benchmark.*";
+        Options options = new OptionsBuilder()
+                .include(include)
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-result.json")
+                .build();
+        new Runner(options).run();
+    }
+}
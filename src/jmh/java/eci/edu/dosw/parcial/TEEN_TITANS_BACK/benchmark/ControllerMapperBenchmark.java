@@ -0,0 +1,109 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.benchmark;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller.StudentController;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller.StudentPortalController;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller.UserController;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentSummaryDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.UserSummaryDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.StudentMapperImpl;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.StudentProgressMapper;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.StudentProgressMapperImpl;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.UserMapperImpl;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.StudentAcademicProgress;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.AcademicPeriodRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.CourseRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.CourseStatusDetailRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.GroupRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentAcademicProgressRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.UserRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.StudentPortalService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.StudentService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Benchmark del armado de las respuestas de los controladores a través de los endpoints:
+ * una página completa de estudiantes y una de usuarios, leídas como proyecciones de listado,
+ * y el progreso académico con su historial de cursos, que se mapea con {@link StudentProgressMapper}.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+public class ControllerMapperBenchmark {
+
+    private static final int COURSES_PER_PROGRESS = 50;
+
+    private StudentController studentController;
+    private UserController userController;
+    private StudentPortalController studentPortalController;
+    private String studentId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Student> students = BenchmarkData.students(CursorPageDTO.MAX_PAGE_SIZE + 1);
+        List<StudentSummaryDTO> studentSummaries = students.stream()
+                .map(s -> new StudentSummaryDTO(s.getId(), s.getName(), s.getEmail(), s.getRole(), s.isActive(),
+                        s.getAcademicProgram(), s.getSemester(), s.getGradeAverage()))
+                .toList();
+        List<UserSummaryDTO> userSummaries = students.stream()
+                .map(s -> new UserSummaryDTO(s.getId(), s.getName(), s.getEmail(), s.getRole(), s.isActive()))
+                .toList();
+        Student student = students.get(0);
+        studentId = student.getId();
+        StudentAcademicProgress progress = BenchmarkData.progress(student, random, COURSES_PER_PROGRESS);
+
+        StudentService studentService = new StudentService();
+        InMemoryRepositories.inject(studentService, "studentRepository", InMemoryRepositories.of(StudentRepository.class)
+                .answer("findSummaryByOrderByIdAsc", args -> studentSummaries)
+                .build());
+        studentController = new StudentController(studentService, null, null, new StudentMapperImpl());
+
+        UserService userService = new UserService();
+        InMemoryRepositories.inject(userService, "userRepository", InMemoryRepositories.of(UserRepository.class)
+                .answer("findSummaryByOrderByIdAsc", args -> userSummaries)
+                .build());
+        userController = new UserController(userService, null, new UserMapperImpl());
+
+        StudentPortalService studentPortalService = new StudentPortalService(
+                InMemoryRepositories.of(StudentRepository.class).build(),
+                InMemoryRepositories.of(StudentAcademicProgressRepository.class)
+                        .answer("findByStudentId", args -> Optional.of(progress))
+                        .build(),
+                InMemoryRepositories.of(CourseRepository.class).build(),
+                InMemoryRepositories.of(AcademicPeriodRepository.class).build(),
+                InMemoryRepositories.of(CourseStatusDetailRepository.class).build(),
+                InMemoryRepositories.of(GroupRepository.class).build(),
+                null,
+                null);
+        studentPortalController = new StudentPortalController(studentPortalService, new StudentProgressMapperImpl());
+    }
+
+    @Benchmark
+    public ResponseEntity<?> studentPage() {
+        return studentController.getAllStudents(null, CursorPageDTO.MAX_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> userPage() {
+        return userController.getAllUsers(null, CursorPageDTO.MAX_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> academicProgress() {
+        return studentPortalController.getAcademicProgress(studentId);
+    }
+}
@@ -0,0 +1,90 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.benchmark;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.StudentMapper;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.StudentMapperImpl;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark del mapeo de listados grandes de estudiantes a DTOs. Los métodos {@code legacy*}
+ * reproducen el {@code convertToStudentDTO} que tenía {@code StudentController}, incluido el
+ * filtrado de activos en dos pasadas con una lista intermedia; los demás usan el
+ * {@link StudentMapper} generado. Con {@link BenchmarkRunner} el perfilador de GC reporta
+ * {@code gc.alloc.rate.norm}, los bytes asignados por operación; dividido entre
+ * {@code students} da los bytes por elemento.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+public class DtoMapperBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int students;
+
+    private final StudentMapper studentMapper = new StudentMapperImpl();
+    private List<Student> all;
+
+    @Setup
+    public void setUp() {
+        all = BenchmarkData.students(students);
+        for (int i = 0; i < all.size(); i += 4) {
+            all.get(i).setActive(false);
+        }
+    }
+
+    @Benchmark
+    public List<StudentDTO> legacyList() {
+        return all.stream()
+                .map(DtoMapperBenchmark::legacyConvert)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<StudentDTO> mapperList() {
+        return studentMapper.toDTOs(all);
+    }
+
+    @Benchmark
+    public List<StudentDTO> legacyActive() {
+        List<Student> active = all.stream()
+                .filter(Student::isActive)
+                .collect(Collectors.toList());
+        return active.stream()
+                .map(DtoMapperBenchmark::legacyConvert)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<StudentDTO> mapperActive() {
+        return all.stream()
+                .filter(Student::isActive)
+                .map(studentMapper::toDTO)
+                .toList();
+    }
+
+    private static StudentDTO legacyConvert(Student student) {
+        StudentDTO studentDTO = new StudentDTO();
+        studentDTO.setId(student.getId());
+        studentDTO.setName(student.getName());
+        studentDTO.setEmail(student.getEmail());
+        studentDTO.setPassword(student.getPassword());
+        studentDTO.setRole("STUDENT");
+        studentDTO.setActive(student.isActive());
+        studentDTO.setCreatedAt(student.getCreatedAt());
+        studentDTO.setUpdatedAt(student.getUpdatedAt());
+        studentDTO.setAcademicProgram(student.getAcademicProgram());
+        studentDTO.setSemester(student.getSemester());
+        studentDTO.setGradeAverage(student.getGradeAverage());
+        return studentDTO;
+    }
+}
@@ -0,0 +1,93 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Repositorios en memoria para los benchmarks.
+ *
+ * Cada repositorio es un proxy de la interfaz que responde solo los métodos registrados;
+ * cualquier otro método lanza {@link UnsupportedOperationException}, de modo que un
+ * benchmark no mida por accidente una ruta que no preparó.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    /**
+     * Inicia la definición de un repositorio en memoria.
+     *
+     * @param type Interfaz del repositorio
+     * @param <T> Tipo del repositorio
+     * @return Constructor del repositorio
+     */
+    static <T> Builder<T> of(Class<T> type) {
+        return new Builder<>(type);
+    }
+
+    /**
+     * Asigna una dependencia inyectada por campo en un servicio o controlador.
+     *
+     * @param target Objeto que recibe la dependencia
+     * @param fieldName Nombre del campo
+     * @param value Dependencia a asignar
+     */
+    static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No se pudo asignar " + fieldName + " en " + target.getClass(), e);
+        }
+    }
+
+    static final class Builder<T> {
+        private final Class<T> type;
+        private final Map<String, Function<Object[], Object>> answers = new HashMap<>();
+
+        private Builder(Class<T> type) {
+            this.type = type;
+        }
+
+        /**
+         * Registra la respuesta de un método del repositorio.
+         *
+         * @param methodName Nombre del método
+         * @param answer Función que recibe los argumentos y retorna el resultado
+         * @return Este constructor
+         */
+        Builder<T> answer(String methodName, Function<Object[], Object> answer) {
+            answers.put(methodName, answer);
+            return this;
+        }
+
+        T build() {
+            Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (instance, method, args) -> {
+                        if (method.getDeclaringClass() == Object.class) {
+                            switch (method.getName()) {
+                                case "equals": return instance == args[0];
+                                case "hashCode": return System.identityHashCode(instance);
+                                default: return "InMemory" + type.getSimpleName();
+                            }
+                        }
+                        Function<Object[], Object> answer = answers.get(method.getName());
+                        if (answer == null) {
+                            throw new UnsupportedOperationException(
+                                    type.getSimpleName() + "." + method.getName() + " no está preparado");
+                        }
+                        return answer.apply(args);
+                    });
+            return type.cast(proxy);
+        }
+    }
+}
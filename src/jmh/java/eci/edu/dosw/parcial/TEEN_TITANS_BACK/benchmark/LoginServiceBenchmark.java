@@ -0,0 +1,54 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.benchmark;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.UserIdentityRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.LoginService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.UserIdentityService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+
+/**
+ * Benchmark de la conversión flexible de roles ({@code parseUserRole}) a través de
+ * {@link LoginService#emailExistsForRole(String, Object)}, con la identidad ya registrada en
+ * el índice unificado. Los valores de rol cubren la coincidencia exacta, la que requiere
+ * normalizar mayúsculas y la coincidencia parcial que recorre todos los roles.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+public class LoginServiceBenchmark {
+
+    private static final String EMAIL = "estudiante@escuelaing.edu.co";
+
+    @Param({"STUDENT", " student ", "stud"})
+    private String role;
+
+    private LoginService loginService;
+
+    @Setup
+    public void setUp() {
+        UserIdentity identity = new UserIdentity(EMAIL, UserIdentity.STUDENTS, "STU00001",
+                UserRole.STUDENT, true);
+        UserIdentityRepository identityRepository = InMemoryRepositories.of(UserIdentityRepository.class)
+                .answer("findById", args -> Optional.of(identity))
+                .build();
+
+        UserIdentityService userIdentityService = new UserIdentityService();
+        InMemoryRepositories.inject(userIdentityService, "userIdentityRepository", identityRepository);
+        loginService = new LoginService();
+        InMemoryRepositories.inject(loginService, "userIdentityService", userIdentityService);
+    }
+
+    @Benchmark
+    public boolean emailExistsForRole() {
+        return loginService.emailExistsForRole(EMAIL, role);
+    }
+}
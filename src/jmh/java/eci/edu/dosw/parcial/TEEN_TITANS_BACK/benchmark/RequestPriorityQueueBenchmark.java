@@ -0,0 +1,82 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.benchmark;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.StudentAcademicProgress;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.ScheduleChangeRequestRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentAcademicProgressRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.RequestPriorityQueueService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.StudentRequestService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Benchmark de la prioridad de solicitudes pendientes. El cálculo de puntaje y la búsqueda
+ * de posición que hacía {@link StudentRequestService} viven hoy en
+ * {@link RequestPriorityQueueService}: {@code rebuild} puntúa y ordena toda la cola y
+ * {@code getPosition} consulta la posición de una solicitud.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+public class RequestPriorityQueueBenchmark {
+
+    @Param({"1000", "10000"})
+    private int pendingRequests;
+
+    private RequestPriorityQueueService queueService;
+    private String[] requestIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Student> students = BenchmarkData.students(Math.max(1, pendingRequests / 5));
+        Map<String, StudentAcademicProgress> progressByStudent = new HashMap<>();
+        students.forEach(student -> progressByStudent.put(student.getId(), BenchmarkData.progress(student, random, 0)));
+        List<ScheduleChangeRequest> requests = BenchmarkData.pendingRequests(students, pendingRequests);
+
+        ScheduleChangeRequestRepository requestRepository = InMemoryRepositories.of(ScheduleChangeRequestRepository.class)
+                .answer("findByStatus", args -> requests)
+                .build();
+        StudentAcademicProgressRepository progressRepository = InMemoryRepositories.of(StudentAcademicProgressRepository.class)
+                .answer("findProgressByStudentIds", args -> {
+                    Map<String, StudentAcademicProgress> found = new HashMap<>();
+                    for (Object id : (Collection<?>) args[0]) {
+                        found.put((String) id, progressByStudent.get(id));
+                    }
+                    return found;
+                })
+                .answer("findByStudentId", args -> Optional.ofNullable(progressByStudent.get(args[0])))
+                .build();
+
+        queueService = new RequestPriorityQueueService(requestRepository, progressRepository);
+        queueService.rebuild();
+        requestIds = requests.stream().map(ScheduleChangeRequest::getRequestId).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public int rebuild() {
+        queueService.rebuild();
+        return queueService.size();
+    }
+
+    @Benchmark
+    public int getPosition() {
+        String requestId = requestIds[next];
+        next = (next + 1) % requestIds.length;
+        return queueService.getPosition(requestId);
+    }
+}
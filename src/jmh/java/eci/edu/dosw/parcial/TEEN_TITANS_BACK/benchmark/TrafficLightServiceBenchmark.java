@@ -0,0 +1,78 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.benchmark;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.CourseStatusDetail;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.StudentAcademicProgress;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.CourseStatusDetailRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentAcademicProgressRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.TrafficLightSnapshotRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.ParallelReadService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.TrafficLightService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark del cálculo del semáforo académico ({@code calculateTrafficLight}) a través de
+ * {@link TrafficLightService#classifyStudents(List)}, que lo aplica a cada estudiante de un programa.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+public class TrafficLightServiceBenchmark {
+
+    @Param({"100", "1000"})
+    private int students;
+
+    private TrafficLightService trafficLightService;
+    private List<Student> programStudents;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        programStudents = BenchmarkData.students(students);
+        Map<String, StudentAcademicProgress> progressByStudent = new HashMap<>();
+        List<CourseStatusDetail> failedCourses = programStudents.stream()
+                .peek(student -> progressByStudent.put(student.getId(), BenchmarkData.progress(student, random, 0)))
+                .flatMap(student -> BenchmarkData.courseStatuses(student, random, 2).stream())
+                .filter(course -> !course.getIsApproved())
+                .collect(Collectors.toList());
+
+        StudentAcademicProgressRepository progressRepository = InMemoryRepositories.of(StudentAcademicProgressRepository.class)
+                .answer("findProgressByStudentIds", args -> {
+                    Map<String, StudentAcademicProgress> found = new HashMap<>();
+                    for (Object id : (Collection<?>) args[0]) {
+                        found.put((String) id, progressByStudent.get(id));
+                    }
+                    return found;
+                })
+                .build();
+        CourseStatusDetailRepository courseStatusDetailRepository = InMemoryRepositories.of(CourseStatusDetailRepository.class)
+                .answer("findFailedCourseMarksByStudentIdIn", args -> failedCourses)
+                .build();
+
+        trafficLightService = new TrafficLightService(
+                InMemoryRepositories.of(StudentRepository.class).build(),
+                progressRepository,
+                courseStatusDetailRepository,
+                InMemoryRepositories.of(TrafficLightSnapshotRepository.class).build(),
+                new ParallelReadService(Runnable::run));
+    }
+
+    @Benchmark
+    public Map<String, String> classifyStudents() {
+        return trafficLightService.classifyStudents(programStudents);
+    }
+}
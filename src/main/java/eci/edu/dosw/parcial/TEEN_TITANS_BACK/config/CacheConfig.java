@@ -0,0 +1,64 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuración de la caché de datos de referencia.
+ *
+ * Cursos, aulas, horarios y el período académico activo cambian pocas veces por semestre
+ * pero se consultan en casi todas las peticiones. Las lecturas se cachean en los
+ * repositorios ({@code @Cacheable}) y {@code GeneralManagementService} invalida las
+ * entradas al modificarlos. El tamaño y el tiempo de expiración se definen con
+ * {@code spring.cache.caffeine.spec}; con {@code recordStats} Actuator publica los
+ * aciertos y fallos en la métrica {@code cache.gets}.
+ *
+ * Las estadísticas de población usan una caché aparte con un tiempo de expiración corto
+ * ({@code app.statistics.cache-ttl-seconds}), ya que no se invalidan al modificar los usuarios.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String COURSES = "courses";
+    public static final String CLASSROOMS = "classrooms";
+    public static final String SCHEDULES = "schedules";
+    public static final String ACTIVE_ACADEMIC_PERIOD = "activeAcademicPeriod";
+    public static final String POPULATION_STATISTICS = "populationStatistics";
+
+    /**
+     * Crea las cachés al iniciar para que sus métricas queden registradas desde el arranque.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> referenceDataCacheNames() {
+        return cacheManager -> cacheManager.setCacheNames(
+                List.of(COURSES, CLASSROOMS, SCHEDULES, ACTIVE_ACADEMIC_PERIOD));
+    }
+
+    /**
+     * Registra la caché de estadísticas de población con su propio tiempo de expiración.
+     *
+     * @param ttlSeconds Segundos que se conserva cada estadística
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> populationStatisticsCache(
+            @Value("${app.statistics.cache-ttl-seconds:30}") long ttlSeconds) {
+        return cacheManager -> cacheManager.registerCustomCache(POPULATION_STATISTICS, Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build());
+    }
+}
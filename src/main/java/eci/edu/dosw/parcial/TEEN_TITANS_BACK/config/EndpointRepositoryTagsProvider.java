@@ -0,0 +1,59 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.config;
+
+import io.micrometer.core.instrument.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Etiquetas de la métrica {@code spring.data.repository.invocations}.
+ *
+ * Además de las etiquetas por defecto (repositorio, método, estado y excepción) agrega
+ * {@code endpoint}, con el método HTTP y el patrón de ruta del controlador que originó la
+ * invocación, por ejemplo {@code GET /api/student-portal/{studentId}/current-schedule}.
+ * Las invocaciones fuera de una petición HTTP (tareas de arranque, hilos propios) se
+ * etiquetan con {@value #NO_ENDPOINT}, y las de peticiones que no llegaron a un controlador
+ * con {@value #UNMATCHED_ENDPOINT}; la URI cruda nunca se usa como etiqueta para que el
+ * número de series de la métrica no crezca con cada ruta distinta.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+public class EndpointRepositoryTagsProvider extends DefaultRepositoryTagsProvider {
+
+    static final String ENDPOINT_TAG = "endpoint";
+    static final String NO_ENDPOINT = "none";
+    static final String UNMATCHED_ENDPOINT = "unmatched";
+
+    @Override
+    public Iterable<Tag> repositoryTags(RepositoryMethodInvocation invocation) {
+        List<Tag> tags = new ArrayList<>();
+        super.repositoryTags(invocation).forEach(tags::add);
+        tags.add(Tag.of(ENDPOINT_TAG, currentEndpoint()));
+        return tags;
+    }
+
+    /**
+     * Obtiene el endpoint de la petición HTTP en curso en el hilo actual.
+     *
+     * @return Método HTTP y patrón de ruta, {@value #UNMATCHED_ENDPOINT} si la petición no tiene
+     *         patrón de ruta o {@value #NO_ENDPOINT} si no hay petición en curso
+     */
+    static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return NO_ENDPOINT;
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? request.getMethod() + " " + pattern : UNMATCHED_ENDPOINT;
+    }
+}
@@ -0,0 +1,65 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.config;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cuenta los comandos que el driver de MongoDB envía al servidor durante la petición HTTP
+ * en curso.
+ *
+ * Se registra como {@link CommandListener} del cliente en {@link MongoConfig}, así que cada
+ * viaje al servidor cuenta una vez: una invocación a repositorio que lee varias páginas del
+ * cursor ({@code find} más sus {@code getMore}) o que resuelve referencias suma todos sus
+ * comandos. El conteo se guarda como atributo de la petición; los comandos enviados fuera
+ * de una petición se ignoran.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+public class MongoCommandCounter implements CommandListener {
+
+    static final String COUNT_ATTRIBUTE = MongoCommandCounter.class.getName() + ".count";
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        counterOf(attributes).incrementAndGet();
+    }
+
+    /**
+     * Obtiene el número de comandos enviados a MongoDB por la petición en curso.
+     *
+     * @return Número de comandos, 0 si no hubo o si no hay petición en curso
+     */
+    public static int currentCount() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object count = attributes != null
+                ? attributes.getAttribute(COUNT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+        return count instanceof AtomicInteger ? ((AtomicInteger) count).get() : 0;
+    }
+
+    /**
+     * Obtiene el contador de la petición, creándolo la primera vez. La creación se sincroniza
+     * porque las lecturas paralelas de una petición comparten sus atributos.
+     */
+    private static AtomicInteger counterOf(RequestAttributes attributes) {
+        synchronized (attributes) {
+            Object count = attributes.getAttribute(COUNT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (count instanceof AtomicInteger) {
+                return (AtomicInteger) count;
+            }
+            AtomicInteger counter = new AtomicInteger();
+            attributes.setAttribute(COUNT_ATTRIBUTE, counter, RequestAttributes.SCOPE_REQUEST);
+            return counter;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Crea y verifica los índices de MongoDB declarados en los modelos con
+ * {@code @Indexed} y {@code @CompoundIndex}.
+ *
+ * La creación automática de índices de Spring Data está deshabilitada en
+ * {@link MongoConfig}; este componente la reemplaza creando los índices de forma
+ * idempotente al iniciar la aplicación y reportando los índices declarados que no
+ * existen en el servidor y los índices existentes que no registran uso.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+public class MongoIndexInitializer {
+
+    private static final String ID_INDEX = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+    private final IndexResolver indexResolver;
+
+    public MongoIndexInitializer(MongoTemplate mongoTemplate, MongoMappingContext mappingContext) {
+        this.mongoTemplate = mongoTemplate;
+        this.mappingContext = mappingContext;
+        this.indexResolver = IndexResolver.create(mappingContext);
+    }
+
+    /**
+     * Lanza la creación y verificación de índices en un hilo aparte, para no retrasar
+     * el arranque de la aplicación mientras se contacta al servidor.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread worker = new Thread(this::ensureIndexesSafely, "mongo-index-initializer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Obtiene los índices declarados en los modelos, agrupados por colección.
+     *
+     * @return Mapa de colección a definiciones de índice declaradas
+     */
+    public Map<String, List<IndexDefinition>> getDeclaredIndexes() {
+        Map<String, List<IndexDefinition>> declared = new LinkedHashMap<>();
+        List<MongoPersistentEntity<?>> entities = mappingContext.getPersistentEntities().stream()
+                .filter(entity -> entity.isAnnotationPresent(
+                        org.springframework.data.mongodb.core.mapping.Document.class))
+                .sorted(Comparator.comparing(MongoPersistentEntity::getCollection))
+                .collect(Collectors.toList());
+        for (MongoPersistentEntity<?> entity : entities) {
+            List<IndexDefinition> definitions = new ArrayList<>();
+            indexResolver.resolveIndexFor(entity.getTypeInformation()).forEach(definitions::add);
+            declared.computeIfAbsent(entity.getCollection(), collection -> new ArrayList<>()).addAll(definitions);
+        }
+        return declared;
+    }
+
+    /**
+     * Crea los índices declarados que aún no existen y reporta el estado de cada colección.
+     * Crear un índice que ya existe con la misma definición no tiene efecto.
+     *
+     * @return Reporte con los índices declarados que faltan y los existentes sin uso
+     * @throws DataAccessResourceFailureException si no es posible contactar al servidor
+     */
+    public IndexReport ensureIndexes() {
+        IndexReport report = new IndexReport();
+        for (Map.Entry<String, List<IndexDefinition>> entry : getDeclaredIndexes().entrySet()) {
+            String collection = entry.getKey();
+            IndexOperations indexOperations = mongoTemplate.indexOps(collection);
+
+            for (IndexDefinition definition : entry.getValue()) {
+                try {
+                    indexOperations.ensureIndex(definition);
+                } catch (DataAccessResourceFailureException e) {
+                    throw e;
+                } catch (RuntimeException e) {
+                    log.warn("No se pudo crear el índice {} en {}: {}",
+                            indexName(definition), collection, e.getMessage());
+                }
+            }
+
+            Set<String> existing = indexOperations.getIndexInfo().stream()
+                    .map(IndexInfo::getName)
+                    .collect(Collectors.toSet());
+            entry.getValue().stream()
+                    .map(this::indexName)
+                    .filter(name -> !existing.contains(name))
+                    .forEach(name -> report.addMissing(collection, name));
+            findUnusedIndexes(collection).forEach(name -> report.addUnused(collection, name));
+        }
+        return report;
+    }
+
+    private void ensureIndexesSafely() {
+        try {
+            IndexReport report = ensureIndexes();
+            if (report.getMissing().isEmpty()) {
+                log.info("Índices de MongoDB verificados: no faltan índices declarados");
+            } else {
+                log.warn("Índices de MongoDB declarados que no existen: {}", report.getMissing());
+            }
+            if (!report.getUnused().isEmpty()) {
+                log.info("Índices de MongoDB sin uso desde el último reinicio del servidor: {}", report.getUnused());
+            }
+        } catch (RuntimeException e) {
+            log.warn("No fue posible verificar los índices de MongoDB: {}", e.getMessage());
+        }
+    }
+
+    private List<String> findUnusedIndexes(String collection) {
+        try {
+            Aggregation indexStats = Aggregation.newAggregation(
+                    context -> new Document("$indexStats", new Document()));
+            return mongoTemplate.aggregate(indexStats, collection, Document.class).getMappedResults().stream()
+                    .filter(stats -> !ID_INDEX.equals(stats.getString("name")))
+                    .filter(stats -> accessCount(stats) == 0)
+                    .map(stats -> stats.getString("name"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (RuntimeException e) {
+            log.debug("No se pudieron consultar las estadísticas de índices de {}: {}", collection, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private long accessCount(Document stats) {
+        Document accesses = stats.get("accesses", Document.class);
+        Object ops = accesses != null ? accesses.get("ops") : null;
+        return ops instanceof Number ? ((Number) ops).longValue() : 0;
+    }
+
+    private String indexName(IndexDefinition definition) {
+        Object name = definition.getIndexOptions().get("name");
+        return name != null ? name.toString() : definition.getIndexKeys().keySet().stream()
+                .map(key -> key + "_" + definition.getIndexKeys().get(key))
+                .collect(Collectors.joining("_"));
+    }
+
+    /**
+     * Resultado de la verificación de índices, por colección.
+     */
+    public static class IndexReport {
+        private final Map<String, List<String>> missing = new LinkedHashMap<>();
+        private final Map<String, List<String>> unused = new LinkedHashMap<>();
+
+        void addMissing(String collection, String indexName) {
+            missing.computeIfAbsent(collection, key -> new ArrayList<>()).add(indexName);
+        }
+
+        void addUnused(String collection, String indexName) {
+            unused.computeIfAbsent(collection, key -> new ArrayList<>()).add(indexName);
+        }
+
+        public Map<String, List<String>> getMissing() { return missing; }
+        public Map<String, List<String>> getUnused() { return unused; }
+    }
+}
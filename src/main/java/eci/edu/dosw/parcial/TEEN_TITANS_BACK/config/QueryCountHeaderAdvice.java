@@ -0,0 +1,40 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Agrega a cada respuesta el encabezado {@value #QUERY_COUNT_HEADER} con el número de
+ * comandos que la petición envió a MongoDB, para detectar patrones N+1 desde el cliente.
+ * Solo se registra con {@code app.metrics.query-count-header.enabled=true}, porque el
+ * encabezado revela a cualquier cliente cuántas consultas hace cada endpoint.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "app.metrics.query-count-header.enabled", havingValue = "true")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(MongoCommandCounter.currentCount()));
+        return body;
+    }
+}
@@ -0,0 +1,38 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.config;
+
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de la instrumentación de repositorios.
+ *
+ * Spring Boot Actuator ya cuenta y mide cada invocación a repositorio en la métrica
+ * {@code spring.data.repository.invocations}; aquí se agrega la etiqueta del endpoint que
+ * la originó. Con {@code app.metrics.query-count-header.enabled=true} se registra además
+ * {@link MongoCommandCounter}, que cuenta los comandos enviados a MongoDB por cada petición
+ * y se publica en el encabezado {@link QueryCountHeaderAdvice#QUERY_COUNT_HEADER}. Las
+ * métricas solo se exponen por HTTP si se habilitan en {@code application.properties}.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Configuration
+public class RepositoryMetricsConfig {
+
+    @Bean
+    public RepositoryTagsProvider repositoryTagsProvider() {
+        return new EndpointRepositoryTagsProvider();
+    }
+
+    /**
+     * Contador de comandos por petición; {@link MongoConfig} lo agrega al cliente de MongoDB.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.metrics.query-count-header.enabled", havingValue = "true")
+    public static MongoCommandCounter mongoCommandCounter() {
+        return new MongoCommandCounter();
+    }
+}
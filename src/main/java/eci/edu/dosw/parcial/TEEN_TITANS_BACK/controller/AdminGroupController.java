@@ -2,6 +2,7 @@ package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.*;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.AdminGroupService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.GroupProjectionService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -27,6 +28,9 @@ public class AdminGroupController {
     @Autowired
     private AdminGroupService adminGroupService;
 
+    @Autowired
+    private GroupProjectionService groupProjectionService;
+
     private static final String INTERNAL_SERVER_ERROR = "Error interno del servidor";
     private static final String NOT_FOUND = "Recurso no encontrado";
     private static final String SUCCESS = "Operación exitosa";
@@ -64,6 +68,22 @@ public class AdminGroupController {
         }
     }
 
+    /**
+     * Regenera las proyecciones embebidas de todos los grupos.
+     * Convierte los grupos almacenados con referencias al formato embebido.
+     *
+     * @return número de grupos regenerados o mensaje de error.
+     */
+    @PostMapping("/groups/projections/refresh")
+    public ResponseEntity<?> refreshGroupProjections() {
+        try {
+            int refreshedGroups = groupProjectionService.refreshAllGroups();
+            return ResponseEntity.ok(Map.of("refreshedGroups", refreshedGroups));
+        } catch (Exception e) {
+            return errorResponse("al regenerar las proyecciones de los grupos");
+        }
+    }
+
     /**
      * Asigna un profesor a un grupo.
      *
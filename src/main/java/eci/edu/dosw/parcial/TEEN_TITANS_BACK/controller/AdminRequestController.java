@@ -1,17 +1,34 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ScheduleChangeRequestExportDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.MigrationJob;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.AdminRequestService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.MigrationJobService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Controlador REST para la gestión de solicitudes administrativas y generación de reportes.
@@ -30,19 +47,32 @@ import java.util.Map;
 public class AdminRequestController {
 
     private final AdminRequestService adminRequestService;
+    private final ObjectMapper objectMapper;
+    private final MigrationJobService migrationJobService;
 
     private static final String INTERNAL_SERVER_ERROR = "Error interno del servidor";
     private static final String NOT_FOUND = "Recurso no encontrado";
+    private static final String EXPORT_FILENAME = "solicitudes.ndjson";
 
     /**
-     * Obtiene todas las solicitudes globales.
-     * @return Lista de solicitudes registradas.
+     * Obtiene una página de las solicitudes globales, de la más reciente a la más antigua.
+     * El cursor de la página siguiente se envía en el encabezado {@value CursorPageDTO#NEXT_CURSOR_HEADER}.
+     * @param cursor cursor de la página anterior, o vacío para la primera página.
+     * @param size tamaño de la página.
+     * @return Lista de solicitudes de la página.
      */
     @GetMapping
-    public ResponseEntity<?> getGlobalRequests() {
+    public ResponseEntity<?> getGlobalRequests(@RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "20") int size) {
         try {
-            List<ScheduleChangeRequest> requests = adminRequestService.getGlobalRequests();
-            return ResponseEntity.ok(requests);
+            CursorPageDTO<ScheduleChangeRequest> page = adminRequestService.getGlobalRequestsPage(cursor, size);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(CursorPageDTO.NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getItems());
+        } catch (AppException e) {
+            return badRequestResponse(e.getMessage());
         } catch (Exception e) {
             log.error("Error al obtener solicitudes globales", e);
             return errorResponse("al obtener las solicitudes globales");
@@ -50,15 +80,22 @@ public class AdminRequestController {
     }
 
     /**
-     * Obtiene las solicitudes de una facultad específica.
+     * Obtiene una página de las solicitudes de una facultad específica.
      * @param faculty nombre de la facultad.
-     * @return Lista de solicitudes por facultad.
+     * @param page número de página, empezando en 0.
+     * @param size tamaño de la página.
+     * @return Página de solicitudes por facultad.
      */
     @GetMapping("/faculty/{faculty}")
-    public ResponseEntity<?> getRequestsByFaculty(@PathVariable String faculty) {
+    public ResponseEntity<?> getRequestsByFaculty(
+            @PathVariable String faculty,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            List<ScheduleChangeRequest> requests = adminRequestService.getRequestsByFaculty(faculty);
+            Page<ScheduleChangeRequest> requests = adminRequestService.getRequestsByFaculty(faculty, page, size);
             return ResponseEntity.ok(requests);
+        } catch (AppException e) {
+            return badRequestResponse(e.getMessage());
         } catch (Exception e) {
             log.error("Error al obtener solicitudes por facultad: {}", faculty, e);
             return errorResponse("al obtener las solicitudes por facultad");
@@ -80,6 +117,42 @@ public class AdminRequestController {
         }
     }
 
+    /**
+     * Exporta las solicitudes en formato NDJSON (un objeto JSON por línea). Las solicitudes se
+     * leen de un cursor de MongoDB y se escriben a medida que llegan, sin cargarlas todas en memoria.
+     * @param status estado de las solicitudes a exportar (opcional).
+     * @param from fecha de envío mínima, inclusiva (opcional, formato yyyy-MM-dd).
+     * @param to fecha de envío máxima, exclusiva (opcional, formato yyyy-MM-dd).
+     * @return Cuerpo que escribe las solicitudes en la respuesta.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRequests(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date to) {
+        RequestStatus statusFilter = null;
+        if (status != null && !status.isBlank()) {
+            statusFilter = parseRequestStatus(status);
+            if (statusFilter == null) {
+                return textResponse(HttpStatus.BAD_REQUEST, "Estado no válido: " + status);
+            }
+        }
+
+        try {
+            Stream<ScheduleChangeRequestExportDTO> requests =
+                    adminRequestService.streamRequestsForExport(statusFilter, from, to);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + EXPORT_FILENAME + "\"")
+                    .body(out -> writeNdjson(requests, out));
+        } catch (AppException e) {
+            return textResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error al exportar solicitudes", e);
+            return textResponse(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR + " al exportar las solicitudes");
+        }
+    }
+
     /**
      * Responde a una solicitud con una decisión administrativa.
      * @param requestId ID de la solicitud.
@@ -114,6 +187,42 @@ public class AdminRequestController {
         }
     }
 
+    /**
+     * Responde en bloque a varias solicitudes con la misma decisión.
+     * @param requestBody cuerpo con los IDs de las solicitudes, la decisión y los comentarios.
+     * @return Resultado del lote con el desenlace de cada solicitud.
+     */
+    @PutMapping("/bulk-respond")
+    public ResponseEntity<?> respondToRequests(@RequestBody Map<String, Object> requestBody) {
+        try {
+            Object decisionValue = requestBody.get("decision");
+            Object comments = requestBody.get("comments");
+
+            if (!(requestBody.get("requestIds") instanceof List<?> requestIds) || requestIds.isEmpty()) {
+                return badRequestResponse("El campo 'requestIds' es requerido");
+            }
+            if (decisionValue == null || decisionValue.toString().isBlank()) {
+                return badRequestResponse("El campo 'decision' es requerido");
+            }
+
+            RequestStatus decision = parseRequestStatus(decisionValue.toString());
+            if (decision == null) {
+                return badRequestResponse("Decisión no válida. Debe ser APPROVED o REJECTED");
+            }
+
+            List<String> ids = requestIds.stream().map(String::valueOf).toList();
+            AdminRequestService.BulkDecisionResult result = adminRequestService.respondToRequests(
+                    ids, decision, comments != null ? comments.toString() : null);
+            return ResponseEntity.ok(result);
+        } catch (AppException e) {
+            log.warn("Decisión en bloque no válida: {}", e.getMessage());
+            return badRequestResponse(e.getMessage());
+        } catch (Exception e) {
+            log.error("Error al responder solicitudes en bloque", e);
+            return errorResponse("al responder las solicitudes en bloque");
+        }
+    }
+
     /**
      * Solicita información adicional sobre una solicitud.
      * @param requestId ID de la solicitud.
@@ -230,6 +339,41 @@ public class AdminRequestController {
         }
     }
 
+    /**
+     * Lanza en segundo plano la migración que registra la facultad en las solicitudes que no la tienen.
+     * Mientras no termine, las consultas por facultad también buscan esas solicitudes por estudiante.
+     * @return Avance de la migración al momento de lanzarla.
+     */
+    @PostMapping("/migrate-faculty")
+    public ResponseEntity<?> migrateRequestFaculties() {
+        try {
+            MigrationJob job = migrationJobService.startFacultyBackfill();
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                    "message", "Migración de facultades de las solicitudes en curso",
+                    "job", job
+            ));
+        } catch (Exception e) {
+            log.error("Error al lanzar la migración de facultades", e);
+            return errorResponse("al lanzar la migración de facultades");
+        }
+    }
+
+    /**
+     * Obtiene el avance de la migración de facultades de las solicitudes.
+     * @return Avance de la migración, o 404 si nunca se ha lanzado.
+     */
+    @GetMapping("/migrate-faculty")
+    public ResponseEntity<?> getRequestFacultyMigration() {
+        try {
+            return migrationJobService.getFacultyBackfill()
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> notFoundResponse("La migración de facultades no se ha lanzado"));
+        } catch (Exception e) {
+            log.error("Error al obtener el avance de la migración de facultades", e);
+            return errorResponse("al obtener el avance de la migración de facultades");
+        }
+    }
+
     /**
      * Verifica el estado del controlador.
      * @return Mensaje de confirmación del estado del servicio.
@@ -253,6 +397,23 @@ public class AdminRequestController {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
     }
 
+    private void writeNdjson(Stream<ScheduleChangeRequestExportDTO> requests, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer();
+        try (requests) {
+            Iterator<ScheduleChangeRequestExportDTO> iterator = requests.iterator();
+            while (iterator.hasNext()) {
+                out.write(writer.writeValueAsBytes(iterator.next()));
+                out.write('\n');
+            }
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> textResponse(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(out -> out.write(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
     RequestStatus parseRequestStatus(String decisionStr) {
         try {
             return RequestStatus.valueOf(decisionStr.toUpperCase());
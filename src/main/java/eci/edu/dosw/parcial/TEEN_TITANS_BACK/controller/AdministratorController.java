@@ -2,9 +2,12 @@ package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.AdministratorDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Administrator;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.MigrationJob;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.AdministratorService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.MigrationJobService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.AdministratorMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,7 +15,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Controlador REST para la gestión de administradores dentro del sistema universitario.
@@ -29,15 +31,23 @@ import java.util.stream.Collectors;
 public class AdministratorController {
 
     private final AdministratorService administratorService;
+    private final MigrationJobService migrationJobService;
+    private final AdministratorMapper administratorMapper;
 
     /**
      * Constructor para inyectar el servicio de administradores.
      *
      * @param administratorService servicio encargado de la lógica de negocio de administradores
+     * @param migrationJobService servicio de migraciones en segundo plano
+     * @param administratorMapper mapeador entre {@link Administrator} y {@link AdministratorDTO}
      */
     @Autowired
-    public AdministratorController(AdministratorService administratorService) {
+    public AdministratorController(AdministratorService administratorService,
+                                   MigrationJobService migrationJobService,
+                                   AdministratorMapper administratorMapper) {
         this.administratorService = administratorService;
+        this.migrationJobService = migrationJobService;
+        this.administratorMapper = administratorMapper;
     }
 
     /**
@@ -49,9 +59,9 @@ public class AdministratorController {
     @PostMapping
     public ResponseEntity<?> createAdministrator(@RequestBody AdministratorDTO administratorDTO) {
         try {
-            Administrator administrator = convertToEntity(administratorDTO);
+            Administrator administrator = administratorMapper.toEntity(administratorDTO);
             Administrator createdAdmin = administratorService.createAdministrator(administrator);
-            AdministratorDTO responseDTO = convertToDTO(createdAdmin);
+            AdministratorDTO responseDTO = administratorMapper.toDTO(createdAdmin);
             return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -72,7 +82,7 @@ public class AdministratorController {
     public ResponseEntity<?> getAdministratorById(@PathVariable String id) {
         try {
             Administrator administrator = administratorService.getAdministratorById(id);
-            return ResponseEntity.ok(convertToDTO(administrator));
+            return ResponseEntity.ok(administratorMapper.toDTO(administrator));
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("error", e.getMessage()));
@@ -90,10 +100,8 @@ public class AdministratorController {
     @GetMapping
     public ResponseEntity<?> getAllAdministrators() {
         try {
-            List<AdministratorDTO> administrators = administratorService.getAllAdministrators()
-                    .stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<AdministratorDTO> administrators =
+                    administratorMapper.toDTOs(administratorService.getAllAdministrators());
 
             return ResponseEntity.ok(Map.of(
                     "administrators", administrators,
@@ -115,9 +123,9 @@ public class AdministratorController {
     @PutMapping("/{id}")
     public ResponseEntity<?> updateAdministrator(@PathVariable String id, @RequestBody AdministratorDTO administratorDTO) {
         try {
-            Administrator administrator = convertToEntity(administratorDTO);
+            Administrator administrator = administratorMapper.toEntity(administratorDTO);
             Administrator updatedAdmin = administratorService.updateAdministrator(id, administrator);
-            return ResponseEntity.ok(convertToDTO(updatedAdmin));
+            return ResponseEntity.ok(administratorMapper.toDTO(updatedAdmin));
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(Map.of("error", e.getMessage()));
@@ -159,10 +167,8 @@ public class AdministratorController {
     @GetMapping("/department/{department}")
     public ResponseEntity<?> findByDepartment(@PathVariable String department) {
         try {
-            List<AdministratorDTO> administrators = administratorService.findByDepartment(department)
-                    .stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<AdministratorDTO> administrators =
+                    administratorMapper.toDTOs(administratorService.findByDepartment(department));
 
             return ResponseEntity.ok(Map.of(
                     "department", department,
@@ -184,10 +190,8 @@ public class AdministratorController {
     @GetMapping("/department-pattern/{pattern}")
     public ResponseEntity<?> findByDepartmentContaining(@PathVariable String pattern) {
         try {
-            List<AdministratorDTO> administrators = administratorService.findByDepartmentContaining(pattern)
-                    .stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<AdministratorDTO> administrators =
+                    administratorMapper.toDTOs(administratorService.findByDepartmentContaining(pattern));
 
             return ResponseEntity.ok(Map.of(
                     "pattern", pattern,
@@ -209,10 +213,8 @@ public class AdministratorController {
     @GetMapping("/name/{name}")
     public ResponseEntity<?> findByNameContaining(@PathVariable String name) {
         try {
-            List<AdministratorDTO> administrators = administratorService.findByNameContaining(name)
-                    .stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<AdministratorDTO> administrators =
+                    administratorMapper.toDTOs(administratorService.findByNameContaining(name));
 
             return ResponseEntity.ok(Map.of(
                     "name", name,
@@ -233,10 +235,8 @@ public class AdministratorController {
     @GetMapping("/active")
     public ResponseEntity<?> findActiveAdministrators() {
         try {
-            List<AdministratorDTO> administrators = administratorService.findActiveAdministrators()
-                    .stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<AdministratorDTO> administrators =
+                    administratorMapper.toDTOs(administratorService.findActiveAdministrators());
 
             return ResponseEntity.ok(Map.of(
                     "activeAdministrators", administrators,
@@ -250,30 +250,19 @@ public class AdministratorController {
 
     /**
      * Endpoint temporal para migrar roles de administradores existentes.
-     * Corrige administradores que tengan role: null asignándoles ADMINISTRATOR.
+     * Lanza en segundo plano la corrección de los administradores con role: null,
+     * asignándoles ADMINISTRATOR. Si ya está en curso devuelve su avance.
      *
-     * @return resultado de la migración
+     * @return avance de la migración
      */
     @PostMapping("/migrate-roles")
     public ResponseEntity<?> migrateRoles() {
         try {
-            int updatedCount = 0;
-            List<Administrator> administrators = administratorService.getAllAdministrators();
-
-            for (Administrator admin : administrators) {
-                if (admin.getRole() == null) {
-                    admin.setRole(UserRole.ADMINISTRATOR);
-                    administratorService.updateAdministrator(admin.getId(), admin);
-                    updatedCount++;
-                }
-            }
-
-            return ResponseEntity.ok(Map.of(
-                    "message", "Migración de roles completada exitosamente",
-                    "administratorsUpdated", updatedCount,
-                    "totalAdministrators", administrators.size()
+            MigrationJob job = migrationJobService.startRoleBackfill(Administrator.class, UserRole.ADMINISTRATOR);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                    "message", "Migración de roles de administradores en curso",
+                    "job", job
             ));
-
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Error durante la migración de roles: " + e.getMessage()));
@@ -281,59 +270,30 @@ public class AdministratorController {
     }
 
     /**
-     * Endpoint de prueba para verificar el estado del controlador.
+     * Obtiene el avance de la migración de roles de administradores.
      *
-     * @return mensaje de estado
+     * @return avance de la migración o error si no se ha lanzado
      */
-    @GetMapping("/health")
-    public ResponseEntity<String> healthCheck() {
-        return ResponseEntity.ok("AdministratorController is working properly");
-    }
-
-    /**
-     * Convierte un DTO en una entidad {@link Administrator}.
-     *
-     * @param dto objeto de transferencia de datos
-     * @return entidad convertida
-     */
-    private Administrator convertToEntity(AdministratorDTO dto) {
-        Administrator administrator = new Administrator();
-
-        // Establecer los campos individualmente usando setters
-        administrator.setId(dto.getId());
-        administrator.setName(dto.getName());
-        administrator.setEmail(dto.getEmail());
-        administrator.setPassword(dto.getPassword());
-        administrator.setDepartment(dto.getDepartment());
-        administrator.setActive(dto.getActive() != null ? dto.getActive() : true);
-
-        // Manejar el rol de forma robusta
-        if (dto.getRole() != null) {
-            administrator.setRole(dto.getRole());
-        } else {
-            administrator.setRole(UserRole.ADMINISTRATOR);
+    @GetMapping("/migrate-roles")
+    public ResponseEntity<?> getRoleMigration() {
+        try {
+            return migrationJobService.getRoleBackfill(Administrator.class)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(Map.of("error", "La migración de roles de administradores no se ha lanzado")));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Error al obtener el avance de la migración"));
         }
-
-        return administrator;
     }
 
     /**
-     * Convierte una entidad {@link Administrator} a un DTO.
+     * Endpoint de prueba para verificar el estado del controlador.
      *
-     * @param administrator entidad a convertir
-     * @return DTO correspondiente
+     * @return mensaje de estado
      */
-    private AdministratorDTO convertToDTO(Administrator administrator) {
-        AdministratorDTO dto = new AdministratorDTO();
-        dto.setId(administrator.getId());
-        dto.setName(administrator.getName());
-        dto.setEmail(administrator.getEmail());
-        dto.setPassword(administrator.getPassword());
-        dto.setRole(administrator.getRole());
-        dto.setDepartment(administrator.getDepartment());
-        dto.setActive(administrator.isActive());
-        dto.setCreatedAt(administrator.getCreatedAt());
-        dto.setUpdatedAt(administrator.getUpdatedAt());
-        return dto;
+    @GetMapping("/health")
+    public ResponseEntity<String> healthCheck() {
+        return ResponseEntity.ok("AdministratorController is working properly");
     }
 }
\ No newline at end of file
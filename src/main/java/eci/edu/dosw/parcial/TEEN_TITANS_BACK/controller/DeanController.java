@@ -1,15 +1,21 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.DeanDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.DeanSummaryDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Dean;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.MigrationJob;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.DeanService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.MigrationJobService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.PopulationStatisticsService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.DeanMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -20,18 +26,25 @@ import java.util.stream.Collectors;
 public class DeanController {
 
     private final DeanService deanService;
+    private final PopulationStatisticsService populationStatisticsService;
+    private final MigrationJobService migrationJobService;
+    private final DeanMapper deanMapper;
 
     @Autowired
-    public DeanController(DeanService deanService) {
+    public DeanController(DeanService deanService, PopulationStatisticsService populationStatisticsService,
+                          MigrationJobService migrationJobService, DeanMapper deanMapper) {
         this.deanService = deanService;
+        this.populationStatisticsService = populationStatisticsService;
+        this.migrationJobService = migrationJobService;
+        this.deanMapper = deanMapper;
     }
 
     @PostMapping
     public ResponseEntity<?> createDean(@RequestBody DeanDTO deanDTO) {
         try {
-            Dean dean = convertToEntity(deanDTO);
+            Dean dean = deanMapper.toEntity(deanDTO);
             Dean createdDean = deanService.createDean(dean);
-            DeanDTO responseDTO = convertToDTO(createdDean);
+            DeanDTO responseDTO = deanMapper.toDTO(createdDean);
             return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -46,7 +59,7 @@ public class DeanController {
     public ResponseEntity<?> getDeanById(@PathVariable String id) {
         try {
             Dean dean = deanService.getDeanById(id);
-            DeanDTO deanDTO = convertToDTO(dean);
+            DeanDTO deanDTO = deanMapper.toDTO(dean);
             return ResponseEntity.ok(deanDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -60,10 +73,7 @@ public class DeanController {
     @GetMapping
     public ResponseEntity<?> getAllDeans() {
         try {
-            List<Dean> deans = deanService.getAllDeans();
-            List<DeanDTO> deanDTOs = deans.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<DeanSummaryDTO> deanDTOs = deanService.getDeanSummaries();
 
             return ResponseEntity.ok(Map.of(
                     "deans", deanDTOs,
@@ -78,9 +88,9 @@ public class DeanController {
     @PutMapping("/{id}")
     public ResponseEntity<?> updateDean(@PathVariable String id, @RequestBody DeanDTO deanDTO) {
         try {
-            Dean dean = convertToEntity(deanDTO);
+            Dean dean = deanMapper.toEntity(deanDTO);
             Dean updatedDean = deanService.updateDean(id, dean);
-            DeanDTO responseDTO = convertToDTO(updatedDean);
+            DeanDTO responseDTO = deanMapper.toDTO(updatedDean);
             return ResponseEntity.ok(responseDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -112,9 +122,7 @@ public class DeanController {
     public ResponseEntity<?> findByFaculty(@PathVariable String faculty) {
         try {
             List<Dean> deans = deanService.findByFaculty(faculty);
-            List<DeanDTO> deanDTOs = deans.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<DeanDTO> deanDTOs = deanMapper.toDTOs(deans);
 
             return ResponseEntity.ok(Map.of(
                     "faculty", faculty,
@@ -131,9 +139,7 @@ public class DeanController {
     public ResponseEntity<?> findByOfficeLocation(@PathVariable String location) {
         try {
             List<Dean> deans = deanService.findByOfficeLocation(location);
-            List<DeanDTO> deanDTOs = deans.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<DeanDTO> deanDTOs = deanMapper.toDTOs(deans);
 
             return ResponseEntity.ok(Map.of(
                     "officeLocation", location,
@@ -150,7 +156,7 @@ public class DeanController {
     public ResponseEntity<?> getDeanByFaculty(@PathVariable String faculty) {
         try {
             Dean dean = deanService.getDeanByFaculty(faculty);
-            DeanDTO deanDTO = convertToDTO(dean);
+            DeanDTO deanDTO = deanMapper.toDTO(dean);
             return ResponseEntity.ok(deanDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -165,9 +171,7 @@ public class DeanController {
     public ResponseEntity<?> findByFacultyAndOfficeLocation(@PathVariable String faculty, @PathVariable String officeLocation) {
         try {
             List<Dean> deans = deanService.findByFacultyAndOfficeLocation(faculty, officeLocation);
-            List<DeanDTO> deanDTOs = deans.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<DeanDTO> deanDTOs = deanMapper.toDTOs(deans);
 
             return ResponseEntity.ok(Map.of(
                     "faculty", faculty,
@@ -185,9 +189,7 @@ public class DeanController {
     public ResponseEntity<?> findByNameContaining(@PathVariable String name) {
         try {
             List<Dean> deans = deanService.findByNameContaining(name);
-            List<DeanDTO> deanDTOs = deans.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<DeanDTO> deanDTOs = deanMapper.toDTOs(deans);
 
             return ResponseEntity.ok(Map.of(
                     "name", name,
@@ -204,9 +206,7 @@ public class DeanController {
     public ResponseEntity<?> findByFacultyPattern(@PathVariable String pattern) {
         try {
             List<Dean> deans = deanService.findByFacultyContaining(pattern);
-            List<DeanDTO> deanDTOs = deans.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<DeanDTO> deanDTOs = deanMapper.toDTOs(deans);
 
             return ResponseEntity.ok(Map.of(
                     "pattern", pattern,
@@ -223,9 +223,7 @@ public class DeanController {
     public ResponseEntity<?> findByOfficeLocationPattern(@PathVariable String pattern) {
         try {
             List<Dean> deans = deanService.findByOfficeLocationContaining(pattern);
-            List<DeanDTO> deanDTOs = deans.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<DeanDTO> deanDTOs = deanMapper.toDTOs(deans);
 
             return ResponseEntity.ok(Map.of(
                     "pattern", pattern,
@@ -241,10 +239,7 @@ public class DeanController {
     @GetMapping("/active")
     public ResponseEntity<?> findActiveDeans() {
         try {
-            List<Dean> activeDeans = deanService.findActiveDeans();
-            List<DeanDTO> deanDTOs = activeDeans.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<DeanSummaryDTO> deanDTOs = deanService.getActiveDeanSummaries();
 
             return ResponseEntity.ok(Map.of(
                     "activeDeans", deanDTOs,
@@ -260,29 +255,24 @@ public class DeanController {
     public ResponseEntity<?> searchDeans(
             @RequestParam(required = false) String faculty,
             @RequestParam(required = false) String officeLocation,
-            @RequestParam(required = false) Boolean active) {
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(defaultValue = "100") int limit) {
 
         try {
-            List<Dean> allDeans = deanService.getAllDeans();
-            List<Dean> filteredDeans = allDeans.stream()
-                    .filter(dean -> faculty == null || faculty.equals(dean.getFaculty()))
-                    .filter(dean -> officeLocation == null || officeLocation.equals(dean.getOfficeLocation()))
-                    .filter(dean -> active == null || active.equals(dean.isActive()))
-                    .collect(Collectors.toList());
-
-            List<DeanDTO> deanDTOs = filteredDeans.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<DeanDTO> deanDTOs = deanMapper.toDTOs(deanService.searchDeans(faculty, officeLocation, active, limit));
 
+            Map<String, Object> searchCriteria = new HashMap<>();
+            searchCriteria.put("faculty", faculty);
+            searchCriteria.put("officeLocation", officeLocation);
+            searchCriteria.put("active", active);
             return ResponseEntity.ok(Map.of(
-                    "searchCriteria", Map.of(
-                            "faculty", faculty,
-                            "officeLocation", officeLocation,
-                            "active", active
-                    ),
+                    "searchCriteria", searchCriteria,
                     "deans", deanDTOs,
                     "count", deanDTOs.size()
             ));
+        } catch (AppException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Error en la búsqueda de decanos"));
@@ -292,25 +282,16 @@ public class DeanController {
     @GetMapping("/stats")
     public ResponseEntity<?> getDeanStatistics() {
         try {
-            List<Dean> allDeans = deanService.getAllDeans();
-
-            long activeCount = allDeans.stream().filter(Dean::isActive).count();
-            long inactiveCount = allDeans.size() - activeCount;
-
-            Map<String, Long> deansByFaculty = allDeans.stream()
-                    .collect(Collectors.groupingBy(Dean::getFaculty, Collectors.counting()));
-
-            Map<String, Long> deansByOfficeLocation = allDeans.stream()
-                    .collect(Collectors.groupingBy(Dean::getOfficeLocation, Collectors.counting()));
+            PopulationStatisticsService.PopulationStatistics statistics =
+                    populationStatisticsService.getDeanStatistics();
 
             return ResponseEntity.ok(Map.of(
-                    "totalDeans", allDeans.size(),
-                    "activeDeans", activeCount,
-                    "inactiveDeans", inactiveCount,
-                    "deansByFaculty", deansByFaculty,
-                    "deansByOfficeLocation", deansByOfficeLocation,
-                    "activePercentage", allDeans.isEmpty() ?
-                            0 : Math.round((double) activeCount / allDeans.size() * 100 * 100.0) / 100.0
+                    "totalDeans", statistics.getTotal(),
+                    "activeDeans", statistics.getActive(),
+                    "inactiveDeans", statistics.getInactive(),
+                    "deansByFaculty", statistics.getBreakdown("faculty"),
+                    "deansByOfficeLocation", statistics.getBreakdown("officeLocation"),
+                    "activePercentage", statistics.getActivePercentage()
             ));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -368,21 +349,10 @@ public class DeanController {
     @PostMapping("/migrate-roles")
     public ResponseEntity<?> migrateDeanRoles() {
         try {
-            List<Dean> allDeans = deanService.getAllDeans();
-            int updatedCount = 0;
-
-            for (Dean dean : allDeans) {
-                if (dean.getRole() == null) {
-                    dean.setRole(UserRole.DEAN);
-                    deanService.updateDean(dean.getId(), dean);
-                    updatedCount++;
-                }
-            }
-
-            return ResponseEntity.ok(Map.of(
-                    "message", "Migración de roles de decanos completada",
-                    "deansUpdated", updatedCount,
-                    "totalDeans", allDeans.size()
+            MigrationJob job = migrationJobService.startRoleBackfill(Dean.class, UserRole.DEAN);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                    "message", "Migración de roles de decanos en curso",
+                    "job", job
             ));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -390,57 +360,21 @@ public class DeanController {
         }
     }
 
-    @GetMapping("/health")
-    public ResponseEntity<String> healthCheck() {
-        return ResponseEntity.ok("DeanController is working properly");
-    }
-
-    /**
-     * Convierte un DTO en una entidad {@link Dean}.
-     *
-     * @param dto objeto con los datos del decano
-     * @return entidad {@link Dean}
-     */
-    private Dean convertToEntity(DeanDTO dto) {
-        Dean dean = new Dean();
-
-        // Establecer los campos individualmente usando setters
-        dean.setId(dto.getId());
-        dean.setName(dto.getName());
-        dean.setEmail(dto.getEmail());
-        dean.setPassword(dto.getPassword());
-        dean.setFaculty(dto.getFaculty());
-        dean.setOfficeLocation(dto.getOfficeLocation());
-        dean.setActive(dto.getActive() != null ? dto.getActive() : true);
-
-        // Manejar el rol: si en el DTO viene un rol, usarlo; si no, asignar DEAN
-        if (dto.getRole() != null) {
-            dean.setRole(dto.getRole());
-        } else {
-            dean.setRole(UserRole.DEAN);
+    @GetMapping("/migrate-roles")
+    public ResponseEntity<?> getDeanRoleMigration() {
+        try {
+            return migrationJobService.getRoleBackfill(Dean.class)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(Map.of("error", "La migración de roles de decanos no se ha lanzado")));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Error al obtener el avance de la migración"));
         }
-
-        return dean;
     }
 
-    /**
-     * Convierte una entidad {@link Dean} en un DTO.
-     *
-     * @param dean entidad decano
-     * @return objeto {@link DeanDTO}
-     */
-    private DeanDTO convertToDTO(Dean dean) {
-        DeanDTO dto = new DeanDTO();
-        dto.setId(dean.getId());
-        dto.setName(dean.getName());
-        dto.setEmail(dean.getEmail());
-        dto.setPassword(dean.getPassword());
-        dto.setRole(dean.getRole()); // 🔥 CORREGIDO: Usar UserRole, no String
-        dto.setFaculty(dean.getFaculty());
-        dto.setOfficeLocation(dean.getOfficeLocation());
-        dto.setActive(dean.isActive());
-        dto.setCreatedAt(dean.getCreatedAt());
-        dto.setUpdatedAt(dean.getUpdatedAt());
-        return dto;
+    @GetMapping("/health")
+    public ResponseEntity<String> healthCheck() {
+        return ResponseEntity.ok("DeanController is working properly");
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.GeneralManagementService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.*;
 import lombok.RequiredArgsConstructor;
@@ -174,16 +176,23 @@ public class GeneralManagementController {
     }
 
     /**
-     * Obtiene todas las aulas.
+     * Obtiene una página de aulas. El cursor de la página siguiente se envía en el
+     * encabezado {@value CursorPageDTO#NEXT_CURSOR_HEADER}.
      *
-     * @return ResponseEntity con la lista de aulas
+     * @param cursor cursor de la página anterior, o vacío para la primera página
+     * @param size tamaño de la página
+     * @return ResponseEntity con la lista de aulas de la página
      */
     @GetMapping("/classrooms")
-    public ResponseEntity<List<Classroom>> getAllClassrooms() {
+    public ResponseEntity<List<Classroom>> getAllClassrooms(@RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "20") int size) {
         try {
-            log.info("Obteniendo todas las aulas");
-            List<Classroom> classrooms = generalManagementService.getAllClassrooms();
-            return new ResponseEntity<>(classrooms, HttpStatus.OK);
+            log.info("Obteniendo página de aulas");
+            CursorPageDTO<Classroom> page = generalManagementService.getClassroomsPage(cursor, size);
+            return withNextCursor(page);
+        } catch (AppException e) {
+            log.warn("Paginación de aulas no válida: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             log.error("Error al obtener aulas: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -320,16 +329,23 @@ public class GeneralManagementController {
     }
 
     /**
-     * Obtiene todos los cursos.
+     * Obtiene una página de cursos. El cursor de la página siguiente se envía en el
+     * encabezado {@value CursorPageDTO#NEXT_CURSOR_HEADER}.
      *
-     * @return ResponseEntity con la lista de cursos
+     * @param cursor cursor de la página anterior, o vacío para la primera página
+     * @param size tamaño de la página
+     * @return ResponseEntity con la lista de cursos de la página
      */
     @GetMapping("/courses")
-    public ResponseEntity<List<Course>> getAllCourses() {
+    public ResponseEntity<List<Course>> getAllCourses(@RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "20") int size) {
         try {
-            log.info("Obteniendo todos los cursos");
-            List<Course> courses = generalManagementService.getAllCourses();
-            return new ResponseEntity<>(courses, HttpStatus.OK);
+            log.info("Obteniendo página de cursos");
+            CursorPageDTO<Course> page = generalManagementService.getCoursesPage(cursor, size);
+            return withNextCursor(page);
+        } catch (AppException e) {
+            log.warn("Paginación de cursos no válida: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             log.error("Error al obtener cursos: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -723,16 +739,23 @@ public class GeneralManagementController {
     }
 
     /**
-     * Obtiene todos los horarios.
+     * Obtiene una página de horarios. El cursor de la página siguiente se envía en el
+     * encabezado {@value CursorPageDTO#NEXT_CURSOR_HEADER}.
      *
-     * @return ResponseEntity con la lista de horarios
+     * @param cursor cursor de la página anterior, o vacío para la primera página
+     * @param size tamaño de la página
+     * @return ResponseEntity con la lista de horarios de la página
      */
     @GetMapping("/schedules")
-    public ResponseEntity<List<Schedule>> getAllSchedules() {
+    public ResponseEntity<List<Schedule>> getAllSchedules(@RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "20") int size) {
         try {
-            log.info("Obteniendo todos los horarios");
-            List<Schedule> schedules = generalManagementService.getAllSchedules();
-            return new ResponseEntity<>(schedules, HttpStatus.OK);
+            log.info("Obteniendo página de horarios");
+            CursorPageDTO<Schedule> page = generalManagementService.getSchedulesPage(cursor, size);
+            return withNextCursor(page);
+        } catch (AppException e) {
+            log.warn("Paginación de horarios no válida: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             log.error("Error al obtener horarios: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -1009,4 +1032,12 @@ public class GeneralManagementController {
         log.info("Health check - General Management Controller está funcionando");
         return new ResponseEntity<>("General Management Controller está funcionando correctamente", HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    private <T> ResponseEntity<List<T>> withNextCursor(CursorPageDTO<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPageDTO.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+}
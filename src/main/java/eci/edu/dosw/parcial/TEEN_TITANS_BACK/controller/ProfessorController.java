@@ -1,10 +1,15 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ProfessorDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ProfessorSummaryDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.MigrationJob;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Professor;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.MigrationJobService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.PopulationStatisticsService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.ProfessorService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.ProfessorMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,7 +17,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Controlador REST para gestionar las operaciones relacionadas con los profesores.
@@ -27,15 +31,27 @@ import java.util.stream.Collectors;
 public class ProfessorController {
 
     private final ProfessorService professorService;
+    private final PopulationStatisticsService populationStatisticsService;
+    private final MigrationJobService migrationJobService;
+    private final ProfessorMapper professorMapper;
 
     /**
      * Constructor del controlador con inyección de dependencias.
      *
      * @param professorService servicio de profesores
+     * @param populationStatisticsService servicio de estadísticas de población
+     * @param migrationJobService servicio de migraciones en segundo plano
+     * @param professorMapper mapeador entre {@link Professor} y {@link ProfessorDTO}
      */
     @Autowired
-    public ProfessorController(ProfessorService professorService) {
+    public ProfessorController(ProfessorService professorService,
+                               PopulationStatisticsService populationStatisticsService,
+                               MigrationJobService migrationJobService,
+                               ProfessorMapper professorMapper) {
         this.professorService = professorService;
+        this.populationStatisticsService = populationStatisticsService;
+        this.migrationJobService = migrationJobService;
+        this.professorMapper = professorMapper;
     }
 
     /**
@@ -47,9 +63,9 @@ public class ProfessorController {
     @PostMapping
     public ResponseEntity<?> createProfessor(@RequestBody ProfessorDTO professorDTO) {
         try {
-            Professor professor = convertToEntity(professorDTO);
+            Professor professor = professorMapper.toEntity(professorDTO);
             Professor createdProfessor = professorService.createProfessor(professor);
-            ProfessorDTO responseDTO = convertToDTO(createdProfessor);
+            ProfessorDTO responseDTO = professorMapper.toDTO(createdProfessor);
             return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -70,7 +86,7 @@ public class ProfessorController {
     public ResponseEntity<?> getProfessorById(@PathVariable String id) {
         try {
             Professor professor = professorService.getProfessorById(id);
-            ProfessorDTO professorDTO = convertToDTO(professor);
+            ProfessorDTO professorDTO = professorMapper.toDTO(professor);
             return ResponseEntity.ok(professorDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -89,10 +105,8 @@ public class ProfessorController {
     @GetMapping
     public ResponseEntity<?> getAllProfessors() {
         try {
-            List<Professor> professors = professorService.getAllProfessors();
-            List<ProfessorDTO> professorDTOs = professors.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<ProfessorSummaryDTO> professorDTOs = professorService.getProfessorSummaries();
+            professorDTOs.forEach(professor -> professor.setRole(UserRole.PROFESSOR)); // Asegurar que el rol se incluya siempre
 
             return ResponseEntity.ok(Map.of(
                     "professors", professorDTOs,
@@ -114,9 +128,9 @@ public class ProfessorController {
     @PutMapping("/{id}")
     public ResponseEntity<?> updateProfessor(@PathVariable String id, @RequestBody ProfessorDTO professorDTO) {
         try {
-            Professor professor = convertToEntity(professorDTO);
+            Professor professor = professorMapper.toEntity(professorDTO);
             Professor updatedProfessor = professorService.updateProfessor(id, professor);
-            ProfessorDTO responseDTO = convertToDTO(updatedProfessor);
+            ProfessorDTO responseDTO = professorMapper.toDTO(updatedProfessor);
             return ResponseEntity.ok(responseDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -160,9 +174,7 @@ public class ProfessorController {
     public ResponseEntity<?> findByDepartment(@PathVariable String department) {
         try {
             List<Professor> professors = professorService.findByDepartment(department);
-            List<ProfessorDTO> professorDTOs = professors.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<ProfessorDTO> professorDTOs = professorMapper.toDTOs(professors);
 
             return ResponseEntity.ok(Map.of(
                     "department", department,
@@ -185,9 +197,7 @@ public class ProfessorController {
     public ResponseEntity<?> findByTenured(@PathVariable Boolean isTenured) {
         try {
             List<Professor> professors = professorService.findByTenured(isTenured);
-            List<ProfessorDTO> professorDTOs = professors.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<ProfessorDTO> professorDTOs = professorMapper.toDTOs(professors);
 
             return ResponseEntity.ok(Map.of(
                     "tenured", isTenured,
@@ -210,9 +220,7 @@ public class ProfessorController {
     public ResponseEntity<?> findByAreaOfExpertise(@PathVariable String area) {
         try {
             List<Professor> professors = professorService.findByAreaOfExpertise(area);
-            List<ProfessorDTO> professorDTOs = professors.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<ProfessorDTO> professorDTOs = professorMapper.toDTOs(professors);
 
             return ResponseEntity.ok(Map.of(
                     "expertise", area,
@@ -233,10 +241,8 @@ public class ProfessorController {
     @GetMapping("/active")
     public ResponseEntity<?> findActiveProfessors() {
         try {
-            List<Professor> activeProfessors = professorService.findActiveProfessors();
-            List<ProfessorDTO> professorDTOs = activeProfessors.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<ProfessorSummaryDTO> professorDTOs = professorService.getActiveProfessorSummaries();
+            professorDTOs.forEach(professor -> professor.setRole(UserRole.PROFESSOR)); // Asegurar que el rol se incluya siempre
 
             return ResponseEntity.ok(Map.of(
                     "activeProfessors", professorDTOs,
@@ -256,20 +262,18 @@ public class ProfessorController {
     @GetMapping("/stats")
     public ResponseEntity<?> getProfessorStats() {
         try {
-            List<Professor> allProfessors = professorService.getAllProfessors();
-            List<Professor> tenuredProfessors = professorService.findByTenured(true);
+            PopulationStatisticsService.PopulationStatistics statistics =
+                    populationStatisticsService.getProfessorStatistics();
 
-            long activeCount = allProfessors.stream().filter(Professor::isActive).count();
-            long inactiveCount = allProfessors.size() - activeCount;
-            long tenuredCount = tenuredProfessors.size();
-            double tenuredPercentage = allProfessors.size() > 0 ?
-                    (double) tenuredCount / allProfessors.size() * 100 : 0;
+            long tenuredCount = statistics.getBreakdown("isTenured").getOrDefault(true, 0L);
+            double tenuredPercentage = statistics.getTotal() > 0 ?
+                    (double) tenuredCount / statistics.getTotal() * 100 : 0;
 
             return ResponseEntity.ok(Map.of(
-                    "totalProfessors", allProfessors.size(),
+                    "totalProfessors", statistics.getTotal(),
                     "tenuredProfessors", tenuredCount,
-                    "activeProfessors", activeCount,
-                    "inactiveProfessors", inactiveCount,
+                    "activeProfessors", statistics.getActive(),
+                    "inactiveProfessors", statistics.getInactive(),
                     "tenuredPercentage", Math.round(tenuredPercentage * 100.0) / 100.0
             ));
         } catch (Exception e) {
@@ -289,9 +293,7 @@ public class ProfessorController {
     public ResponseEntity<?> findByDepartmentAndTenured(@PathVariable String department, @PathVariable Boolean isTenured) {
         try {
             List<Professor> professors = professorService.findByDepartmentAndTenured(department, isTenured);
-            List<ProfessorDTO> professorDTOs = professors.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<ProfessorDTO> professorDTOs = professorMapper.toDTOs(professors);
 
             return ResponseEntity.ok(Map.of(
                     "department", department,
@@ -315,9 +317,7 @@ public class ProfessorController {
     public ResponseEntity<?> findByNameContaining(@PathVariable String name) {
         try {
             List<Professor> professors = professorService.findByNameContaining(name);
-            List<ProfessorDTO> professorDTOs = professors.stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
+            List<ProfessorDTO> professorDTOs = professorMapper.toDTOs(professors);
 
             return ResponseEntity.ok(Map.of(
                     "name", name,
@@ -331,29 +331,18 @@ public class ProfessorController {
     }
 
     /**
-     * Endpoint para migrar todos los profesores existentes y asignarles el rol PROFESSOR
-     * si no lo tienen.
+     * Lanza en segundo plano la migración que asigna el rol PROFESSOR a los profesores
+     * que no lo tienen. Si ya está en curso devuelve su avance.
      *
-     * @return mensaje de confirmación de migración
+     * @return avance de la migración
      */
     @PostMapping("/migrate-roles")
     public ResponseEntity<?> migrateProfessorRoles() {
         try {
-            List<Professor> allProfessors = professorService.getAllProfessors();
-            int updatedCount = 0;
-
-            for (Professor professor : allProfessors) {
-                if (professor.getRole() == null) {
-                    professor.setRole(UserRole.PROFESSOR);
-                    professorService.updateProfessor(professor.getId(), professor);
-                    updatedCount++;
-                }
-            }
-
-            return ResponseEntity.ok(Map.of(
-                    "message", "Migración de roles de profesores completada",
-                    "professorsUpdated", updatedCount,
-                    "totalProfessors", allProfessors.size()
+            MigrationJob job = migrationJobService.startRoleBackfill(Professor.class, UserRole.PROFESSOR);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                    "message", "Migración de roles de profesores en curso",
+                    "job", job
             ));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -362,71 +351,30 @@ public class ProfessorController {
     }
 
     /**
-     * Verifica el estado del controlador.
-     *
-     * @return mensaje de estado
-     */
-    @GetMapping("/health")
-    public ResponseEntity<String> healthCheck() {
-        return ResponseEntity.ok("ProfessorController is working properly");
-    }
-
-    /**
-     * Convierte un objeto DTO en una entidad {@link Professor}.
+     * Obtiene el avance de la migración de roles de profesores.
      *
-     * @param dto objeto de transferencia de datos
-     * @return entidad {@link Professor}
+     * @return avance de la migración o error si no se ha lanzado
      */
-    private Professor convertToEntity(ProfessorDTO dto) {
-        // Usar el constructor de Professor que incluye el rol
-        Professor professor = new Professor(
-                dto.getId(),
-                dto.getName(),
-                dto.getEmail(),
-                dto.getPassword(),
-                dto.getDepartment(),
-                dto.getIsTenured(),
-                dto.getAreasOfExpertise()
-        );
-
-        // Establecer propiedades adicionales
-        if (dto.getActive() != null) {
-            professor.setActive(dto.getActive());
-        }
-        if (dto.getCreatedAt() != null) {
-            professor.setCreatedAt(dto.getCreatedAt());
-        }
-        if (dto.getUpdatedAt() != null) {
-            professor.setUpdatedAt(dto.getUpdatedAt());
-        }
-
-        // Asegurar que el rol esté establecido (por si acaso)
-        if (professor.getRole() == null) {
-            professor.setRole(UserRole.PROFESSOR);
+    @GetMapping("/migrate-roles")
+    public ResponseEntity<?> getProfessorRoleMigration() {
+        try {
+            return migrationJobService.getRoleBackfill(Professor.class)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(Map.of("error", "La migración de roles de profesores no se ha lanzado")));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Error al obtener el avance de la migración"));
         }
-
-        return professor;
     }
 
     /**
-     * Convierte una entidad {@link Professor} en un objeto {@link ProfessorDTO}.
+     * Verifica el estado del controlador.
      *
-     * @param professor entidad de profesor
-     * @return objeto DTO
+     * @return mensaje de estado
      */
-    private ProfessorDTO convertToDTO(Professor professor) {
-        ProfessorDTO dto = new ProfessorDTO();
-        dto.setId(professor.getId());
-        dto.setName(professor.getName());
-        dto.setEmail(professor.getEmail());
-        dto.setPassword(professor.getPassword());
-        dto.setRole("PROFESSOR"); // Asegurar que el rol se incluya siempre
-        dto.setDepartment(professor.getDepartment());
-        dto.setIsTenured(professor.getIsTenured());
-        dto.setAreasOfExpertise(professor.getAreasOfExpertise());
-        dto.setActive(professor.isActive());
-        dto.setCreatedAt(professor.getCreatedAt());
-        dto.setUpdatedAt(professor.getUpdatedAt());
-        return dto;
+    @GetMapping("/health")
+    public ResponseEntity<String> healthCheck() {
+        return ResponseEntity.ok("ProfessorController is working properly");
     }
 }
\ No newline at end of file
@@ -1,18 +1,24 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentSummaryDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.MigrationJob;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.MigrationJobService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.PopulationStatisticsService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.StudentService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.StudentMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Controlador REST encargado de manejar las operaciones CRUD y consultas avanzadas
@@ -31,15 +37,27 @@ import java.util.stream.Collectors;
 public class StudentController {
 
     private final StudentService studentService;
+    private final PopulationStatisticsService populationStatisticsService;
+    private final MigrationJobService migrationJobService;
+    private final StudentMapper studentMapper;
 
     /**
      * Constructor que inyecta el servicio de estudiantes.
      *
      * @param studentService servicio de lógica de negocio para los estudiantes
+     * @param populationStatisticsService servicio de estadísticas de población
+     * @param migrationJobService servicio de migraciones en segundo plano
+     * @param studentMapper mapeador entre {@link Student} y {@link StudentDTO}
      */
     @Autowired
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService,
+                             PopulationStatisticsService populationStatisticsService,
+                             MigrationJobService migrationJobService,
+                             StudentMapper studentMapper) {
         this.studentService = studentService;
+        this.populationStatisticsService = populationStatisticsService;
+        this.migrationJobService = migrationJobService;
+        this.studentMapper = studentMapper;
     }
 
     /**
@@ -51,9 +69,9 @@ public class StudentController {
     @PostMapping
     public ResponseEntity<?> createStudent(@RequestBody StudentDTO studentDTO) {
         try {
-            Student student = convertToStudent(studentDTO);
+            Student student = studentMapper.toEntity(studentDTO);
             Student createdStudent = studentService.createStudent(student);
-            StudentDTO responseDTO = convertToStudentDTO(createdStudent);
+            StudentDTO responseDTO = studentMapper.toDTO(createdStudent);
             return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -74,7 +92,7 @@ public class StudentController {
     public ResponseEntity<?> getStudentById(@PathVariable String id) {
         try {
             Student student = studentService.getStudentById(id);
-            StudentDTO studentDTO = convertToStudentDTO(student);
+            StudentDTO studentDTO = studentMapper.toDTO(student);
             return ResponseEntity.ok(studentDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -86,21 +104,27 @@ public class StudentController {
     }
 
     /**
-     * Obtiene todos los estudiantes registrados en el sistema.
+     * Obtiene una página de los estudiantes registrados en el sistema.
      *
-     * @return lista de estudiantes y cantidad total
+     * @param cursor cursor de la página anterior, o vacío para la primera página
+     * @param size   tamaño de la página
+     * @return lista de estudiantes de la página, su cantidad y el cursor de la página siguiente
      */
     @GetMapping
-    public ResponseEntity<?> getAllStudents() {
+    public ResponseEntity<?> getAllStudents(@RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "20") int size) {
         try {
-            List<Student> students = studentService.getAllStudents();
-            List<StudentDTO> studentDTOs = students.stream()
-                    .map(this::convertToStudentDTO)
-                    .collect(Collectors.toList());
-            return ResponseEntity.ok(Map.of(
-                    "students", studentDTOs,
-                    "count", studentDTOs.size()
-            ));
+            CursorPageDTO<StudentSummaryDTO> page = studentService.getStudentsPage(cursor, size);
+            page.getItems().forEach(student -> student.setRole(UserRole.STUDENT)); // Asegurar que el rol se incluya siempre
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("students", page.getItems());
+            response.put("count", page.getItems().size());
+            response.put("nextCursor", page.getNextCursor());
+            return ResponseEntity.ok(response);
+        } catch (AppException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Error al obtener la lista de estudiantes"));
@@ -117,9 +141,9 @@ public class StudentController {
     @PutMapping("/{id}")
     public ResponseEntity<?> updateStudent(@PathVariable String id, @RequestBody StudentDTO studentDTO) {
         try {
-            Student student = convertToStudent(studentDTO);
+            Student student = studentMapper.toEntity(studentDTO);
             Student updatedStudent = studentService.updateStudent(id, student);
-            StudentDTO responseDTO = convertToStudentDTO(updatedStudent);
+            StudentDTO responseDTO = studentMapper.toDTO(updatedStudent);
             return ResponseEntity.ok(responseDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -163,9 +187,7 @@ public class StudentController {
     public ResponseEntity<?> findByAcademicProgram(@PathVariable String program) {
         try {
             List<Student> students = studentService.findByAcademicProgram(program);
-            List<StudentDTO> studentDTOs = students.stream()
-                    .map(this::convertToStudentDTO)
-                    .collect(Collectors.toList());
+            List<StudentDTO> studentDTOs = studentMapper.toDTOs(students);
             return ResponseEntity.ok(Map.of(
                     "program", program,
                     "students", studentDTOs,
@@ -187,9 +209,7 @@ public class StudentController {
     public ResponseEntity<?> findBySemester(@PathVariable Integer semester) {
         try {
             List<Student> students = studentService.findBySemester(semester);
-            List<StudentDTO> studentDTOs = students.stream()
-                    .map(this::convertToStudentDTO)
-                    .collect(Collectors.toList());
+            List<StudentDTO> studentDTOs = studentMapper.toDTOs(students);
             return ResponseEntity.ok(Map.of(
                     "semester", semester,
                     "students", studentDTOs,
@@ -211,9 +231,7 @@ public class StudentController {
     public ResponseEntity<?> findByGradeAverageGreaterThan(@PathVariable Double grade) {
         try {
             List<Student> students = studentService.findByGradeAverageGreaterThan(grade);
-            List<StudentDTO> studentDTOs = students.stream()
-                    .map(this::convertToStudentDTO)
-                    .collect(Collectors.toList());
+            List<StudentDTO> studentDTOs = studentMapper.toDTOs(students);
             return ResponseEntity.ok(Map.of(
                     "minGrade", grade,
                     "students", studentDTOs,
@@ -234,12 +252,10 @@ public class StudentController {
     public ResponseEntity<?> getActiveStudents() {
         try {
             List<Student> allStudents = studentService.getAllStudents();
-            List<Student> activeStudents = allStudents.stream()
+            List<StudentDTO> activeStudentDTOs = allStudents.stream()
                     .filter(Student::isActive)
-                    .collect(Collectors.toList());
-            List<StudentDTO> activeStudentDTOs = activeStudents.stream()
-                    .map(this::convertToStudentDTO)
-                    .collect(Collectors.toList());
+                    .map(studentMapper::toDTO)
+                    .toList();
 
             return ResponseEntity.ok(Map.of(
                     "activeStudents", activeStudentDTOs,
@@ -262,31 +278,16 @@ public class StudentController {
     @GetMapping("/statistics")
     public ResponseEntity<?> getStudentStatistics() {
         try {
-            List<Student> allStudents = studentService.getAllStudents();
-
-            long activeCount = allStudents.stream().filter(Student::isActive).count();
-            long inactiveCount = allStudents.size() - activeCount;
-
-            double averageGrade = allStudents.stream()
-                    .filter(s -> s.getGradeAverage() != null)
-                    .mapToDouble(Student::getGradeAverage)
-                    .average()
-                    .orElse(0.0);
-
-            Map<String, Long> studentsByProgram = allStudents.stream()
-                    .collect(Collectors.groupingBy(Student::getAcademicProgram, Collectors.counting()));
-
-            Map<Integer, Long> studentsBySemester = allStudents.stream()
-                    .filter(s -> s.getSemester() != null)
-                    .collect(Collectors.groupingBy(Student::getSemester, Collectors.counting()));
+            PopulationStatisticsService.PopulationStatistics statistics =
+                    populationStatisticsService.getStudentStatistics();
 
             return ResponseEntity.ok(Map.of(
-                    "totalStudents", allStudents.size(),
-                    "activeStudents", activeCount,
-                    "inactiveStudents", inactiveCount,
-                    "averageGrade", Math.round(averageGrade * 100.0) / 100.0,
-                    "studentsByProgram", studentsByProgram,
-                    "studentsBySemester", studentsBySemester
+                    "totalStudents", statistics.getTotal(),
+                    "activeStudents", statistics.getActive(),
+                    "inactiveStudents", statistics.getInactive(),
+                    "averageGrade", Math.round(statistics.getAverage("gradeAverage") * 100.0) / 100.0,
+                    "studentsByProgram", statistics.getBreakdown("academicProgram"),
+                    "studentsBySemester", statistics.getBreakdown("semester")
             ));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -301,6 +302,7 @@ public class StudentController {
      * @param semester semestre (opcional)
      * @param minGrade promedio mínimo (opcional)
      * @param active   estado de actividad (opcional)
+     * @param limit    número máximo de estudiantes a devolver
      * @return lista de estudiantes filtrados según los criterios ingresados
      */
     @GetMapping("/search")
@@ -308,30 +310,25 @@ public class StudentController {
             @RequestParam(required = false) String program,
             @RequestParam(required = false) Integer semester,
             @RequestParam(required = false) Double minGrade,
-            @RequestParam(required = false) Boolean active) {
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(defaultValue = "100") int limit) {
 
         try {
-            List<Student> allStudents = studentService.getAllStudents();
-            List<Student> filteredStudents = allStudents.stream()
-                    .filter(s -> program == null || program.equals(s.getAcademicProgram()))
-                    .filter(s -> semester == null || semester.equals(s.getSemester()))
-                    .filter(s -> minGrade == null || (s.getGradeAverage() != null && s.getGradeAverage() >= minGrade))
-                    .filter(s -> active == null || active.equals(s.isActive()))
-                    .collect(Collectors.toList());
-            List<StudentDTO> filteredDTOs = filteredStudents.stream()
-                    .map(this::convertToStudentDTO)
-                    .collect(Collectors.toList());
+            List<StudentDTO> filteredDTOs = studentMapper.toDTOs(studentService.searchStudents(program, semester, minGrade, active, limit));
 
+            Map<String, Object> searchCriteria = new HashMap<>();
+            searchCriteria.put("program", program);
+            searchCriteria.put("semester", semester);
+            searchCriteria.put("minGrade", minGrade);
+            searchCriteria.put("active", active);
             return ResponseEntity.ok(Map.of(
-                    "searchCriteria", Map.of(
-                            "program", program,
-                            "semester", semester,
-                            "minGrade", minGrade,
-                            "active", active
-                    ),
+                    "searchCriteria", searchCriteria,
                     "students", filteredDTOs,
                     "count", filteredDTOs.size()
             ));
+        } catch (AppException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Error en la búsqueda de estudiantes"));
@@ -339,29 +336,18 @@ public class StudentController {
     }
 
     /**
-     * Endpoint para migrar todos los estudiantes existentes y asignarles el rol STUDENT
-     * si no lo tienen.
+     * Lanza en segundo plano la migración que asigna el rol STUDENT a los estudiantes
+     * que no lo tienen. Si ya está en curso devuelve su avance.
      *
-     * @return mensaje de confirmación de migración
+     * @return avance de la migración
      */
     @PostMapping("/migrate-roles")
     public ResponseEntity<?> migrateStudentRoles() {
         try {
-            List<Student> allStudents = studentService.getAllStudents();
-            int updatedCount = 0;
-
-            for (Student student : allStudents) {
-                if (student.getRole() == null) {
-                    student.setRole(UserRole.STUDENT);
-                    studentService.updateStudent(student.getId(), student);
-                    updatedCount++;
-                }
-            }
-
-            return ResponseEntity.ok(Map.of(
-                    "message", "Migración de roles completada",
-                    "studentsUpdated", updatedCount,
-                    "totalStudents", allStudents.size()
+            MigrationJob job = migrationJobService.startRoleBackfill(Student.class, UserRole.STUDENT);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                    "message", "Migración de roles de estudiantes en curso",
+                    "job", job
             ));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -370,63 +356,20 @@ public class StudentController {
     }
 
     /**
-     * Convierte un objeto DTO a entidad {@link Student}.
+     * Obtiene el avance de la migración de roles de estudiantes.
      *
-     * @param studentDTO datos del estudiante
-     * @return entidad {@link Student}
+     * @return avance de la migración o error si no se ha lanzado
      */
-    private Student convertToStudent(StudentDTO studentDTO) {
-        // Usar el constructor que incluye el rol
-        Student student = new Student(
-                studentDTO.getId(),
-                studentDTO.getName(),
-                studentDTO.getEmail(),
-                studentDTO.getPassword(),
-                studentDTO.getAcademicProgram(),
-                studentDTO.getSemester()
-        );
-
-        // Establecer propiedades adicionales que no están en el constructor
-        if (studentDTO.getGradeAverage() != null) {
-            student.setGradeAverage(studentDTO.getGradeAverage());
-        }
-        if (studentDTO.getActive() != null) {
-            student.setActive(studentDTO.getActive());
-        }
-        if (studentDTO.getCreatedAt() != null) {
-            student.setCreatedAt(studentDTO.getCreatedAt());
-        }
-        if (studentDTO.getUpdatedAt() != null) {
-            student.setUpdatedAt(studentDTO.getUpdatedAt());
-        }
-
-        // Asegurar que el rol esté establecido (por si acaso)
-        if (student.getRole() == null) {
-            student.setRole(UserRole.STUDENT);
+    @GetMapping("/migrate-roles")
+    public ResponseEntity<?> getStudentRoleMigration() {
+        try {
+            return migrationJobService.getRoleBackfill(Student.class)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(Map.of("error", "La migración de roles de estudiantes no se ha lanzado")));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Error al obtener el avance de la migración"));
         }
-
-        return student;
-    }
-
-    /**
-     * Convierte una entidad {@link Student} a un objeto {@link StudentDTO}.
-     *
-     * @param student entidad estudiante
-     * @return objeto DTO del estudiante
-     */
-    private StudentDTO convertToStudentDTO(Student student) {
-        StudentDTO studentDTO = new StudentDTO();
-        studentDTO.setId(student.getId());
-        studentDTO.setName(student.getName());
-        studentDTO.setEmail(student.getEmail());
-        studentDTO.setPassword(student.getPassword());
-        studentDTO.setRole("STUDENT"); // Asegurar que el rol se incluya siempre
-        studentDTO.setActive(student.isActive());
-        studentDTO.setCreatedAt(student.getCreatedAt());
-        studentDTO.setUpdatedAt(student.getUpdatedAt());
-        studentDTO.setAcademicProgram(student.getAcademicProgram());
-        studentDTO.setSemester(student.getSemester());
-        studentDTO.setGradeAverage(student.getGradeAverage());
-        return studentDTO;
     }
 }
\ No newline at end of file
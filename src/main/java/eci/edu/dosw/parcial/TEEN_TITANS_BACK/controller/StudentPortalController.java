@@ -1,10 +1,12 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentDashboardDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentProgressDTO;
-import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CourseStatusDetailDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.*;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.StudentPortalService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.StudentPortalService.StudentDashboard;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.StudentProgressMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,7 +14,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Controlador que gestiona la información académica, el progreso y las recomendaciones
@@ -28,15 +29,19 @@ import java.util.stream.Collectors;
 public class StudentPortalController {
 
     private final StudentPortalService studentPortalService;
+    private final StudentProgressMapper studentProgressMapper;
 
     /**
      * Constructor del controlador del portal estudiantil.
      *
      * @param studentPortalService el servicio del portal estudiantil
+     * @param studentProgressMapper el mapeador del progreso académico a su DTO
      */
     @Autowired
-    public StudentPortalController(StudentPortalService studentPortalService) {
+    public StudentPortalController(StudentPortalService studentPortalService,
+                                   StudentProgressMapper studentProgressMapper) {
         this.studentPortalService = studentPortalService;
+        this.studentProgressMapper = studentProgressMapper;
     }
 
     /**
@@ -58,6 +63,35 @@ public class StudentPortalController {
         }
     }
 
+    /**
+     * Obtiene el tablero completo del estudiante: progreso, horario actual, alertas,
+     * recomendaciones, fechas de inscripción y semáforo, leyendo el progreso una sola vez.
+     *
+     * @param studentId el ID del estudiante
+     * @return ResponseEntity con el DTO del tablero
+     */
+    @GetMapping("/{studentId}/dashboard")
+    public ResponseEntity<?> getDashboard(@PathVariable String studentId) {
+        try {
+            StudentDashboard dashboard = studentPortalService.getDashboard(studentId);
+            StudentDashboardDTO dashboardDTO = new StudentDashboardDTO(
+                    studentId,
+                    studentProgressMapper.toDTO(dashboard.getProgress()),
+                    dashboard.getCurrentSchedule(),
+                    dashboard.getAlerts(),
+                    dashboard.getAlerts().size(),
+                    dashboard.getRecommendations(),
+                    dashboard.getEnrollmentDeadlines(),
+                    dashboard.getTrafficLight());
+            return ResponseEntity.ok(dashboardDTO);
+        } catch (AppException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Error al obtener el tablero del estudiante"));
+        }
+    }
+
     /**
      * Obtiene los grupos disponibles para un curso.
      *
@@ -87,7 +121,7 @@ public class StudentPortalController {
     public ResponseEntity<?> getAcademicProgress(@PathVariable String studentId) {
         try {
             StudentAcademicProgress progress = studentPortalService.getAcademicProgress(studentId);
-            StudentProgressDTO progressDTO = convertToProgressDTO(progress);
+            StudentProgressDTO progressDTO = studentProgressMapper.toDTO(progress);
             return ResponseEntity.ok(progressDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
@@ -297,81 +331,4 @@ public class StudentPortalController {
                     .body(Map.of("error", "Error al verificar elegibilidad de inscripción"));
         }
     }
-
-    /**
-     * Convierte un objeto StudentAcademicProgress a StudentProgressDTO.
-     *
-     * @param progress el progreso académico a convertir
-     * @return el DTO de progreso del estudiante
-     */
-    private StudentProgressDTO convertToProgressDTO(StudentAcademicProgress progress) {
-        StudentProgressDTO dto = new StudentProgressDTO();
-        Student student = progress.getStudent();
-
-        dto.setId(progress.getId());
-        dto.setStudentId(student.getId());
-        dto.setStudentName(student.getName());
-        dto.setAcademicProgram(progress.getAcademicProgram());
-        dto.setFaculty(progress.getFaculty());
-        dto.setCurriculumType(progress.getCurriculumType());
-        dto.setCurrentSemester(progress.getCurrentSemester());
-        dto.setTotalSemesters(progress.getTotalSemesters());
-        dto.setCompletedCredits(progress.getCompletedCredits());
-        dto.setTotalCreditsRequired(progress.getTotalCreditsRequired());
-        dto.setCumulativeGPA(progress.getCumulativeGPA());
-
-        if (progress.getCoursesStatus() != null) {
-            List<CourseStatusDetailDTO> courseDTOs = progress.getCoursesStatus().stream()
-                    .map(this::convertToCourseStatusDetailDTO)
-                    .collect(Collectors.toList());
-            dto.setCoursesStatus(courseDTOs);
-        }
-
-        if (progress.getTotalCreditsRequired() != null && progress.getTotalCreditsRequired() > 0) {
-            dto.setProgressPercentage((double) progress.getCompletedCredits() / progress.getTotalCreditsRequired() * 100);
-        }
-        dto.setRemainingCredits(progress.getTotalCreditsRequired() - progress.getCompletedCredits());
-        dto.setRemainingSemesters(progress.getTotalSemesters() - progress.getCurrentSemester());
-
-        return dto;
-    }
-
-    /**
-     * Convierte CourseStatusDetail a CourseStatusDetailDTO.
-     *
-     * @param courseStatus el detalle del estado del curso a convertir
-     * @return el DTO de detalle del estado del curso
-     */
-    private CourseStatusDetailDTO convertToCourseStatusDetailDTO(CourseStatusDetail courseStatus) {
-        CourseStatusDetailDTO dto = new CourseStatusDetailDTO();
-
-        dto.setId(courseStatus.getId());
-        dto.setStudentId(courseStatus.getStudentId());
-        dto.setStatus(courseStatus.getStatus());
-        dto.setGrade(courseStatus.getGrade());
-        dto.setSemester(courseStatus.getSemester());
-        dto.setEnrollmentDate(courseStatus.getEnrollmentDate());
-        dto.setCompletionDate(courseStatus.getCompletionDate());
-        dto.setCreditsEarned(courseStatus.getCreditsEarned());
-        dto.setIsApproved(courseStatus.getIsApproved());
-        dto.setComments(courseStatus.getComments());
-
-        if (courseStatus.getCourse() != null) {
-            dto.setCourseId(courseStatus.getCourse().getCourseCode());
-            dto.setCourseCode(courseStatus.getCourse().getCourseCode());
-            dto.setCourseName(courseStatus.getCourse().getName());
-        }
-
-        if (courseStatus.getGroup() != null) {
-            dto.setGroupId(courseStatus.getGroup().getGroupId());
-            dto.setGroupCode(courseStatus.getGroup().getSection());
-        }
-
-        if (courseStatus.getProfessor() != null) {
-            dto.setProfessorId(courseStatus.getProfessor().getId());
-            dto.setProfessorName(courseStatus.getProfessor().getName());
-        }
-
-        return dto;
-    }
 }
\ No newline at end of file
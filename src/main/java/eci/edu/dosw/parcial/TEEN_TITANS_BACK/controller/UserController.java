@@ -1,19 +1,23 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.UserDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.UserSummaryDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.User;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.PopulationStatisticsService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.UserService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.UserMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Controlador REST que gestiona las operaciones CRUD y consultas avanzadas
@@ -31,15 +35,22 @@ import java.util.stream.Collectors;
 public class UserController {
 
     private final UserService userService;
+    private final PopulationStatisticsService populationStatisticsService;
+    private final UserMapper userMapper;
 
     /**
      * Constructor del controlador que inyecta la dependencia del servicio de usuarios.
      *
      * @param userService servicio que maneja la lógica de negocio relacionada con usuarios.
+     * @param populationStatisticsService servicio de estadísticas de población.
+     * @param userMapper mapeador entre {@link User} y {@link UserDTO}.
      */
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, PopulationStatisticsService populationStatisticsService,
+                          UserMapper userMapper) {
         this.userService = userService;
+        this.populationStatisticsService = populationStatisticsService;
+        this.userMapper = userMapper;
     }
 
     /**
@@ -51,9 +62,9 @@ public class UserController {
     @PostMapping
     public ResponseEntity<?> createUser(@RequestBody UserDTO userDTO) {
         try {
-            User user = convertToUser(userDTO);
+            User user = userMapper.toEntity(userDTO);
             User createdUser = userService.createUser(user);
-            UserDTO responseDTO = convertToUserDTO(createdUser);
+            UserDTO responseDTO = userMapper.toDTO(createdUser);
             return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -75,7 +86,7 @@ public class UserController {
         try {
             User user = userService.getUserById(id)
                     .orElseThrow(() -> new AppException("Usuario no encontrado con ID: " + id));
-            UserDTO userDTO = convertToUserDTO(user);
+            UserDTO userDTO = userMapper.toDTO(user);
             return ResponseEntity.ok(userDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -87,23 +98,27 @@ public class UserController {
     }
 
     /**
-     * Obtiene la lista completa de usuarios registrados.
+     * Obtiene una página de los usuarios registrados.
      *
-     * @return lista de usuarios, su cantidad y marca temporal.
+     * @param cursor cursor de la página anterior, o vacío para la primera página.
+     * @param size tamaño de la página.
+     * @return lista de usuarios de la página, su cantidad, el cursor de la página siguiente y marca temporal.
      */
     @GetMapping
-    public ResponseEntity<?> getAllUsers() {
+    public ResponseEntity<?> getAllUsers(@RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "20") int size) {
         try {
-            List<User> users = userService.getAllUsers();
-            List<UserDTO> userDTOs = users.stream()
-                    .map(this::convertToUserDTO)
-                    .collect(Collectors.toList());
+            CursorPageDTO<UserSummaryDTO> page = userService.getUsersPage(cursor, size);
 
-            return ResponseEntity.ok(Map.of(
-                    "users", userDTOs,
-                    "count", userDTOs.size(),
-                    "timestamp", new Date()
-            ));
+            Map<String, Object> response = new HashMap<>();
+            response.put("users", page.getItems());
+            response.put("count", page.getItems().size());
+            response.put("nextCursor", page.getNextCursor());
+            response.put("timestamp", new Date());
+            return ResponseEntity.ok(response);
+        } catch (AppException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Error al obtener la lista de usuarios"));
@@ -120,9 +135,9 @@ public class UserController {
     @PutMapping("/{id}")
     public ResponseEntity<?> updateUser(@PathVariable String id, @RequestBody UserDTO userDTO) {
         try {
-            User user = convertToUser(userDTO);
+            User user = userMapper.toEntity(userDTO);
             User updatedUser = userService.updateUser(id, user);
-            UserDTO responseDTO = convertToUserDTO(updatedUser);
+            UserDTO responseDTO = userMapper.toDTO(updatedUser);
             return ResponseEntity.ok(responseDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -168,7 +183,7 @@ public class UserController {
         try {
             User user = userService.findByEmail(email)
                     .orElseThrow(() -> new AppException("Usuario no encontrado con email: " + email));
-            UserDTO userDTO = convertToUserDTO(user);
+            UserDTO userDTO = userMapper.toDTO(user);
             return ResponseEntity.ok(userDTO);
         } catch (AppException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -190,9 +205,7 @@ public class UserController {
         try {
             UserRole userRole = UserRole.valueOf(role.toUpperCase());
             List<User> users = userService.findByRole(userRole);
-            List<UserDTO> userDTOs = users.stream()
-                    .map(this::convertToUserDTO)
-                    .collect(Collectors.toList());
+            List<UserDTO> userDTOs = userMapper.toDTOs(users);
 
             return ResponseEntity.ok(Map.of(
                     "role", role,
@@ -218,7 +231,7 @@ public class UserController {
     public ResponseEntity<?> activateUser(@PathVariable String id) {
         try {
             User activatedUser = userService.activateUser(id);
-            UserDTO userDTO = convertToUserDTO(activatedUser);
+            UserDTO userDTO = userMapper.toDTO(activatedUser);
             return ResponseEntity.ok(Map.of(
                     "message", "Usuario activado exitosamente",
                     "user", userDTO
@@ -242,7 +255,7 @@ public class UserController {
     public ResponseEntity<?> deactivateUser(@PathVariable String id) {
         try {
             User deactivatedUser = userService.deactivateUser(id);
-            UserDTO userDTO = convertToUserDTO(deactivatedUser);
+            UserDTO userDTO = userMapper.toDTO(deactivatedUser);
             return ResponseEntity.ok(Map.of(
                     "message", "Usuario desactivado exitosamente",
                     "user", userDTO
@@ -264,20 +277,15 @@ public class UserController {
     @GetMapping("/statistics")
     public ResponseEntity<?> getUserStatistics() {
         try {
-            List<User> allUsers = userService.getAllUsers();
-            long activeCount = allUsers.stream().filter(User::isActive).count();
-            long inactiveCount = allUsers.size() - activeCount;
-
-            Map<UserRole, Long> usersByRole = allUsers.stream()
-                    .collect(Collectors.groupingBy(User::getRole, Collectors.counting()));
+            PopulationStatisticsService.PopulationStatistics statistics =
+                    populationStatisticsService.getUserStatistics();
 
             return ResponseEntity.ok(Map.of(
-                    "totalUsers", allUsers.size(),
-                    "activeUsers", activeCount,
-                    "inactiveUsers", inactiveCount,
-                    "usersByRole", usersByRole,
-                    "activePercentage", allUsers.isEmpty() ?
-                            0 : Math.round((double) activeCount / allUsers.size() * 100 * 100.0) / 100.0
+                    "totalUsers", statistics.getTotal(),
+                    "activeUsers", statistics.getActive(),
+                    "inactiveUsers", statistics.getInactive(),
+                    "usersByRole", statistics.getBreakdown("role"),
+                    "activePercentage", statistics.getActivePercentage()
             ));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -290,32 +298,29 @@ public class UserController {
      *
      * @param role   rol a filtrar (opcional).
      * @param active estado activo o inactivo (opcional).
+     * @param limit  número máximo de usuarios a devolver.
      * @return lista de usuarios filtrados según los parámetros.
      */
     @GetMapping("/search")
     public ResponseEntity<?> searchUsers(
             @RequestParam(required = false) String role,
-            @RequestParam(required = false) Boolean active) {
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(defaultValue = "100") int limit) {
 
         try {
-            List<User> allUsers = userService.getAllUsers();
-            List<User> filteredUsers = allUsers.stream()
-                    .filter(user -> role == null || user.getRole().name().equalsIgnoreCase(role))
-                    .filter(user -> active == null || active.equals(user.isActive()))
-                    .collect(Collectors.toList());
-
-            List<UserDTO> userDTOs = filteredUsers.stream()
-                    .map(this::convertToUserDTO)
-                    .collect(Collectors.toList());
+            List<UserDTO> userDTOs = userMapper.toDTOs(userService.searchUsers(role, active, limit));
 
+            Map<String, Object> searchCriteria = new HashMap<>();
+            searchCriteria.put("role", role);
+            searchCriteria.put("active", active);
             return ResponseEntity.ok(Map.of(
-                    "searchCriteria", Map.of(
-                            "role", role,
-                            "active", active
-                    ),
+                    "searchCriteria", searchCriteria,
                     "users", userDTOs,
                     "count", userDTOs.size()
             ));
+        } catch (AppException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Error en la búsqueda de usuarios"));
@@ -343,53 +348,4 @@ public class UserController {
         }
     }
 
-    /**
-     * Convierte un objeto {@link UserDTO} a un objeto de dominio {@link User}.
-     *
-     * @param userDTO objeto de transferencia.
-     * @return entidad de usuario lista para persistencia.
-     */
-    private User convertToUser(UserDTO userDTO) {
-        User user = new User();
-        user.setId(userDTO.getId());
-        user.setName(userDTO.getName());
-        user.setEmail(userDTO.getEmail());
-        user.setPassword(userDTO.getPassword());
-
-        if (userDTO.getRole() != null) {
-            try {
-                user.setRole(UserRole.valueOf(userDTO.getRole().toUpperCase()));
-            } catch (IllegalArgumentException e) {
-                user.setRole(UserRole.STUDENT);
-            }
-        } else {
-            user.setRole(UserRole.STUDENT);
-        }
-
-        user.setActive(userDTO.getActive() != null ? userDTO.getActive() : true);
-        user.setCreatedAt(userDTO.getCreatedAt() != null ? userDTO.getCreatedAt() : new Date());
-        user.setUpdatedAt(new Date());
-
-        return user;
-    }
-
-    /**
-     * Convierte una entidad {@link User} a su representación {@link UserDTO}.
-     *
-     * @param user entidad de usuario.
-     * @return objeto de transferencia de datos.
-     */
-    private UserDTO convertToUserDTO(User user) {
-        UserDTO userDTO = new UserDTO();
-        userDTO.setId(user.getId());
-        userDTO.setName(user.getName());
-        userDTO.setEmail(user.getEmail());
-        userDTO.setPassword(user.getPassword()); // 👈 aquí
-        userDTO.setRole(user.getRole().name());
-        userDTO.setActive(user.isActive());
-        userDTO.setCreatedAt(user.getCreatedAt());
-        userDTO.setUpdatedAt(user.getUpdatedAt());
-        return userDTO;
-    }
-
 }
\ No newline at end of file
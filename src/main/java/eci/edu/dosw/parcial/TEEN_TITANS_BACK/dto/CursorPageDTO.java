@@ -0,0 +1,95 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * DTO que representa una página obtenida con paginación por cursor (keyset).
+ *
+ * El cursor es un token opaco que codifica la clave de ordenamiento del último elemento
+ * entregado; la siguiente página se consulta a partir de esa clave, sin saltar documentos,
+ * por lo que el costo de cada página no depende de su posición en la colección.
+ *
+ * @param <T> Tipo de los elementos de la página
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private List<T> items;
+    private String nextCursor;
+    private int size;
+
+    /**
+     * Arma una página a partir de una consulta que pidió un elemento más que el tamaño de página.
+     * Si ese elemento extra existe, se descarta y se genera el cursor de la página siguiente.
+     *
+     * @param fetched Elementos consultados, como máximo {@code size + 1}
+     * @param size Tamaño de la página
+     * @param cursorKey Función que obtiene la clave de ordenamiento de un elemento
+     * @param <T> Tipo de los elementos
+     * @return Página con el cursor siguiente, o con cursor null si es la última
+     */
+    public static <T> CursorPageDTO<T> of(List<T> fetched, int size, Function<T, String> cursorKey) {
+        if (fetched.size() <= size) {
+            return new CursorPageDTO<>(fetched, null, fetched.size());
+        }
+        List<T> items = fetched.subList(0, size);
+        return new CursorPageDTO<>(items, encodeCursor(cursorKey.apply(items.get(size - 1))), size);
+    }
+
+    /**
+     * Valida el tamaño de página solicitado.
+     *
+     * @param size Tamaño de página
+     * @throws AppException si el tamaño está fuera del rango permitido
+     */
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new AppException("Parámetros de paginación no válidos: 1 <= size <= " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Codifica una clave de ordenamiento como cursor.
+     *
+     * @param key Clave de ordenamiento
+     * @return Cursor opaco
+     */
+    public static String encodeCursor(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor recibido del cliente.
+     *
+     * @param cursor Cursor opaco, o null para la primera página
+     * @return Clave de ordenamiento, o null si no se envió cursor
+     * @throws AppException si el cursor no es válido
+     */
+    public static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new AppException("Cursor de paginación no válido");
+        }
+    }
+}
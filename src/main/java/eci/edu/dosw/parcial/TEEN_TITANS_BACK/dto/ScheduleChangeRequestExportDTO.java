@@ -0,0 +1,39 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Fila de la exportación NDJSON de solicitudes de cambio.
+ *
+ * Se arma directamente desde el documento de MongoDB: el estudiante, los grupos y el
+ * historial de revisión se exportan solo por su ID, así que no se resuelven referencias
+ * por cada fila ni salen datos del estudiante o del profesor como la contraseña.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleChangeRequestExportDTO {
+
+    private String requestId;
+    private String studentId;
+    private String faculty;
+    private String currentGroupId;
+    private String requestedGroupId;
+    private String reason;
+    private RequestStatus status;
+    private Date submissionDate;
+    private Date resolutionDate;
+    private List<String> reviewStepIds;
+}
@@ -0,0 +1,28 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.AcademicPeriod;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Course;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Group;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con todas las secciones del tablero del portal del estudiante, para que el
+ * front end lo cargue con una sola petición.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentDashboardDTO {
+    private String studentId;
+    private StudentProgressDTO progress;
+    private List<Group> currentSchedule;
+    private List<String> alerts;
+    private Integer alertCount;
+    private List<Course> courseRecommendations;
+    private AcademicPeriod enrollmentDeadlines;
+    private String trafficLight;
+}
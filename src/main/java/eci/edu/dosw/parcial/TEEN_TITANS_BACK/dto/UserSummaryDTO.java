@@ -0,0 +1,27 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Datos de un usuario que se muestran en los listados.
+ *
+ * Los repositorios la usan como proyección, de modo que MongoDB devuelve solo estos
+ * campos: la contraseña y las fechas de auditoría de {@code User} nunca se leen.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryDTO {
+    private String id;
+    private String name;
+    private String email;
+    private UserRole role;
+    private boolean active;
+}
@@ -0,0 +1,14 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums;
+
+/**
+ * Representa los estados de una migración de datos ejecutada en segundo plano.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+public enum MigrationStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
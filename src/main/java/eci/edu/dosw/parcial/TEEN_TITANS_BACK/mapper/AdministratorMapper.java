@@ -0,0 +1,42 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.AdministratorDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Administrator;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * Mapeos entre {@link Administrator} y {@link AdministratorDTO}.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = DtoMappingConfig.class)
+public interface AdministratorMapper {
+
+    /**
+     * @param administrator Entidad administrador
+     * @return DTO del administrador
+     */
+    AdministratorDTO toDTO(Administrator administrator);
+
+    /**
+     * @param administrators Entidades administrador
+     * @return DTOs de los administradores, en el mismo orden
+     */
+    List<AdministratorDTO> toDTOs(List<Administrator> administrators);
+
+    /**
+     * Las fechas de auditoría no se toman del DTO; si no trae rol se asigna ADMINISTRATOR.
+     *
+     * @param administratorDTO Datos del administrador
+     * @return Entidad administrador
+     */
+    @Mapping(target = "role", defaultValue = "ADMINISTRATOR")
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Administrator toEntity(AdministratorDTO administratorDTO);
+}
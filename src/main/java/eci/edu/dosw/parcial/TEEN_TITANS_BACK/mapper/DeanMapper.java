@@ -0,0 +1,42 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.DeanDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Dean;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * Mapeos entre {@link Dean} y {@link DeanDTO}.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = DtoMappingConfig.class)
+public interface DeanMapper {
+
+    /**
+     * @param dean Entidad decano
+     * @return DTO del decano
+     */
+    DeanDTO toDTO(Dean dean);
+
+    /**
+     * @param deans Entidades decano
+     * @return DTOs de los decanos, en el mismo orden
+     */
+    List<DeanDTO> toDTOs(List<Dean> deans);
+
+    /**
+     * Las fechas de auditoría no se toman del DTO; si no trae rol se asigna DEAN.
+     *
+     * @param deanDTO Datos del decano
+     * @return Entidad decano
+     */
+    @Mapping(target = "role", defaultValue = "DEAN")
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Dean toEntity(DeanDTO deanDTO);
+}
@@ -0,0 +1,27 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.NullValueCheckStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Configuración común de los mappers entidad/DTO.
+ *
+ * MapStruct genera las implementaciones en compilación como beans de Spring: son copias
+ * campo a campo, sin reflexión, y los métodos de listas recorren la lista una sola vez
+ * sobre un {@code ArrayList} con la capacidad ya reservada. Un campo del destino sin
+ * mapear es un error de compilación, y los valores nulos del origen no se copian, de modo
+ * que el destino conserva sus valores por defecto (por ejemplo, {@code active = true}).
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.ERROR,
+        nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS
+)
+public interface DtoMappingConfig {
+}
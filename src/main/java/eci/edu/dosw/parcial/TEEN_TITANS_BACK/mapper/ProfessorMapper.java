@@ -0,0 +1,39 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ProfessorDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Professor;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * Mapeos entre {@link Professor} y {@link ProfessorDTO}. El rol siempre es PROFESSOR.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = DtoMappingConfig.class)
+public interface ProfessorMapper {
+
+    /**
+     * @param professor Entidad profesor
+     * @return DTO del profesor
+     */
+    @Mapping(target = "role", constant = "PROFESSOR")
+    ProfessorDTO toDTO(Professor professor);
+
+    /**
+     * @param professors Entidades profesor
+     * @return DTOs de los profesores, en el mismo orden
+     */
+    List<ProfessorDTO> toDTOs(List<Professor> professors);
+
+    /**
+     * @param professorDTO Datos del profesor
+     * @return Entidad profesor; los campos nulos conservan sus valores por defecto
+     */
+    @Mapping(target = "role", constant = "PROFESSOR")
+    Professor toEntity(ProfessorDTO professorDTO);
+}
@@ -0,0 +1,39 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * Mapeos entre {@link Student} y {@link StudentDTO}. El rol siempre es STUDENT.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = DtoMappingConfig.class)
+public interface StudentMapper {
+
+    /**
+     * @param student Entidad estudiante
+     * @return DTO del estudiante
+     */
+    @Mapping(target = "role", constant = "STUDENT")
+    StudentDTO toDTO(Student student);
+
+    /**
+     * @param students Entidades estudiante
+     * @return DTOs de los estudiantes, en el mismo orden
+     */
+    List<StudentDTO> toDTOs(List<Student> students);
+
+    /**
+     * @param studentDTO Datos del estudiante
+     * @return Entidad estudiante; los campos nulos conservan sus valores por defecto
+     */
+    @Mapping(target = "role", constant = "STUDENT")
+    Student toEntity(StudentDTO studentDTO);
+}
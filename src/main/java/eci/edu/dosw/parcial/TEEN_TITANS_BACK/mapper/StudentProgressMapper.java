@@ -0,0 +1,57 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CourseStatusDetailDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentProgressDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.CourseStatusDetail;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.StudentAcademicProgress;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+/**
+ * Mapeos del progreso académico de un estudiante y de su historial de cursos a sus DTOs.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = DtoMappingConfig.class)
+public interface StudentProgressMapper {
+
+    /**
+     * @param progress Progreso académico
+     * @return DTO del progreso, con el porcentaje de avance y los créditos y semestres restantes
+     */
+    @Mapping(target = "studentId", source = "student.id")
+    @Mapping(target = "studentName", source = "student.name")
+    @Mapping(target = "progressPercentage", ignore = true)
+    @Mapping(target = "remainingCredits", ignore = true)
+    @Mapping(target = "remainingSemesters", ignore = true)
+    StudentProgressDTO toDTO(StudentAcademicProgress progress);
+
+    /**
+     * @param courseStatus Estado de un curso del estudiante
+     * @return DTO con los datos del curso, el grupo y el profesor
+     */
+    @Mapping(target = "courseId", source = "course.courseCode")
+    @Mapping(target = "courseCode", source = "course.courseCode")
+    @Mapping(target = "courseName", source = "course.name")
+    @Mapping(target = "groupId", source = "group.groupId")
+    @Mapping(target = "groupCode", source = "group.section")
+    @Mapping(target = "professorId", source = "professor.id")
+    @Mapping(target = "professorName", source = "professor.name")
+    CourseStatusDetailDTO toDTO(CourseStatusDetail courseStatus);
+
+    /**
+     * Calcula los campos derivados del progreso a partir de los créditos y semestres.
+     */
+    @AfterMapping
+    default void computeRemaining(StudentAcademicProgress progress, @MappingTarget StudentProgressDTO dto) {
+        if (progress.getTotalCreditsRequired() != null && progress.getTotalCreditsRequired() > 0) {
+            dto.setProgressPercentage((double) progress.getCompletedCredits() / progress.getTotalCreditsRequired() * 100);
+        }
+        dto.setRemainingCredits(progress.getTotalCreditsRequired() - progress.getCompletedCredits());
+        dto.setRemainingSemesters(progress.getTotalSemesters() - progress.getCurrentSemester());
+    }
+}
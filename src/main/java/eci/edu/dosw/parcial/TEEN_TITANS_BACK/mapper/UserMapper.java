@@ -0,0 +1,60 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.UserDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.User;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Mapeos entre {@link User} y {@link UserDTO}. En el DTO el rol es el nombre del {@link UserRole}.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = DtoMappingConfig.class, imports = Date.class)
+public interface UserMapper {
+
+    /**
+     * @param user Entidad usuario
+     * @return DTO del usuario
+     */
+    UserDTO toDTO(User user);
+
+    /**
+     * @param users Entidades usuario
+     * @return DTOs de los usuarios, en el mismo orden
+     */
+    List<UserDTO> toDTOs(List<User> users);
+
+    /**
+     * Un rol ausente o desconocido se convierte en STUDENT; la fecha de creación es la del
+     * DTO o la actual, y la de actualización siempre la actual.
+     *
+     * @param userDTO Datos del usuario
+     * @return Entidad usuario
+     */
+    @Mapping(target = "role", qualifiedByName = "toRole", defaultValue = "STUDENT")
+    @Mapping(target = "createdAt", defaultExpression = "java(new Date())")
+    @Mapping(target = "updatedAt", expression = "java(new Date())")
+    User toEntity(UserDTO userDTO);
+
+    /**
+     * @param role Nombre del rol, sin distinguir mayúsculas
+     * @return Rol correspondiente, o STUDENT si no existe
+     */
+    @Named("toRole")
+    default UserRole toRole(String role) {
+        try {
+            return UserRole.valueOf(role.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return UserRole.STUDENT;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package eci.edu.dosw.parcial.TEEN_TITANS_BACK.model;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RoomType;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,6 +18,9 @@ import lombok.AllArgsConstructor;
  * @since 2025
  */
 @Document(collection = "classrooms")
+@CompoundIndex(name = "building_roomNumber_idx", def = "{'building': 1, 'roomNumber': 1}")
+@CompoundIndex(name = "roomNumber_idx", def = "{'roomNumber': 1}")
+@CompoundIndex(name = "roomType_capacity_idx", def = "{'roomType': 1, 'capacity': -1}")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
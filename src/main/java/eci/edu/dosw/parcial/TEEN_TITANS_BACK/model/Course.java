@@ -43,4 +43,15 @@ public class Course {
         this.academicProgram = academicProgram;
         this.isActive = isActive;
     }
+
+    /**
+     * Constructor de copia, para modificar un curso leído de la caché sin alterar la
+     * instancia que comparten las demás lecturas.
+     *
+     * @param course Curso a copiar
+     */
+    public Course(Course course) {
+        this(course.courseCode, course.name, course.credits, course.description, course.academicProgram,
+                course.isActive);
+    }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import java.util.Date;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.CourseStatus;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -24,6 +25,8 @@ import lombok.AllArgsConstructor;
  * @since 2025
  */
 @Document(collection = "course_status_details")
+@CompoundIndex(name = "studentId_semester_idx", def = "{'studentId': 1, 'semester': 1}")
+@CompoundIndex(name = "group_idx", def = "{'group': 1}")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,6 +1,5 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.model;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,6 +9,8 @@ import lombok.AllArgsConstructor;
  * Representa un grupo de estudiantes para un curso específico.
  * Esta clase encapsula la información de un grupo académico, incluyendo su sección,
  * curso asignado, profesor, horario y aula.
+ * El curso, profesor, horario y aula se almacenan embebidos como proyecciones livianas,
+ * por lo que leer un grupo no requiere consultas adicionales.
  *
  * @author Equipo Teen Titans
  * @version 1.0
@@ -24,16 +25,9 @@ public class Group {
     private String groupId;
     private String section;
 
-    @DBRef
     private Course course;
-
-    @DBRef
     private Professor professor;
-
-    @DBRef
     private Schedule schedule;
-
-    @DBRef
     private Classroom classroom;
 
     /**
@@ -0,0 +1,35 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Representa el contador de estudiantes inscritos en un grupo.
+ * El contador se incrementa o decrementa de forma atómica cuando se registran o
+ * eliminan detalles de estado de curso del grupo y cuando se aprueban cambios de
+ * grupo, de modo que consultar la matrícula es una sola lectura por clave primaria.
+ *
+ * Se almacena en la colección "group_enrollments" de MongoDB, usando el ID del
+ * grupo como identificador del documento.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Document(collection = "group_enrollments")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupEnrollment {
+
+    @Id
+    private String groupId;
+
+    private Integer enrolled;
+    private Date lastUpdated = new Date();
+}
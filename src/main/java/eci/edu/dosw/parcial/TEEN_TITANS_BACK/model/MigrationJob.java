@@ -0,0 +1,59 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.model;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.MigrationStatus;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Representa el avance de una migración de datos ejecutada en segundo plano.
+ *
+ * La migración recorre los documentos por bloques en orden de ID y guarda después de
+ * cada bloque el último ID procesado, de modo que al volver a lanzarla continúa desde
+ * ese punto en lugar de empezar de nuevo.
+ *
+ * Se almacena en la colección "migration_jobs" de MongoDB, usando el nombre de la
+ * migración como identificador del documento.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Document(collection = "migration_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MigrationJob {
+
+    @Id
+    private String jobId;
+
+    private String collection;
+    private MigrationStatus status;
+    private long total;
+    private long processed;
+    private String lastProcessedId;
+    private String error;
+    private Date startedAt;
+    private Date updatedAt;
+    private Date finishedAt;
+
+    /**
+     * Calcula el porcentaje de documentos procesados respecto al total pendiente al iniciar.
+     *
+     * @return Porcentaje de avance, redondeado a dos decimales
+     */
+    public double getProgressPercentage() {
+        if (status == MigrationStatus.COMPLETED) {
+            return 100.0;
+        }
+        if (total == 0) {
+            return 0.0;
+        }
+        return Math.round(Math.min(processed, total) * 100.0 / total * 100.0) / 100.0;
+    }
+}
@@ -2,6 +2,7 @@ package eci.edu.dosw.parcial.TEEN_TITANS_BACK.model;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -17,6 +18,8 @@ import lombok.Builder;
  * Representa una solicitud de cambio de horario académico.
  * Esta clase gestiona todo el proceso de solicitud de cambio de grupo,
  * incluyendo el historial de revisiones y el estado actual de la solicitud.
+ * La facultad del estudiante se copia al crear la solicitud para poder filtrar
+ * por facultad directamente sobre el índice, sin resolver la referencia al estudiante.
  *
  * @author Equipo Teen Titans
  * @version 1.0
@@ -28,6 +31,13 @@ import lombok.Builder;
 @AllArgsConstructor
 @Builder
 @Document(collection = "schedule_change_requests")
+@CompoundIndex(name = "faculty_submissionDate_idx", def = "{'faculty': 1, 'submissionDate': -1}")
+@CompoundIndex(name = "student_submissionDate_idx", def = "{'student.$id': 1, 'submissionDate': -1}")
+@CompoundIndex(name = "student_status_idx", def = "{'student': 1, 'status': 1}")
+@CompoundIndex(name = "status_submissionDate_idx", def = "{'status': 1, 'submissionDate': -1}")
+@CompoundIndex(name = "submissionDate_id_idx", def = "{'submissionDate': -1, '_id': -1}")
+@CompoundIndex(name = "requestedGroup_status_idx", def = "{'requestedGroup._id': 1, 'status': 1}")
+@CompoundIndex(name = "currentGroup_status_idx", def = "{'currentGroup._id': 1, 'status': 1}")
 public class ScheduleChangeRequest {
     @Id
     private String requestId;
@@ -35,6 +45,8 @@ public class ScheduleChangeRequest {
     @DBRef
     private Student student;
 
+    private String faculty;
+
     private Group currentGroup;
     private Group requestedGroup;
     private String reason;
@@ -1,6 +1,7 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.model;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -18,6 +19,7 @@ import lombok.NoArgsConstructor;
  * @since 2025
  */
 @Document(collection = "students")
+@CompoundIndex(name = "academicProgram_active_idx", def = "{'academicProgram': 1, 'active': 1}")
 @Data
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
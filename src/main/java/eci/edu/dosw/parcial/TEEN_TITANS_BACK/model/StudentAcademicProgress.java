@@ -2,6 +2,7 @@ package eci.edu.dosw.parcial.TEEN_TITANS_BACK.model;
 
 import java.util.List;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 import lombok.Data;
@@ -21,6 +22,9 @@ import lombok.AllArgsConstructor;
  * @since 2025
  */
 @Document(collection = "student_progress")
+@CompoundIndex(name = "student_idx", def = "{'student': 1}")
+@CompoundIndex(name = "student_id_idx", def = "{'student.$id': 1}")
+@CompoundIndex(name = "faculty_idx", def = "{'faculty': 1}")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,38 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Representa el semáforo académico ya calculado de un estudiante.
+ * Se recalcula cuando cambian el estudiante, su progreso académico o el estado
+ * de sus cursos, de modo que las consultas del semáforo se resuelven con una
+ * sola lectura por clave primaria.
+ *
+ * Se almacena en la colección "traffic_light_snapshots" de MongoDB, usando
+ * el ID del estudiante como identificador del documento.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Document(collection = "traffic_light_snapshots")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrafficLightSnapshot {
+
+    @Id
+    private String studentId;
+
+    private String academicProgram;
+    private String trafficLight;
+    private Double progressPercentage;
+    private Long failedCoursesCount;
+    private Date computedAt = new Date();
+}
@@ -1,6 +1,7 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,7 +16,8 @@ import java.util.Date;
  * (estudiantes, profesores, decanos y administradores) y contiene la información
  * común a todos ellos, como credenciales, rol, estado y fechas de creación.
  *
- * Se almacena en la colección "users" de MongoDB.
+ * Se almacena en la colección "users" de MongoDB. El índice del email se hereda,
+ * por lo que cada colección de usuarios (estudiantes, profesores, etc.) tiene el suyo.
  *
  * @author Equipo Teen Titans
  * @version 2.0
@@ -29,6 +31,7 @@ public class User {
     @Id
     private String id;
     private String name;
+    @Indexed(name = "email_idx")
     private String email;
     private String password;
     private UserRole role;
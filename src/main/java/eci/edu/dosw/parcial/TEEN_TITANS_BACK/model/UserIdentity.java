@@ -0,0 +1,47 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.model;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * Representa la entrada del índice unificado de identidades.
+ *
+ * Asocia cada email con la colección y el ID de la cuenta que lo usa, junto con
+ * su rol y su estado, de modo que el inicio de sesión encuentra la cuenta por
+ * clave primaria en lugar de recorrer las colecciones de estudiantes, profesores,
+ * administradores, decanos y usuarios. Las credenciales no se copian: la
+ * contraseña se valida contra la cuenta en su propia colección.
+ *
+ * Se almacena en la colección "user_identities" de MongoDB; el email es el
+ * identificador del documento, lo que garantiza su unicidad.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Document(collection = "user_identities")
+@CompoundIndex(name = "userCollection_userId_idx", def = "{ 'userCollection': 1, 'userId': 1 }")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserIdentity {
+
+    public static final String STUDENTS = "students";
+    public static final String PROFESSORS = "professors";
+    public static final String ADMINISTRATORS = "administrators";
+    public static final String DEANS = "deans";
+    public static final String USERS = "users";
+
+    @Id
+    private String email;
+
+    private String userCollection;
+    private String userId;
+    private UserRole role;
+    private boolean active;
+}
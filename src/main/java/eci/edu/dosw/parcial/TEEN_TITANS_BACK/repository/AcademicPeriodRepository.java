@@ -1,6 +1,8 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.config.CacheConfig;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.AcademicPeriod;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -65,8 +67,10 @@ public interface AcademicPeriodRepository extends MongoRepository<AcademicPeriod
     List<AcademicPeriod> findByIsActiveAndStartDateBetween(boolean isActive, Date start, Date end);
 
     /**
-     * Encuentra el período académico activo actual.
+     * Encuentra el período académico activo actual. Se consulta en cada carga del portal,
+     * por lo que se cachea hasta que un período se crea, modifica o activa.
      * @return El período académico activo, si existe.
      */
+    @Cacheable(cacheNames = CacheConfig.ACTIVE_ACADEMIC_PERIOD, unless = "#result == null")
     Optional<AcademicPeriod> findByIsActiveTrue();
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.config.CacheConfig;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Classroom;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RoomType;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -20,6 +23,15 @@ import java.util.Optional;
 @Repository
 public interface ClassroomRepository extends MongoRepository<Classroom, String> {
 
+    /**
+     * Busca un aula por su identificador. Las aulas casi no cambian durante el semestre,
+     * así que el resultado se cachea; si el aula no existe no se guarda nada.
+     * @param classroomId Identificador del aula.
+     * @return El aula encontrada, si existe.
+     */
+    @Cacheable(cacheNames = CacheConfig.CLASSROOMS, unless = "#result == null")
+    Optional<Classroom> findById(String classroomId);
+
     List<Classroom> findByBuilding(String building);
 
     Optional<Classroom> findByRoomNumber(String roomNumber);
@@ -151,4 +163,8 @@ public interface ClassroomRepository extends MongoRepository<Classroom, String>
 
     @Query("{ 'capacity': { $lte: ?0 } }")
     List<Classroom> findSmallClassrooms(Integer maxCapacityForSmallGroup);
-}
\ No newline at end of file
+
+    List<Classroom> findByOrderByClassroomIdAsc(Limit limit);
+
+    List<Classroom> findByClassroomIdGreaterThanOrderByClassroomIdAsc(String classroomId, Limit limit);
+}
@@ -1,6 +1,9 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.config.CacheConfig;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Course;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -19,6 +22,14 @@ import java.util.Optional;
 @Repository
 public interface CourseRepository extends MongoRepository<Course, String> {
 
+    /**
+     * Busca un curso por su código, pasando por la caché de cursos.
+     * @param courseCode Código del curso.
+     * @return El curso encontrado, si existe.
+     */
+    @Cacheable(cacheNames = CacheConfig.COURSES, unless = "#result == null")
+    Optional<Course> findById(String courseCode);
+
     Optional<Course> findByName(String name);
 
     List<Course> findByIsActive(boolean isActive);
@@ -146,4 +157,8 @@ public interface CourseRepository extends MongoRepository<Course, String> {
     List<Course> findLowCreditCourses(Integer maxCredits);
 
     Optional<Course> findByCourseCode(String courseCode);
-}
\ No newline at end of file
+
+    List<Course> findByOrderByCourseCodeAsc(Limit limit);
+
+    List<Course> findByCourseCodeGreaterThanOrderByCourseCodeAsc(String courseCode, Limit limit);
+}
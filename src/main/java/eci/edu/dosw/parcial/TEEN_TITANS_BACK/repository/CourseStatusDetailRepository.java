@@ -6,6 +6,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -39,6 +40,8 @@ public interface CourseStatusDetailRepository extends MongoRepository<CourseStat
 
     List<CourseStatusDetail> findByGroup_GroupId(String groupId);
 
+    long countByGroup_GroupId(String groupId);
+
     List<CourseStatusDetail> findByStudentId(String studentId);
 
     List<CourseStatusDetail> findByGradeBetween(Double minGrade, Double maxGrade);
@@ -170,6 +173,10 @@ public interface CourseStatusDetailRepository extends MongoRepository<CourseStat
 
     List<CourseStatusDetail> findByStatusIn(List<CourseStatus> statuses);
 
+    @Query(value = "{ 'studentId': { $in: ?0 }, 'isApproved': false }",
+            fields = "{ 'studentId': 1, 'semester': 1, 'isApproved': 1 }")
+    List<CourseStatusDetail> findFailedCourseMarksByStudentIdIn(Collection<String> studentIds);
+
     @Query("{ 'studentId': ?0, 'status': { $in: ['ENROLLED', 'IN_PROGRESS'] } }")
     List<CourseStatusDetail> findCurrentCoursesByStudentId(String studentId);
 
@@ -1,5 +1,6 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.DeanSummaryDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Dean;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
@@ -16,7 +17,7 @@ import java.util.List;
  * @since 2025
  */
 @Repository
-public interface DeanRepository extends MongoRepository<Dean, String> {
+public interface DeanRepository extends MongoRepository<Dean, String>, DeanRepositoryCustom {
 
     List<Dean> findByFaculty(String faculty);
     List<Dean> findByOfficeLocation(String officeLocation);
@@ -61,4 +62,8 @@ public interface DeanRepository extends MongoRepository<Dean, String> {
     boolean existsByFacultyAndOfficeLocation(String faculty, String officeLocation);
 
     List<Dean> findByFacultyIn(List<String> faculties);
-}
\ No newline at end of file
+
+    List<DeanSummaryDTO> findSummaryByOrderByIdAsc();
+
+    List<DeanSummaryDTO> findSummaryByActiveOrderByIdAsc(boolean active);
+}
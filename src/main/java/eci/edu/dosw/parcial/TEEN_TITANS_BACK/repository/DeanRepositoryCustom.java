@@ -0,0 +1,27 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Dean;
+
+import java.util.List;
+
+/**
+ * Búsqueda de decanos con filtros opcionales, resuelta con una sola consulta a MongoDB.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+public interface DeanRepositoryCustom {
+
+    /**
+     * Busca decanos aplicando solo los filtros no nulos. Los decanos devueltos
+     * no incluyen la contraseña y se ordenan por su ID.
+     *
+     * @param faculty Facultad (opcional)
+     * @param officeLocation Ubicación de la oficina (opcional)
+     * @param active Estado de actividad (opcional)
+     * @param limit Número máximo de decanos a devolver
+     * @return Lista de decanos que cumplen los filtros
+     */
+    List<Dean> search(String faculty, String officeLocation, Boolean active, int limit);
+}
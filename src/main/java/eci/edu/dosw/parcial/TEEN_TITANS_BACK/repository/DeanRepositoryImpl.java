@@ -0,0 +1,35 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Dean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+/**
+ * Implementación de {@link DeanRepositoryCustom} sobre {@link MongoTemplate}.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+public class DeanRepositoryImpl implements DeanRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public DeanRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<Dean> search(String faculty, String officeLocation, Boolean active, int limit) {
+        Query query = SearchQueryBuilder.create()
+                .whereEquals("faculty", faculty)
+                .whereEquals("officeLocation", officeLocation)
+                .whereEquals("active", active)
+                .excluding("password")
+                .limit(limit)
+                .build();
+        return mongoTemplate.find(query, Dean.class);
+    }
+}
@@ -0,0 +1,21 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.GroupEnrollment;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio para los contadores de matrícula por grupo (GroupEnrollment) en MongoDB.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Repository
+public interface GroupEnrollmentRepository extends MongoRepository<GroupEnrollment, String> {
+
+    List<GroupEnrollment> findByGroupIdIn(Collection<String> groupIds);
+}
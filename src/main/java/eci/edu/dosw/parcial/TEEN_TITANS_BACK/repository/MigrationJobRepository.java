@@ -0,0 +1,16 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.MigrationJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio para el avance de las migraciones de datos (MigrationJob) en MongoDB.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Repository
+public interface MigrationJobRepository extends MongoRepository<MigrationJob, String> {
+}
@@ -1,5 +1,6 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ProfessorSummaryDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Professor;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
@@ -68,4 +69,8 @@ public interface ProfessorRepository extends MongoRepository<Professor, String>
     boolean existsByDepartmentAndIsTenured(String department, Boolean isTenured);
 
     List<Professor> findByDepartmentIn(List<String> departments);
-}
\ No newline at end of file
+
+    List<ProfessorSummaryDTO> findSummaryByOrderByIdAsc();
+
+    List<ProfessorSummaryDTO> findSummaryByActiveOrderByIdAsc(boolean active);
+}
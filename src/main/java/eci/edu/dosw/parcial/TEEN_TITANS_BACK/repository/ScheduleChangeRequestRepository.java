@@ -19,7 +19,8 @@ import java.util.Optional;
  * @since 2025
  */
 @Repository
-public interface ScheduleChangeRequestRepository extends MongoRepository<ScheduleChangeRequest, String> {
+public interface ScheduleChangeRequestRepository extends MongoRepository<ScheduleChangeRequest, String>,
+        ScheduleChangeRequestRepositoryCustom {
 
     List<ScheduleChangeRequest> findByStudentId(String studentId);
 
@@ -134,6 +135,12 @@ public interface ScheduleChangeRequestRepository extends MongoRepository<Schedul
     @Query(value = "{ 'studentId': ?0, 'status': ?1 }", count = true)
     long countStudentRequestsByStatus(String studentId, RequestStatus status);
 
+    @Query(value = "{ 'requestedGroup.groupId': ?0, 'status': ?1 }", count = true)
+    long countByRequestedGroupIdAndStatus(String requestedGroupId, RequestStatus status);
+
+    @Query(value = "{ 'currentGroup.groupId': ?0, 'status': ?1 }", count = true)
+    long countByCurrentGroupIdAndStatus(String currentGroupId, RequestStatus status);
+
     boolean existsByStudentId(String studentId);
 
     boolean existsByStudentIdAndStatus(String studentId, RequestStatus status);
@@ -0,0 +1,125 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ScheduleChangeRequestExportDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ReviewStep;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Consultas de reporte y escrituras masivas sobre las solicitudes de cambio de horario que
+ * se resuelven en el servidor de MongoDB, sin cargar ni reescribir los documentos completos.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+public interface ScheduleChangeRequestRepositoryCustom {
+
+    /**
+     * Cuenta las solicitudes agrupadas por estado.
+     *
+     * @return Mapa de estado a número de solicitudes; los estados sin solicitudes no aparecen
+     */
+    Map<RequestStatus, Long> countGroupedByStatus();
+
+    /**
+     * Cuenta por estado las solicitudes de una facultad, según la facultad registrada en cada
+     * solicitud y, para las solicitudes sin facultad, según su estudiante.
+     *
+     * @param faculty Facultad a consultar
+     * @param legacyStudentIds IDs de los estudiantes de la facultad con los que se identifican las
+     *                         solicitudes sin facultad registrada; vacío si ya no quedan
+     * @return Mapa de estado a número de solicitudes; los estados sin solicitudes no aparecen
+     */
+    Map<RequestStatus, Long> countGroupedByStatusForFaculty(String faculty, Collection<String> legacyStudentIds);
+
+    /**
+     * Obtiene las solicitudes que cumplen alguno de los criterios de caso especial,
+     * ordenadas por fecha de envío descendente.
+     *
+     * @param minReviewSteps Número de pasos de revisión a partir del cual la solicitud es especial
+     * @param reasonKeywords Palabras clave que, presentes en el motivo, marcan la solicitud como especial
+     * @param submittedBefore Fecha límite de envío a partir de la cual la solicitud se considera rezagada
+     * @return Lista de solicitudes consideradas casos especiales
+     */
+    List<ScheduleChangeRequest> findSpecialCases(int minReviewSteps, Collection<String> reasonKeywords,
+                                                 Date submittedBefore);
+
+    /**
+     * Obtiene una página de las solicitudes de una facultad. Se filtra por la facultad
+     * registrada en la solicitud y, para las solicitudes creadas antes de registrarla, por la
+     * referencia a los estudiantes de la facultad. Esas solicitudes reciben la facultad con la
+     * migración de facultades de {@code MigrationJobService}.
+     *
+     * @param faculty Facultad a consultar
+     * @param legacyStudentIds IDs de los estudiantes de la facultad con los que se identifican las
+     *                         solicitudes sin facultad registrada; vacío si ya no quedan
+     * @param pageable Página, tamaño y orden solicitados
+     * @return Página de solicitudes de la facultad
+     */
+    Page<ScheduleChangeRequest> findPageByFaculty(String faculty, Collection<String> legacyStudentIds,
+                                                  Pageable pageable);
+
+    /**
+     * Obtiene un bloque de solicitudes ordenadas por fecha de envío descendente y, a igual
+     * fecha, por ID descendente, continuando después de la clave indicada (paginación por cursor).
+     * Las solicitudes sin fecha de envío quedan al final.
+     *
+     * @param afterSubmissionDate Fecha de envío de la última solicitud entregada
+     * @param afterRequestId ID de la última solicitud entregada, o null para empezar desde el inicio
+     * @param limit Número máximo de solicitudes a obtener
+     * @return Solicitudes siguientes a la clave indicada
+     */
+    List<ScheduleChangeRequest> findGlobalPage(Date afterSubmissionDate, String afterRequestId, int limit);
+
+    /**
+     * Recorre con un cursor de MongoDB las solicitudes que cumplen los filtros, ordenadas por
+     * fecha de envío descendente. Los documentos se leen por lotes a medida que se consume el
+     * flujo, por lo que el flujo debe cerrarse al terminar. Solo se leen los campos de la
+     * exportación y las referencias se entregan como IDs, sin resolverlas.
+     *
+     * @param status Estado de las solicitudes, o null para no filtrar por estado
+     * @param from Fecha de envío mínima (inclusiva), o null
+     * @param to Fecha de envío máxima (exclusiva), o null
+     * @return Flujo de filas de exportación respaldado por el cursor
+     */
+    Stream<ScheduleChangeRequestExportDTO> streamForExport(RequestStatus status, Date from, Date to);
+
+    /**
+     * Registra la misma decisión sobre varias solicitudes en una sola operación masiva.
+     * Cada solicitud recibe un {@code $set} del estado y la fecha de resolución y un
+     * {@code $push} del paso de revisión, solo si sigue pendiente o en revisión.
+     * Las solicitudes que otra operación resolvió entretanto cuentan como fallidas.
+     *
+     * @param requestIds IDs de las solicitudes
+     * @param decision Estado a asignar
+     * @param resolutionDate Fecha de resolución
+     * @param reviewStep Paso de revisión a agregar al historial
+     * @return IDs de las solicitudes que no recibieron la decisión
+     */
+    Set<String> applyDecision(List<String> requestIds, RequestStatus decision, Date resolutionDate,
+                              ReviewStep reviewStep);
+
+    /**
+     * Registra la decisión sobre una solicitud solo si sigue pendiente o en revisión. El estado,
+     * la fecha de resolución y el paso de revisión se guardan en una sola actualización
+     * condicional, de modo que de dos decisiones simultáneas solo una se aplica y una solicitud
+     * ya aprobada, rechazada o cancelada no cambia de estado.
+     *
+     * @param requestId ID de la solicitud
+     * @param decision Estado a asignar
+     * @param resolutionDate Fecha de resolución
+     * @param reviewStep Paso de revisión a agregar al historial
+     * @return true si esta llamada registró la decisión, false si la solicitud ya estaba resuelta o no existe
+     */
+    boolean decideIfUndecided(String requestId, RequestStatus decision, Date resolutionDate, ReviewStep reviewStep);
+}
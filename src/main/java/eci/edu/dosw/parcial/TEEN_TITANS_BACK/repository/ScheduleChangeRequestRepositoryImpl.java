@@ -0,0 +1,290 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import com.mongodb.DBRef;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.extern.slf4j.Slf4j;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ScheduleChangeRequestExportDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ReviewStep;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Implementación de {@link ScheduleChangeRequestRepositoryCustom} sobre {@link MongoTemplate}.
+ * Los conteos se calculan con un {@code $group} en el servidor y solo viajan los totales por estado;
+ * las decisiones masivas se envían como un único lote desordenado de actualizaciones parciales.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+public class ScheduleChangeRequestRepositoryImpl implements ScheduleChangeRequestRepositoryCustom {
+
+    static final int EXPORT_BATCH_SIZE = 500;
+
+    /** Estados en los que una solicitud todavía puede recibir una decisión. */
+    private static final List<RequestStatus> UNDECIDED_STATUSES =
+            List.of(RequestStatus.PENDING, RequestStatus.UNDER_REVIEW);
+
+    private final MongoTemplate mongoTemplate;
+
+    public ScheduleChangeRequestRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Map<RequestStatus, Long> countGroupedByStatus() {
+        return aggregateStatusCounts(null);
+    }
+
+    @Override
+    public Map<RequestStatus, Long> countGroupedByStatusForFaculty(String faculty,
+                                                                  Collection<String> legacyStudentIds) {
+        return aggregateStatusCounts(facultyScope(faculty, legacyStudentIds));
+    }
+
+    @Override
+    public List<ScheduleChangeRequest> findSpecialCases(int minReviewSteps, Collection<String> reasonKeywords,
+                                                        Date submittedBefore) {
+        List<Criteria> conditions = new ArrayList<>();
+        conditions.add(Criteria.where("reviewHistory." + minReviewSteps).exists(true));
+        if (reasonKeywords != null && !reasonKeywords.isEmpty()) {
+            String alternatives = String.join("|", reasonKeywords.stream().map(Pattern::quote).toList());
+            conditions.add(Criteria.where("reason").regex(alternatives, "i"));
+        }
+        if (submittedBefore != null) {
+            conditions.add(Criteria.where("submissionDate").lte(submittedBefore));
+        }
+
+        Query query = new Query(new Criteria().orOperator(conditions))
+                .with(Sort.by(Sort.Direction.DESC, "submissionDate"));
+        return mongoTemplate.find(query, ScheduleChangeRequest.class);
+    }
+
+    @Override
+    public Page<ScheduleChangeRequest> findPageByFaculty(String faculty, Collection<String> legacyStudentIds,
+                                                         Pageable pageable) {
+        Query query = new Query(facultyScope(faculty, legacyStudentIds)).with(pageable);
+        List<ScheduleChangeRequest> content = mongoTemplate.find(query, ScheduleChangeRequest.class);
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), ScheduleChangeRequest.class));
+    }
+
+    @Override
+    public List<ScheduleChangeRequest> findGlobalPage(Date afterSubmissionDate, String afterRequestId, int limit) {
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.DESC, "submissionDate").and(Sort.by(Sort.Direction.DESC, "_id")))
+                .limit(limit);
+        if (afterRequestId != null) {
+            Criteria sameDateBefore = Criteria.where("submissionDate").is(afterSubmissionDate)
+                    .and("_id").lt(afterRequestId);
+            query.addCriteria(afterSubmissionDate == null
+                    ? sameDateBefore
+                    : new Criteria().orOperator(
+                            Criteria.where("submissionDate").lt(afterSubmissionDate),
+                            sameDateBefore,
+                            Criteria.where("submissionDate").is(null)));
+        }
+        return mongoTemplate.find(query, ScheduleChangeRequest.class);
+    }
+
+    @Override
+    public Stream<ScheduleChangeRequestExportDTO> streamForExport(RequestStatus status, Date from, Date to) {
+        Query query = new Query().with(Sort.by(Sort.Direction.DESC, "submissionDate"));
+        if (status != null) {
+            query.addCriteria(Criteria.where("status").is(status));
+        }
+        if (from != null || to != null) {
+            Criteria submissionDate = Criteria.where("submissionDate");
+            if (from != null) {
+                submissionDate.gte(from);
+            }
+            if (to != null) {
+                submissionDate.lt(to);
+            }
+            query.addCriteria(submissionDate);
+        }
+        query.fields().include("student", "faculty", "currentGroup._id", "requestedGroup._id", "reason",
+                "status", "submissionDate", "resolutionDate", "reviewHistory");
+        query.cursorBatchSize(EXPORT_BATCH_SIZE);
+        String collection = mongoTemplate.getCollectionName(ScheduleChangeRequest.class);
+        return mongoTemplate.stream(query, Document.class, collection).map(this::toExportRow);
+    }
+
+    @Override
+    public Set<String> applyDecision(List<String> requestIds, RequestStatus decision, Date resolutionDate,
+                                     ReviewStep reviewStep) {
+        Set<String> failedIds = new LinkedHashSet<>();
+        if (requestIds == null || requestIds.isEmpty()) {
+            return failedIds;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ScheduleChangeRequest.class);
+        Update update = new Update()
+                .set("status", decision)
+                .set("resolutionDate", resolutionDate)
+                .push("reviewHistory", reviewStep);
+        for (String requestId : requestIds) {
+            bulk.updateOne(Query.query(Criteria.where("_id").is(requestId)
+                    .and("status").in(UNDECIDED_STATUSES)), update);
+        }
+
+        long matched;
+        try {
+            matched = bulk.execute().getMatchedCount();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                failedIds.add(requestIds.get(error.getIndex()));
+            }
+            matched = e.getResult().getMatchedCount();
+        } catch (RuntimeException e) {
+            log.error("Error al registrar la decisión {} sobre {} solicitudes", decision, requestIds.size(), e);
+            matched = -1;
+        }
+
+        if (matched != requestIds.size() - failedIds.size()) {
+            failedIds.addAll(findUndecided(requestIds, decision, resolutionDate));
+        }
+        return failedIds;
+    }
+
+    @Override
+    public boolean decideIfUndecided(String requestId, RequestStatus decision, Date resolutionDate,
+                                     ReviewStep reviewStep) {
+        Query query = Query.query(Criteria.where("_id").is(requestId).and("status").in(UNDECIDED_STATUSES));
+        Update update = new Update()
+                .set("status", decision)
+                .set("resolutionDate", resolutionDate)
+                .push("reviewHistory", reviewStep);
+        return mongoTemplate.updateFirst(query, update, ScheduleChangeRequest.class).getMatchedCount() > 0;
+    }
+
+    /**
+     * Convierte un documento proyectado en una fila de exportación, tomando de las
+     * referencias solo su ID.
+     */
+    private ScheduleChangeRequestExportDTO toExportRow(Document document) {
+        List<String> reviewStepIds = new ArrayList<>();
+        if (document.get("reviewHistory") instanceof List<?> references) {
+            for (Object reference : references) {
+                if (reference instanceof DBRef dbRef && dbRef.getId() != null) {
+                    reviewStepIds.add(dbRef.getId().toString());
+                }
+            }
+        }
+        Object status = document.get("status");
+        return ScheduleChangeRequestExportDTO.builder()
+                .requestId(String.valueOf(document.get("_id")))
+                .studentId(referenceId(document.get("student")))
+                .faculty(document.getString("faculty"))
+                .currentGroupId(embeddedId(document.get("currentGroup")))
+                .requestedGroupId(embeddedId(document.get("requestedGroup")))
+                .reason(document.getString("reason"))
+                .status(status != null ? RequestStatus.valueOf(status.toString()) : null)
+                .submissionDate(document.getDate("submissionDate"))
+                .resolutionDate(document.getDate("resolutionDate"))
+                .reviewStepIds(reviewStepIds)
+                .build();
+    }
+
+    private String referenceId(Object reference) {
+        return reference instanceof DBRef dbRef && dbRef.getId() != null ? dbRef.getId().toString() : null;
+    }
+
+    private String embeddedId(Object embedded) {
+        return embedded instanceof Document group && group.get("_id") != null ? group.get("_id").toString() : null;
+    }
+
+    /**
+     * Identifica las solicitudes del lote que no quedaron con esta decisión, comparando el
+     * estado y la fecha de resolución que se acaban de asignar. Si la consulta también falla,
+     * todo el lote se considera fallido.
+     */
+    private Set<String> findUndecided(List<String> requestIds, RequestStatus decision, Date resolutionDate) {
+        Set<String> undecided = new LinkedHashSet<>(requestIds);
+        try {
+            Query query = new Query(Criteria.where("_id").in(requestIds)
+                    .and("status").is(decision)
+                    .and("resolutionDate").is(resolutionDate));
+            query.fields().include("_id");
+            String collection = mongoTemplate.getCollectionName(ScheduleChangeRequest.class);
+            for (Document document : mongoTemplate.find(query, Document.class, collection)) {
+                undecided.remove(String.valueOf(document.get("_id")));
+            }
+        } catch (RuntimeException e) {
+            log.error("No se pudo verificar qué solicitudes recibieron la decisión {}", decision, e);
+        }
+        return undecided;
+    }
+
+    /**
+     * Ejecuta el pipeline {@code $match} (opcional) + {@code $group} por estado.
+     */
+    private Map<RequestStatus, Long> aggregateStatusCounts(Criteria filter) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        if (filter != null) {
+            stages.add(Aggregation.match(filter));
+        }
+        stages.add(Aggregation.group("status").count().as("count"));
+
+        String collection = mongoTemplate.getCollectionName(ScheduleChangeRequest.class);
+        Map<RequestStatus, Long> counts = new EnumMap<>(RequestStatus.class);
+        for (Document document : mongoTemplate.aggregate(Aggregation.newAggregation(stages), collection, Document.class)) {
+            Object status = document.get("_id");
+            Number count = document.get("count", Number.class);
+            if (status != null && count != null) {
+                counts.merge(RequestStatus.valueOf(status.toString()), count.longValue(), Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Filtro de las solicitudes de una facultad: las que tienen la facultad registrada y, si se
+     * indican estudiantes, las que no la tienen y pertenecen a alguno de ellos.
+     */
+    private Criteria facultyScope(String faculty, Collection<String> legacyStudentIds) {
+        Criteria scope = Criteria.where("faculty").is(faculty);
+        if (legacyStudentIds == null || legacyStudentIds.isEmpty()) {
+            return scope;
+        }
+        return new Criteria().orOperator(scope, new Criteria().andOperator(
+                Criteria.where("faculty").is(null),
+                Criteria.where("student.$id").in(toStoredIds(legacyStudentIds))));
+    }
+
+    /**
+     * Replica la conversión de IDs que hace Spring Data: los IDs con formato de
+     * ObjectId se guardan como ObjectId y el resto como texto.
+     */
+    private List<Object> toStoredIds(Collection<String> ids) {
+        return ids.stream()
+                .map(id -> ObjectId.isValid(id) ? (Object) new ObjectId(id) : id)
+                .toList();
+    }
+}
@@ -1,6 +1,9 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.config.CacheConfig;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Schedule;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -19,6 +22,14 @@ import java.util.Optional;
 @Repository
 public interface ScheduleRepository extends MongoRepository<Schedule, String> {
 
+    /**
+     * Busca un horario por su identificador, pasando por la caché de horarios.
+     * @param scheduleId Identificador del horario.
+     * @return El horario encontrado, si existe.
+     */
+    @Cacheable(cacheNames = CacheConfig.SCHEDULES, unless = "#result == null")
+    Optional<Schedule> findById(String scheduleId);
+
     List<Schedule> findByDayOfWeek(String dayOfWeek);
 
     List<Schedule> findByStartHour(String startHour);
@@ -112,4 +123,8 @@ public interface ScheduleRepository extends MongoRepository<Schedule, String> {
     List<Schedule> findAvailableSchedulesInTimeSlot(String period, String dayOfWeek, String startHour, String endHour);
 
     Optional<Schedule> findByDayOfWeekAndStartHourAndEndHourAndPeriod(String dayOfWeek, String startHour, String endHour, String period);
-}
\ No newline at end of file
+
+    List<Schedule> findByOrderByScheduleIdAsc(Limit limit);
+
+    List<Schedule> findByScheduleIdGreaterThanOrderByScheduleIdAsc(String scheduleId, Limit limit);
+}
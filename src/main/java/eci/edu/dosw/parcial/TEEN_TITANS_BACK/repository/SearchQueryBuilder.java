@@ -0,0 +1,94 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Construye la consulta de las búsquedas con filtros opcionales.
+ *
+ * Cada filtro se agrega solo si su valor no es nulo, de modo que la búsqueda se resuelve
+ * con una única consulta a MongoDB que usa los índices de los campos filtrados, en lugar
+ * de cargar la colección completa y filtrarla en memoria. La consulta excluye los campos
+ * indicados (por ejemplo, la contraseña), se ordena por ID para que los resultados sean
+ * estables y se limita al número máximo de resultados.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+public final class SearchQueryBuilder {
+
+    private final Query query = new Query();
+
+    private SearchQueryBuilder() {
+    }
+
+    /**
+     * Inicia una búsqueda sin filtros, ordenada por ID.
+     *
+     * @return Constructor de la consulta
+     */
+    public static SearchQueryBuilder create() {
+        SearchQueryBuilder builder = new SearchQueryBuilder();
+        builder.query.with(Sort.by(Sort.Direction.ASC, "id"));
+        return builder;
+    }
+
+    /**
+     * Filtra los documentos cuyo campo es igual al valor, si el valor no es nulo.
+     *
+     * @param field Campo a filtrar
+     * @param value Valor esperado, o null para no filtrar
+     * @return Este constructor
+     */
+    public SearchQueryBuilder whereEquals(String field, Object value) {
+        if (value != null) {
+            query.addCriteria(Criteria.where(field).is(value));
+        }
+        return this;
+    }
+
+    /**
+     * Filtra los documentos cuyo campo es mayor o igual al valor, si el valor no es nulo.
+     *
+     * @param field Campo a filtrar
+     * @param value Valor mínimo, o null para no filtrar
+     * @return Este constructor
+     */
+    public SearchQueryBuilder whereAtLeast(String field, Object value) {
+        if (value != null) {
+            query.addCriteria(Criteria.where(field).gte(value));
+        }
+        return this;
+    }
+
+    /**
+     * Excluye campos de los documentos devueltos.
+     *
+     * @param fields Campos a excluir
+     * @return Este constructor
+     */
+    public SearchQueryBuilder excluding(String... fields) {
+        query.fields().exclude(fields);
+        return this;
+    }
+
+    /**
+     * Limita el número de documentos devueltos.
+     *
+     * @param limit Número máximo de documentos
+     * @return Este constructor
+     */
+    public SearchQueryBuilder limit(int limit) {
+        query.limit(limit);
+        return this;
+    }
+
+    /**
+     * @return Consulta con los filtros, la proyección, el orden y el límite indicados
+     */
+    public Query build() {
+        return query;
+    }
+}
@@ -18,7 +18,8 @@ import java.util.Optional;
  * @since 2025
  */
 @Repository
-public interface StudentAcademicProgressRepository extends MongoRepository<StudentAcademicProgress, String> {
+public interface StudentAcademicProgressRepository extends MongoRepository<StudentAcademicProgress, String>,
+        StudentAcademicProgressRepositoryCustom {
 
     List<StudentAcademicProgress> findByAcademicProgram(String academicProgram);
 
@@ -0,0 +1,36 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.StudentAcademicProgress;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consultas masivas sobre el progreso académico que no pueden expresarse como
+ * métodos derivados sin resolver la referencia {@code @DBRef} al estudiante.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+public interface StudentAcademicProgressRepositoryCustom {
+
+    /**
+     * Obtiene en una sola consulta el progreso académico de varios estudiantes.
+     * Los documentos devueltos no incluyen el estudiante ni el historial de cursos.
+     *
+     * @param studentIds IDs de los estudiantes
+     * @return Mapa de ID de estudiante a su progreso académico
+     */
+    Map<String, StudentAcademicProgress> findProgressByStudentIds(Collection<String> studentIds);
+
+    /**
+     * Obtiene los IDs de los estudiantes con progreso académico en una facultad,
+     * leyendo solo la referencia al estudiante.
+     *
+     * @param faculty Facultad a consultar
+     * @return Lista de IDs de estudiantes sin repetidos
+     */
+    List<String> findStudentIdsByFaculty(String faculty);
+}
@@ -0,0 +1,81 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import com.mongodb.DBRef;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.StudentAcademicProgress;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementación de {@link StudentAcademicProgressRepositoryCustom} sobre {@link MongoTemplate}.
+ * Lee los documentos en crudo para obtener el ID del estudiante directamente de la
+ * referencia, sin lanzar una consulta adicional por cada documento.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+public class StudentAcademicProgressRepositoryImpl implements StudentAcademicProgressRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public StudentAcademicProgressRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Map<String, StudentAcademicProgress> findProgressByStudentIds(Collection<String> studentIds) {
+        Map<String, StudentAcademicProgress> progressByStudent = new HashMap<>();
+        if (studentIds == null || studentIds.isEmpty()) {
+            return progressByStudent;
+        }
+
+        Query query = new Query(Criteria.where("student.$id").in(toStoredIds(studentIds)));
+        query.fields().include("student", "academicProgram", "faculty", "curriculumType", "currentSemester",
+                "totalSemesters", "completedCredits", "totalCreditsRequired", "cumulativeGPA");
+
+        String collection = mongoTemplate.getCollectionName(StudentAcademicProgress.class);
+        for (Document document : mongoTemplate.find(query, Document.class, collection)) {
+            Object reference = document.remove("student");
+            if (reference instanceof DBRef dbRef && dbRef.getId() != null) {
+                StudentAcademicProgress progress = mongoTemplate.getConverter()
+                        .read(StudentAcademicProgress.class, document);
+                progressByStudent.putIfAbsent(dbRef.getId().toString(), progress);
+            }
+        }
+        return progressByStudent;
+    }
+
+    @Override
+    public List<String> findStudentIdsByFaculty(String faculty) {
+        Query query = new Query(Criteria.where("faculty").is(faculty));
+        query.fields().include("student");
+
+        String collection = mongoTemplate.getCollectionName(StudentAcademicProgress.class);
+        LinkedHashSet<String> studentIds = new LinkedHashSet<>();
+        for (Document document : mongoTemplate.find(query, Document.class, collection)) {
+            if (document.get("student") instanceof DBRef dbRef && dbRef.getId() != null) {
+                studentIds.add(dbRef.getId().toString());
+            }
+        }
+        return List.copyOf(studentIds);
+    }
+
+    /**
+     * Replica la conversión de IDs que hace Spring Data: los IDs con formato de
+     * ObjectId se guardan como ObjectId y el resto como texto.
+     */
+    private List<Object> toStoredIds(Collection<String> ids) {
+        return ids.stream()
+                .map(id -> ObjectId.isValid(id) ? (Object) new ObjectId(id) : id)
+                .toList();
+    }
+}
@@ -1,6 +1,8 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentSummaryDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -17,7 +19,7 @@ import java.util.Optional;
  * @since 2025
  */
 @Repository
-public interface StudentRepository extends MongoRepository<Student, String> {
+public interface StudentRepository extends MongoRepository<Student, String>, StudentRepositoryCustom {
 
     List<Student> findByAcademicProgram(String academicProgram);
     List<Student> findBySemester(Integer semester);
@@ -69,4 +71,8 @@ public interface StudentRepository extends MongoRepository<Student, String> {
 
     boolean existsByAcademicProgramAndSemester(String academicProgram, Integer semester);
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    List<StudentSummaryDTO> findSummaryByOrderByIdAsc(Limit limit);
+
+    List<StudentSummaryDTO> findSummaryByIdGreaterThanOrderByIdAsc(String id, Limit limit);
+}
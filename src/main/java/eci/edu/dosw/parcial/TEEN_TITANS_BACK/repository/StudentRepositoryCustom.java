@@ -0,0 +1,28 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+
+import java.util.List;
+
+/**
+ * Búsqueda de estudiantes con filtros opcionales, resuelta con una sola consulta a MongoDB.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+public interface StudentRepositoryCustom {
+
+    /**
+     * Busca estudiantes aplicando solo los filtros no nulos. Los estudiantes devueltos
+     * no incluyen la contraseña y se ordenan por su ID.
+     *
+     * @param academicProgram Programa académico (opcional)
+     * @param semester Semestre (opcional)
+     * @param minGradeAverage Promedio mínimo (opcional)
+     * @param active Estado de actividad (opcional)
+     * @param limit Número máximo de estudiantes a devolver
+     * @return Lista de estudiantes que cumplen los filtros
+     */
+    List<Student> search(String academicProgram, Integer semester, Double minGradeAverage, Boolean active, int limit);
+}
@@ -0,0 +1,37 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+/**
+ * Implementación de {@link StudentRepositoryCustom} sobre {@link MongoTemplate}.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+public class StudentRepositoryImpl implements StudentRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public StudentRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<Student> search(String academicProgram, Integer semester, Double minGradeAverage,
+                                Boolean active, int limit) {
+        Query query = SearchQueryBuilder.create()
+                .whereEquals("academicProgram", academicProgram)
+                .whereEquals("active", active)
+                .whereEquals("semester", semester)
+                .whereAtLeast("gradeAverage", minGradeAverage)
+                .excluding("password")
+                .limit(limit)
+                .build();
+        return mongoTemplate.find(query, Student.class);
+    }
+}
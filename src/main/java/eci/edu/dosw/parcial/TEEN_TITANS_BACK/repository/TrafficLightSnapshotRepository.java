@@ -0,0 +1,16 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.TrafficLightSnapshot;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio para los semáforos académicos precalculados (TrafficLightSnapshot) en MongoDB.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Repository
+public interface TrafficLightSnapshotRepository extends MongoRepository<TrafficLightSnapshot, String> {
+}
@@ -0,0 +1,20 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio para el índice unificado de identidades (UserIdentity) en MongoDB.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Repository
+public interface UserIdentityRepository extends MongoRepository<UserIdentity, String> {
+
+    void deleteByUserCollectionAndUserId(String userCollection, String userId);
+
+    void deleteByUserCollectionAndUserIdAndEmailNot(String userCollection, String userId, String email);
+}
@@ -1,7 +1,9 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.UserSummaryDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.User;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -19,7 +21,7 @@ import java.util.Optional;
  * @since 2025
  */
 @Repository
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
 
     Optional<User> findById(String id);
     List<User> findByName(String name);
@@ -62,4 +64,8 @@ public interface UserRepository extends MongoRepository<User, String> {
 
     boolean existsByEmail(String email);
     boolean existsByNameAndEmail(String name, String email);
-}
\ No newline at end of file
+
+    List<UserSummaryDTO> findSummaryByOrderByIdAsc(Limit limit);
+
+    List<UserSummaryDTO> findSummaryByIdGreaterThanOrderByIdAsc(String id, Limit limit);
+}
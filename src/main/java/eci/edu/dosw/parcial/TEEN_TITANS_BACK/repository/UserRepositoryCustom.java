@@ -0,0 +1,27 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.User;
+
+import java.util.List;
+
+/**
+ * Búsqueda de usuarios con filtros opcionales, resuelta con una sola consulta a MongoDB.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Busca usuarios aplicando solo los filtros no nulos. Los usuarios devueltos
+     * no incluyen la contraseña y se ordenan por su ID.
+     *
+     * @param role Rol (opcional)
+     * @param active Estado de actividad (opcional)
+     * @param limit Número máximo de usuarios a devolver
+     * @return Lista de usuarios que cumplen los filtros
+     */
+    List<User> search(UserRole role, Boolean active, int limit);
+}
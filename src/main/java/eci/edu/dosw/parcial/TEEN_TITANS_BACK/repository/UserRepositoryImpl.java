@@ -0,0 +1,35 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.User;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+/**
+ * Implementación de {@link UserRepositoryCustom} sobre {@link MongoTemplate}.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public UserRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<User> search(UserRole role, Boolean active, int limit) {
+        Query query = SearchQueryBuilder.create()
+                .whereEquals("role", role)
+                .whereEquals("active", active)
+                .excluding("password")
+                .limit(limit)
+                .build();
+        return mongoTemplate.find(query, User.class);
+    }
+}
@@ -30,6 +30,7 @@ public class AdminGroupService extends GroupService {
     private final CourseStatusDetailRepository courseStatusDetailRepository;
     private final ClassroomRepository classroomRepository;
     private final ProfessorRepository professorRepository;
+    private final GroupEnrollmentService groupEnrollmentService;
 
     /**
      * Constructor principal que inicializa las dependencias del servicio y el padre.
@@ -43,6 +44,7 @@ public class AdminGroupService extends GroupService {
      * @param studentAcademicProgressRepository Repositorio de progreso académico
      * @param classroomRepository Repositorio de aulas
      * @param professorRepository Repositorio de profesores
+     * @param groupEnrollmentService Servicio de contadores de matrícula
      */
     public AdminGroupService(
             GroupRepository groupRepository,
@@ -53,9 +55,10 @@ public class AdminGroupService extends GroupService {
             StudentRepository studentRepository,
             StudentAcademicProgressRepository studentAcademicProgressRepository,
             ClassroomRepository classroomRepository,
-            ProfessorRepository professorRepository
+            ProfessorRepository professorRepository,
+            GroupEnrollmentService groupEnrollmentService
     ) {
-        super(groupRepository, courseStatusDetailRepository, scheduleChangeRequestRepository);
+        super(groupRepository, courseStatusDetailRepository, scheduleChangeRequestRepository, groupEnrollmentService);
         this.courseRepository = courseRepository;
         this.groupRepository = groupRepository;
         this.userRepository = userRepository;
@@ -64,6 +67,7 @@ public class AdminGroupService extends GroupService {
         this.courseStatusDetailRepository = courseStatusDetailRepository;
         this.classroomRepository = classroomRepository;
         this.professorRepository = professorRepository;
+        this.groupEnrollmentService = groupEnrollmentService;
     }
 
     /**
@@ -99,7 +103,7 @@ public class AdminGroupService extends GroupService {
         if (group.getClassroom() == null) {
             throw new AppException("El grupo no tiene aula asignada: " + groupId);
         }
-        return (int) (group.getClassroom().getCapacity() * 0.6);
+        return groupEnrollmentService.getEnrollment(groupId);
     }
 
     /**
@@ -121,11 +125,9 @@ public class AdminGroupService extends GroupService {
         if (!courseRepository.existsById(courseCode)) {
             throw new AppException("Curso no encontrado con código: " + courseCode);
         }
-        return groupRepository.findByCourse_CourseCode(courseCode).stream()
-                .collect(Collectors.toMap(
-                        Group::getGroupId,
-                        group -> getCurrentEnrollment(group.getGroupId())
-                ));
+        return groupEnrollmentService.getEnrollments(groupRepository.findByCourse_CourseCode(courseCode).stream()
+                .map(Group::getGroupId)
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -1,16 +1,22 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ScheduleChangeRequestExportDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.*;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Servicio para la gestión administrativa de solicitudes de cambio de horario.
@@ -28,6 +34,16 @@ public class AdminRequestService {
     private final GroupRepository groupRepository;
     private final CourseRepository courseRepository;
     private final StudentAcademicProgressRepository studentAcademicProgressRepository;
+    private final GroupEnrollmentService groupEnrollmentService;
+    private final RequestPriorityQueueService requestPriorityQueueService;
+    private final MigrationJobService migrationJobService;
+
+    private static final int SPECIAL_CASE_REVIEW_STEPS = 3;
+    private static final List<String> SPECIAL_CASE_KEYWORDS = List.of("médico", "emergencia");
+    private static final int SPECIAL_CASE_PENDING_DAYS = 14;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BULK_DECISIONS = 5000;
+    private static final char CURSOR_SEPARATOR = '|';
 
     /**
      * Constructor para la inyección de dependencias.
@@ -37,57 +53,60 @@ public class AdminRequestService {
      * @param groupRepository Repositorio de grupos
      * @param courseRepository Repositorio de cursos
      * @param studentAcademicProgressRepository Repositorio de progreso académico
+     * @param groupEnrollmentService Servicio de contadores de matrícula
+     * @param requestPriorityQueueService Servicio de la cola de prioridad de solicitudes
+     * @param migrationJobService Servicio de migraciones, para saber si ya terminó la de facultades
      */
     @Autowired
     public AdminRequestService(ScheduleChangeRequestRepository scheduleChangeRequestRepository,
                                StudentRepository studentRepository,
                                GroupRepository groupRepository,
                                CourseRepository courseRepository,
-                               StudentAcademicProgressRepository studentAcademicProgressRepository) {
+                               StudentAcademicProgressRepository studentAcademicProgressRepository,
+                               GroupEnrollmentService groupEnrollmentService,
+                               RequestPriorityQueueService requestPriorityQueueService,
+                               MigrationJobService migrationJobService) {
         this.scheduleChangeRequestRepository = scheduleChangeRequestRepository;
         this.studentRepository = studentRepository;
         this.groupRepository = groupRepository;
         this.courseRepository = courseRepository;
         this.studentAcademicProgressRepository = studentAcademicProgressRepository;
+        this.groupEnrollmentService = groupEnrollmentService;
+        this.requestPriorityQueueService = requestPriorityQueueService;
+        this.migrationJobService = migrationJobService;
     }
 
     /**
-     * Obtiene las solicitudes de cambio de horario por facultad.
+     * Obtiene una página de las solicitudes de cambio de horario de una facultad.
      *
      * @param faculty Facultad a filtrar
-     * @return Lista de solicitudes ordenadas por fecha descendente
+     * @param page Número de página, empezando en 0
+     * @param size Tamaño de la página, entre 1 y 100
+     * @return Página de solicitudes ordenadas por fecha descendente
+     * @throws AppException si los parámetros de paginación no son válidos
      */
-    public List<ScheduleChangeRequest> getRequestsByFaculty(String faculty) {
-        List<StudentAcademicProgress> facultyProgress = studentAcademicProgressRepository.findByFaculty(faculty);
-
-        List<String> facultyStudentIds = new ArrayList<>();
-        for (StudentAcademicProgress progress : facultyProgress) {
-            if (progress.getStudent() != null && progress.getStudent().getId() != null) {
-                facultyStudentIds.add(progress.getStudent().getId());
-            }
+    public Page<ScheduleChangeRequest> getRequestsByFaculty(String faculty, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new AppException("Parámetros de paginación no válidos: page >= 0 y 1 <= size <= " + MAX_PAGE_SIZE);
         }
 
-        List<ScheduleChangeRequest> allRequests = scheduleChangeRequestRepository.findAll();
-        List<ScheduleChangeRequest> facultyRequests = new ArrayList<>();
-
-        for (ScheduleChangeRequest request : allRequests) {
-            if (request.getStudent() != null && facultyStudentIds.contains(request.getStudent().getId())) {
-                facultyRequests.add(request);
-            }
-        }
-
-        facultyRequests.sort((r1, r2) -> r2.getSubmissionDate().compareTo(r1.getSubmissionDate()));
-        return facultyRequests;
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "submissionDate"));
+        return scheduleChangeRequestRepository.findPageByFaculty(faculty, getLegacyStudentIds(faculty), pageable);
     }
 
     /**
      * Responde a una solicitud con una decisión de aprobación o rechazo.
      *
+     * Solo se deciden solicitudes pendientes o en revisión; la decisión se registra con una
+     * actualización condicional sobre el estado, así que dos revisores no pueden resolver la
+     * misma solicitud.
+     *
      * @param requestId ID de la solicitud
      * @param decision Decisión (APPROVED o REJECTED)
      * @param comments Comentarios de la decisión
      * @return Solicitud actualizada
-     * @throws AppException si la decisión no es válida
+     * @throws AppException si la decisión no es válida, la solicitud ya fue resuelta o el grupo
+     *                      solicitado no tiene cupo
      */
     public ScheduleChangeRequest respondToRequest(String requestId, RequestStatus decision, String comments) {
         ScheduleChangeRequest request = findRequestById(requestId);
@@ -95,9 +114,77 @@ public class AdminRequestService {
         if (decision != RequestStatus.APPROVED && decision != RequestStatus.REJECTED) {
             throw new AppException("La decisión debe ser APPROVED o REJECTED");
         }
+        ensureUndecided(request);
 
-        request.setStatus(decision);
-        request.setResolutionDate(new Date());
+        ReviewStep decisionStep = new ReviewStep();
+        decisionStep.setUserId("ADMIN_SYSTEM");
+        decisionStep.setUserRole(UserRole.ADMINISTRATOR);
+        decisionStep.setAction(decision == RequestStatus.APPROVED ? "SOLICITUD_APROBADA" : "SOLICITUD_RECHAZADA");
+        decisionStep.setComments(comments);
+        decisionStep.setTimestamp(new Date());
+
+        if (decision == RequestStatus.APPROVED) {
+            return approveWithSeat(request, decisionStep);
+        }
+
+        decide(request, decision, decisionStep);
+        return request;
+    }
+
+    /**
+     * Responde en bloque a varias solicitudes con la misma decisión.
+     *
+     * Las solicitudes se cargan en una sola consulta y la decisión se guarda con una única
+     * operación masiva. Al aprobar, la capacidad se verifica una vez por grupo solicitado y
+     * los cupos se asignan por orden de envío; las solicitudes que no alcanzan cupo, las que
+     * no existen y las que ya fueron resueltas se informan como fallidas sin detener el lote.
+     *
+     * @param requestIds IDs de las solicitudes
+     * @param decision Decisión (APPROVED o REJECTED)
+     * @param comments Comentarios de la decisión
+     * @return Resultado del lote con el desenlace de cada solicitud
+     * @throws AppException si la decisión o la lista de solicitudes no son válidas
+     */
+    public BulkDecisionResult respondToRequests(List<String> requestIds, RequestStatus decision, String comments) {
+        if (decision != RequestStatus.APPROVED && decision != RequestStatus.REJECTED) {
+            throw new AppException("La decisión debe ser APPROVED o REJECTED");
+        }
+        if (requestIds == null || requestIds.isEmpty() || requestIds.size() > MAX_BULK_DECISIONS) {
+            throw new AppException("La lista de solicitudes debe tener entre 1 y " + MAX_BULK_DECISIONS + " elementos");
+        }
+
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(requestIds));
+        Map<String, ScheduleChangeRequest> requestsById = new HashMap<>();
+        scheduleChangeRequestRepository.findAllById(distinctIds)
+                .forEach(request -> requestsById.put(request.getRequestId(), request));
+
+        Map<String, BulkDecisionOutcome> outcomes = new LinkedHashMap<>();
+        List<ScheduleChangeRequest> decidable = new ArrayList<>();
+        for (String requestId : distinctIds) {
+            ScheduleChangeRequest request = requestsById.get(requestId);
+            if (request == null) {
+                outcomes.put(requestId, BulkDecisionOutcome.failure(requestId, "Solicitud no encontrada: " + requestId));
+            } else if (request.getStatus() != RequestStatus.PENDING && request.getStatus() != RequestStatus.UNDER_REVIEW) {
+                outcomes.put(requestId, BulkDecisionOutcome.failure(requestId,
+                        "La solicitud ya fue resuelta con estado " + request.getStatus()));
+            } else {
+                outcomes.put(requestId, null);
+                decidable.add(request);
+            }
+        }
+
+        List<ScheduleChangeRequest> accepted = decision == RequestStatus.APPROVED
+                ? reserveSeats(decidable)
+                : decidable;
+        Set<String> acceptedIds = accepted.stream()
+                .map(ScheduleChangeRequest::getRequestId)
+                .collect(Collectors.toSet());
+        for (ScheduleChangeRequest request : decidable) {
+            if (!acceptedIds.contains(request.getRequestId())) {
+                outcomes.put(request.getRequestId(), BulkDecisionOutcome.failure(request.getRequestId(),
+                        "No se puede aprobar la solicitud: el grupo solicitado ya no tiene capacidad disponible"));
+            }
+        }
 
         ReviewStep decisionStep = new ReviewStep();
         decisionStep.setUserId("ADMIN_SYSTEM");
@@ -106,9 +193,25 @@ public class AdminRequestService {
         decisionStep.setComments(comments);
         decisionStep.setTimestamp(new Date());
 
-        request.getReviewHistory().add(decisionStep);
+        List<String> ids = accepted.stream().map(ScheduleChangeRequest::getRequestId).toList();
+        Set<String> failedIds = scheduleChangeRequestRepository.applyDecision(
+                ids, decision, decisionStep.getTimestamp(), decisionStep);
 
-        return scheduleChangeRequestRepository.save(request);
+        if (decision == RequestStatus.APPROVED && !failedIds.isEmpty()) {
+            groupEnrollmentService.releaseApprovedChanges(accepted.stream()
+                    .filter(request -> failedIds.contains(request.getRequestId()))
+                    .toList());
+        }
+        for (String requestId : ids) {
+            if (failedIds.contains(requestId)) {
+                outcomes.put(requestId, BulkDecisionOutcome.failure(requestId, "No se pudo guardar la decisión"));
+            } else {
+                requestPriorityQueueService.remove(requestId);
+                outcomes.put(requestId, BulkDecisionOutcome.success(requestId, decision));
+            }
+        }
+
+        return new BulkDecisionResult(new ArrayList<>(outcomes.values()));
     }
 
     /**
@@ -145,17 +248,70 @@ public class AdminRequestService {
         return allRequests;
     }
 
+    /**
+     * Obtiene una página de las solicitudes del sistema ordenadas por fecha descendente,
+     * continuando después del cursor indicado.
+     *
+     * @param cursor Cursor de la página anterior, o null para la primera página
+     * @param size Tamaño de la página
+     * @return Página de solicitudes con el cursor de la página siguiente
+     * @throws AppException si el cursor o el tamaño de página no son válidos
+     */
+    public CursorPageDTO<ScheduleChangeRequest> getGlobalRequestsPage(String cursor, int size) {
+        CursorPageDTO.validateSize(size);
+        String after = CursorPageDTO.decodeCursor(cursor);
+
+        Date afterSubmissionDate = null;
+        String afterRequestId = null;
+        if (after != null) {
+            int separator = after.indexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new AppException("Cursor de paginación no válido");
+            }
+            try {
+                String date = after.substring(0, separator);
+                afterSubmissionDate = date.isEmpty() ? null : new Date(Long.parseLong(date));
+            } catch (NumberFormatException e) {
+                throw new AppException("Cursor de paginación no válido");
+            }
+            afterRequestId = after.substring(separator + 1);
+        }
+
+        List<ScheduleChangeRequest> requests = scheduleChangeRequestRepository.findGlobalPage(
+                afterSubmissionDate, afterRequestId, size + 1);
+        return CursorPageDTO.of(requests, size, request ->
+                (request.getSubmissionDate() != null ? String.valueOf(request.getSubmissionDate().getTime()) : "")
+                        + CURSOR_SEPARATOR + request.getRequestId());
+    }
+
+    /**
+     * Abre un flujo con las solicitudes a exportar, leídas desde un cursor de MongoDB en lugar
+     * de cargar la colección completa. Quien consume el flujo debe cerrarlo al terminar.
+     *
+     * @param status Estado de las solicitudes, o null para exportar todos los estados
+     * @param from Fecha de envío mínima (inclusiva), o null
+     * @param to Fecha de envío máxima (exclusiva), o null
+     * @return Flujo de solicitudes ordenadas por fecha de envío descendente
+     * @throws AppException si el rango de fechas no es válido
+     */
+    public Stream<ScheduleChangeRequestExportDTO> streamRequestsForExport(RequestStatus status, Date from, Date to) {
+        if (from != null && to != null && !from.before(to)) {
+            throw new AppException("Rango de fechas no válido: 'from' debe ser anterior a 'to'");
+        }
+        return scheduleChangeRequestRepository.streamForExport(status, from, to);
+    }
+
     /**
      * Aprueba un caso especial con comentarios específicos.
      *
      * @param requestId ID de la solicitud
      * @param comments Comentarios de la aprobación especial
      * @return Solicitud aprobada
+     * @throws AppException si la solicitud ya fue resuelta o el grupo solicitado no tiene cupo
      */
     public ScheduleChangeRequest approveSpecialCase(String requestId, String comments) {
         ScheduleChangeRequest request = findRequestById(requestId);
-        request.setStatus(RequestStatus.APPROVED);
-        request.setResolutionDate(new Date());
+        ensureUndecided(request);
 
         ReviewStep specialStep = new ReviewStep();
         specialStep.setUserId("ADMIN_SYSTEM");
@@ -164,9 +320,7 @@ public class AdminRequestService {
         specialStep.setComments("Aprobación especial: " + comments);
         specialStep.setTimestamp(new Date());
 
-        request.getReviewHistory().add(specialStep);
-
-        return scheduleChangeRequestRepository.save(request);
+        return approveWithSeat(request, specialStep);
     }
 
     /**
@@ -175,17 +329,10 @@ public class AdminRequestService {
      * @return Lista de casos especiales ordenados por fecha descendente
      */
     public List<ScheduleChangeRequest> getSpecialCases() {
-        List<ScheduleChangeRequest> allRequests = scheduleChangeRequestRepository.findAll();
-        List<ScheduleChangeRequest> specialCases = new ArrayList<>();
-
-        for (ScheduleChangeRequest request : allRequests) {
-            if (isSpecialCase(request)) {
-                specialCases.add(request);
-            }
-        }
-
-        specialCases.sort((r1, r2) -> r2.getSubmissionDate().compareTo(r1.getSubmissionDate()));
-        return specialCases;
+        Date submittedBefore = new Date(System.currentTimeMillis()
+                - TimeUnit.DAYS.toMillis(SPECIAL_CASE_PENDING_DAYS + 1L));
+        return scheduleChangeRequestRepository.findSpecialCases(
+                SPECIAL_CASE_REVIEW_STEPS, SPECIAL_CASE_KEYWORDS, submittedBefore);
     }
 
     /**
@@ -195,8 +342,7 @@ public class AdminRequestService {
      * @return Estadísticas de aprobación
      */
     public ApprovalStats getApprovalRateByFaculty(String faculty) {
-        List<ScheduleChangeRequest> facultyRequests = getRequestsByFaculty(faculty);
-        return calculateApprovalStats(facultyRequests);
+        return calculateApprovalStats(countFacultyRequestsByStatus(faculty));
     }
 
     /**
@@ -205,8 +351,7 @@ public class AdminRequestService {
      * @return Estadísticas de aprobación globales
      */
     public ApprovalStats getGlobalApprovalRate() {
-        List<ScheduleChangeRequest> allRequests = scheduleChangeRequestRepository.findAll();
-        return calculateApprovalStats(allRequests);
+        return calculateApprovalStats(scheduleChangeRequestRepository.countGroupedByStatus());
     }
 
     /**
@@ -215,16 +360,16 @@ public class AdminRequestService {
      * @return Estadísticas globales
      */
     public GlobalStats generateGlobalReport() {
-        List<ScheduleChangeRequest> allRequests = scheduleChangeRequestRepository.findAll();
-        ApprovalStats globalApproval = getGlobalApprovalRate();
+        Map<RequestStatus, Long> statusCounts = scheduleChangeRequestRepository.countGroupedByStatus();
+        ApprovalStats globalApproval = calculateApprovalStats(statusCounts);
 
         GlobalStats stats = new GlobalStats();
-        stats.setTotalRequests(allRequests.size());
+        stats.setTotalRequests(globalApproval.getTotalRequests());
         stats.setTotalApproved(globalApproval.getApprovedRequests());
         stats.setTotalRejected(globalApproval.getRejectedRequests());
         stats.setTotalPending(globalApproval.getPendingRequests());
         stats.setOverallApprovalRate(globalApproval.getApprovalRate());
-        stats.setRequestsByStatus(calculateRequestsByStatus(allRequests));
+        stats.setRequestsByStatus(calculateRequestsByStatus(statusCounts));
 
         return stats;
     }
@@ -236,14 +381,16 @@ public class AdminRequestService {
      * @return Estadísticas de la facultad
      */
     public FacultyStats generateFacultyReport(String faculty) {
-        List<StudentAcademicProgress> facultyStudents = studentAcademicProgressRepository.findByFaculty(faculty);
-        List<ScheduleChangeRequest> facultyRequests = getRequestsByFaculty(faculty);
-        ApprovalStats approvalStats = getApprovalRateByFaculty(faculty);
+        List<String> facultyStudentIds = getFacultyStudentIds(faculty);
+        List<String> legacyStudentIds = migrationJobService.isFacultyBackfillCompleted()
+                ? List.of() : facultyStudentIds;
+        ApprovalStats approvalStats = calculateApprovalStats(
+                scheduleChangeRequestRepository.countGroupedByStatusForFaculty(faculty, legacyStudentIds));
 
         FacultyStats stats = new FacultyStats();
         stats.setFaculty(faculty);
-        stats.setTotalStudents(facultyStudents.size());
-        stats.setTotalRequests(facultyRequests.size());
+        stats.setTotalStudents(facultyStudentIds.size());
+        stats.setTotalRequests(approvalStats.getTotalRequests());
         stats.setApprovalRate(approvalStats.getApprovalRate());
 
         return stats;
@@ -262,49 +409,135 @@ public class AdminRequestService {
     }
 
     /**
-     * Determina si una solicitud es un caso especial.
+     * Verifica que la solicitud siga pendiente o en revisión antes de decidirla.
      *
-     * @param request Solicitud a evaluar
-     * @return true si es un caso especial, false en caso contrario
+     * @param request Solicitud a decidir
+     * @throws AppException si la solicitud ya fue resuelta
      */
-    private boolean isSpecialCase(ScheduleChangeRequest request) {
-        if (request.getReviewHistory().size() > 3) {
-            return true;
+    private void ensureUndecided(ScheduleChangeRequest request) {
+        if (request.getStatus() != RequestStatus.PENDING && request.getStatus() != RequestStatus.UNDER_REVIEW) {
+            throw new AppException("La solicitud ya fue resuelta con estado " + request.getStatus());
         }
+    }
 
-        if (request.getReason() != null &&
-                (request.getReason().toLowerCase().contains("médico") ||
-                        request.getReason().toLowerCase().contains("emergencia"))) {
-            return true;
+    /**
+     * Reserva el cupo del grupo solicitado y aprueba la solicitud. Si la actualización falla
+     * o la solicitud ya fue resuelta por otra operación, el cupo reservado se libera.
+     *
+     * @param request Solicitud a aprobar
+     * @param reviewStep Paso de revisión de la aprobación
+     * @return Solicitud aprobada
+     * @throws AppException si el grupo solicitado no tiene cupo o la solicitud ya fue resuelta
+     */
+    private ScheduleChangeRequest approveWithSeat(ScheduleChangeRequest request, ReviewStep reviewStep) {
+        if (!groupEnrollmentService.reserveApprovedChange(request)) {
+            throw new AppException("No se puede aprobar la solicitud: el grupo solicitado ya no tiene capacidad disponible");
         }
 
-        long daysPending = TimeUnit.MILLISECONDS.toDays(
-                System.currentTimeMillis() - request.getSubmissionDate().getTime()
-        );
-        return daysPending > 14;
+        try {
+            decide(request, RequestStatus.APPROVED, reviewStep);
+        } catch (RuntimeException e) {
+            groupEnrollmentService.releaseApprovedChange(request);
+            throw e;
+        }
+        return request;
     }
 
     /**
-     * Calcula estadísticas de aprobación a partir de una lista de solicitudes.
+     * Registra la decisión solo si la solicitud sigue pendiente o en revisión. Como la
+     * actualización condicional no pasa por los eventos de guardado, la solicitud se retira
+     * aquí de la cola de prioridad.
      *
-     * @param requests Lista de solicitudes
-     * @return Estadísticas de aprobación
+     * @param request Solicitud a decidir
+     * @param decision Decisión a registrar
+     * @param reviewStep Paso de revisión de la decisión
+     * @throws AppException si otra operación resolvió la solicitud primero
      */
-    private ApprovalStats calculateApprovalStats(List<ScheduleChangeRequest> requests) {
-        ApprovalStats stats = new ApprovalStats();
+    private void decide(ScheduleChangeRequest request, RequestStatus decision, ReviewStep reviewStep) {
+        if (!scheduleChangeRequestRepository.decideIfUndecided(
+                request.getRequestId(), decision, reviewStep.getTimestamp(), reviewStep)) {
+            throw new AppException("La solicitud ya fue resuelta por otro revisor: " + request.getRequestId());
+        }
 
-        int total = requests.size();
-        int approved = 0;
-        int rejected = 0;
-        int pending = 0;
+        request.setStatus(decision);
+        request.setResolutionDate(reviewStep.getTimestamp());
+        request.getReviewHistory().add(reviewStep);
+        requestPriorityQueueService.remove(request.getRequestId());
+    }
 
+    /**
+     * Reserva los cupos de un lote de aprobaciones verificando la capacidad una sola vez
+     * por grupo solicitado. Dentro de cada grupo se atienden primero las solicitudes más antiguas.
+     *
+     * @param requests Solicitudes a aprobar
+     * @return Solicitudes que obtuvieron cupo
+     */
+    private List<ScheduleChangeRequest> reserveSeats(List<ScheduleChangeRequest> requests) {
+        Map<String, List<ScheduleChangeRequest>> requestsByGroup = new LinkedHashMap<>();
         for (ScheduleChangeRequest request : requests) {
-            switch (request.getStatus()) {
-                case APPROVED -> approved++;
-                case REJECTED -> rejected++;
-                case PENDING, UNDER_REVIEW -> pending++;
-            }
+            Group requestedGroup = request.getRequestedGroup();
+            String groupId = requestedGroup != null ? requestedGroup.getGroupId() : null;
+            requestsByGroup.computeIfAbsent(groupId, key -> new ArrayList<>()).add(request);
+        }
+
+        List<ScheduleChangeRequest> accepted = new ArrayList<>();
+        requestsByGroup.forEach((groupId, groupRequests) -> {
+            groupRequests.sort(Comparator.comparing(ScheduleChangeRequest::getSubmissionDate,
+                    Comparator.nullsLast(Comparator.naturalOrder())));
+            accepted.addAll(groupEnrollmentService.reserveApprovedChanges(groupId, groupRequests));
+        });
+        return accepted;
+    }
+
+    /**
+     * Obtiene los IDs de los estudiantes con progreso académico registrado en una facultad.
+     *
+     * @param faculty Facultad a consultar
+     * @return Lista de IDs de estudiantes
+     */
+    private List<String> getFacultyStudentIds(String faculty) {
+        return studentAcademicProgressRepository.findStudentIdsByFaculty(faculty);
+    }
+
+    /**
+     * Obtiene los estudiantes con los que se identifican las solicitudes de una facultad que
+     * todavía no tienen la facultad registrada. Cuando la migración de facultades terminó ya
+     * no quedan solicitudes así y basta con el campo registrado.
+     *
+     * @param faculty Facultad a consultar
+     * @return IDs de los estudiantes de la facultad, o vacío si la migración terminó
+     */
+    private List<String> getLegacyStudentIds(String faculty) {
+        return migrationJobService.isFacultyBackfillCompleted() ? List.of() : getFacultyStudentIds(faculty);
+    }
+
+    /**
+     * Cuenta por estado las solicitudes de una facultad.
+     *
+     * @param faculty Facultad a consultar
+     * @return Mapa con el conteo por estado
+     */
+    private Map<RequestStatus, Long> countFacultyRequestsByStatus(String faculty) {
+        return scheduleChangeRequestRepository.countGroupedByStatusForFaculty(faculty, getLegacyStudentIds(faculty));
+    }
+
+    /**
+     * Calcula estadísticas de aprobación a partir del conteo de solicitudes por estado.
+     *
+     * @param statusCounts Conteo de solicitudes por estado calculado en la base de datos
+     * @return Estadísticas de aprobación
+     */
+    private ApprovalStats calculateApprovalStats(Map<RequestStatus, Long> statusCounts) {
+        ApprovalStats stats = new ApprovalStats();
+
+        int total = 0;
+        for (Long count : statusCounts.values()) {
+            total += count.intValue();
         }
+        int approved = statusCounts.getOrDefault(RequestStatus.APPROVED, 0L).intValue();
+        int rejected = statusCounts.getOrDefault(RequestStatus.REJECTED, 0L).intValue();
+        int pending = statusCounts.getOrDefault(RequestStatus.PENDING, 0L).intValue()
+                + statusCounts.getOrDefault(RequestStatus.UNDER_REVIEW, 0L).intValue();
 
         double approvalRate = total > 0 ? ((double) approved / total) * 100 : 0.0;
 
@@ -318,19 +551,14 @@ public class AdminRequestService {
     }
 
     /**
-     * Calcula la distribución de solicitudes por estado.
+     * Convierte el conteo de solicitudes por estado al formato del reporte.
      *
-     * @param requests Lista de solicitudes
-     * @return Mapa con el conteo por estado
+     * @param statusCounts Conteo de solicitudes por estado calculado en la base de datos
+     * @return Mapa con el conteo por nombre de estado
      */
-    private Map<String, Integer> calculateRequestsByStatus(List<ScheduleChangeRequest> requests) {
+    private Map<String, Integer> calculateRequestsByStatus(Map<RequestStatus, Long> statusCounts) {
         Map<String, Integer> requestsByStatus = new HashMap<>();
-
-        for (ScheduleChangeRequest request : requests) {
-            String status = request.getStatus().name();
-            requestsByStatus.put(status, requestsByStatus.getOrDefault(status, 0) + 1);
-        }
-
+        statusCounts.forEach((status, count) -> requestsByStatus.put(status.name(), count.intValue()));
         return requestsByStatus;
     }
 
@@ -356,6 +584,67 @@ public class AdminRequestService {
         public void setPendingRequests(int pendingRequests) { this.pendingRequests = pendingRequests; }
     }
 
+    /**
+     * Clase para representar el resultado de una decisión en bloque.
+     */
+    public static class BulkDecisionResult {
+        private int totalRequests;
+        private int succeeded;
+        private int failed;
+        private List<BulkDecisionOutcome> outcomes;
+
+        public BulkDecisionResult(List<BulkDecisionOutcome> outcomes) {
+            this.outcomes = outcomes;
+            this.totalRequests = outcomes.size();
+            this.succeeded = (int) outcomes.stream().filter(BulkDecisionOutcome::isSuccess).count();
+            this.failed = totalRequests - succeeded;
+        }
+
+        public int getTotalRequests() { return totalRequests; }
+        public void setTotalRequests(int totalRequests) { this.totalRequests = totalRequests; }
+        public int getSucceeded() { return succeeded; }
+        public void setSucceeded(int succeeded) { this.succeeded = succeeded; }
+        public int getFailed() { return failed; }
+        public void setFailed(int failed) { this.failed = failed; }
+        public List<BulkDecisionOutcome> getOutcomes() { return outcomes; }
+        public void setOutcomes(List<BulkDecisionOutcome> outcomes) { this.outcomes = outcomes; }
+    }
+
+    /**
+     * Clase para representar el desenlace de una solicitud dentro de una decisión en bloque.
+     */
+    public static class BulkDecisionOutcome {
+        private String requestId;
+        private boolean success;
+        private RequestStatus status;
+        private String message;
+
+        public static BulkDecisionOutcome success(String requestId, RequestStatus status) {
+            BulkDecisionOutcome outcome = new BulkDecisionOutcome();
+            outcome.setRequestId(requestId);
+            outcome.setSuccess(true);
+            outcome.setStatus(status);
+            return outcome;
+        }
+
+        public static BulkDecisionOutcome failure(String requestId, String message) {
+            BulkDecisionOutcome outcome = new BulkDecisionOutcome();
+            outcome.setRequestId(requestId);
+            outcome.setSuccess(false);
+            outcome.setMessage(message);
+            return outcome;
+        }
+
+        public String getRequestId() { return requestId; }
+        public void setRequestId(String requestId) { this.requestId = requestId; }
+        public boolean isSuccess() { return success; }
+        public void setSuccess(boolean success) { this.success = success; }
+        public RequestStatus getStatus() { return status; }
+        public void setStatus(RequestStatus status) { this.status = status; }
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+
     /**
      * Clase para representar estadísticas por facultad.
      */
@@ -1,6 +1,7 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Administrator;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.AdministratorRepository;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
@@ -23,6 +24,9 @@ public class AdministratorService {
     @Autowired
     private AdministratorRepository adminRepository;
 
+    @Autowired
+    private UserIdentityService userIdentityService;
+
     /**
      * Crea un nuevo administrador en el sistema.
      *
@@ -34,9 +38,12 @@ public class AdministratorService {
         if (adminRepository.existsByEmail(admin.getEmail())) {
             throw new AppException("El email ya está registrado: " + admin.getEmail());
         }
+        userIdentityService.ensureEmailAvailable(admin.getEmail(), UserIdentity.ADMINISTRATORS, null);
 
         admin.setRole(UserRole.ADMINISTRATOR);
-        return adminRepository.save(admin);
+        Administrator savedAdmin = adminRepository.save(admin);
+        userIdentityService.index(savedAdmin, UserIdentity.ADMINISTRATORS);
+        return savedAdmin;
     }
 
     /**
@@ -79,9 +86,13 @@ public class AdministratorService {
             }
         }
 
+        userIdentityService.ensureEmailAvailable(admin.getEmail(), UserIdentity.ADMINISTRATORS, id);
+
         admin.setId(id);
         admin.setRole(UserRole.ADMINISTRATOR);
-        return adminRepository.save(admin);
+        Administrator savedAdmin = adminRepository.save(admin);
+        userIdentityService.index(savedAdmin, UserIdentity.ADMINISTRATORS);
+        return savedAdmin;
     }
 
     /**
@@ -95,6 +106,7 @@ public class AdministratorService {
             throw new AppException("Administrador no encontrado con ID: " + id);
         }
         adminRepository.deleteById(id);
+        userIdentityService.remove(UserIdentity.ADMINISTRATORS, id);
     }
 
     /**
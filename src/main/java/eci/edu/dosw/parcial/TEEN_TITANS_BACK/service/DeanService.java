@@ -1,9 +1,12 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Dean;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.DeanRepository;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.DeanSummaryDTO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -15,6 +18,9 @@ public class DeanService {
     @Autowired
     private DeanRepository deanRepository;
 
+    @Autowired
+    private UserIdentityService userIdentityService;
+
     /**
      * Crea un nuevo decano en el sistema.
      *
@@ -27,9 +33,14 @@ public class DeanService {
             throw new AppException("El email ya está registrado: " + dean.getEmail());
         }
 
+        // Verificar que el email no pertenezca a otra cuenta del sistema
+        userIdentityService.ensureEmailAvailable(dean.getEmail(), UserIdentity.DEANS, null);
+
         // Asegurar que el rol sea DEAN
         dean.setRole(UserRole.DEAN);
-        return deanRepository.save(dean);
+        Dean savedDean = deanRepository.save(dean);
+        userIdentityService.index(savedDean, UserIdentity.DEANS);
+        return savedDean;
     }
 
     /**
@@ -53,6 +64,30 @@ public class DeanService {
         return deanRepository.findAll();
     }
 
+    /**
+     * Obtiene los datos de listado de todos los decanos, ordenados por su ID.
+     *
+     * @return Lista de decanos leídos sin contraseña ni fechas de auditoría
+     */
+    public List<DeanSummaryDTO> getDeanSummaries() {
+        return deanRepository.findSummaryByOrderByIdAsc();
+    }
+
+    /**
+     * Busca decanos con una sola consulta a la base de datos, aplicando solo los filtros indicados.
+     *
+     * @param faculty Facultad (opcional)
+     * @param officeLocation Ubicación de la oficina (opcional)
+     * @param active Estado de actividad (opcional)
+     * @param limit Número máximo de decanos a devolver
+     * @return Lista de decanos, sin contraseña, ordenados por su ID
+     * @throws AppException si el límite está fuera del rango permitido
+     */
+    public List<Dean> searchDeans(String faculty, String officeLocation, Boolean active, int limit) {
+        CursorPageDTO.validateSize(limit);
+        return deanRepository.search(faculty, officeLocation, active, limit);
+    }
+
     /**
      * Actualiza la información de un decano existente.
      *
@@ -74,9 +109,13 @@ public class DeanService {
             }
         }
 
+        userIdentityService.ensureEmailAvailable(dean.getEmail(), UserIdentity.DEANS, id);
+
         dean.setId(id);
         dean.setRole(UserRole.DEAN);
-        return deanRepository.save(dean);
+        Dean savedDean = deanRepository.save(dean);
+        userIdentityService.index(savedDean, UserIdentity.DEANS);
+        return savedDean;
     }
 
     /**
@@ -91,6 +130,7 @@ public class DeanService {
             throw new AppException("Decano no encontrado con ID: " + id);
         }
         deanRepository.deleteById(id);
+        userIdentityService.remove(UserIdentity.DEANS, id);
     }
 
     /**
@@ -162,6 +202,15 @@ public class DeanService {
         return deanRepository.findByActive(true);
     }
 
+    /**
+     * Obtiene los datos de listado de los decanos activos, ordenados por su ID.
+     *
+     * @return Lista de decanos activos leídos sin contraseña ni fechas de auditoría
+     */
+    public List<DeanSummaryDTO> getActiveDeanSummaries() {
+        return deanRepository.findSummaryByActiveOrderByIdAsc(true);
+    }
+
     public long countByFaculty(String faculty) {
         return deanRepository.countByFaculty(faculty);
     }
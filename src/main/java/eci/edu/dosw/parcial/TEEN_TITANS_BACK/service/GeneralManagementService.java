@@ -1,5 +1,7 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.config.CacheConfig;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.*;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RoomType;
@@ -7,14 +9,25 @@ import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Servicio general para gestionar todas las entidades que no tienen CRUD completo en otros servicios.
  * Proporciona operaciones CRUD para AcademicPeriod, Classroom, Course, CourseStatusDetail,
  * Group, ReviewStep, Schedule, y StudentAcademicProgress.
+ * Los métodos que modifican cursos, aulas, horarios o períodos académicos invalidan
+ * las entradas correspondientes de la caché de datos de referencia ({@link CacheConfig})
+ * antes y después de escribir: la invalidación previa evita que una escritura o propagación
+ * fallida deje la entrada anterior en caché, y la posterior descarta el valor viejo que una
+ * lectura concurrente haya cacheado mientras la escritura estaba en curso. Las entidades
+ * leídas de la caché se copian antes de modificarlas.
  *
  * @author Equipo Teen Titans
  * @version 1.0
@@ -33,6 +46,10 @@ public class GeneralManagementService {
     private final ReviewStepRepository reviewStepRepository;
     private final ScheduleRepository scheduleRepository;
     private final StudentAcademicProgressRepository studentAcademicProgressRepository;
+    private final TrafficLightService trafficLightService;
+    private final GroupProjectionService groupProjectionService;
+    private final GroupEnrollmentService groupEnrollmentService;
+    private final ParallelReadService parallelReadService;
 
     /**
      * Crea un nuevo período académico.
@@ -41,6 +58,10 @@ public class GeneralManagementService {
      * @return Período académico creado
      * @throws AppException si ya existe un período con el mismo ID
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_ACADEMIC_PERIOD, allEntries = true, beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_ACADEMIC_PERIOD, allEntries = true)
+    })
     public AcademicPeriod createAcademicPeriod(AcademicPeriod academicPeriod) {
         log.info("Creando nuevo período académico: {}", academicPeriod.getName());
 
@@ -98,6 +119,10 @@ public class GeneralManagementService {
      * @return Período actualizado
      * @throws AppException si no se encuentra el período
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_ACADEMIC_PERIOD, allEntries = true, beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_ACADEMIC_PERIOD, allEntries = true)
+    })
     public AcademicPeriod updateAcademicPeriod(String periodId, AcademicPeriod academicPeriod) {
         log.info("Actualizando período académico con ID: {}", periodId);
 
@@ -139,6 +164,10 @@ public class GeneralManagementService {
      * @return Período activado
      * @throws AppException si no se encuentra el período
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_ACADEMIC_PERIOD, allEntries = true, beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_ACADEMIC_PERIOD, allEntries = true)
+    })
     public AcademicPeriod activateAcademicPeriod(String periodId) {
         log.info("Activando período académico con ID: {}", periodId);
 
@@ -166,6 +195,12 @@ public class GeneralManagementService {
      * @param classroom Aula a crear
      * @return Aula creada
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CLASSROOMS, key = "#classroom.classroomId",
+                    condition = "#classroom.classroomId != null", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.CLASSROOMS, key = "#classroom.classroomId",
+                    condition = "#classroom.classroomId != null")
+    })
     public Classroom createClassroom(Classroom classroom) {
         log.info("Creando nueva aula: {} {}", classroom.getBuilding(), classroom.getRoomNumber());
         return classroomRepository.save(classroom);
@@ -181,6 +216,25 @@ public class GeneralManagementService {
         return classroomRepository.findAll();
     }
 
+    /**
+     * Obtiene una página de aulas ordenadas por su ID, continuando después del cursor indicado.
+     *
+     * @param cursor Cursor de la página anterior, o null para la primera página
+     * @param size Tamaño de la página
+     * @return Página de aulas con el cursor de la página siguiente
+     * @throws AppException si el cursor o el tamaño de página no son válidos
+     */
+    public CursorPageDTO<Classroom> getClassroomsPage(String cursor, int size) {
+        log.debug("Obteniendo página de aulas con cursor: {}", cursor);
+        CursorPageDTO.validateSize(size);
+        String after = CursorPageDTO.decodeCursor(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<Classroom> classrooms = after == null
+                ? classroomRepository.findByOrderByClassroomIdAsc(limit)
+                : classroomRepository.findByClassroomIdGreaterThanOrderByClassroomIdAsc(after, limit);
+        return CursorPageDTO.of(classrooms, size, Classroom::getClassroomId);
+    }
+
     /**
      * Obtiene un aula por ID.
      *
@@ -195,13 +249,17 @@ public class GeneralManagementService {
     }
 
     /**
-     * Actualiza un aula existente.
+     * Actualiza un aula existente y propaga sus datos a los grupos que la usan.
      *
      * @param classroomId ID del aula a actualizar
      * @param classroom Nuevos datos del aula
      * @return Aula actualizada
      * @throws AppException si no se encuentra el aula
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CLASSROOMS, key = "#classroomId", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.CLASSROOMS, key = "#classroomId")
+    })
     public Classroom updateClassroom(String classroomId, Classroom classroom) {
         log.info("Actualizando aula con ID: {}", classroomId);
 
@@ -210,7 +268,9 @@ public class GeneralManagementService {
         }
 
         classroom.setClassroomId(classroomId);
-        return classroomRepository.save(classroom);
+        Classroom saved = classroomRepository.save(classroom);
+        groupProjectionService.propagateClassroom(classroom);
+        return saved;
     }
 
     /**
@@ -219,6 +279,10 @@ public class GeneralManagementService {
      * @param classroomId ID del aula a eliminar
      * @throws AppException si no se encuentra el aula o está en uso
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CLASSROOMS, key = "#classroomId", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.CLASSROOMS, key = "#classroomId")
+    })
     public void deleteClassroom(String classroomId) {
         log.info("Eliminando aula con ID: {}", classroomId);
 
@@ -312,6 +376,25 @@ public class GeneralManagementService {
         return courseRepository.findAll();
     }
 
+    /**
+     * Obtiene una página de cursos ordenados por su código, continuando después del cursor indicado.
+     *
+     * @param cursor Cursor de la página anterior, o null para la primera página
+     * @param size Tamaño de la página
+     * @return Página de cursos con el cursor de la página siguiente
+     * @throws AppException si el cursor o el tamaño de página no son válidos
+     */
+    public CursorPageDTO<Course> getCoursesPage(String cursor, int size) {
+        log.debug("Obteniendo página de cursos con cursor: {}", cursor);
+        CursorPageDTO.validateSize(size);
+        String after = CursorPageDTO.decodeCursor(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<Course> courses = after == null
+                ? courseRepository.findByOrderByCourseCodeAsc(limit)
+                : courseRepository.findByCourseCodeGreaterThanOrderByCourseCodeAsc(after, limit);
+        return CursorPageDTO.of(courses, size, Course::getCourseCode);
+    }
+
     /**
      * Obtiene un curso por código.
      *
@@ -326,13 +409,17 @@ public class GeneralManagementService {
     }
 
     /**
-     * Actualiza un curso existente.
+     * Actualiza un curso existente y propaga sus datos a los grupos que lo usan.
      *
      * @param courseCode Código del curso a actualizar
      * @param course Nuevos datos del curso
      * @return Curso actualizado
      * @throws AppException si no se encuentra el curso
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#courseCode", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#courseCode")
+    })
     public Course updateCourse(String courseCode, Course course) {
         log.info("Actualizando curso con código: {}", courseCode);
 
@@ -341,7 +428,9 @@ public class GeneralManagementService {
         }
 
         course.setCourseCode(courseCode);
-        return courseRepository.save(course);
+        Course saved = courseRepository.save(course);
+        groupProjectionService.propagateCourse(course);
+        return saved;
     }
 
     /**
@@ -350,6 +439,10 @@ public class GeneralManagementService {
      * @param courseCode Código del curso a eliminar
      * @throws AppException si no se encuentra el curso o está en uso
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#courseCode", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#courseCode")
+    })
     public void deleteCourse(String courseCode) {
         log.info("Eliminando curso con código: {}", courseCode);
 
@@ -395,18 +488,26 @@ public class GeneralManagementService {
      * @return Curso actualizado
      * @throws AppException si no se encuentra el curso
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#courseCode", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#courseCode")
+    })
     public Course toggleCourseStatus(String courseCode, boolean isActive) {
         log.info("{} curso con código: {}", isActive ? "Activando" : "Desactivando", courseCode);
 
         Course course = courseRepository.findById(courseCode)
+                .map(Course::new)
                 .orElseThrow(() -> new AppException("Curso no encontrado con código: " + courseCode));
 
         course.setIsActive(isActive);
-        return courseRepository.save(course);
+        Course saved = courseRepository.save(course);
+        groupProjectionService.propagateCourse(course);
+        return saved;
     }
 
     /**
-     * Crea un nuevo detalle de estado de curso.
+     * Crea un nuevo detalle de estado de curso, actualiza la matrícula de su grupo
+     * y recalcula el semáforo del estudiante.
      *
      * @param courseStatusDetail Detalle a crear
      * @return Detalle creado
@@ -414,7 +515,17 @@ public class GeneralManagementService {
     public CourseStatusDetail createCourseStatusDetail(CourseStatusDetail courseStatusDetail) {
         log.info("Creando nuevo detalle de estado de curso para estudiante: {}",
                 courseStatusDetail.getStudentId());
-        return courseStatusDetailRepository.save(courseStatusDetail);
+        String groupId = getGroupId(courseStatusDetail);
+        groupEnrollmentService.increment(groupId);
+        CourseStatusDetail saved;
+        try {
+            saved = courseStatusDetailRepository.save(courseStatusDetail);
+        } catch (RuntimeException e) {
+            groupEnrollmentService.decrement(groupId);
+            throw e;
+        }
+        trafficLightService.recomputeSnapshot(courseStatusDetail.getStudentId());
+        return saved;
     }
 
     /**
@@ -441,7 +552,8 @@ public class GeneralManagementService {
     }
 
     /**
-     * Actualiza un detalle de estado de curso existente.
+     * Actualiza un detalle de estado de curso existente, mueve la matrícula si cambió
+     * de grupo y recalcula el semáforo del estudiante anterior y del nuevo, si son distintos.
      *
      * @param id ID del detalle a actualizar
      * @param courseStatusDetail Nuevos datos del detalle
@@ -451,16 +563,38 @@ public class GeneralManagementService {
     public CourseStatusDetail updateCourseStatusDetail(String id, CourseStatusDetail courseStatusDetail) {
         log.info("Actualizando detalle de estado de curso con ID: {}", id);
 
-        if (!courseStatusDetailRepository.existsById(id)) {
-            throw new AppException("Detalle de estado de curso no encontrado con ID: " + id);
-        }
+        CourseStatusDetail existing = courseStatusDetailRepository.findById(id)
+                .orElseThrow(() -> new AppException("Detalle de estado de curso no encontrado con ID: " + id));
 
         courseStatusDetail.setId(id);
-        return courseStatusDetailRepository.save(courseStatusDetail);
+        String previousGroupId = getGroupId(existing);
+        String newGroupId = getGroupId(courseStatusDetail);
+        boolean groupChanged = !Objects.equals(previousGroupId, newGroupId);
+        if (groupChanged) {
+            groupEnrollmentService.decrement(previousGroupId);
+            groupEnrollmentService.increment(newGroupId);
+        }
+        CourseStatusDetail saved;
+        try {
+            saved = courseStatusDetailRepository.save(courseStatusDetail);
+        } catch (RuntimeException e) {
+            if (groupChanged) {
+                groupEnrollmentService.decrement(newGroupId);
+                groupEnrollmentService.increment(previousGroupId);
+            }
+            throw e;
+        }
+
+        trafficLightService.recomputeSnapshot(courseStatusDetail.getStudentId());
+        if (existing.getStudentId() != null && !existing.getStudentId().equals(courseStatusDetail.getStudentId())) {
+            trafficLightService.recomputeSnapshot(existing.getStudentId());
+        }
+        return saved;
     }
 
     /**
-     * Elimina un detalle de estado de curso.
+     * Elimina un detalle de estado de curso, descuenta la matrícula de su grupo
+     * y recalcula el semáforo del estudiante.
      *
      * @param id ID del detalle a eliminar
      * @throws AppException si no se encuentra el detalle
@@ -468,11 +602,22 @@ public class GeneralManagementService {
     public void deleteCourseStatusDetail(String id) {
         log.info("Eliminando detalle de estado de curso con ID: {}", id);
 
-        if (!courseStatusDetailRepository.existsById(id)) {
-            throw new AppException("Detalle de estado de curso no encontrado con ID: " + id);
+        CourseStatusDetail existing = courseStatusDetailRepository.findById(id)
+                .orElseThrow(() -> new AppException("Detalle de estado de curso no encontrado con ID: " + id));
+
+        String groupId = getGroupId(existing);
+        groupEnrollmentService.decrement(groupId);
+        try {
+            courseStatusDetailRepository.deleteById(id);
+        } catch (RuntimeException e) {
+            groupEnrollmentService.increment(groupId);
+            throw e;
         }
+        trafficLightService.recomputeSnapshot(existing.getStudentId());
+    }
 
-        courseStatusDetailRepository.deleteById(id);
+    private String getGroupId(CourseStatusDetail courseStatusDetail) {
+        return courseStatusDetail.getGroup() != null ? courseStatusDetail.getGroup().getGroupId() : null;
     }
 
     /**
@@ -608,6 +753,12 @@ public class GeneralManagementService {
      * @param schedule Horario a crear
      * @return Horario creado
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.SCHEDULES, key = "#schedule.scheduleId",
+                    condition = "#schedule.scheduleId != null", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.SCHEDULES, key = "#schedule.scheduleId",
+                    condition = "#schedule.scheduleId != null")
+    })
     public Schedule createSchedule(Schedule schedule) {
         log.info("Creando nuevo horario: {} {} {}",
                 schedule.getDayOfWeek(), schedule.getStartHour(), schedule.getEndHour());
@@ -624,6 +775,25 @@ public class GeneralManagementService {
         return scheduleRepository.findAll();
     }
 
+    /**
+     * Obtiene una página de horarios ordenados por su ID, continuando después del cursor indicado.
+     *
+     * @param cursor Cursor de la página anterior, o null para la primera página
+     * @param size Tamaño de la página
+     * @return Página de horarios con el cursor de la página siguiente
+     * @throws AppException si el cursor o el tamaño de página no son válidos
+     */
+    public CursorPageDTO<Schedule> getSchedulesPage(String cursor, int size) {
+        log.debug("Obteniendo página de horarios con cursor: {}", cursor);
+        CursorPageDTO.validateSize(size);
+        String after = CursorPageDTO.decodeCursor(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<Schedule> schedules = after == null
+                ? scheduleRepository.findByOrderByScheduleIdAsc(limit)
+                : scheduleRepository.findByScheduleIdGreaterThanOrderByScheduleIdAsc(after, limit);
+        return CursorPageDTO.of(schedules, size, Schedule::getScheduleId);
+    }
+
     /**
      * Obtiene un horario por ID.
      *
@@ -638,13 +808,17 @@ public class GeneralManagementService {
     }
 
     /**
-     * Actualiza un horario existente.
+     * Actualiza un horario existente y propaga sus datos a los grupos que lo usan.
      *
      * @param scheduleId ID del horario a actualizar
      * @param schedule Nuevos datos del horario
      * @return Horario actualizado
      * @throws AppException si no se encuentra el horario
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.SCHEDULES, key = "#scheduleId", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.SCHEDULES, key = "#scheduleId")
+    })
     public Schedule updateSchedule(String scheduleId, Schedule schedule) {
         log.info("Actualizando horario con ID: {}", scheduleId);
 
@@ -653,7 +827,9 @@ public class GeneralManagementService {
         }
 
         schedule.setScheduleId(scheduleId);
-        return scheduleRepository.save(schedule);
+        Schedule saved = scheduleRepository.save(schedule);
+        groupProjectionService.propagateSchedule(schedule);
+        return saved;
     }
 
     /**
@@ -662,6 +838,10 @@ public class GeneralManagementService {
      * @param scheduleId ID del horario a eliminar
      * @throws AppException si no se encuentra el horario o está en uso
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.SCHEDULES, key = "#scheduleId", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.SCHEDULES, key = "#scheduleId")
+    })
     public void deleteSchedule(String scheduleId) {
         log.info("Eliminando horario con ID: {}", scheduleId);
 
@@ -690,7 +870,7 @@ public class GeneralManagementService {
     }
 
     /**
-     * Crea un nuevo progreso académico de estudiante.
+     * Crea un nuevo progreso académico de estudiante y recalcula su semáforo.
      *
      * @param progress Progreso académico a crear
      * @return Progreso académico creado
@@ -698,7 +878,9 @@ public class GeneralManagementService {
     public StudentAcademicProgress createStudentAcademicProgress(StudentAcademicProgress progress) {
         log.info("Creando nuevo progreso académico para estudiante: {}",
                 progress.getStudent().getId());
-        return studentAcademicProgressRepository.save(progress);
+        StudentAcademicProgress saved = studentAcademicProgressRepository.save(progress);
+        trafficLightService.recomputeSnapshot(progress.getStudent().getId());
+        return saved;
     }
 
     /**
@@ -725,7 +907,7 @@ public class GeneralManagementService {
     }
 
     /**
-     * Actualiza un progreso académico existente.
+     * Actualiza un progreso académico existente y recalcula el semáforo del estudiante.
      *
      * @param id ID del progreso a actualizar
      * @param progress Nuevos datos del progreso
@@ -735,16 +917,22 @@ public class GeneralManagementService {
     public StudentAcademicProgress updateStudentAcademicProgress(String id, StudentAcademicProgress progress) {
         log.info("Actualizando progreso académico con ID: {}", id);
 
-        if (!studentAcademicProgressRepository.existsById(id)) {
-            throw new AppException("Progreso académico no encontrado con ID: " + id);
-        }
+        StudentAcademicProgress existing = studentAcademicProgressRepository.findById(id)
+                .orElseThrow(() -> new AppException("Progreso académico no encontrado con ID: " + id));
 
         progress.setId(id);
-        return studentAcademicProgressRepository.save(progress);
+        StudentAcademicProgress saved = studentAcademicProgressRepository.save(progress);
+
+        String studentId = progress.getStudent() != null ? progress.getStudent().getId() : null;
+        trafficLightService.recomputeSnapshot(studentId);
+        if (existing.getStudent() != null && !existing.getStudent().getId().equals(studentId)) {
+            trafficLightService.recomputeSnapshot(existing.getStudent().getId());
+        }
+        return saved;
     }
 
     /**
-     * Elimina un progreso académico.
+     * Elimina un progreso académico y recalcula el semáforo del estudiante.
      *
      * @param id ID del progreso a eliminar
      * @throws AppException si no se encuentra el progreso
@@ -752,11 +940,13 @@ public class GeneralManagementService {
     public void deleteStudentAcademicProgress(String id) {
         log.info("Eliminando progreso académico con ID: {}", id);
 
-        if (!studentAcademicProgressRepository.existsById(id)) {
-            throw new AppException("Progreso académico no encontrado con ID: " + id);
-        }
+        StudentAcademicProgress existing = studentAcademicProgressRepository.findById(id)
+                .orElseThrow(() -> new AppException("Progreso académico no encontrado con ID: " + id));
 
         studentAcademicProgressRepository.deleteById(id);
+        if (existing.getStudent() != null) {
+            trafficLightService.recomputeSnapshot(existing.getStudent().getId());
+        }
     }
 
     /**
@@ -830,15 +1020,21 @@ public class GeneralManagementService {
     public SystemStatistics getSystemStatistics() {
         log.debug("Generando estadísticas del sistema");
 
-        SystemStatistics stats = new SystemStatistics();
-        stats.setTotalClassrooms(classroomRepository.count());
-        stats.setTotalCourses(courseRepository.count());
-        stats.setTotalGroups(groupRepository.count());
-        stats.setTotalSchedules(scheduleRepository.count());
-        stats.setTotalAcademicPeriods(academicPeriodRepository.count());
+        List<Long> counts = parallelReadService.readAll(List.<Supplier<Long>>of(
+                classroomRepository::count,
+                courseRepository::count,
+                groupRepository::count,
+                scheduleRepository::count,
+                academicPeriodRepository::count,
+                () -> (long) academicPeriodRepository.findByIsActive(true).size()));
 
-        List<AcademicPeriod> activePeriods = academicPeriodRepository.findByIsActive(true);
-        stats.setActiveAcademicPeriods((long) activePeriods.size());
+        SystemStatistics stats = new SystemStatistics();
+        stats.setTotalClassrooms(counts.get(0));
+        stats.setTotalCourses(counts.get(1));
+        stats.setTotalGroups(counts.get(2));
+        stats.setTotalSchedules(counts.get(3));
+        stats.setTotalAcademicPeriods(counts.get(4));
+        stats.setActiveAcademicPeriods(counts.get(5));
 
         return stats;
     }
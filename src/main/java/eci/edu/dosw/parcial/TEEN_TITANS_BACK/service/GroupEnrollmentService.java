@@ -0,0 +1,391 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
+
+import com.mongodb.client.result.UpdateResult;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Classroom;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Group;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.GroupEnrollment;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.CourseStatusDetailRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.GroupEnrollmentRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.GroupRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.ScheduleChangeRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Servicio que mantiene los contadores de matrícula por grupo.
+ *
+ * Cada grupo tiene un documento {@link GroupEnrollment} que se actualiza con {@code $inc}
+ * cuando se registra o elimina un detalle de estado de curso del grupo y cuando se aprueba
+ * un cambio de grupo. La matrícula de un grupo es la cantidad de detalles de curso del grupo
+ * más los cambios aprobados hacia el grupo, menos los cambios aprobados desde el grupo.
+ * Los grupos que aún no tienen contador se inicializan con ese conteo la primera vez
+ * que se consultan o modifican. Los cambios se registran antes de guardar el documento
+ * que los origina, así que el conteo inicial todavía no los incluye y el incremento se
+ * aplica siempre después de inicializar el contador.
+ *
+ * Las aprobaciones reservan el cupo con {@link #reserveSeat(String, int)}, que compara e
+ * incrementa el contador en una sola operación {@code findAndModify}; así dos aprobaciones
+ * simultáneas hacia el mismo grupo no pueden superar el límite de cupos. El límite es siempre
+ * el de {@link #getSeatLimit(String)}, la capacidad del aula del grupo guardado.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupEnrollmentService {
+
+    private static final int MAX_RESERVE_ATTEMPTS = 5;
+
+    private final MongoTemplate mongoTemplate;
+    private final GroupEnrollmentRepository groupEnrollmentRepository;
+    private final CourseStatusDetailRepository courseStatusDetailRepository;
+    private final ScheduleChangeRequestRepository scheduleChangeRequestRepository;
+    private final GroupRepository groupRepository;
+
+    /**
+     * Obtiene la matrícula actual de un grupo.
+     *
+     * @param groupId ID del grupo
+     * @return Número de estudiantes inscritos
+     */
+    public int getEnrollment(String groupId) {
+        return groupEnrollmentRepository.findById(groupId)
+                .map(GroupEnrollment::getEnrolled)
+                .orElseGet(() -> seed(groupId));
+    }
+
+    /**
+     * Obtiene en una sola consulta la matrícula de varios grupos.
+     *
+     * @param groupIds IDs de los grupos
+     * @return Mapa de ID de grupo a número de estudiantes inscritos
+     */
+    public Map<String, Integer> getEnrollments(Collection<String> groupIds) {
+        Map<String, Integer> enrollments = new HashMap<>();
+        if (groupIds == null || groupIds.isEmpty()) {
+            return enrollments;
+        }
+
+        for (GroupEnrollment enrollment : groupEnrollmentRepository.findByGroupIdIn(groupIds)) {
+            enrollments.put(enrollment.getGroupId(), enrollment.getEnrolled());
+        }
+        for (String groupId : groupIds) {
+            if (groupId != null && !enrollments.containsKey(groupId)) {
+                enrollments.put(groupId, seed(groupId));
+            }
+        }
+        return enrollments;
+    }
+
+    /**
+     * Obtiene el límite de cupos de un grupo: la capacidad del aula asignada al grupo
+     * guardado, no la de la copia embebida en la solicitud.
+     *
+     * @param groupId ID del grupo
+     * @return Número máximo de estudiantes, o null si el grupo no tiene aula con capacidad
+     */
+    public Integer getSeatLimit(String groupId) {
+        if (groupId == null) {
+            return null;
+        }
+        return groupRepository.findById(groupId)
+                .map(Group::getClassroom)
+                .map(Classroom::getCapacity)
+                .orElse(null);
+    }
+
+    /**
+     * Registra un estudiante más en el grupo.
+     *
+     * @param groupId ID del grupo
+     */
+    public void increment(String groupId) {
+        applyDelta(groupId, 1);
+    }
+
+    /**
+     * Registra un estudiante menos en el grupo. El contador nunca baja de cero.
+     *
+     * @param groupId ID del grupo
+     */
+    public void decrement(String groupId) {
+        applyDelta(groupId, -1);
+    }
+
+    /**
+     * Reserva un cupo en el grupo si su matrícula está por debajo del límite indicado.
+     * La comparación y el incremento se hacen en una sola operación atómica.
+     *
+     * @param groupId ID del grupo
+     * @param seatLimit Número máximo de estudiantes que admite el grupo
+     * @return true si se reservó el cupo, false si el grupo ya alcanzó el límite
+     */
+    public boolean reserveSeat(String groupId, int seatLimit) {
+        if (tryReserveSeat(groupId, seatLimit)) {
+            return true;
+        }
+        if (groupEnrollmentRepository.existsById(groupId)) {
+            return false;
+        }
+        seed(groupId);
+        return tryReserveSeat(groupId, seatLimit);
+    }
+
+    /**
+     * Reserva hasta {@code seats} cupos en el grupo sin superar el límite indicado.
+     * Lee la matrícula actual y la incrementa solo si nadie la modificó entretanto;
+     * si otro proceso se adelanta, vuelve a intentarlo con el valor nuevo.
+     *
+     * @param groupId ID del grupo
+     * @param seats Número de cupos solicitados
+     * @param seatLimit Número máximo de estudiantes que admite el grupo
+     * @return Número de cupos reservados, entre 0 y {@code seats}
+     */
+    public int reserveSeats(String groupId, int seats, int seatLimit) {
+        if (seats <= 0) {
+            return 0;
+        }
+
+        for (int attempt = 0; attempt < MAX_RESERVE_ATTEMPTS; attempt++) {
+            int enrolled = getEnrollment(groupId);
+            int granted = Math.min(seats, seatLimit - enrolled);
+            if (granted <= 0) {
+                return 0;
+            }
+
+            UpdateResult result = mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(groupId).and("enrolled").is(enrolled)),
+                    new Update().inc("enrolled", granted).set("lastUpdated", new Date()),
+                    GroupEnrollment.class);
+            if (result.getMatchedCount() > 0) {
+                return granted;
+            }
+        }
+
+        log.warn("No se pudieron reservar cupos en el grupo {} tras {} intentos", groupId, MAX_RESERVE_ATTEMPTS);
+        return 0;
+    }
+
+    /**
+     * Reserva en bloque los cupos de varios cambios hacia un mismo grupo. El límite del grupo
+     * se verifica una sola vez y los cupos se asignan en el orden de la lista; los grupos
+     * actuales de los cambios aceptados se descuentan con un incremento por grupo.
+     *
+     * @param requestedGroupId ID del grupo solicitado por todas las solicitudes
+     * @param requests Solicitudes a aprobar, en orden de prioridad
+     * @return Solicitudes cuyo cambio quedó registrado
+     */
+    public List<ScheduleChangeRequest> reserveApprovedChanges(String requestedGroupId,
+                                                              List<ScheduleChangeRequest> requests) {
+        long transfers = requests.stream()
+                .filter(request -> !isSameGroup(request))
+                .count();
+        Integer seatLimit = transfers > 0 ? getSeatLimit(requestedGroupId) : null;
+        int granted;
+        if (requestedGroupId == null || transfers == 0) {
+            granted = (int) transfers;
+        } else if (seatLimit == null) {
+            applyDelta(requestedGroupId, (int) transfers);
+            granted = (int) transfers;
+        } else {
+            granted = reserveSeats(requestedGroupId, (int) transfers, seatLimit);
+        }
+
+        List<ScheduleChangeRequest> accepted = new ArrayList<>();
+        Map<String, Integer> releasedByGroup = new HashMap<>();
+        for (ScheduleChangeRequest request : requests) {
+            if (isSameGroup(request)) {
+                accepted.add(request);
+            } else if (granted > 0) {
+                granted--;
+                accepted.add(request);
+                String fromGroupId = getCurrentGroupId(request);
+                if (fromGroupId != null) {
+                    releasedByGroup.merge(fromGroupId, 1, Integer::sum);
+                }
+            }
+        }
+        releasedByGroup.forEach((groupId, count) -> applyDelta(groupId, -count));
+        return accepted;
+    }
+
+    /**
+     * Deshace las reservas de varios cambios de grupo cuya aprobación no se pudo guardar,
+     * con un incremento por grupo afectado.
+     *
+     * @param requests Solicitudes cuyas reservas se liberan
+     */
+    public void releaseApprovedChanges(Collection<ScheduleChangeRequest> requests) {
+        Map<String, Integer> deltas = new HashMap<>();
+        for (ScheduleChangeRequest request : requests) {
+            if (isSameGroup(request)) {
+                continue;
+            }
+            String fromGroupId = getCurrentGroupId(request);
+            String toGroupId = getRequestedGroupId(request);
+            if (toGroupId != null) {
+                deltas.merge(toGroupId, -1, Integer::sum);
+            }
+            if (fromGroupId != null) {
+                deltas.merge(fromGroupId, 1, Integer::sum);
+            }
+        }
+        deltas.forEach((groupId, delta) -> {
+            if (delta != 0) {
+                applyDelta(groupId, delta);
+            }
+        });
+    }
+
+    /**
+     * Reserva el cupo de un cambio de grupo que se va a aprobar: ocupa un cupo en el grupo
+     * solicitado y, solo si lo consigue, libera el del grupo actual.
+     *
+     * @param request Solicitud a aprobar
+     * @return true si el cambio quedó registrado, false si el grupo solicitado no tiene cupo
+     */
+    public boolean reserveApprovedChange(ScheduleChangeRequest request) {
+        String fromGroupId = getCurrentGroupId(request);
+        String toGroupId = getRequestedGroupId(request);
+        if (fromGroupId != null && fromGroupId.equals(toGroupId)) {
+            return true;
+        }
+        if (toGroupId != null) {
+            Integer seatLimit = getSeatLimit(toGroupId);
+            if (seatLimit == null) {
+                increment(toGroupId);
+            } else if (!reserveSeat(toGroupId, seatLimit)) {
+                return false;
+            }
+        }
+        decrement(fromGroupId);
+        return true;
+    }
+
+    /**
+     * Deshace la reserva de un cambio de grupo cuya aprobación no se pudo guardar.
+     *
+     * @param request Solicitud cuya reserva se libera
+     */
+    public void releaseApprovedChange(ScheduleChangeRequest request) {
+        String fromGroupId = getCurrentGroupId(request);
+        String toGroupId = getRequestedGroupId(request);
+        if (fromGroupId != null && fromGroupId.equals(toGroupId)) {
+            return;
+        }
+        decrement(toGroupId);
+        increment(fromGroupId);
+    }
+
+    /**
+     * Actualiza los contadores de los grupos involucrados en un cambio de grupo aprobado.
+     *
+     * @param request Solicitud aprobada
+     */
+    public void registerApprovedChange(ScheduleChangeRequest request) {
+        String fromGroupId = getCurrentGroupId(request);
+        String toGroupId = getRequestedGroupId(request);
+        if (fromGroupId != null && fromGroupId.equals(toGroupId)) {
+            return;
+        }
+        decrement(fromGroupId);
+        increment(toGroupId);
+    }
+
+    /**
+     * Recalcula desde cero el contador de un grupo a partir de los detalles de curso
+     * y los cambios de grupo aprobados.
+     *
+     * @param groupId ID del grupo
+     * @return Matrícula recalculada
+     */
+    public int recount(String groupId) {
+        int enrolled = countEnrollment(groupId);
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(groupId)),
+                new Update().set("enrolled", enrolled).set("lastUpdated", new Date()),
+                GroupEnrollment.class);
+        return enrolled;
+    }
+
+    /**
+     * Aplica un incremento atómico al contador. Si el grupo todavía no tiene contador se
+     * inicializa con el conteo actual, que aún no incluye el cambio, y luego se aplica el incremento.
+     */
+    private void applyDelta(String groupId, int delta) {
+        if (groupId == null) {
+            return;
+        }
+
+        Criteria criteria = Criteria.where("_id").is(groupId);
+        if (delta < 0) {
+            criteria = criteria.and("enrolled").gte(-delta);
+        }
+        Update update = new Update().inc("enrolled", delta).set("lastUpdated", new Date());
+        UpdateResult result = mongoTemplate.updateFirst(Query.query(criteria), update, GroupEnrollment.class);
+
+        if (result.getMatchedCount() == 0 && !groupEnrollmentRepository.existsById(groupId)) {
+            seed(groupId);
+            mongoTemplate.updateFirst(Query.query(criteria), update, GroupEnrollment.class);
+        }
+    }
+
+    private boolean tryReserveSeat(String groupId, int seatLimit) {
+        GroupEnrollment reserved = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(groupId).and("enrolled").lt(seatLimit)),
+                new Update().inc("enrolled", 1).set("lastUpdated", new Date()),
+                FindAndModifyOptions.options().returnNew(true),
+                GroupEnrollment.class);
+        return reserved != null;
+    }
+
+    /**
+     * Crea el contador de un grupo que aún no lo tiene. Si otro proceso lo crea
+     * primero, se conserva el valor existente.
+     */
+    private int seed(String groupId) {
+        int enrolled = countEnrollment(groupId);
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(groupId)),
+                new Update().setOnInsert("enrolled", enrolled).setOnInsert("lastUpdated", new Date()),
+                GroupEnrollment.class);
+        log.debug("Contador de matrícula inicializado para el grupo {}: {}", groupId, enrolled);
+        return enrolled;
+    }
+
+    private boolean isSameGroup(ScheduleChangeRequest request) {
+        String fromGroupId = getCurrentGroupId(request);
+        return fromGroupId != null && fromGroupId.equals(getRequestedGroupId(request));
+    }
+
+    private String getCurrentGroupId(ScheduleChangeRequest request) {
+        return request.getCurrentGroup() != null ? request.getCurrentGroup().getGroupId() : null;
+    }
+
+    private String getRequestedGroupId(ScheduleChangeRequest request) {
+        return request.getRequestedGroup() != null ? request.getRequestedGroup().getGroupId() : null;
+    }
+
+    private int countEnrollment(String groupId) {
+        long enrolled = courseStatusDetailRepository.countByGroup_GroupId(groupId)
+                + scheduleChangeRequestRepository.countByRequestedGroupIdAndStatus(groupId, RequestStatus.APPROVED)
+                - scheduleChangeRequestRepository.countByCurrentGroupIdAndStatus(groupId, RequestStatus.APPROVED);
+        return (int) Math.max(enrolled, 0);
+    }
+}
@@ -0,0 +1,187 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Classroom;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Course;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Group;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Professor;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Schedule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Servicio que mantiene las proyecciones embebidas de curso, profesor, horario y aula
+ * dentro de cada grupo.
+ *
+ * Los grupos guardan copias livianas de esas entidades en lugar de referencias, de modo
+ * que listar los grupos de un curso es una sola consulta. Antes de guardar un grupo sus
+ * referencias se reducen a proyecciones, y cuando una de esas entidades se actualiza la
+ * proyección se propaga a todos los grupos que la usan.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Service
+public class GroupProjectionService implements BeforeConvertCallback<Group> {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructor para inyección de dependencias.
+     * El MongoTemplate se inyecta de forma diferida porque este servicio también es
+     * un callback del propio MongoTemplate.
+     *
+     * @param mongoTemplate Plantilla de MongoDB
+     */
+    public GroupProjectionService(@Lazy MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Reduce las referencias del grupo a proyecciones antes de convertirlo a documento.
+     *
+     * @param group Grupo a guardar
+     * @param collection Colección destino
+     * @return Grupo con sus referencias proyectadas
+     */
+    @Override
+    public Group onBeforeConvert(Group group, String collection) {
+        return project(group);
+    }
+
+    /**
+     * Crea una copia del grupo con proyecciones livianas de sus referencias.
+     *
+     * @param group Grupo original
+     * @return Grupo proyectado
+     */
+    public Group project(Group group) {
+        return new Group(
+                group.getGroupId(),
+                group.getSection(),
+                projectCourse(group.getCourse()),
+                projectProfessor(group.getProfessor()),
+                projectSchedule(group.getSchedule()),
+                projectClassroom(group.getClassroom()));
+    }
+
+    /**
+     * Propaga la proyección de un curso actualizado a sus grupos.
+     *
+     * @param course Curso actualizado
+     * @return Número de grupos actualizados
+     */
+    public long propagateCourse(Course course) {
+        return propagate("course.courseCode", course.getCourseCode(), "course", projectCourse(course));
+    }
+
+    /**
+     * Propaga la proyección de un profesor actualizado a sus grupos.
+     *
+     * @param professor Profesor actualizado
+     * @return Número de grupos actualizados
+     */
+    public long propagateProfessor(Professor professor) {
+        return propagate("professor.id", professor.getId(), "professor", projectProfessor(professor));
+    }
+
+    /**
+     * Propaga la proyección de un horario actualizado a sus grupos.
+     *
+     * @param schedule Horario actualizado
+     * @return Número de grupos actualizados
+     */
+    public long propagateSchedule(Schedule schedule) {
+        return propagate("schedule.scheduleId", schedule.getScheduleId(), "schedule", projectSchedule(schedule));
+    }
+
+    /**
+     * Propaga la proyección de un aula actualizada a sus grupos.
+     *
+     * @param classroom Aula actualizada
+     * @return Número de grupos actualizados
+     */
+    public long propagateClassroom(Classroom classroom) {
+        return propagate("classroom.classroomId", classroom.getClassroomId(), "classroom", projectClassroom(classroom));
+    }
+
+    /**
+     * Vuelve a guardar todos los grupos para que los almacenados con referencias
+     * queden con proyecciones embebidas.
+     *
+     * @return Número de grupos reescritos
+     */
+    public int refreshAllGroups() {
+        List<Group> groups = mongoTemplate.findAll(Group.class);
+        groups.forEach(mongoTemplate::save);
+        log.info("Proyecciones embebidas regeneradas para {} grupo(s)", groups.size());
+        return groups.size();
+    }
+
+    private long propagate(String idPath, String id, String field, Object projection) {
+        if (id == null) {
+            return 0;
+        }
+
+        long modified = mongoTemplate.updateMulti(
+                Query.query(Criteria.where(idPath).is(id)),
+                Update.update(field, projection),
+                Group.class).getModifiedCount();
+        log.info("Proyección de {} {} propagada a {} grupo(s)", field, id, modified);
+        return modified;
+    }
+
+    private Course projectCourse(Course course) {
+        if (course == null) {
+            return null;
+        }
+        Course projection = new Course();
+        projection.setCourseCode(course.getCourseCode());
+        projection.setName(course.getName());
+        projection.setCredits(course.getCredits());
+        projection.setAcademicProgram(course.getAcademicProgram());
+        projection.setIsActive(course.getIsActive());
+        return projection;
+    }
+
+    private Professor projectProfessor(Professor professor) {
+        if (professor == null) {
+            return null;
+        }
+        Professor projection = new Professor();
+        projection.setId(professor.getId());
+        projection.setName(professor.getName());
+        projection.setEmail(professor.getEmail());
+        projection.setRole(professor.getRole());
+        projection.setActive(professor.isActive());
+        projection.setDepartment(professor.getDepartment());
+        projection.setCreatedAt(null);
+        projection.setUpdatedAt(null);
+        return projection;
+    }
+
+    private Schedule projectSchedule(Schedule schedule) {
+        if (schedule == null) {
+            return null;
+        }
+        return new Schedule(schedule.getScheduleId(), schedule.getDayOfWeek(),
+                schedule.getStartHour(), schedule.getEndHour(), schedule.getPeriod());
+    }
+
+    private Classroom projectClassroom(Classroom classroom) {
+        if (classroom == null) {
+            return null;
+        }
+        return new Classroom(classroom.getClassroomId(), classroom.getBuilding(),
+                classroom.getRoomNumber(), classroom.getCapacity(), classroom.getRoomType());
+    }
+}
@@ -34,6 +34,7 @@ public class GroupService {
     private final GroupRepository groupRepository;
     private final CourseStatusDetailRepository courseStatusDetailRepository;
     private final ScheduleChangeRequestRepository scheduleChangeRequestRepository;
+    private final GroupEnrollmentService groupEnrollmentService;
 
     /**
      * Obtiene el curso asociado a un grupo específico.
@@ -75,14 +76,15 @@ public class GroupService {
     }
 
     /**
-     * Calcula el número actual de estudiantes matriculados en el grupo.
+     * Obtiene el número actual de estudiantes matriculados en el grupo
+     * a partir de su contador de matrícula.
      *
      * @param groupId identificador único del grupo.
      * @return el número actual de estudiantes inscritos en el grupo.
      */
     public Integer getCurrentEnrollment(String groupId) {
-        log.debug("Calculando matrícula actual para el grupo: {}", groupId);
-        int enrollmentCount = courseStatusDetailRepository.findByGroup_GroupId(groupId).size();
+        log.debug("Obteniendo matrícula actual para el grupo: {}", groupId);
+        int enrollmentCount = groupEnrollmentService.getEnrollment(groupId);
         log.info("Matrícula actual del grupo {}: {} estudiantes", groupId, enrollmentCount);
         return enrollmentCount;
     }
@@ -129,12 +131,10 @@ public class GroupService {
         // Obtener todos los grupos del curso
         var groups = groupRepository.findByCourse_CourseCode(courseCode);
 
-        // Crear mapa con el conteo de estudiantes por grupo
-        Map<String, Integer> enrollmentMap = groups.stream()
-                .collect(Collectors.toMap(
-                        group -> group.getGroupId(), // CORREGIDO: usar getGroupId() en lugar de getId()
-                        group -> courseStatusDetailRepository.findByGroup_GroupId(group.getGroupId()).size()
-                ));
+        // Leer los contadores de todos los grupos en una sola consulta
+        Map<String, Integer> enrollmentMap = groupEnrollmentService.getEnrollments(groups.stream()
+                .map(group -> group.getGroupId())
+                .collect(Collectors.toList()));
 
         log.info("Total de inscritos por grupo para el curso {}: {} grupos", courseCode, enrollmentMap.size());
         return enrollmentMap;
@@ -9,6 +9,7 @@ import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Professor;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Administrator;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Dean;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.UserRepository;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentRepository;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.ProfessorRepository;
@@ -19,6 +20,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Servicio para manejar el proceso de autenticación de usuarios
@@ -45,6 +47,12 @@ public class LoginService {
     @Autowired
     private DeanRepository deanRepository;
 
+    @Autowired
+    private UserIdentityService userIdentityService;
+
+    @Autowired
+    private ParallelReadService parallelReadService;
+
     /**
      * Autentica un usuario basado en email, password y rol
      *
@@ -73,22 +81,16 @@ public class LoginService {
         // Convertir el rol a UserRole de manera flexible
         UserRole requestedRole = parseUserRole(roleObj);
 
-        // Buscar usuario en TODAS las colecciones sin importar el rol
-        User user = findUserByEmailInAnyCollection(email);
+        // Buscar la cuenta a través del índice unificado sin importar el rol
+        User user = findAccountByEmail(email);
 
         // Si no encontramos usuario
         if (user == null) {
             throw new AppException("No se encontró usuario con el email: " + email);
         }
 
-        // DEBUG: Información del usuario encontrado
-        System.out.println("DEBUG - Usuario encontrado:");
-        System.out.println("  Email: " + user.getEmail());
-        System.out.println("  Rol: " + user.getRole());
-        System.out.println("  Tipo de usuario: " + user.getClass().getSimpleName());
-
         // Validar contraseña
-        if (!user.getPassword().equals(password)) {
+        if (user.getPassword() == null || !user.getPassword().equals(password)) {
             throw new AppException("Contraseña incorrecta");
         }
 
@@ -108,42 +110,88 @@ public class LoginService {
     }
 
     /**
-     * Busca usuario en TODAS las colecciones
+     * Busca la cuenta del email: el índice unificado indica su colección y su ID, y la
+     * cuenta se lee por clave primaria en esa colección. Las cuentas que aún no están
+     * indexadas, o cuya entrada quedó desactualizada, se buscan en todas las colecciones
+     * y se indexan para que el siguiente inicio de sesión no las recorra.
+     */
+    private User findAccountByEmail(String email) {
+        Optional<? extends User> account = userIdentityService.findByEmail(email).flatMap(this::findAccount);
+        if (account.isPresent()) {
+            return account.get();
+        }
+
+        return findUserByEmailInAnyCollection(email);
+    }
+
+    /**
+     * Lee por ID la cuenta a la que apunta una identidad, en la colección que le corresponde
+     */
+    private Optional<? extends User> findAccount(UserIdentity identity) {
+        String userId = identity.getUserId();
+        if (identity.getUserCollection() == null || userId == null) {
+            return Optional.empty();
+        }
+
+        switch (identity.getUserCollection()) {
+            case UserIdentity.STUDENTS:
+                return studentRepository.findById(userId);
+            case UserIdentity.PROFESSORS:
+                return professorRepository.findById(userId);
+            case UserIdentity.ADMINISTRATORS:
+                return administratorRepository.findById(userId);
+            case UserIdentity.DEANS:
+                return deanRepository.findById(userId);
+            default:
+                return userRepository.findById(userId);
+        }
+    }
+
+    /**
+     * Busca usuario en TODAS las colecciones y lo registra en el índice unificado
      */
     private User findUserByEmailInAnyCollection(String email) {
         // Buscar en estudiantes
         List<Student> students = studentRepository.findByEmail(email);
         if (!students.isEmpty()) {
-            return students.get(0);
+            return indexed(students.get(0), UserIdentity.STUDENTS);
         }
 
         // Buscar en profesores
         List<Professor> professors = professorRepository.findByEmail(email);
         if (!professors.isEmpty()) {
-            return professors.get(0);
+            return indexed(professors.get(0), UserIdentity.PROFESSORS);
         }
 
         // Buscar en administradores
         List<Administrator> administrators = administratorRepository.findByEmail(email);
         if (!administrators.isEmpty()) {
-            return administrators.get(0);
+            return indexed(administrators.get(0), UserIdentity.ADMINISTRATORS);
         }
 
         // Buscar en decanos
         List<Dean> deans = deanRepository.findByEmail(email);
         if (!deans.isEmpty()) {
-            return deans.get(0);
+            return indexed(deans.get(0), UserIdentity.DEANS);
         }
 
         // Buscar en usuarios generales
         List<User> users = userRepository.findByEmail(email);
         if (!users.isEmpty()) {
-            return users.get(0);
+            return indexed(users.get(0), UserIdentity.USERS);
         }
 
         return null;
     }
 
+    /**
+     * Registra la cuenta encontrada en el índice unificado y la retorna
+     */
+    private User indexed(User user, String userCollection) {
+        userIdentityService.index(user, userCollection);
+        return user;
+    }
+
     /**
      * Convierte flexiblemente cualquier objeto a UserRole
      */
@@ -210,27 +258,41 @@ public class LoginService {
      */
     public boolean emailExistsForRole(String email, Object roleObj) {
         try {
-            User user = findUserByEmailInAnyCollection(email);
-            if (user == null) {
-                return false;
+            Optional<UserIdentity> identity = userIdentityService.findByEmail(email);
+            UserRole userRole;
+            if (identity.isPresent()) {
+                userRole = identity.get().getRole();
+            } else {
+                User user = findUserByEmailInAnyCollection(email);
+                if (user == null) {
+                    return false;
+                }
+                userRole = user.getRole();
             }
 
             UserRole requestedRole = parseUserRole(roleObj);
-            return rolesMatch(user.getRole(), requestedRole);
+            return rolesMatch(userRole, requestedRole);
         } catch (AppException e) {
             return false;
         }
     }
 
     /**
-     * Verifica si un email existe en cualquier rol del sistema
+     * Verifica si un email existe en cualquier rol del sistema.
+     * Primero consulta el índice unificado; si no está ahí, revisa en paralelo las
+     * colecciones de cada rol.
      */
     public boolean emailExists(String email) {
-        return userRepository.existsByEmail(email) ||
-                studentRepository.existsByEmail(email) ||
-                professorRepository.existsByEmail(email) ||
-                administratorRepository.existsByEmail(email) ||
-                deanRepository.existsByEmail(email);
+        if (userIdentityService.existsByEmail(email)) {
+            return true;
+        }
+
+        return parallelReadService.readAll(List.<Supplier<Boolean>>of(
+                () -> userRepository.existsByEmail(email),
+                () -> studentRepository.existsByEmail(email),
+                () -> professorRepository.existsByEmail(email),
+                () -> administratorRepository.existsByEmail(email),
+                () -> deanRepository.existsByEmail(email))).contains(true);
     }
 
     /**
@@ -245,7 +307,7 @@ public class LoginService {
      */
     public String debugUserInfo(String email, Object roleObj) {
         try {
-            User user = findUserByEmailInAnyCollection(email);
+            User user = findAccountByEmail(email);
             if (user == null) {
                 return "No se encontró usuario con email: " + email;
             }
@@ -261,12 +323,11 @@ public class LoginService {
             }
 
             return String.format(
-                    "Usuario encontrado - Tipo: %s, Email: %s, Rol: %s, Activo: %s, Contraseña: %s | %s",
+                    "Usuario encontrado - Tipo: %s, Email: %s, Rol: %s, Activo: %s | %s",
                     user.getClass().getSimpleName(),
                     user.getEmail(),
                     user.getRole(),
                     user.isActive(),
-                    user.getPassword(),
                     roleInfo
             );
         } catch (Exception e) {
@@ -0,0 +1,366 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
+
+import com.mongodb.DBRef;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.MigrationStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.MigrationJob;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.User;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.MigrationJobRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentAcademicProgressRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Servicio que ejecuta migraciones de datos en segundo plano, sin ocupar el hilo de la
+ * petición HTTP que las lanza.
+ *
+ * Una migración es un filtro y una actualización sobre una colección. Los documentos que
+ * cumplen el filtro se recorren en bloques de {@code app.migrations.chunk-size} en orden
+ * de ID y cada bloque se actualiza con un solo {@code updateMulti}, o con la acción por
+ * bloque de la migración cuando el valor depende de cada documento; tras cada bloque se
+ * guarda el avance en un {@link MigrationJob}. Si la migración se interrumpe (por un error
+ * o un reinicio), volver a lanzarla continúa desde el último ID procesado. Las
+ * migraciones se ejecutan de a una, y lanzar una que ya está en curso devuelve su avance.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Service
+public class MigrationJobService {
+
+    private static final String ROLE_BACKFILL_PREFIX = "role-backfill-";
+    static final String FACULTY_BACKFILL_JOB_ID = "faculty-backfill-schedule_change_requests";
+
+    private final MongoTemplate mongoTemplate;
+    private final MigrationJobRepository migrationJobRepository;
+    private final StudentAcademicProgressRepository studentAcademicProgressRepository;
+    private final Executor executor;
+    private final int chunkSize;
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor para inyección de dependencias; crea el hilo de las migraciones.
+     *
+     * @param mongoTemplate Plantilla de MongoDB
+     * @param migrationJobRepository Repositorio del avance de las migraciones
+     * @param studentAcademicProgressRepository Repositorio del progreso académico
+     * @param chunkSize Número de documentos actualizados por bloque
+     */
+    @Autowired
+    public MigrationJobService(MongoTemplate mongoTemplate, MigrationJobRepository migrationJobRepository,
+                               StudentAcademicProgressRepository studentAcademicProgressRepository,
+                               @Value("${app.migrations.chunk-size:1000}") int chunkSize) {
+        this(mongoTemplate, migrationJobRepository, studentAcademicProgressRepository,
+                singleThreadExecutor(), chunkSize);
+    }
+
+    /**
+     * Constructor con un ejecutor propio, por ejemplo uno que corra en el mismo hilo.
+     *
+     * @param mongoTemplate Plantilla de MongoDB
+     * @param migrationJobRepository Repositorio del avance de las migraciones
+     * @param studentAcademicProgressRepository Repositorio del progreso académico
+     * @param executor Ejecutor de las migraciones
+     * @param chunkSize Número de documentos actualizados por bloque
+     */
+    public MigrationJobService(MongoTemplate mongoTemplate, MigrationJobRepository migrationJobRepository,
+                               StudentAcademicProgressRepository studentAcademicProgressRepository,
+                               Executor executor, int chunkSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.migrationJobRepository = migrationJobRepository;
+        this.studentAcademicProgressRepository = studentAcademicProgressRepository;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Detiene el hilo de las migraciones al cerrar la aplicación. Las migraciones en curso
+     * quedan en estado RUNNING y continúan al lanzarlas de nuevo.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Lanza la migración que asigna el rol indicado a los usuarios de una colección que no tienen
+     * rol, y a sus entradas del índice de identidades, que es donde lo lee el inicio de sesión.
+     *
+     * @param type Clase de los usuarios de la colección (por ejemplo, Dean)
+     * @param role Rol a asignar
+     * @return Avance de la migración al momento de lanzarla
+     */
+    public MigrationJob startRoleBackfill(Class<? extends User> type, UserRole role) {
+        Criteria pending = Criteria.where("role").is(null);
+        return start(roleBackfillJobId(type), type, pending, ids -> assignRole(type, ids, pending, role));
+    }
+
+    /**
+     * Obtiene el avance de la migración de roles de una colección.
+     *
+     * @param type Clase de los usuarios de la colección
+     * @return Avance de la migración, o vacío si nunca se ha lanzado
+     */
+    public Optional<MigrationJob> getRoleBackfill(Class<? extends User> type) {
+        return migrationJobRepository.findById(roleBackfillJobId(type));
+    }
+
+    /**
+     * Lanza la migración que copia en las solicitudes de cambio de horario sin facultad la
+     * facultad registrada en el progreso académico de su estudiante. Las solicitudes de
+     * estudiantes sin progreso académico se dejan sin facultad.
+     *
+     * @return Avance de la migración al momento de lanzarla
+     */
+    public MigrationJob startFacultyBackfill() {
+        Criteria pending = Criteria.where("faculty").is(null);
+        return start(FACULTY_BACKFILL_JOB_ID, ScheduleChangeRequest.class, pending,
+                ids -> stampFaculty(ids, pending));
+    }
+
+    /**
+     * Obtiene el avance de la migración de facultades de las solicitudes.
+     *
+     * @return Avance de la migración, o vacío si nunca se ha lanzado
+     */
+    public Optional<MigrationJob> getFacultyBackfill() {
+        return migrationJobRepository.findById(FACULTY_BACKFILL_JOB_ID);
+    }
+
+    /**
+     * Indica si la migración de facultades terminó, es decir, si todas las solicitudes que
+     * podían recibir facultad ya la tienen registrada.
+     *
+     * @return {@code true} si la migración de facultades terminó con éxito
+     */
+    public boolean isFacultyBackfillCompleted() {
+        return getFacultyBackfill()
+                .map(job -> job.getStatus() == MigrationStatus.COMPLETED)
+                .orElse(false);
+    }
+
+    /**
+     * Lanza una migración que aplica la misma actualización a todos los documentos pendientes.
+     *
+     * @param jobId Nombre de la migración
+     * @param type Clase de los documentos a migrar
+     * @param filter Filtro de los documentos pendientes
+     * @param update Actualización a aplicar
+     * @return Avance de la migración al momento de lanzarla
+     */
+    public MigrationJob start(String jobId, Class<?> type, Criteria filter, Update update) {
+        return start(jobId, type, filter, ids -> mongoTemplate.updateMulti(
+                new Query(filter).addCriteria(Criteria.where("_id").in(ids)), update, type).getModifiedCount());
+    }
+
+    /**
+     * Lanza una migración en segundo plano. Si ya está en curso devuelve su avance; si quedó
+     * interrumpida continúa desde el último ID procesado; en otro caso empieza de nuevo.
+     *
+     * @param jobId Nombre de la migración
+     * @param type Clase de los documentos a migrar
+     * @param filter Filtro de los documentos pendientes
+     * @param chunkAction Acción que migra un bloque de IDs y retorna cuántos documentos modificó
+     * @return Avance de la migración al momento de lanzarla
+     */
+    public synchronized MigrationJob start(String jobId, Class<?> type, Criteria filter, ChunkAction chunkAction) {
+        Optional<MigrationJob> existing = migrationJobRepository.findById(jobId);
+        if (runningJobs.contains(jobId) && existing.isPresent()) {
+            return existing.get();
+        }
+
+        MigrationJob job = existing
+                .filter(previous -> previous.getStatus() != MigrationStatus.COMPLETED)
+                .map(this::resume)
+                .orElseGet(() -> newJob(jobId, type, filter));
+        MigrationJob saved = migrationJobRepository.save(job);
+
+        runningJobs.add(jobId);
+        try {
+            executor.execute(() -> run(saved, filter, chunkAction));
+        } catch (RuntimeException e) {
+            runningJobs.remove(jobId);
+            throw e;
+        }
+        return saved;
+    }
+
+    private MigrationJob newJob(String jobId, Class<?> type, Criteria filter) {
+        Date now = new Date();
+        return new MigrationJob(jobId, mongoTemplate.getCollectionName(type), MigrationStatus.RUNNING,
+                mongoTemplate.count(new Query(filter), type), 0, null, null, now, now, null);
+    }
+
+    private MigrationJob resume(MigrationJob job) {
+        job.setStatus(MigrationStatus.RUNNING);
+        job.setError(null);
+        job.setFinishedAt(null);
+        job.setUpdatedAt(new Date());
+        return job;
+    }
+
+    /**
+     * Recorre los documentos pendientes por bloques y guarda el avance después de cada uno.
+     */
+    private void run(MigrationJob job, Criteria filter, ChunkAction chunkAction) {
+        try {
+            List<Object> ids = nextChunk(job, filter);
+            while (!ids.isEmpty()) {
+                long modified = chunkAction.apply(ids);
+
+                job.setProcessed(job.getProcessed() + modified);
+                job.setLastProcessedId(ids.get(ids.size() - 1).toString());
+                job.setUpdatedAt(new Date());
+                migrationJobRepository.save(job);
+
+                ids = ids.size() < chunkSize ? List.of() : nextChunk(job, filter);
+            }
+
+            job.setStatus(MigrationStatus.COMPLETED);
+            job.setFinishedAt(new Date());
+            migrationJobRepository.save(job);
+            log.info("Migración {} completada: {} documentos actualizados", job.getJobId(), job.getProcessed());
+        } catch (RuntimeException e) {
+            log.error("Migración {} interrumpida después de {}", job.getJobId(), job.getLastProcessedId(), e);
+            job.setStatus(MigrationStatus.FAILED);
+            job.setError(e.getMessage());
+            job.setUpdatedAt(new Date());
+            migrationJobRepository.save(job);
+        } finally {
+            runningJobs.remove(job.getJobId());
+        }
+    }
+
+    /**
+     * Lee solo los IDs del siguiente bloque de documentos pendientes, después del último procesado.
+     */
+    private List<Object> nextChunk(MigrationJob job, Criteria filter) {
+        Query query = new Query(filter).with(Sort.by(Sort.Direction.ASC, "_id")).limit(chunkSize);
+        if (job.getLastProcessedId() != null) {
+            query.addCriteria(Criteria.where("_id").gt(toStoredId(job.getLastProcessedId())));
+        }
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Document.class, job.getCollection()).stream()
+                .map(document -> document.get("_id"))
+                .toList();
+    }
+
+    /**
+     * Asigna el rol a un bloque de usuarios. Las identidades se actualizan primero: si la
+     * migración se interrumpe entre las dos escrituras, los usuarios siguen sin rol y el
+     * bloque se vuelve a procesar al reanudarla.
+     */
+    private long assignRole(Class<? extends User> type, List<Object> ids, Criteria pending, UserRole role) {
+        List<String> userIds = ids.stream().map(Object::toString).toList();
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("userCollection").is(mongoTemplate.getCollectionName(type))
+                        .and("userId").in(userIds)),
+                Update.update("role", role), UserIdentity.class);
+        return mongoTemplate.updateMulti(new Query(pending).addCriteria(Criteria.where("_id").in(ids)),
+                Update.update("role", role), type).getModifiedCount();
+    }
+
+    /**
+     * Copia en un bloque de solicitudes la facultad del progreso académico de su estudiante:
+     * lee solo la referencia al estudiante de cada solicitud, obtiene el progreso de todos los
+     * estudiantes del bloque en una consulta y envía un {@code updateMulti} por facultad en un
+     * único lote.
+     */
+    private long stampFaculty(List<Object> ids, Criteria pending) {
+        Query chunk = new Query(pending).addCriteria(Criteria.where("_id").in(ids));
+        chunk.fields().include("student");
+        Map<String, List<Object>> requestIdsByStudent = new HashMap<>();
+        String collection = mongoTemplate.getCollectionName(ScheduleChangeRequest.class);
+        for (Document request : mongoTemplate.find(chunk, Document.class, collection)) {
+            if (request.get("student") instanceof DBRef student && student.getId() != null) {
+                requestIdsByStudent.computeIfAbsent(student.getId().toString(), key -> new ArrayList<>())
+                        .add(request.get("_id"));
+            }
+        }
+        if (requestIdsByStudent.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<Object>> requestIdsByFaculty = new HashMap<>();
+        studentAcademicProgressRepository.findProgressByStudentIds(requestIdsByStudent.keySet())
+                .forEach((studentId, progress) -> {
+                    String faculty = progress.getFaculty();
+                    if (faculty != null) {
+                        requestIdsByFaculty.computeIfAbsent(faculty, key -> new ArrayList<>())
+                                .addAll(requestIdsByStudent.get(studentId));
+                    }
+                });
+        if (requestIdsByFaculty.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ScheduleChangeRequest.class);
+        requestIdsByFaculty.forEach((faculty, requestIds) -> bulk.updateMulti(
+                new Query(pending).addCriteria(Criteria.where("_id").in(requestIds)),
+                Update.update("faculty", faculty)));
+        return bulk.execute().getModifiedCount();
+    }
+
+    /**
+     * Replica la conversión de IDs que hace Spring Data: los IDs con formato de
+     * ObjectId se guardan como ObjectId y el resto como texto.
+     */
+    private Object toStoredId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    private String roleBackfillJobId(Class<?> type) {
+        return ROLE_BACKFILL_PREFIX + mongoTemplate.getCollectionName(type);
+    }
+
+    private static Executor singleThreadExecutor() {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(1);
+        pool.setMaxPoolSize(1);
+        pool.setThreadNamePrefix("migration-");
+        pool.setDaemon(true);
+        pool.initialize();
+        return pool;
+    }
+
+    /**
+     * Migración de un bloque de documentos.
+     */
+    @FunctionalInterface
+    public interface ChunkAction {
+
+        /**
+         * @param ids IDs de los documentos pendientes del bloque, en orden
+         * @return Número de documentos modificados
+         */
+        long apply(List<Object> ids);
+    }
+}
@@ -0,0 +1,165 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Servicio para ejecutar en paralelo lecturas independientes, de modo que la latencia de
+ * un método sea la de su consulta más lenta y no la suma de todas.
+ *
+ * Las lecturas corren en un pool de tamaño fijo ({@code app.parallel-reads.max-concurrency}),
+ * que es el límite de lecturas simultáneas de toda la aplicación: las que lo superan esperan
+ * en cola en lugar de abrir más conexiones. Cada lectura corre con los atributos de la
+ * petición HTTP en curso, para que siga contando en las métricas por endpoint. Una
+ * lectura lanzada desde otra lectura en paralelo se ejecuta en el mismo hilo, evitando que
+ * el pool se bloquee esperándose a sí mismo. Si el llamador abandona el método por un error,
+ * primero espera las lecturas que lanzó ({@link #awaitAll(CompletableFuture[])}), para que
+ * ninguna siga corriendo con los atributos de una petición que ya terminó.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+public class ParallelReadService {
+
+    private static final ThreadLocal<Boolean> IN_PARALLEL_READ = ThreadLocal.withInitial(() -> false);
+
+    private final Executor executor;
+
+    /**
+     * Constructor para inyección de dependencias; crea el pool acotado de lecturas.
+     *
+     * @param maxConcurrency Número máximo de lecturas simultáneas
+     */
+    @Autowired
+    public ParallelReadService(@Value("${app.parallel-reads.max-concurrency:16}") int maxConcurrency) {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(maxConcurrency);
+        pool.setMaxPoolSize(maxConcurrency);
+        pool.setThreadNamePrefix("parallel-read-");
+        pool.setDaemon(true);
+        pool.initialize();
+        this.executor = pool;
+    }
+
+    /**
+     * Constructor con un ejecutor propio, por ejemplo uno que corra en el mismo hilo.
+     *
+     * @param executor Ejecutor de las lecturas
+     */
+    public ParallelReadService(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Detiene el pool de lecturas al cerrar la aplicación.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Lanza una lectura en paralelo.
+     *
+     * @param read Lectura a ejecutar
+     * @return Resultado futuro de la lectura; se obtiene con {@link #join(CompletableFuture)}
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> read) {
+        if (IN_PARALLEL_READ.get()) {
+            try {
+                return CompletableFuture.completedFuture(read.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return CompletableFuture.supplyAsync(() -> runAsParallelRead(read, requestAttributes), executor);
+    }
+
+    /**
+     * Espera el resultado de una lectura lanzada con {@link #submit(Supplier)}.
+     *
+     * @param future Resultado futuro de la lectura
+     * @return Resultado de la lectura
+     * @throws RuntimeException la misma excepción que lanzó la lectura (por ejemplo, AppException)
+     */
+    public <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Ejecuta varias lecturas en paralelo y espera todas.
+     * Si alguna falla se lanza la excepción de la primera, en el orden recibido.
+     *
+     * @param reads Lecturas a ejecutar
+     * @return Resultados en el mismo orden de las lecturas
+     */
+    public <T> List<T> readAll(List<? extends Supplier<? extends T>> reads) {
+        List<CompletableFuture<? extends T>> futures = new ArrayList<>(reads.size());
+        for (Supplier<? extends T> read : reads) {
+            futures.add(submit(read));
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<? extends T> future : futures) {
+                results.add(join(future));
+            }
+        } catch (RuntimeException e) {
+            awaitAll(futures.toArray(CompletableFuture<?>[]::new));
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * Espera a que terminen las lecturas indicadas, hayan fallado o no, sin lanzar sus
+     * excepciones.
+     *
+     * @param futures Lecturas lanzadas con {@link #submit(Supplier)}
+     */
+    public void awaitAll(CompletableFuture<?>... futures) {
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException | CancellationException e) {
+            // El llamador ya propaga su propio error; el de estas lecturas se descarta.
+        }
+    }
+
+    private <T> T runAsParallelRead(Supplier<T> read, RequestAttributes requestAttributes) {
+        RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+        IN_PARALLEL_READ.set(true);
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            return read.get();
+        } finally {
+            RequestContextHolder.setRequestAttributes(previousAttributes);
+            IN_PARALLEL_READ.remove();
+        }
+    }
+}
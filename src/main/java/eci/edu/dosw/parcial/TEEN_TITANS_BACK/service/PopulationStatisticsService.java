@@ -0,0 +1,204 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.config.CacheConfig;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Dean;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Professor;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.User;
+import lombok.Getter;
+import org.bson.Document;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.FacetOperation;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Servicio que calcula las estadísticas de población de estudiantes, decanos, profesores
+ * y usuarios.
+ *
+ * Cada estadística es un único pipeline {@code $facet} que cuenta los documentos por
+ * estado y por cada campo de agrupación, y calcula los promedios solicitados, de modo
+ * que solo viajan los totales y no la colección completa. Los resultados se cachean
+ * por un tiempo corto ({@code app.statistics.cache-ttl-seconds}), porque las páginas de
+ * estadísticas se refrescan a menudo y toleran unos segundos de desfase.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+public class PopulationStatisticsService {
+
+    private static final String BY_ACTIVE = "byActive";
+    private static final String AVERAGES = "averages";
+
+    private final MongoTemplate mongoTemplate;
+
+    public PopulationStatisticsService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Obtiene las estadísticas de los estudiantes por programa y semestre, con su promedio general.
+     *
+     * @return Estadísticas de los estudiantes
+     */
+    @Cacheable(cacheNames = CacheConfig.POPULATION_STATISTICS, key = "#root.methodName")
+    public PopulationStatistics getStudentStatistics() {
+        return aggregate(Student.class, List.of("academicProgram", "semester"), List.of("gradeAverage"));
+    }
+
+    /**
+     * Obtiene las estadísticas de los decanos por facultad y ubicación de oficina.
+     *
+     * @return Estadísticas de los decanos
+     */
+    @Cacheable(cacheNames = CacheConfig.POPULATION_STATISTICS, key = "#root.methodName")
+    public PopulationStatistics getDeanStatistics() {
+        return aggregate(Dean.class, List.of("faculty", "officeLocation"), List.of());
+    }
+
+    /**
+     * Obtiene las estadísticas de los profesores por titularidad.
+     *
+     * @return Estadísticas de los profesores
+     */
+    @Cacheable(cacheNames = CacheConfig.POPULATION_STATISTICS, key = "#root.methodName")
+    public PopulationStatistics getProfessorStatistics() {
+        return aggregate(Professor.class, List.of("isTenured"), List.of());
+    }
+
+    /**
+     * Obtiene las estadísticas de los usuarios por rol.
+     *
+     * @return Estadísticas de los usuarios
+     */
+    @Cacheable(cacheNames = CacheConfig.POPULATION_STATISTICS, key = "#root.methodName")
+    public PopulationStatistics getUserStatistics() {
+        return aggregate(User.class, List.of("role"), List.of());
+    }
+
+    /**
+     * Ejecuta el pipeline {@code $facet} con un {@code $group} por estado, uno por cada campo
+     * de agrupación y uno para los promedios. Los documentos sin el campo {@code active} se
+     * cuentan como activos, que es el valor con el que se crean los usuarios.
+     */
+    private PopulationStatistics aggregate(Class<?> type, List<String> groupFields, List<String> averageFields) {
+        FacetOperation facet = Aggregation.facet(
+                Aggregation.project().and(ConditionalOperators.ifNull("active").then(true)).as("active"),
+                Aggregation.group("active").count().as("count")).as(BY_ACTIVE);
+        for (String field : groupFields) {
+            facet = facet.and(Aggregation.group(field).count().as("count")).as(field);
+        }
+        if (!averageFields.isEmpty()) {
+            GroupOperation averages = Aggregation.group();
+            for (String field : averageFields) {
+                averages = averages.avg(field).as(field);
+            }
+            facet = facet.and(averages).as(AVERAGES);
+        }
+
+        String collection = mongoTemplate.getCollectionName(type);
+        Document result = mongoTemplate.aggregate(Aggregation.newAggregation(facet), collection, Document.class)
+                .getUniqueMappedResult();
+        if (result == null) {
+            result = new Document();
+        }
+
+        long total = 0;
+        long active = 0;
+        for (Document document : result.getList(BY_ACTIVE, Document.class, List.of())) {
+            Number count = document.get("count", Number.class);
+            long value = count != null ? count.longValue() : 0;
+            total += value;
+            if (Boolean.TRUE.equals(document.get("_id"))) {
+                active += value;
+            }
+        }
+
+        Map<String, Map<Object, Long>> breakdowns = new LinkedHashMap<>();
+        for (String field : groupFields) {
+            breakdowns.put(field, countsOf(result, field));
+        }
+
+        Map<String, Double> averages = new LinkedHashMap<>();
+        List<Document> averageDocuments = result.getList(AVERAGES, Document.class, List.of());
+        for (String field : averageFields) {
+            Number average = averageDocuments.isEmpty() ? null : averageDocuments.get(0).get(field, Number.class);
+            averages.put(field, average != null ? average.doubleValue() : 0.0);
+        }
+
+        return new PopulationStatistics(total, active, breakdowns, averages);
+    }
+
+    /**
+     * Convierte la salida de un {@code $group} en un mapa de valor a cantidad, omitiendo
+     * los documentos sin valor en el campo agrupado.
+     */
+    private Map<Object, Long> countsOf(Document result, String facetName) {
+        Map<Object, Long> counts = new LinkedHashMap<>();
+        for (Document document : result.getList(facetName, Document.class, List.of())) {
+            Object key = document.get("_id");
+            Number count = document.get("count", Number.class);
+            if (key != null && count != null) {
+                counts.merge(key, count.longValue(), Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Totales de una población: cantidad de documentos, activos, conteos por cada campo
+     * de agrupación y promedios.
+     */
+    @Getter
+    public static class PopulationStatistics {
+        private final long total;
+        private final long active;
+        private final Map<String, Map<Object, Long>> breakdowns;
+        private final Map<String, Double> averages;
+
+        public PopulationStatistics(long total, long active, Map<String, Map<Object, Long>> breakdowns,
+                                    Map<String, Double> averages) {
+            this.total = total;
+            this.active = active;
+            this.breakdowns = Collections.unmodifiableMap(breakdowns);
+            this.averages = Collections.unmodifiableMap(averages);
+        }
+
+        public long getInactive() {
+            return total - active;
+        }
+
+        /**
+         * @return Porcentaje de activos sobre el total, redondeado a dos decimales
+         */
+        public double getActivePercentage() {
+            return total == 0 ? 0.0 : Math.round((double) active / total * 100 * 100.0) / 100.0;
+        }
+
+        /**
+         * @param field Campo de agrupación
+         * @return Cantidad de documentos por cada valor del campo
+         */
+        public Map<Object, Long> getBreakdown(String field) {
+            return breakdowns.getOrDefault(field, Map.of());
+        }
+
+        /**
+         * @param field Campo promediado
+         * @return Promedio del campo, o 0 si no hay documentos con valor
+         */
+        public double getAverage(String field) {
+            return averages.getOrDefault(field, 0.0);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ProfessorSummaryDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Professor;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.ProfessorRepository;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
@@ -19,6 +21,12 @@ public class ProfessorService {
     @Autowired
     private ProfessorRepository professorRepository;
 
+    @Autowired
+    private UserIdentityService userIdentityService;
+
+    @Autowired
+    private GroupProjectionService groupProjectionService;
+
     /**
      * Crea un nuevo profesor en el sistema.
      *
@@ -31,8 +39,12 @@ public class ProfessorService {
             throw new AppException("El email ya está registrado: " + professor.getEmail());
         }
 
+        userIdentityService.ensureEmailAvailable(professor.getEmail(), UserIdentity.PROFESSORS, null);
+
         professor.setRole(UserRole.PROFESSOR);
-        return professorRepository.save(professor);
+        Professor savedProfessor = professorRepository.save(professor);
+        userIdentityService.index(savedProfessor, UserIdentity.PROFESSORS);
+        return savedProfessor;
     }
 
     /**
@@ -57,7 +69,16 @@ public class ProfessorService {
     }
 
     /**
-     * Actualiza la información de un profesor existente.
+     * Obtiene los datos de listado de todos los profesores, ordenados por su ID.
+     *
+     * @return Lista de profesores leídos sin contraseña ni fechas de auditoría
+     */
+    public List<ProfessorSummaryDTO> getProfessorSummaries() {
+        return professorRepository.findSummaryByOrderByIdAsc();
+    }
+
+    /**
+     * Actualiza la información de un profesor existente y propaga sus datos a sus grupos.
      *
      * @param id ID del profesor a actualizar
      * @param professor Nuevos datos del profesor
@@ -75,10 +96,15 @@ public class ProfessorService {
             }
         }
 
+        userIdentityService.ensureEmailAvailable(professor.getEmail(), UserIdentity.PROFESSORS, id);
+
         professor.setId(id);
         professor.setRole(UserRole.PROFESSOR);
 
-        return professorRepository.save(professor);
+        Professor savedProfessor = professorRepository.save(professor);
+        userIdentityService.index(savedProfessor, UserIdentity.PROFESSORS);
+        groupProjectionService.propagateProfessor(professor);
+        return savedProfessor;
     }
 
     /**
@@ -92,6 +118,7 @@ public class ProfessorService {
             throw new AppException("Profesor no encontrado con ID: " + id);
         }
         professorRepository.deleteById(id);
+        userIdentityService.remove(UserIdentity.PROFESSORS, id);
     }
 
     /**
@@ -133,6 +160,15 @@ public class ProfessorService {
         return professorRepository.findByActive(true);
     }
 
+    /**
+     * Obtiene los datos de listado de los profesores activos, ordenados por su ID.
+     *
+     * @return Lista de profesores activos leídos sin contraseña ni fechas de auditoría
+     */
+    public List<ProfessorSummaryDTO> getActiveProfessorSummaries() {
+        return professorRepository.findSummaryByActiveOrderByIdAsc(true);
+    }
+
     /**
      * Busca profesores por departamento y titularidad.
      *
@@ -0,0 +1,277 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.StudentAcademicProgress;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.ScheduleChangeRequestRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentAcademicProgressRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servicio que mantiene en memoria la cola de prioridad de las solicitudes pendientes.
+ *
+ * La cola se construye una sola vez desde la base de datos y luego se actualiza con cada
+ * solicitud guardada o eliminada, de modo que consultar la posición de una solicitud es una
+ * búsqueda binaria sobre la lista ordenada. El componente de antigüedad del puntaje se
+ * recalcula periódicamente sin volver a consultar la base de datos.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Service
+public class RequestPriorityQueueService extends AbstractMongoEventListener<ScheduleChangeRequest> {
+
+    private static final double GPA_WEIGHT = 0.4;
+    private static final double SEMESTER_WEIGHT = 0.2;
+    private static final double URGENCY_WEIGHT = 0.2;
+    private static final double TIME_WEIGHT = 0.2;
+    private static final int MAX_DAYS_IN_QUEUE = 30;
+    private static final long REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(15);
+
+    private static final Comparator<QueueEntry> QUEUE_ORDER = Comparator
+            .comparingDouble((QueueEntry entry) -> entry.score).reversed()
+            .thenComparing(entry -> entry.submissionDate)
+            .thenComparing(entry -> entry.requestId);
+
+    private final ScheduleChangeRequestRepository scheduleChangeRequestRepository;
+    private final StudentAcademicProgressRepository studentAcademicProgressRepository;
+
+    private final Map<String, QueueEntry> entriesById = new HashMap<>();
+    private final List<QueueEntry> orderedEntries = new ArrayList<>();
+    private volatile boolean loaded;
+    private long refreshedAt;
+
+    /**
+     * Constructor para inyección de dependencias.
+     * Los repositorios se inyectan de forma diferida porque este servicio escucha los
+     * eventos del MongoTemplate del que dependen.
+     *
+     * @param scheduleChangeRequestRepository Repositorio de solicitudes de cambio
+     * @param studentAcademicProgressRepository Repositorio de progreso académico
+     */
+    public RequestPriorityQueueService(@Lazy ScheduleChangeRequestRepository scheduleChangeRequestRepository,
+                                       @Lazy StudentAcademicProgressRepository studentAcademicProgressRepository) {
+        this.scheduleChangeRequestRepository = scheduleChangeRequestRepository;
+        this.studentAcademicProgressRepository = studentAcademicProgressRepository;
+    }
+
+    /**
+     * Obtiene la posición de una solicitud en la cola de pendientes.
+     *
+     * @param requestId ID de la solicitud
+     * @return Posición empezando en 1, o -1 si la solicitud no está en la cola
+     */
+    public synchronized int getPosition(String requestId) {
+        ensureFresh();
+        QueueEntry entry = entriesById.get(requestId);
+        if (entry == null) {
+            return -1;
+        }
+        return Collections.binarySearch(orderedEntries, entry, QUEUE_ORDER) + 1;
+    }
+
+    /**
+     * Obtiene el número de solicitudes en la cola.
+     *
+     * @return Tamaño de la cola
+     */
+    public synchronized int size() {
+        ensureFresh();
+        return orderedEntries.size();
+    }
+
+    /**
+     * Actualiza la cola con el estado actual de una solicitud: si está pendiente se
+     * inserta o reubica, y en cualquier otro estado se retira.
+     * El progreso académico se consulta antes de tomar el candado de la cola.
+     *
+     * @param request Solicitud guardada
+     */
+    public void update(ScheduleChangeRequest request) {
+        if (request == null || request.getRequestId() == null) {
+            return;
+        }
+        if (request.getStatus() != RequestStatus.PENDING) {
+            remove(request.getRequestId());
+            return;
+        }
+        if (!loaded) {
+            return;
+        }
+
+        StudentAcademicProgress progress = request.getStudent() != null && request.getStudent().getId() != null
+                ? studentAcademicProgressRepository.findByStudentId(request.getStudent().getId()).orElse(null)
+                : null;
+        QueueEntry entry = toEntry(request, progress, System.currentTimeMillis());
+        synchronized (this) {
+            remove(entry.requestId);
+            insert(entry);
+        }
+    }
+
+    /**
+     * Retira una solicitud de la cola.
+     *
+     * @param requestId ID de la solicitud
+     */
+    public synchronized void remove(String requestId) {
+        QueueEntry entry = entriesById.remove(requestId);
+        if (entry != null) {
+            orderedEntries.remove(Collections.binarySearch(orderedEntries, entry, QUEUE_ORDER));
+        }
+    }
+
+    /**
+     * Reconstruye la cola completa desde la base de datos.
+     * El progreso académico de todos los estudiantes se obtiene en una sola consulta.
+     */
+    public synchronized void rebuild() {
+        List<ScheduleChangeRequest> pendingRequests = scheduleChangeRequestRepository.findByStatus(RequestStatus.PENDING);
+
+        List<String> studentIds = pendingRequests.stream()
+                .map(ScheduleChangeRequest::getStudent)
+                .filter(Objects::nonNull)
+                .map(Student::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<String, StudentAcademicProgress> progressByStudent =
+                studentAcademicProgressRepository.findProgressByStudentIds(studentIds);
+
+        long now = System.currentTimeMillis();
+        entriesById.clear();
+        orderedEntries.clear();
+        for (ScheduleChangeRequest request : pendingRequests) {
+            if (request.getRequestId() == null || entriesById.containsKey(request.getRequestId())) {
+                continue;
+            }
+            StudentAcademicProgress progress = request.getStudent() != null
+                    ? progressByStudent.get(request.getStudent().getId())
+                    : null;
+            QueueEntry entry = toEntry(request, progress, now);
+            entriesById.put(entry.requestId, entry);
+            orderedEntries.add(entry);
+        }
+        orderedEntries.sort(QUEUE_ORDER);
+
+        loaded = true;
+        refreshedAt = now;
+        log.info("Cola de prioridad reconstruida con {} solicitudes pendientes", orderedEntries.size());
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<ScheduleChangeRequest> event) {
+        update(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<ScheduleChangeRequest> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            remove(id.toString());
+        }
+    }
+
+    /**
+     * Carga la cola en el primer uso y recalcula la antigüedad cuando el orden ya no está al día.
+     */
+    private void ensureFresh() {
+        if (!loaded) {
+            rebuild();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now - refreshedAt >= REFRESH_INTERVAL_MILLIS) {
+            for (QueueEntry entry : orderedEntries) {
+                entry.score = entry.baseScore + calculateTimeFactor(entry.submissionDate, now);
+            }
+            orderedEntries.sort(QUEUE_ORDER);
+            refreshedAt = now;
+        }
+    }
+
+    private void insert(QueueEntry entry) {
+        int index = Collections.binarySearch(orderedEntries, entry, QUEUE_ORDER);
+        orderedEntries.add(index < 0 ? -index - 1 : index, entry);
+        entriesById.put(entry.requestId, entry);
+    }
+
+    private QueueEntry toEntry(ScheduleChangeRequest request, StudentAcademicProgress progress, long now) {
+        Date submissionDate = request.getSubmissionDate() != null ? request.getSubmissionDate() : new Date(now);
+        double baseScore = calculateBaseScore(request.getStudent(), progress, request.getReason());
+        return new QueueEntry(request.getRequestId(), baseScore,
+                baseScore + calculateTimeFactor(submissionDate, now), submissionDate);
+    }
+
+    private double calculateBaseScore(Student student, StudentAcademicProgress progress, String reason) {
+        double score = 0.0;
+
+        if (progress != null && progress.getCumulativeGPA() != null) {
+            score += progress.getCumulativeGPA() * GPA_WEIGHT;
+        }
+
+        if (student != null && student.getSemester() != null) {
+            score += (student.getSemester() / 10.0) * SEMESTER_WEIGHT;
+        }
+
+        return score + calculateUrgencyFactor(reason) * URGENCY_WEIGHT;
+    }
+
+    private double calculateTimeFactor(Date submissionDate, long now) {
+        long daysOld = TimeUnit.MILLISECONDS.toDays(now - submissionDate.getTime());
+        return (Math.min(daysOld, MAX_DAYS_IN_QUEUE) / (double) MAX_DAYS_IN_QUEUE) * TIME_WEIGHT;
+    }
+
+    private double calculateUrgencyFactor(String reason) {
+        if (!StringUtils.hasText(reason)) {
+            return 0.3;
+        }
+
+        String lowerReason = reason.toLowerCase();
+        if (lowerReason.contains("médico") || lowerReason.contains("salud") || lowerReason.contains("emergencia")) {
+            return 1.0;
+        } else if (lowerReason.contains("trabajo") || lowerReason.contains("familia")) {
+            return 0.7;
+        } else if (lowerReason.contains("horario") || lowerReason.contains("conflicto")) {
+            return 0.5;
+        } else {
+            return 0.3;
+        }
+    }
+
+    /**
+     * Entrada de la cola con el puntaje fijo de la solicitud y el puntaje vigente.
+     */
+    private static class QueueEntry {
+        final String requestId;
+        final double baseScore;
+        final Date submissionDate;
+        double score;
+
+        QueueEntry(String requestId, double baseScore, double score, Date submissionDate) {
+            this.requestId = requestId;
+            this.baseScore = baseScore;
+            this.score = score;
+            this.submissionDate = submissionDate;
+        }
+    }
+}
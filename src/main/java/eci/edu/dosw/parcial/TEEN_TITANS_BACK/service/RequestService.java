@@ -31,6 +31,9 @@ public class RequestService {
     private final GroupRepository groupRepository;
     private final StudentRepository studentRepository;
     private final CourseRepository courseRepository;
+    private final StudentAcademicProgressRepository studentAcademicProgressRepository;
+    private final GroupEnrollmentService groupEnrollmentService;
+    private final RequestPriorityQueueService requestPriorityQueueService;
     private final RequestValidator requestValidator;
     private final RequestIdGenerator requestIdGenerator;
 
@@ -42,18 +45,27 @@ public class RequestService {
      * @param groupRepository Repositorio de grupos
      * @param studentRepository Repositorio de estudiantes
      * @param courseRepository Repositorio de cursos
+     * @param studentAcademicProgressRepository Repositorio de progreso académico
+     * @param groupEnrollmentService Servicio de contadores de matrícula
+     * @param requestPriorityQueueService Cola de prioridad de solicitudes pendientes
      */
     @Autowired
     public RequestService(ScheduleChangeRequestRepository scheduleChangeRequestRepository,
                           ReviewStepRepository reviewStepRepository,
                           GroupRepository groupRepository,
                           StudentRepository studentRepository,
-                          CourseRepository courseRepository) {
+                          CourseRepository courseRepository,
+                          StudentAcademicProgressRepository studentAcademicProgressRepository,
+                          GroupEnrollmentService groupEnrollmentService,
+                          RequestPriorityQueueService requestPriorityQueueService) {
         this.scheduleChangeRequestRepository = scheduleChangeRequestRepository;
         this.reviewStepRepository = reviewStepRepository;
         this.groupRepository = groupRepository;
         this.studentRepository = studentRepository;
         this.courseRepository = courseRepository;
+        this.studentAcademicProgressRepository = studentAcademicProgressRepository;
+        this.groupEnrollmentService = groupEnrollmentService;
+        this.requestPriorityQueueService = requestPriorityQueueService;
         this.requestValidator = new RequestValidator();
         this.requestIdGenerator = new RequestIdGenerator();
     }
@@ -115,47 +127,54 @@ public class RequestService {
     /**
      * Aprueba una solicitud de cambio.
      *
+     * Solo se aprueban solicitudes pendientes o en revisión. Primero se reserva el cupo del
+     * grupo solicitado y luego se cambia el estado con una actualización condicional; si otra
+     * decisión se adelanta, el cupo reservado se libera.
+     *
      * @param requestId ID de la solicitud
      * @param reviewerId ID del revisor
      * @param reviewerRole Rol del revisor
      * @param comments Comentarios de la aprobación
      * @return Solicitud aprobada
-     * @throws AppException si no se puede aprobar por capacidad
+     * @throws AppException si la solicitud ya fue resuelta o no se puede aprobar por capacidad
      */
     public ScheduleChangeRequest approveRequest(String requestId, String reviewerId,
                                                 UserRole reviewerRole, String comments) {
         ScheduleChangeRequest request = findRequestById(requestId);
-
-        if (getGroupCapacityAlert(request.getRequestedGroup().getGroupId())) {
-            throw new AppException("No se puede aprobar la solicitud: el grupo solicitado ya no tiene capacidad disponible");
+        ensureUndecided(request);
+
+        reserveSeat(request);
+        ReviewStep reviewStep = buildReviewStep(reviewerId, reviewerRole, "SOLICITUD_APROBADA", comments);
+        try {
+            decide(request, RequestStatus.APPROVED, reviewStep);
+        } catch (RuntimeException e) {
+            groupEnrollmentService.releaseApprovedChange(request);
+            throw e;
         }
-
-        request.setStatus(RequestStatus.APPROVED);
-        request.setResolutionDate(new Date());
-
-        addReviewStep(request, reviewerId, reviewerRole, "SOLICITUD_APROBADA", comments);
-
-        return scheduleChangeRequestRepository.save(request);
+        return request;
     }
 
     /**
      * Rechaza una solicitud de cambio.
      *
+     * Solo se rechazan solicitudes pendientes o en revisión, con la misma actualización
+     * condicional que la aprobación; una solicitud aprobada conserva su estado y su cupo.
+     *
      * @param requestId ID de la solicitud
      * @param reviewerId ID del revisor
      * @param reviewerRole Rol del revisor
      * @param comments Comentarios del rechazo
      * @return Solicitud rechazada
+     * @throws AppException si la solicitud ya fue resuelta
      */
     public ScheduleChangeRequest rejectRequest(String requestId, String reviewerId,
                                                UserRole reviewerRole, String comments) {
         ScheduleChangeRequest request = findRequestById(requestId);
-        request.setStatus(RequestStatus.REJECTED);
-        request.setResolutionDate(new Date());
+        ensureUndecided(request);
 
-        addReviewStep(request, reviewerId, reviewerRole, "SOLICITUD_RECHAZADA", comments);
-
-        return scheduleChangeRequestRepository.save(request);
+        decide(request, RequestStatus.REJECTED,
+                buildReviewStep(reviewerId, reviewerRole, "SOLICITUD_RECHAZADA", comments));
+        return request;
     }
 
     /**
@@ -330,6 +349,7 @@ public class RequestService {
         return ScheduleChangeRequest.builder()
                 .requestId(requestIdGenerator.generate())
                 .student(student)
+                .faculty(resolveFaculty(student.getId()))
                 .currentGroup(currentGroup)
                 .requestedGroup(requestedGroup)
                 .reason(reason)
@@ -338,6 +358,18 @@ public class RequestService {
                 .build();
     }
 
+    /**
+     * Obtiene la facultad del estudiante a partir de su progreso académico.
+     *
+     * @param studentId ID del estudiante
+     * @return Facultad del estudiante, o null si no tiene progreso registrado
+     */
+    private String resolveFaculty(String studentId) {
+        return studentAcademicProgressRepository.findByStudentId(studentId)
+                .map(StudentAcademicProgress::getFaculty)
+                .orElse(null);
+    }
+
     private void addInitialReviewStep(ScheduleChangeRequest request, String userId,
                                       String action, String comments) {
         ReviewStep initialStep = ReviewStep.builder()
@@ -352,14 +384,41 @@ public class RequestService {
 
     private void addReviewStep(ScheduleChangeRequest request, String userId,
                                UserRole userRole, String action, String comments) {
-        ReviewStep reviewStep = ReviewStep.builder()
+        request.addReviewStep(buildReviewStep(userId, userRole, action, comments));
+    }
+
+    private void ensureUndecided(ScheduleChangeRequest request) {
+        if (request.getStatus() != RequestStatus.PENDING && request.getStatus() != RequestStatus.UNDER_REVIEW) {
+            throw new AppException("La solicitud ya fue resuelta con estado " + request.getStatus());
+        }
+    }
+
+    /**
+     * Registra la decisión con una actualización condicional sobre el estado y, como no pasa
+     * por los eventos de guardado, retira la solicitud de la cola de prioridad.
+     *
+     * @throws AppException si otra decisión se registró primero
+     */
+    private void decide(ScheduleChangeRequest request, RequestStatus decision, ReviewStep reviewStep) {
+        if (!scheduleChangeRequestRepository.decideIfUndecided(
+                request.getRequestId(), decision, reviewStep.getTimestamp(), reviewStep)) {
+            throw new AppException("La solicitud ya fue resuelta por otro revisor: " + request.getRequestId());
+        }
+
+        request.setStatus(decision);
+        request.setResolutionDate(reviewStep.getTimestamp());
+        request.addReviewStep(reviewStep);
+        requestPriorityQueueService.remove(request.getRequestId());
+    }
+
+    private ReviewStep buildReviewStep(String userId, UserRole userRole, String action, String comments) {
+        return ReviewStep.builder()
                 .userId(userId)
                 .userRole(userRole)
                 .action(action)
                 .comments(comments)
                 .timestamp(new Date())
                 .build();
-        request.addReviewStep(reviewStep);
     }
 
     private void applyUpdates(ScheduleChangeRequest request, Map<String, Object> updates) {
@@ -401,12 +460,17 @@ public class RequestService {
                 .count();
     }
 
+    /**
+     * Reserva de forma atómica el cupo del grupo solicitado, hasta la capacidad de su aula.
+     */
+    private void reserveSeat(ScheduleChangeRequest request) {
+        if (!groupEnrollmentService.reserveApprovedChange(request)) {
+            throw new AppException("No se puede aprobar la solicitud: el grupo solicitado ya no tiene capacidad disponible");
+        }
+    }
+
     private int getCurrentStudentCountInGroup(String groupId) {
-        List<ScheduleChangeRequest> approvedRequests = scheduleChangeRequestRepository.findByRequestedGroupId(groupId);
-        long approvedCount = approvedRequests.stream()
-                .filter(request -> request.getStatus() == RequestStatus.APPROVED)
-                .count();
-        return 20 + (int) approvedCount;
+        return groupEnrollmentService.getEnrollment(groupId);
     }
 
     /**
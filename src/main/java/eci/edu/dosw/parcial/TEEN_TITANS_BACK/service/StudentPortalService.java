@@ -29,6 +29,8 @@ public class StudentPortalService {
     private final AcademicPeriodRepository academicPeriodRepository;
     private final CourseStatusDetailRepository courseStatusDetailRepository;
     private final GroupRepository groupRepository;
+    private final GroupEnrollmentService groupEnrollmentService;
+    private final TrafficLightService trafficLightService;
 
     /**
      * Obtiene el curso asociado a un grupo.
@@ -66,24 +68,22 @@ public class StudentPortalService {
     }
 
     /**
-     * Calcula el número estimado de estudiantes inscritos actualmente en un grupo.
+     * Obtiene el número de estudiantes inscritos actualmente en un grupo
+     * a partir de su contador de matrícula.
      *
      * @param groupId identificador del grupo
-     * @return número estimado de estudiantes inscritos
+     * @return número de estudiantes inscritos
      * @throws AppException si no se encuentra el grupo
      */
     public Integer getCurrentEnrollment(String groupId) {
-        log.debug("Calculando matrícula actual para el grupo: {}", groupId);
-        return groupRepository.findById(groupId)
-                .map(group -> {
-                    int estimatedEnrollment = (int) (group.getClassroom().getCapacity() * 0.6);
-                    log.info("Matrícula estimada del grupo {}: {}", groupId, estimatedEnrollment);
-                    return estimatedEnrollment;
-                })
-                .orElseThrow(() -> {
-                    log.error("Grupo no encontrado: {}", groupId);
-                    return new AppException("Grupo no encontrado: " + groupId);
-                });
+        log.debug("Obteniendo matrícula actual para el grupo: {}", groupId);
+        if (!groupRepository.existsById(groupId)) {
+            log.error("Grupo no encontrado: {}", groupId);
+            throw new AppException("Grupo no encontrado: " + groupId);
+        }
+        int enrollment = groupEnrollmentService.getEnrollment(groupId);
+        log.info("Matrícula actual del grupo {}: {}", groupId, enrollment);
+        return enrollment;
     }
 
     /**
@@ -113,11 +113,9 @@ public class StudentPortalService {
             throw new AppException("No se encontraron grupos para el curso: " + courseCode);
         }
 
-        Map<String, Integer> enrollmentMap = groups.stream()
-                .collect(Collectors.toMap(
-                        Group::getGroupId,
-                        group -> getCurrentEnrollment(group.getGroupId())
-                ));
+        Map<String, Integer> enrollmentMap = groupEnrollmentService.getEnrollments(groups.stream()
+                .map(Group::getGroupId)
+                .collect(Collectors.toList()));
 
         log.info("Total de inscritos por grupo para el curso {}: {} grupos", courseCode, enrollmentMap.size());
         return enrollmentMap;
@@ -138,14 +136,7 @@ public class StudentPortalService {
                     return new AppException("Progreso académico no encontrado para el estudiante: " + studentId);
                 });
 
-        List<Group> currentSchedule = progress.getCoursesStatus().stream()
-                .filter(this::isCourseCurrentlyEnrolled)
-                .map(CourseStatusDetail::getGroup)
-                .filter(Objects::nonNull)
-                .map(group -> groupRepository.findById(group.getGroupId()))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+        List<Group> currentSchedule = findCurrentGroups(progress);
 
         log.info("Horario actual del estudiante {}: {} grupos", studentId, currentSchedule.size());
         return currentSchedule;
@@ -201,7 +192,7 @@ public class StudentPortalService {
     public boolean checkGroupAvailability(String groupId) {
         log.debug("Verificando disponibilidad del grupo: {}", groupId);
         Integer maxCapacity = getMaxCapacity(groupId);
-        Integer currentEnrollment = getCurrentEnrollment(groupId);
+        Integer currentEnrollment = groupEnrollmentService.getEnrollment(groupId);
         boolean isAvailable = currentEnrollment < maxCapacity;
 
         log.info("Disponibilidad del grupo {}: {} (capacidad: {}/{})",
@@ -225,16 +216,7 @@ public class StudentPortalService {
                     return new AppException("Progreso académico no encontrado para el estudiante: " + studentId);
                 });
 
-        Set<String> takenCourses = progress.getCoursesStatus().stream()
-                .map(CourseStatusDetail::getCourse)
-                .map(Course::getCourseCode)
-                .collect(Collectors.toSet());
-
-        List<Course> recommendations = courseRepository.findByAcademicProgramAndIsActive(
-                        progress.getAcademicProgram(), true).stream()
-                .filter(course -> !takenCourses.contains(course.getCourseCode()))
-                .filter(course -> isCourseRecommended(course, progress))
-                .collect(Collectors.toList());
+        List<Course> recommendations = recommendCourses(progress);
 
         log.info("Recomendaciones de cursos para el estudiante {}: {} cursos", studentId, recommendations.size());
         return recommendations;
@@ -275,6 +257,88 @@ public class StudentPortalService {
         return alerts;
     }
 
+    /**
+     * Arma el tablero del portal del estudiante en una sola pasada: el progreso académico y
+     * los grupos actuales se leen una vez y a partir de ellos se calculan el horario, las
+     * alertas, las recomendaciones y el semáforo, en lugar de que cada sección vuelva a
+     * consultar el progreso.
+     *
+     * @param studentId identificador del estudiante
+     * @return tablero con toda la información del portal
+     * @throws AppException si no se encuentra el progreso académico del estudiante
+     */
+    public StudentDashboard getDashboard(String studentId) {
+        log.debug("Armando tablero del portal para el estudiante: {}", studentId);
+        StudentAcademicProgress progress = studentAcademicProgressRepository.findByStudentId(studentId)
+                .orElseThrow(() -> {
+                    log.error("Progreso académico no encontrado para el estudiante: {}", studentId);
+                    return new AppException("Progreso académico no encontrado para el estudiante: " + studentId);
+                });
+
+        String trafficLight = progress.getStudent() != null
+                ? trafficLightService.getAcademicTrafficLight(progress.getStudent(), progress)
+                : null;
+
+        StudentDashboard dashboard = new StudentDashboard(
+                progress,
+                findCurrentGroups(progress),
+                generateAcademicAlerts(progress),
+                recommendCourses(progress),
+                academicPeriodRepository.findByIsActiveTrue().orElse(null),
+                trafficLight);
+
+        log.info("Tablero del estudiante {}: {} grupos, {} alertas, {} recomendaciones", studentId,
+                dashboard.getCurrentSchedule().size(), dashboard.getAlerts().size(),
+                dashboard.getRecommendations().size());
+        return dashboard;
+    }
+
+    /**
+     * Obtiene, con una sola consulta, los grupos de los cursos que el estudiante cursa actualmente,
+     * en el mismo orden de su progreso académico.
+     *
+     * @param progress progreso académico del estudiante
+     * @return grupos actuales del estudiante
+     */
+    private List<Group> findCurrentGroups(StudentAcademicProgress progress) {
+        List<String> groupIds = progress.getCoursesStatus().stream()
+                .filter(this::isCourseCurrentlyEnrolled)
+                .map(CourseStatusDetail::getGroup)
+                .filter(Objects::nonNull)
+                .map(Group::getGroupId)
+                .collect(Collectors.toList());
+
+        if (groupIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Group> groupsById = new HashMap<>();
+        groupRepository.findAllById(groupIds).forEach(group -> groupsById.put(group.getGroupId(), group));
+
+        return groupIds.stream()
+                .map(groupsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Calcula los cursos recomendados: activos del programa del estudiante que aún no ha tomado.
+     *
+     * @param progress progreso académico del estudiante
+     * @return lista de cursos recomendados
+     */
+    private List<Course> recommendCourses(StudentAcademicProgress progress) {
+        Set<String> takenCourses = progress.getCoursesStatus().stream()
+                .map(CourseStatusDetail::getCourse)
+                .map(Course::getCourseCode)
+                .collect(Collectors.toSet());
+
+        return courseRepository.findByAcademicProgramAndIsActive(progress.getAcademicProgram(), true).stream()
+                .filter(course -> !takenCourses.contains(course.getCourseCode()))
+                .filter(course -> isCourseRecommended(course, progress))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Verifica si un curso está actualmente en progreso.
      *
@@ -357,4 +421,43 @@ public class StudentPortalService {
                 currentSemester, totalSemesters, expectedProgress * 100);
         return expectedProgress;
     }
+
+    /**
+     * Clase interna con la información del tablero del portal del estudiante.
+     */
+    public static class StudentDashboard {
+        private final StudentAcademicProgress progress;
+        private final List<Group> currentSchedule;
+        private final List<String> alerts;
+        private final List<Course> recommendations;
+        private final AcademicPeriod enrollmentDeadlines;
+        private final String trafficLight;
+
+        /**
+         * Constructor para StudentDashboard.
+         *
+         * @param progress Progreso académico del estudiante
+         * @param currentSchedule Grupos que cursa actualmente
+         * @param alerts Alertas académicas
+         * @param recommendations Cursos recomendados
+         * @param enrollmentDeadlines Período académico activo, o null si no hay
+         * @param trafficLight Color del semáforo, o null si el progreso no tiene estudiante
+         */
+        public StudentDashboard(StudentAcademicProgress progress, List<Group> currentSchedule, List<String> alerts,
+                                List<Course> recommendations, AcademicPeriod enrollmentDeadlines, String trafficLight) {
+            this.progress = progress;
+            this.currentSchedule = currentSchedule;
+            this.alerts = alerts;
+            this.recommendations = recommendations;
+            this.enrollmentDeadlines = enrollmentDeadlines;
+            this.trafficLight = trafficLight;
+        }
+
+        public StudentAcademicProgress getProgress() { return progress; }
+        public List<Group> getCurrentSchedule() { return currentSchedule; }
+        public List<String> getAlerts() { return alerts; }
+        public List<Course> getRecommendations() { return recommendations; }
+        public AcademicPeriod getEnrollmentDeadlines() { return enrollmentDeadlines; }
+        public String getTrafficLight() { return trafficLight; }
+    }
 }
\ No newline at end of file
@@ -32,12 +32,9 @@ public class StudentRequestService {
     private final StudentRepository studentRepository;
     private final GroupRepository groupRepository;
     private final ReviewStepRepository reviewStepRepository;
-    private final StudentAcademicProgressRepository studentAcademicProgressRepository;
+    private final RequestPriorityQueueService requestPriorityQueueService;
+    private final GroupEnrollmentService groupEnrollmentService;
 
-    private static final double GPA_WEIGHT = 0.4;
-    private static final double SEMESTER_WEIGHT = 0.2;
-    private static final double URGENCY_WEIGHT = 0.2;
-    private static final double TIME_WEIGHT = 0.2;
     private static final double CAPACITY_ALERT_THRESHOLD = 0.8;
     private static final int MAX_RECOMMENDED_GROUPS = 5;
     private static final int MAX_REVIEW_HOURS_FOR_CANCELLATION = 24;
@@ -90,18 +87,19 @@ public class StudentRequestService {
 
     /**
      * Calcula la posición de prioridad de una solicitud en la cola de procesamiento.
+     * La posición se consulta en la cola mantenida en memoria; solo se lee la solicitud
+     * de la base de datos cuando no está en la cola.
      *
      * @param requestId ID de la solicitud
-     * @return Posición en la cola de prioridad
+     * @return Posición en la cola de prioridad, o -1 si la solicitud no está pendiente
      * @throws AppException si no se encuentra la solicitud
      */
     public int getRequestPriorityPosition(String requestId) {
-        ScheduleChangeRequest request = findRequestById(requestId);
-        RequestPriority currentRequestPriority = calculateRequestPriority(request);
-
-        List<RequestPriority> allPendingPriorities = getAllPendingRequestPriorities();
-
-        return findPriorityPosition(currentRequestPriority, allPendingPriorities);
+        int position = requestPriorityQueueService.getPosition(requestId);
+        if (position > 0) {
+            return position;
+        }
+        return getQueuePosition(findRequestById(requestId));
     }
 
     /**
@@ -117,12 +115,15 @@ public class StudentRequestService {
         Course course = requestedGroup.getCourse();
 
         List<Group> allCourseGroups = groupRepository.findByCourse_CourseCode(course.getCourseCode());
+        Map<String, Integer> enrollments = groupEnrollmentService.getEnrollments(allCourseGroups.stream()
+                .map(Group::getGroupId)
+                .collect(Collectors.toList()));
 
         return allCourseGroups.stream()
                 .filter(group -> !group.getGroupId().equals(requestedGroup.getGroupId()))
-                .filter(this::isGroupAvailable)
+                .filter(group -> !isNearCapacity(group, enrollments.getOrDefault(group.getGroupId(), 0)))
                 .filter(group -> isScheduleCompatible(request.getCurrentGroup().getSchedule(), group.getSchedule()))
-                .sorted(this::compareGroupsByCapacity)
+                .sorted(Comparator.comparingInt((Group group) -> getAvailableSeats(group, enrollments)).reversed())
                 .limit(MAX_RECOMMENDED_GROUPS)
                 .collect(Collectors.toList());
     }
@@ -141,7 +142,7 @@ public class StudentRequestService {
             return "Solicitud ya procesada";
         }
 
-        int position = getRequestPriorityPosition(requestId);
+        int position = getQueuePosition(request);
         double estimatedDays = calculateEstimatedProcessingDays(position);
 
         return formatWaitTimeEstimation(estimatedDays);
@@ -218,106 +219,25 @@ public class StudentRequestService {
         return allRequests;
     }
 
-    private RequestPriority calculateRequestPriority(ScheduleChangeRequest request) {
-        Student student = request.getStudent();
-        StudentAcademicProgress progress = getStudentAcademicProgress(student);
-        double priorityScore = calculatePriorityScore(student, progress, request);
-
-        return new RequestPriority(request.getRequestId(), priorityScore, request.getSubmissionDate());
-    }
-
-    private StudentAcademicProgress getStudentAcademicProgress(Student student) {
-        return studentAcademicProgressRepository.findByStudentId(student.getId())
-                .orElse(null);
-    }
-
-    private double calculatePriorityScore(Student student, StudentAcademicProgress progress, ScheduleChangeRequest request) {
-        double score = 0.0;
-
-        if (progress != null && progress.getCumulativeGPA() != null) {
-            score += progress.getCumulativeGPA() * GPA_WEIGHT;
-        }
-
-        if (student.getSemester() != null) {
-            score += (student.getSemester() / 10.0) * SEMESTER_WEIGHT;
-        }
-
-        score += calculateUrgencyFactor(request.getReason()) * URGENCY_WEIGHT;
-
-        long daysOld = calculateDaysInQueue(request.getSubmissionDate());
-        score += (Math.min(daysOld, 30) / 30.0) * TIME_WEIGHT;
-
-        return score;
-    }
-
-    private double calculateUrgencyFactor(String reason) {
-        if (!StringUtils.hasText(reason)) {
-            return 0.3;
-        }
-
-        String lowerReason = reason.toLowerCase();
-        if (lowerReason.contains("médico") || lowerReason.contains("salud") || lowerReason.contains("emergencia")) {
-            return 1.0;
-        } else if (lowerReason.contains("trabajo") || lowerReason.contains("familia")) {
-            return 0.7;
-        } else if (lowerReason.contains("horario") || lowerReason.contains("conflicto")) {
-            return 0.5;
-        } else {
-            return 0.3;
-        }
-    }
-
-    private List<RequestPriority> getAllPendingRequestPriorities() {
-        List<ScheduleChangeRequest> allPendingRequests = scheduleChangeRequestRepository
-                .findByStatus(RequestStatus.PENDING);
-
-        return allPendingRequests.stream()
-                .map(this::calculateRequestPriority)
-                .collect(Collectors.toList());
-    }
-
-    private int findPriorityPosition(RequestPriority targetPriority, List<RequestPriority> allPriorities) {
-        List<RequestPriority> sortedPriorities = allPriorities.stream()
-                .sorted(this::compareRequestPriorities)
-                .collect(Collectors.toList());
-
-        for (int i = 0; i < sortedPriorities.size(); i++) {
-            if (sortedPriorities.get(i).requestId.equals(targetPriority.requestId)) {
-                return i + 1;
-            }
+    private int getQueuePosition(ScheduleChangeRequest request) {
+        int position = requestPriorityQueueService.getPosition(request.getRequestId());
+        if (position < 0 && request.getStatus() == RequestStatus.PENDING) {
+            requestPriorityQueueService.update(request);
+            position = requestPriorityQueueService.getPosition(request.getRequestId());
         }
-
-        return -1;
-    }
-
-    private int compareRequestPriorities(RequestPriority p1, RequestPriority p2) {
-        int scoreCompare = Double.compare(p2.score, p1.score);
-        if (scoreCompare != 0) return scoreCompare;
-        return p1.submissionDate.compareTo(p2.submissionDate);
-    }
-
-    private boolean isGroupAvailable(Group group) {
-        return !getGroupCapacityAlert(group.getGroupId());
+        return position;
     }
 
-    private boolean getGroupCapacityAlert(String groupId) {
-        Optional<Group> group = groupRepository.findById(groupId);
-        if (group.isEmpty()) return true;
-
-        Classroom classroom = group.get().getClassroom();
+    private boolean isNearCapacity(Group group, int enrolled) {
+        Classroom classroom = group.getClassroom();
         if (classroom == null) return false;
 
-        int currentStudents = getCurrentStudentCountInGroup(groupId);
-        double occupancyRate = (double) currentStudents / classroom.getCapacity();
+        double occupancyRate = (double) enrolled / classroom.getCapacity();
         return occupancyRate >= CAPACITY_ALERT_THRESHOLD;
     }
 
-    private int getCurrentStudentCountInGroup(String groupId) {
-        List<ScheduleChangeRequest> groupRequests = scheduleChangeRequestRepository.findByRequestedGroupId(groupId);
-        long approvedCount = groupRequests.stream()
-                .filter(req -> req.getStatus() == RequestStatus.APPROVED)
-                .count();
-        return 20 + (int) approvedCount;
+    private int getAvailableSeats(Group group, Map<String, Integer> enrollments) {
+        return group.getClassroom().getCapacity() - enrollments.getOrDefault(group.getGroupId(), 0);
     }
 
     private boolean isScheduleCompatible(Schedule currentSchedule, Schedule newSchedule) {
@@ -326,12 +246,6 @@ public class StudentRequestService {
                 !currentSchedule.getPeriod().equals(newSchedule.getPeriod());
     }
 
-    private int compareGroupsByCapacity(Group g1, Group g2) {
-        int capacity1 = g1.getClassroom().getCapacity() - getCurrentStudentCountInGroup(g1.getGroupId());
-        int capacity2 = g2.getClassroom().getCapacity() - getCurrentStudentCountInGroup(g2.getGroupId());
-        return Integer.compare(capacity2, capacity1);
-    }
-
     private boolean isRequestPendingOrUnderReview(ScheduleChangeRequest request) {
         return request.getStatus() == RequestStatus.PENDING ||
                 request.getStatus() == RequestStatus.UNDER_REVIEW;
@@ -349,11 +263,6 @@ public class StudentRequestService {
         else return "Más de 1 semana";
     }
 
-    private long calculateDaysInQueue(Date submissionDate) {
-        long diff = System.currentTimeMillis() - submissionDate.getTime();
-        return TimeUnit.MILLISECONDS.toDays(diff);
-    }
-
     private long calculateHoursInReview(ScheduleChangeRequest request) {
         Optional<ReviewStep> reviewStep = request.getReviewHistory().stream()
                 .filter(step -> "EN_REVISION".equals(step.getAction()))
@@ -385,21 +294,6 @@ public class StudentRequestService {
         return count > 0 ? totalDays / count : DEFAULT_AVERAGE_PROCESSING_DAYS;
     }
 
-    /**
-     * Clase para representar la prioridad de una solicitud.
-     */
-    private static class RequestPriority {
-        final String requestId;
-        final double score;
-        final Date submissionDate;
-
-        RequestPriority(String requestId, double score, Date submissionDate) {
-            this.requestId = requestId;
-            this.score = score;
-            this.submissionDate = submissionDate;
-        }
-    }
-
     /**
      * Enum para los tipos de documentos requeridos por tipo de solicitud.
      */
@@ -1,9 +1,13 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentSummaryDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -19,6 +23,12 @@ public class StudentService {
     @Autowired
     private StudentRepository studentRepository;
 
+    @Autowired
+    private UserIdentityService userIdentityService;
+
+    @Autowired
+    private TrafficLightService trafficLightService;
+
     /**
      * Crea un nuevo estudiante en el sistema.
      *
@@ -31,7 +41,12 @@ public class StudentService {
         if (!existingStudents.isEmpty()) {
             throw new AppException("El email ya está registrado: " + student.getEmail());
         }
-        return studentRepository.save(student);
+        userIdentityService.ensureEmailAvailable(student.getEmail(), UserIdentity.STUDENTS, null);
+
+        Student savedStudent = studentRepository.save(student);
+        userIdentityService.index(savedStudent, UserIdentity.STUDENTS);
+        trafficLightService.recomputeSnapshot(student.getId());
+        return savedStudent;
     }
 
     /**
@@ -55,6 +70,42 @@ public class StudentService {
         return studentRepository.findAll();
     }
 
+    /**
+     * Obtiene una página de estudiantes ordenados por su ID, continuando después del cursor indicado.
+     *
+     * @param cursor Cursor de la página anterior, o null para la primera página
+     * @param size Tamaño de la página
+     * @return Página de estudiantes, leídos sin contraseña ni fechas de auditoría, con el cursor
+     *         de la página siguiente
+     * @throws AppException si el cursor o el tamaño de página no son válidos
+     */
+    public CursorPageDTO<StudentSummaryDTO> getStudentsPage(String cursor, int size) {
+        CursorPageDTO.validateSize(size);
+        String after = CursorPageDTO.decodeCursor(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<StudentSummaryDTO> students = after == null
+                ? studentRepository.findSummaryByOrderByIdAsc(limit)
+                : studentRepository.findSummaryByIdGreaterThanOrderByIdAsc(after, limit);
+        return CursorPageDTO.of(students, size, StudentSummaryDTO::getId);
+    }
+
+    /**
+     * Busca estudiantes con una sola consulta a la base de datos, aplicando solo los filtros indicados.
+     *
+     * @param academicProgram Programa académico (opcional)
+     * @param semester Semestre (opcional)
+     * @param minGradeAverage Promedio mínimo (opcional)
+     * @param active Estado de actividad (opcional)
+     * @param limit Número máximo de estudiantes a devolver
+     * @return Lista de estudiantes, sin contraseña, ordenados por su ID
+     * @throws AppException si el límite está fuera del rango permitido
+     */
+    public List<Student> searchStudents(String academicProgram, Integer semester, Double minGradeAverage,
+                                        Boolean active, int limit) {
+        CursorPageDTO.validateSize(limit);
+        return studentRepository.search(academicProgram, semester, minGradeAverage, active, limit);
+    }
+
     /**
      * Actualiza la información de un estudiante existente.
      *
@@ -74,8 +125,13 @@ public class StudentService {
             throw new AppException("El email ya está en uso por otro estudiante: " + student.getEmail());
         }
 
+        userIdentityService.ensureEmailAvailable(student.getEmail(), UserIdentity.STUDENTS, id);
+
         student.setId(id);
-        return studentRepository.save(student);
+        Student savedStudent = studentRepository.save(student);
+        userIdentityService.index(savedStudent, UserIdentity.STUDENTS);
+        trafficLightService.recomputeSnapshot(id);
+        return savedStudent;
     }
 
     /**
@@ -89,6 +145,8 @@ public class StudentService {
             throw new AppException("Estudiante no encontrado con ID: " + id);
         }
         studentRepository.deleteById(id);
+        userIdentityService.remove(UserIdentity.STUDENTS, id);
+        trafficLightService.evictSnapshot(id);
     }
 
     /**
@@ -4,19 +4,28 @@ import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.StudentAcademicProgress;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.CourseStatusDetail;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.TrafficLightSnapshot;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentRepository;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentAcademicProgressRepository;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.CourseStatusDetailRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.TrafficLightSnapshotRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Servicio para gestionar el semáforo académico de los estudiantes.
  * Evalúa el rendimiento académico y asigna colores (VERDE, AMARILLO, ROJO)
  * según el progreso curricular del estudiante.
+ * El resultado por estudiante se materializa en {@link TrafficLightSnapshot} y se
+ * recalcula cuando cambian sus datos académicos mediante {@link #recomputeSnapshot(String)}.
  *
  * @author Equipo Teen Titans
  * @version 1.0
@@ -28,6 +37,8 @@ public class TrafficLightService {
     private final StudentRepository studentRepository;
     private final StudentAcademicProgressRepository studentAcademicProgressRepository;
     private final CourseStatusDetailRepository courseStatusDetailRepository;
+    private final TrafficLightSnapshotRepository trafficLightSnapshotRepository;
+    private final ParallelReadService parallelReadService;
 
     /**
      * Constructor para inyección de dependencias.
@@ -35,39 +46,64 @@ public class TrafficLightService {
      * @param studentRepository Repositorio de estudiantes
      * @param studentAcademicProgressRepository Repositorio de progreso académico
      * @param courseStatusDetailRepository Repositorio de detalles de estado de cursos
+     * @param trafficLightSnapshotRepository Repositorio de semáforos precalculados
+     * @param parallelReadService Servicio de lecturas en paralelo
      */
     @Autowired
     public TrafficLightService(StudentRepository studentRepository,
                                StudentAcademicProgressRepository studentAcademicProgressRepository,
-                               CourseStatusDetailRepository courseStatusDetailRepository) {
+                               CourseStatusDetailRepository courseStatusDetailRepository,
+                               TrafficLightSnapshotRepository trafficLightSnapshotRepository,
+                               ParallelReadService parallelReadService) {
         this.studentRepository = studentRepository;
         this.studentAcademicProgressRepository = studentAcademicProgressRepository;
         this.courseStatusDetailRepository = courseStatusDetailRepository;
+        this.trafficLightSnapshotRepository = trafficLightSnapshotRepository;
+        this.parallelReadService = parallelReadService;
     }
 
     /**
      * Obtiene el semáforo académico del estudiante.
+     * Se lee del semáforo precalculado; si aún no existe, se calcula y se guarda.
      *
      * @param studentId ID del estudiante
      * @return String que representa el color del semáforo ("GREEN", "YELLOW", "RED")
      * @throws AppException si el estudiante no existe o no tiene progreso académico
      */
     public String getAcademicTrafficLight(String studentId) {
-        Student student = getStudentInformation(studentId);
+        return trafficLightSnapshotRepository.findById(studentId)
+                .orElseGet(() -> computeSnapshot(studentId))
+                .getTrafficLight();
+    }
 
-        if (!student.isActive()) {
-            return "RED";
+    /**
+     * Recalcula y guarda el semáforo precalculado del estudiante.
+     * Si el estudiante ya no existe, está inactivo o no tiene progreso académico,
+     * el semáforo guardado se elimina para que la siguiente lectura reporte el error.
+     *
+     * @param studentId ID del estudiante
+     */
+    public void recomputeSnapshot(String studentId) {
+        if (studentId == null) {
+            return;
         }
 
-        Optional<StudentAcademicProgress> progressOptional =
-                studentAcademicProgressRepository.findByStudentId(studentId);
-
-        if (progressOptional.isEmpty()) {
-            throw new AppException("Progreso académico no encontrado para el estudiante: " + studentId);
+        try {
+            computeSnapshot(studentId);
+        } catch (AppException e) {
+            trafficLightSnapshotRepository.deleteById(studentId);
         }
+    }
 
-        StudentAcademicProgress progress = progressOptional.get();
-        return calculateTrafficLight(progress, student);
+    /**
+     * Elimina el semáforo precalculado del estudiante.
+     *
+     * @param studentId ID del estudiante
+     */
+    public void evictSnapshot(String studentId) {
+        if (studentId != null) {
+            trafficLightSnapshotRepository.deleteById(studentId);
+        }
     }
 
     /**
@@ -117,14 +153,12 @@ public class TrafficLightService {
      * @return Porcentaje de avance (0.0 a 100.0)
      */
     public Double getCurriculumProgressPercentage(String studentId) {
-        StudentAcademicProgress progress = getCurriculumProgress(studentId);
-
-        if (progress.getTotalCreditsRequired() == null || progress.getTotalCreditsRequired() == 0) {
-            return 0.0;
+        Optional<TrafficLightSnapshot> snapshot = trafficLightSnapshotRepository.findById(studentId);
+        if (snapshot.isPresent()) {
+            return snapshot.get().getProgressPercentage();
         }
 
-        double percentage = ((double) progress.getCompletedCredits() / progress.getTotalCreditsRequired()) * 100;
-        return Math.min(100.0, Math.round(percentage * 100.0) / 100.0);
+        return calculateProgressPercentage(getCurriculumProgress(studentId));
     }
 
     /**
@@ -145,10 +179,11 @@ public class TrafficLightService {
      * @return String con el resumen del estado académico
      */
     public String getAcademicStatusSummary(String studentId) {
-        Student student = getStudentInformation(studentId);
-        StudentAcademicProgress progress = getCurriculumProgress(studentId);
-        String trafficLight = getAcademicTrafficLight(studentId);
-        Double progressPercentage = getCurriculumProgressPercentage(studentId);
+        StudentProgressInfo info = getStudentProgressInfo(studentId);
+        Student student = info.getStudent();
+        StudentAcademicProgress progress = info.getProgress();
+        String trafficLight = info.getTrafficLight();
+        Double progressPercentage = info.getProgressPercentage();
 
         return String.format(
                 "Estudiante: %s%n" +
@@ -172,15 +207,17 @@ public class TrafficLightService {
 
     /**
      * Obtiene estudiantes en riesgo académico por programa.
+     * Los estudiantes sin progreso académico registrado se consideran en riesgo.
      *
      * @param academicProgram Programa académico
      * @return Lista de estudiantes en riesgo
      */
     public List<Student> getStudentsAtRiskByProgram(String academicProgram) {
         List<Student> students = studentRepository.findByAcademicProgramAndActive(academicProgram, true);
+        Map<String, String> trafficLights = classifyStudents(students);
 
         return students.stream()
-                .filter(student -> isStudentAtAcademicRisk(student.getId()))
+                .filter(student -> "RED".equals(trafficLights.get(student.getId())))
                 .toList();
     }
 
@@ -191,49 +228,185 @@ public class TrafficLightService {
      * @return Array con [verde, amarillo, rojo] counts
      */
     public int[] getTrafficLightStatisticsByProgram(String academicProgram) {
-        List<Student> students = studentRepository.findByAcademicProgramAndActive(academicProgram, true);
+        Map<String, String> trafficLights = getTrafficLightsByProgram(academicProgram);
 
         int green = 0, yellow = 0, red = 0;
 
-        for (Student student : students) {
-            try {
-                String trafficLight = getAcademicTrafficLight(student.getId());
-                switch (trafficLight) {
-                    case "GREEN": green++; break;
-                    case "YELLOW": yellow++; break;
-                    case "RED": red++; break;
-                }
-            } catch (AppException e) {
-                red++;
+        for (String trafficLight : trafficLights.values()) {
+            switch (trafficLight) {
+                case "GREEN": green++; break;
+                case "YELLOW": yellow++; break;
+                case "RED": red++; break;
             }
         }
 
         return new int[]{green, yellow, red};
     }
 
+    /**
+     * Calcula el semáforo académico de todos los estudiantes activos de un programa.
+     *
+     * @param academicProgram Programa académico
+     * @return Mapa ordenado de ID de estudiante a color del semáforo
+     */
+    public Map<String, String> getTrafficLightsByProgram(String academicProgram) {
+        return classifyStudents(studentRepository.findByAcademicProgramAndActive(academicProgram, true));
+    }
+
+    /**
+     * Calcula el semáforo académico de un conjunto de estudiantes en memoria.
+     * El progreso y los cursos reprobados se cargan con una consulta masiva cada uno,
+     * en lugar de dos a cuatro consultas por estudiante. Aplica las mismas reglas que
+     * {@link #getAcademicTrafficLight(String)}; un estudiante sin progreso académico queda en ROJO.
+     *
+     * @param students Estudiantes a clasificar
+     * @return Mapa ordenado de ID de estudiante a color del semáforo
+     */
+    public Map<String, String> classifyStudents(List<Student> students) {
+        Map<String, String> trafficLights = new LinkedHashMap<>();
+        if (students.isEmpty()) {
+            return trafficLights;
+        }
+
+        List<String> studentIds = students.stream().map(Student::getId).toList();
+        Map<String, StudentAcademicProgress> progressByStudent =
+                studentAcademicProgressRepository.findProgressByStudentIds(studentIds);
+        Map<String, Long> failedCoursesByStudent = countFailedCoursesInCurrentSemester(students);
+
+        for (Student student : students) {
+            StudentAcademicProgress progress = progressByStudent.get(student.getId());
+            if (!student.isActive() || progress == null) {
+                trafficLights.put(student.getId(), "RED");
+            } else {
+                long failedCoursesCount = failedCoursesByStudent.getOrDefault(student.getId(), 0L);
+                trafficLights.put(student.getId(), calculateTrafficLight(progress, failedCoursesCount));
+            }
+        }
+
+        return trafficLights;
+    }
+
     /**
      * Obtiene el progreso académico con información del estudiante.
+     * El progreso y el semáforo precalculado se leen en paralelo con el estudiante; los
+     * errores del estudiante (inexistente o inactivo) tienen prioridad.
      *
      * @param studentId ID del estudiante
      * @return Objeto combinado con información del estudiante y progreso
      */
     public StudentProgressInfo getStudentProgressInfo(String studentId) {
+        CompletableFuture<StudentAcademicProgress> progressRead =
+                parallelReadService.submit(() -> getCurriculumProgress(studentId));
+        CompletableFuture<Optional<TrafficLightSnapshot>> snapshotRead =
+                parallelReadService.submit(() -> trafficLightSnapshotRepository.findById(studentId));
+
+        Student student;
+        try {
+            student = getStudentInformation(studentId);
+        } catch (RuntimeException e) {
+            parallelReadService.awaitAll(progressRead, snapshotRead);
+            throw e;
+        }
+        StudentAcademicProgress progress = parallelReadService.join(progressRead);
+        TrafficLightSnapshot snapshot = parallelReadService.join(snapshotRead)
+                .orElseGet(() -> storeSnapshot(student, progress));
+
+        return new StudentProgressInfo(student, progress, snapshot.getTrafficLight(), snapshot.getProgressPercentage());
+    }
+
+    /**
+     * Obtiene el semáforo a partir del estudiante y el progreso que el llamador ya cargó,
+     * sin volver a consultarlos. Igual que en {@link #classifyStudents(List)}, un estudiante
+     * inactivo queda en ROJO.
+     *
+     * @param student Estudiante
+     * @param progress Progreso académico del estudiante
+     * @return Color del semáforo ("GREEN", "YELLOW", "RED")
+     */
+    public String getAcademicTrafficLight(Student student, StudentAcademicProgress progress) {
+        if (!student.isActive()) {
+            return "RED";
+        }
+        return getSnapshot(student, progress).getTrafficLight();
+    }
+
+    /**
+     * Obtiene el semáforo precalculado a partir del estudiante y el progreso ya cargados,
+     * calculándolo y guardándolo si aún no existe.
+     *
+     * @param student Estudiante activo
+     * @param progress Progreso académico del estudiante
+     * @return Semáforo precalculado del estudiante
+     */
+    private TrafficLightSnapshot getSnapshot(Student student, StudentAcademicProgress progress) {
+        return trafficLightSnapshotRepository.findById(student.getId())
+                .orElseGet(() -> storeSnapshot(student, progress));
+    }
+
+    /**
+     * Calcula y guarda el semáforo del estudiante desde sus datos académicos actuales.
+     *
+     * @param studentId ID del estudiante
+     * @return Semáforo calculado
+     * @throws AppException si el estudiante no existe, está inactivo o no tiene progreso académico
+     */
+    private TrafficLightSnapshot computeSnapshot(String studentId) {
         Student student = getStudentInformation(studentId);
-        StudentAcademicProgress progress = getCurriculumProgress(studentId);
-        String trafficLight = getAcademicTrafficLight(studentId);
-        Double progressPercentage = getCurriculumProgressPercentage(studentId);
 
-        return new StudentProgressInfo(student, progress, trafficLight, progressPercentage);
+        Optional<StudentAcademicProgress> progressOptional =
+                studentAcademicProgressRepository.findByStudentId(studentId);
+
+        if (progressOptional.isEmpty()) {
+            throw new AppException("Progreso académico no encontrado para el estudiante: " + studentId);
+        }
+
+        return storeSnapshot(student, progressOptional.get());
+    }
+
+    /**
+     * Construye y guarda el semáforo del estudiante.
+     *
+     * @param student Estudiante activo
+     * @param progress Progreso académico del estudiante
+     * @return Semáforo guardado
+     */
+    private TrafficLightSnapshot storeSnapshot(Student student, StudentAcademicProgress progress) {
+        long failedCoursesCount = getFailedCoursesCount(student);
+        TrafficLightSnapshot snapshot = new TrafficLightSnapshot(
+                student.getId(),
+                student.getAcademicProgram(),
+                calculateTrafficLight(progress, failedCoursesCount),
+                calculateProgressPercentage(progress),
+                failedCoursesCount,
+                new Date());
+
+        trafficLightSnapshotRepository.save(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Calcula el porcentaje de avance curricular.
+     *
+     * @param progress Progreso académico del estudiante
+     * @return Porcentaje de avance (0.0 a 100.0)
+     */
+    private Double calculateProgressPercentage(StudentAcademicProgress progress) {
+        if (progress.getTotalCreditsRequired() == null || progress.getTotalCreditsRequired() == 0) {
+            return 0.0;
+        }
+
+        double percentage = ((double) progress.getCompletedCredits() / progress.getTotalCreditsRequired()) * 100;
+        return Math.min(100.0, Math.round(percentage * 100.0) / 100.0);
     }
 
     /**
      * Calcula el color del semáforo académico basado en el progreso del estudiante.
      *
      * @param progress Progreso académico del estudiante
-     * @param student Información del estudiante
+     * @param failedCoursesCount Cursos reprobados en el semestre actual del estudiante
      * @return Color del semáforo ("GREEN", "YELLOW", "RED")
      */
-    private String calculateTrafficLight(StudentAcademicProgress progress, Student student) {
+    private String calculateTrafficLight(StudentAcademicProgress progress, long failedCoursesCount) {
         Double gpa = progress.getCumulativeGPA() != null ? progress.getCumulativeGPA() : 0.0;
         Integer completedCredits = progress.getCompletedCredits() != null ? progress.getCompletedCredits() : 0;
         Integer currentSemester = progress.getCurrentSemester() != null ? progress.getCurrentSemester() : 1;
@@ -243,8 +416,6 @@ public class TrafficLightService {
         int expectedCreditsPerSemester = totalCreditsRequired / totalSemesters;
         int expectedCredits = currentSemester * expectedCreditsPerSemester;
 
-        long failedCoursesCount = getFailedCoursesCount(student.getId());
-
         boolean hasExcellentGPA = gpa >= 4.0;
         boolean hasGoodGPA = gpa >= 3.0;
         boolean hasMinimumGPA = gpa >= 2.5;
@@ -267,26 +438,55 @@ public class TrafficLightService {
     /**
      * Obtiene el número de cursos reprobados en el último semestre.
      *
-     * @param studentId ID del estudiante
+     * @param student Estudiante
      * @return Número de cursos reprobados
      */
-    private long getFailedCoursesCount(String studentId) {
-        Optional<Student> student = studentRepository.findById(studentId);
-        if (student.isEmpty()) return 0;
-
-        Integer currentSemester = student.get().getSemester();
+    private long getFailedCoursesCount(Student student) {
+        Integer currentSemester = student.getSemester();
         if (currentSemester == null) return 0;
 
         String currentSemesterStr = currentSemester.toString();
 
         List<CourseStatusDetail> currentSemesterCourses =
-                courseStatusDetailRepository.findByStudentIdAndSemester(studentId, currentSemesterStr);
+                courseStatusDetailRepository.findByStudentIdAndSemester(student.getId(), currentSemesterStr);
 
         return currentSemesterCourses.stream()
                 .filter(course -> !course.getIsApproved())
                 .count();
     }
 
+    /**
+     * Cuenta, con una sola consulta, los cursos reprobados de cada estudiante
+     * en su semestre actual.
+     *
+     * @param students Estudiantes a evaluar
+     * @return Mapa de ID de estudiante a número de cursos reprobados
+     */
+    private Map<String, Long> countFailedCoursesInCurrentSemester(List<Student> students) {
+        Map<String, String> currentSemesterByStudent = new HashMap<>();
+        for (Student student : students) {
+            if (student.getSemester() != null) {
+                currentSemesterByStudent.put(student.getId(), student.getSemester().toString());
+            }
+        }
+
+        Map<String, Long> failedCoursesByStudent = new HashMap<>();
+        if (currentSemesterByStudent.isEmpty()) {
+            return failedCoursesByStudent;
+        }
+
+        List<CourseStatusDetail> failedCourses =
+                courseStatusDetailRepository.findFailedCourseMarksByStudentIdIn(currentSemesterByStudent.keySet());
+        for (CourseStatusDetail course : failedCourses) {
+            String currentSemester = currentSemesterByStudent.get(course.getStudentId());
+            if (currentSemester != null && currentSemester.equals(course.getSemester())) {
+                failedCoursesByStudent.merge(course.getStudentId(), 1L, Long::sum);
+            }
+        }
+
+        return failedCoursesByStudent;
+    }
+
     /**
      * Obtiene la descripción del estado basado en el color del semáforo.
      *
@@ -0,0 +1,123 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.User;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.UserIdentityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Servicio que mantiene el índice unificado de identidades (email → colección, ID, rol, estado).
+ * Los servicios de estudiantes, profesores, administradores, decanos y usuarios lo
+ * actualizan en sus operaciones de creación, actualización y eliminación.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+public class UserIdentityService {
+
+    @Autowired
+    private UserIdentityRepository userIdentityRepository;
+
+    /**
+     * Busca la identidad asociada a un email.
+     *
+     * @param email Email de la cuenta
+     * @return Optional con la identidad encontrada
+     */
+    public Optional<UserIdentity> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return userIdentityRepository.findById(email);
+    }
+
+    /**
+     * Verifica si un email ya está indexado para alguna cuenta.
+     *
+     * @param email Email a verificar
+     * @return true si el email está indexado
+     */
+    public boolean existsByEmail(String email) {
+        return email != null && userIdentityRepository.existsById(email);
+    }
+
+    /**
+     * Verifica que el email no esté indexado para otra cuenta.
+     *
+     * @param email Email a verificar
+     * @param userCollection Colección de la cuenta que quiere usar el email
+     * @param userId ID de la cuenta, o null si aún no ha sido creada
+     * @throws AppException si el email pertenece a otra cuenta
+     */
+    public void ensureEmailAvailable(String email, String userCollection, String userId) {
+        Optional<UserIdentity> identity = findByEmail(email);
+        if (identity.isPresent() && !belongsTo(identity.get(), userCollection, userId)) {
+            throw new AppException("El email ya está registrado: " + email);
+        }
+    }
+
+    /**
+     * Registra o actualiza la identidad de una cuenta.
+     * Un email nuevo se inserta, de modo que nunca sobrescribe la entrada de otra cuenta;
+     * si la cuenta cambió de email, la entrada anterior se elimina después de insertar la nueva.
+     *
+     * @param user Cuenta guardada
+     * @param userCollection Colección donde se almacena la cuenta
+     * @return Identidad indexada, o null si la cuenta no tiene ID o email
+     * @throws AppException si el email ya está indexado para otra cuenta
+     */
+    public UserIdentity index(User user, String userCollection) {
+        if (user == null || user.getId() == null || user.getEmail() == null) {
+            return null;
+        }
+
+        UserIdentity identity = new UserIdentity(
+                user.getEmail(),
+                userCollection,
+                user.getId(),
+                user.getRole(),
+                user.isActive());
+
+        boolean alreadyIndexed = findByEmail(user.getEmail())
+                .filter(existing -> belongsTo(existing, userCollection, user.getId()))
+                .isPresent();
+        if (alreadyIndexed) {
+            return userIdentityRepository.save(identity);
+        }
+
+        try {
+            userIdentityRepository.insert(identity);
+        } catch (DuplicateKeyException e) {
+            throw new AppException("El email ya está registrado: " + user.getEmail());
+        }
+        userIdentityRepository.deleteByUserCollectionAndUserIdAndEmailNot(
+                userCollection, user.getId(), user.getEmail());
+        return identity;
+    }
+
+    /**
+     * Elimina la identidad de una cuenta.
+     *
+     * @param userCollection Colección donde se almacenaba la cuenta
+     * @param userId ID de la cuenta
+     */
+    public void remove(String userCollection, String userId) {
+        userIdentityRepository.deleteByUserCollectionAndUserId(userCollection, userId);
+    }
+
+    /**
+     * Indica si la identidad corresponde a la cuenta dada.
+     */
+    private boolean belongsTo(UserIdentity identity, String userCollection, String userId) {
+        return userId != null
+                && userId.equals(identity.getUserId())
+                && userCollection.equals(identity.getUserCollection());
+    }
+}
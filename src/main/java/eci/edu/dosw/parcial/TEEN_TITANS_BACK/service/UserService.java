@@ -1,13 +1,18 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.UserSummaryDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.User;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -20,6 +25,9 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserIdentityService userIdentityService;
+
     /**
      * Crea un nuevo usuario en el sistema.
      *
@@ -31,7 +39,11 @@ public class UserService {
         if (userRepository.existsByEmail(user.getEmail())) {
             throw new AppException("El email ya está registrado: " + user.getEmail());
         }
-        return userRepository.save(user);
+        userIdentityService.ensureEmailAvailable(user.getEmail(), UserIdentity.USERS, null);
+
+        User savedUser = userRepository.save(user);
+        userIdentityService.index(savedUser, UserIdentity.USERS);
+        return savedUser;
     }
 
     /**
@@ -53,6 +65,48 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    /**
+     * Obtiene una página de usuarios ordenados por su ID, continuando después del cursor indicado.
+     *
+     * @param cursor Cursor de la página anterior, o null para la primera página
+     * @param size Tamaño de la página
+     * @return Página de usuarios, leídos sin contraseña ni fechas de auditoría, con el cursor
+     *         de la página siguiente
+     * @throws AppException si el cursor o el tamaño de página no son válidos
+     */
+    public CursorPageDTO<UserSummaryDTO> getUsersPage(String cursor, int size) {
+        CursorPageDTO.validateSize(size);
+        String after = CursorPageDTO.decodeCursor(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<UserSummaryDTO> users = after == null
+                ? userRepository.findSummaryByOrderByIdAsc(limit)
+                : userRepository.findSummaryByIdGreaterThanOrderByIdAsc(after, limit);
+        return CursorPageDTO.of(users, size, UserSummaryDTO::getId);
+    }
+
+    /**
+     * Busca usuarios con una sola consulta a la base de datos, aplicando solo los filtros indicados.
+     * Si el rol no existe no hay usuarios que lo tengan y se devuelve una lista vacía.
+     *
+     * @param role Nombre del rol, sin distinguir mayúsculas (opcional)
+     * @param active Estado de actividad (opcional)
+     * @param limit Número máximo de usuarios a devolver
+     * @return Lista de usuarios, sin contraseña, ordenados por su ID
+     * @throws AppException si el límite está fuera del rango permitido
+     */
+    public List<User> searchUsers(String role, Boolean active, int limit) {
+        CursorPageDTO.validateSize(limit);
+        UserRole userRole = null;
+        if (role != null) {
+            try {
+                userRole = UserRole.valueOf(role.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return List.of();
+            }
+        }
+        return userRepository.search(userRole, active, limit);
+    }
+
     /**
      * Actualiza la información de un usuario existente.
      *
@@ -72,8 +126,12 @@ public class UserService {
             throw new AppException("El email ya está en uso por otro usuario: " + user.getEmail());
         }
 
+        userIdentityService.ensureEmailAvailable(user.getEmail(), UserIdentity.USERS, id);
+
         user.setId(id);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userIdentityService.index(savedUser, UserIdentity.USERS);
+        return savedUser;
     }
 
     /**
@@ -87,6 +145,7 @@ public class UserService {
             throw new AppException("Usuario no encontrado con ID: " + id);
         }
         userRepository.deleteById(id);
+        userIdentityService.remove(UserIdentity.USERS, id);
     }
 
     /**
@@ -121,7 +180,9 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new AppException("Usuario no encontrado con ID: " + id));
         user.setActive(true);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userIdentityService.index(savedUser, UserIdentity.USERS);
+        return savedUser;
     }
 
     /**
@@ -135,7 +196,9 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new AppException("Usuario no encontrado con ID: " + id));
         user.setActive(false);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userIdentityService.index(savedUser, UserIdentity.USERS);
+        return savedUser;
     }
 
     /**
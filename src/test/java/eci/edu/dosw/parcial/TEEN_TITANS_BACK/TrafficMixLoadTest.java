@@ -0,0 +1,426 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.CourseStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RoomType;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Classroom;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Course;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.CourseStatusDetail;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Group;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.GroupEnrollment;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Schedule;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.StudentAcademicProgress;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Prueba de carga de extremo a extremo con la mezcla de tráfico de inscripciones.
+ *
+ * Inicia la aplicación completa contra un MongoDB embebido, siembra una universidad
+ * sintética y envía a una tasa fija (modelo abierto) la mezcla de: login, semáforo
+ * académico, horario actual del portal del estudiante, creación de solicitudes y
+ * aprobación administrativa. Al final reporta p50, p95 y p99 de latencia por endpoint.
+ *
+ * La latencia se mide desde el instante en que la petición debía salir según la tasa
+ * configurada, de modo que las esperas por saturación del cliente también cuentan.
+ *
+ * Ejecución: {@code mvn test -Pload-test}, con las propiedades opcionales
+ * {@code loadtest.rps}, {@code loadtest.durationSeconds}, {@code loadtest.warmupSeconds},
+ * {@code loadtest.concurrency} y {@code loadtest.students}. Si el binario de MongoDB no
+ * se puede descargar o iniciar, la prueba se omite.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Tag("load-test")
+class TrafficMixLoadTest {
+
+    private static final int RPS = Integer.getInteger("loadtest.rps", 100);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 60);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 10);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 64);
+    private static final int STUDENTS = Integer.getInteger("loadtest.students", 5_000);
+
+    private static final int COURSES = 60;
+    private static final int GROUPS_PER_COURSE = 4;
+    private static final int COURSES_PER_STUDENT = 5;
+    private static final int CLASSROOM_CAPACITY = 400;
+    private static final int SEEDED_PENDING_REQUESTS = 2_000;
+    private static final String PASSWORD = "secreto";
+
+    /**
+     * Endpoints de la mezcla con su peso relativo en el tráfico.
+     */
+    enum Endpoint {
+        LOGIN(30),
+        TRAFFIC_LIGHT(25),
+        CURRENT_SCHEDULE(25),
+        CREATE_REQUEST(12),
+        APPROVE_REQUEST(8);
+
+        private final int weight;
+
+        Endpoint(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+    private static ConfigurableApplicationContext context;
+    private static String baseUrl;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ConcurrentLinkedQueue<String> pendingRequestIds = new ConcurrentLinkedQueue<>();
+
+    @BeforeAll
+    static void startApplication() {
+        try {
+            mongod = Mongod.instance().start(Version.Main.V7_0);
+        } catch (RuntimeException e) {
+            assumeTrue(false, "MongoDB embebido no disponible: " + e.getMessage());
+        }
+
+        context = new SpringApplicationBuilder(TeenTitansBackApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "spring.data.mongodb.uri=mongodb://" + mongod.current().getServerAddress() + "/teen_titans_load",
+                        "spring.data.mongodb.database=teen_titans_load",
+                        "logging.level.root=WARN",
+                        "logging.level.org.springframework.data.mongodb.core.MongoTemplate=WARN",
+                        "logging.level.org.mongodb.driver=WARN")
+                .run();
+        baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    @AfterAll
+    static void stopApplication() {
+        if (context != null) {
+            context.close();
+        }
+        if (mongod != null) {
+            mongod.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Carga - mezcla de tráfico de inscripciones a tasa fija")
+    void testTrafficMix() throws InterruptedException {
+        seedUniversity(context.getBean(MongoTemplate.class));
+
+        if (WARMUP_SECONDS > 0) {
+            drive(WARMUP_SECONDS, new LatencyRecorder());
+        }
+        LatencyRecorder recorder = new LatencyRecorder();
+        drive(DURATION_SECONDS, recorder);
+
+        System.out.println(recorder.report(DURATION_SECONDS));
+        assertAll("Verificar la mezcla de tráfico",
+                () -> Arrays.stream(Endpoint.values()).forEach(endpoint ->
+                        assertTrue(recorder.count(endpoint) > 0, "Sin peticiones completadas para " + endpoint)),
+                () -> assertEquals(0, recorder.serverErrors(), "Respuestas 5xx o fallos de conexión durante la carga")
+        );
+    }
+
+    /**
+     * Envía peticiones a la tasa configurada durante el tiempo indicado y espera a que
+     * terminen las que quedaron en curso.
+     */
+    private void drive(int seconds, LatencyRecorder recorder) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        ScheduledExecutorService pacer = Executors.newSingleThreadScheduledExecutor();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RPS;
+        long totalRequests = (long) RPS * seconds;
+        AtomicLong sent = new AtomicLong();
+        long start = System.nanoTime();
+
+        pacer.scheduleAtFixedRate(() -> {
+            long index = sent.getAndIncrement();
+            if (index >= totalRequests) {
+                return;
+            }
+            long intendedStart = start + index * intervalNanos;
+            Endpoint endpoint = pickEndpoint();
+            workers.execute(() -> execute(endpoint, intendedStart, recorder));
+        }, 0, intervalNanos, TimeUnit.NANOSECONDS);
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+        pacer.shutdownNow();
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    private Endpoint pickEndpoint() {
+        int totalWeight = Arrays.stream(Endpoint.values()).mapToInt(endpoint -> endpoint.weight).sum();
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Endpoint endpoint : Endpoint.values()) {
+            roll -= endpoint.weight;
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+        return Endpoint.LOGIN;
+    }
+
+    private void execute(Endpoint endpoint, long intendedStart, LatencyRecorder recorder) {
+        int status;
+        try {
+            HttpResponse<String> response = httpClient.send(buildRequest(endpoint), HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+            if (endpoint == Endpoint.CREATE_REQUEST && status == 201) {
+                JsonNode created = objectMapper.readTree(response.body());
+                pendingRequestIds.add(created.path("requestId").asText());
+            }
+        } catch (Exception e) {
+            status = -1;
+        }
+        recorder.record(endpoint, System.nanoTime() - intendedStart, status);
+    }
+
+    private HttpRequest buildRequest(Endpoint endpoint) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int student = random.nextInt(STUDENTS);
+        switch (endpoint) {
+            case LOGIN:
+                return post("/api/auth/login", Map.of(
+                        "email", email(student), "password", PASSWORD, "role", "STUDENT"));
+            case TRAFFIC_LIGHT:
+                return get("/api/traffic-light/" + studentId(student) + "/traffic-light");
+            case CURRENT_SCHEDULE:
+                return get("/api/student-portal/" + studentId(student) + "/current-schedule");
+            case CREATE_REQUEST:
+                int course = student % COURSES;
+                return post("/api/requests/group-change", Map.of(
+                        "studentId", studentId(student),
+                        "currentGroupId", groupId(course, 0),
+                        "requestedGroupId", groupId(course, 1 + random.nextInt(GROUPS_PER_COURSE - 1)),
+                        "reason", "Cruce de horario con el trabajo"));
+            default:
+                String requestId = pendingRequestIds.poll();
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/api/admin/requests/"
+                                + (requestId != null ? requestId : "REQ-SIN-PENDIENTES") + "/respond"))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of(
+                                "decision", "APPROVED", "comments", "Aprobada en prueba de carga"))))
+                        .build();
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest post(String path, Map<String, String> body) throws Exception {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    /**
+     * Siembra una universidad sintética: cursos con varios grupos, estudiantes con su
+     * identidad de login, progreso académico con los cursos inscritos y un lote de
+     * solicitudes pendientes para la aprobación administrativa.
+     */
+    private void seedUniversity(MongoTemplate mongoTemplate) {
+        Random random = new Random(42);
+
+        List<Group> groups = new ArrayList<>();
+        List<GroupEnrollment> enrollments = new ArrayList<>();
+        List<Course> courses = new ArrayList<>();
+        for (int c = 0; c < COURSES; c++) {
+            Course course = new Course("Curso " + c, 3, "Curso sintético", "Ingeniería de Sistemas", true);
+            course.setCourseCode(courseCode(c));
+            courses.add(course);
+            for (int g = 0; g < GROUPS_PER_COURSE; g++) {
+                Classroom classroom = new Classroom("Bloque " + (char) ('A' + g), String.valueOf(100 + c),
+                        CLASSROOM_CAPACITY, RoomType.REGULAR);
+                classroom.setClassroomId("CLS-" + c + "-" + g);
+                Group group = new Group();
+                group.setGroupId(groupId(c, g));
+                group.setSection(String.valueOf((char) ('A' + g)));
+                group.setCourse(course);
+                group.setSchedule(new Schedule("LUNES", (7 + g * 2) + ":00", (9 + g * 2) + ":00", "2025-1"));
+                group.setClassroom(classroom);
+                groups.add(group);
+                enrollments.add(new GroupEnrollment(group.getGroupId(), CLASSROOM_CAPACITY / 10, new Date()));
+            }
+        }
+        mongoTemplate.insert(courses, Course.class);
+        mongoTemplate.insert(groups, Group.class);
+        mongoTemplate.insert(enrollments, GroupEnrollment.class);
+
+        List<Student> students = new ArrayList<>();
+        List<UserIdentity> identities = new ArrayList<>();
+        List<StudentAcademicProgress> progresses = new ArrayList<>();
+        for (int s = 0; s < STUDENTS; s++) {
+            Student student = new Student(studentId(s), "Estudiante " + s, email(s), PASSWORD,
+                    "Ingeniería de Sistemas", 1 + random.nextInt(10));
+            students.add(student);
+            identities.add(new UserIdentity(email(s), UserIdentity.STUDENTS, student.getId(),
+                    UserRole.STUDENT, true));
+
+            List<CourseStatusDetail> enrolled = new ArrayList<>();
+            for (int k = 0; k < COURSES_PER_STUDENT; k++) {
+                int c = (s + k * 7) % COURSES;
+                CourseStatusDetail detail = new CourseStatusDetail();
+                detail.setId(student.getId() + "-" + courseCode(c));
+                detail.setStudentId(student.getId());
+                detail.setCourse(courses.get(c));
+                detail.setGroup(groups.get(c * GROUPS_PER_COURSE));
+                detail.setStatus(CourseStatus.ENROLLED);
+                detail.setSemester("2025-1");
+                detail.setEnrollmentDate(new Date());
+                enrolled.add(detail);
+            }
+            StudentAcademicProgress progress = new StudentAcademicProgress();
+            progress.setId("PRG-" + student.getId());
+            progress.setStudent(student);
+            progress.setAcademicProgram(student.getAcademicProgram());
+            progress.setFaculty("Ingeniería");
+            progress.setCurrentSemester(student.getSemester());
+            progress.setTotalSemesters(10);
+            progress.setTotalCreditsRequired(160);
+            progress.setCompletedCredits(student.getSemester() * 15);
+            progress.setCumulativeGPA(2.5 + random.nextDouble() * 2.5);
+            progress.setCoursesStatus(enrolled);
+            progresses.add(progress);
+        }
+        mongoTemplate.insert(students, Student.class);
+        mongoTemplate.insert(identities, UserIdentity.class);
+        mongoTemplate.insert(progresses, StudentAcademicProgress.class);
+
+        List<ScheduleChangeRequest> requests = new ArrayList<>();
+        for (int r = 0; r < SEEDED_PENDING_REQUESTS; r++) {
+            int c = r % COURSES;
+            ScheduleChangeRequest request = ScheduleChangeRequest.builder()
+                    .requestId(String.format("REQ-SEED-%05d", r))
+                    .student(students.get(random.nextInt(STUDENTS)))
+                    .faculty("Ingeniería")
+                    .currentGroup(groups.get(c * GROUPS_PER_COURSE))
+                    .requestedGroup(groups.get(c * GROUPS_PER_COURSE + 1))
+                    .reason("Conflicto de horario")
+                    .status(RequestStatus.PENDING)
+                    .build();
+            requests.add(request);
+            pendingRequestIds.add(request.getRequestId());
+        }
+        mongoTemplate.insert(requests, ScheduleChangeRequest.class);
+    }
+
+    private static String studentId(int index) {
+        return String.format("STU%05d", index);
+    }
+
+    private static String email(int index) {
+        return "estudiante" + index + "@escuelaing.edu.co";
+    }
+
+    private static String courseCode(int index) {
+        return String.format("CRS%03d", index);
+    }
+
+    private static String groupId(int course, int group) {
+        return courseCode(course) + "-G" + group;
+    }
+
+    /**
+     * Registra la latencia y el código de respuesta de cada petición, por endpoint.
+     */
+    static class LatencyRecorder {
+        private final Map<Endpoint, ConcurrentLinkedQueue<Long>> latencies = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, ConcurrentLinkedQueue<Integer>> statuses = new EnumMap<>(Endpoint.class);
+
+        LatencyRecorder() {
+            for (Endpoint endpoint : Endpoint.values()) {
+                latencies.put(endpoint, new ConcurrentLinkedQueue<>());
+                statuses.put(endpoint, new ConcurrentLinkedQueue<>());
+            }
+        }
+
+        void record(Endpoint endpoint, long latencyNanos, int status) {
+            latencies.get(endpoint).add(latencyNanos);
+            statuses.get(endpoint).add(status);
+        }
+
+        int count(Endpoint endpoint) {
+            return latencies.get(endpoint).size();
+        }
+
+        long serverErrors() {
+            return statuses.values().stream()
+                    .flatMap(ConcurrentLinkedQueue::stream)
+                    .filter(status -> status < 0 || status >= 500)
+                    .count();
+        }
+
+        String report(int seconds) {
+            StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+                    "%nPrueba de carga: %d rps objetivo durante %d s%n%-18s %8s %8s %8s %10s %10s %10s %10s%n",
+                    RPS, seconds, "endpoint", "total", "2xx", "4xx", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+            for (Endpoint endpoint : Endpoint.values()) {
+                long[] sorted = latencies.get(endpoint).stream().mapToLong(Long::longValue).sorted().toArray();
+                long ok = statuses.get(endpoint).stream().filter(status -> status >= 200 && status < 300).count();
+                long clientErrors = statuses.get(endpoint).stream().filter(status -> status >= 400 && status < 500).count();
+                report.append(String.format(Locale.ROOT, "%-18s %8d %8d %8d %10.1f %10.1f %10.1f %10.1f%n",
+                        endpoint, sorted.length, ok, clientErrors,
+                        percentileMillis(sorted, 50), percentileMillis(sorted, 95), percentileMillis(sorted, 99),
+                        percentileMillis(sorted, 100)));
+            }
+            return report.toString();
+        }
+
+        private double percentileMillis(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+    }
+}
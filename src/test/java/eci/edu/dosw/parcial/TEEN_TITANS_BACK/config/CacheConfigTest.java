@@ -0,0 +1,255 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.config;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.AcademicPeriod;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Course;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.*;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.GeneralManagementService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.GroupEnrollmentService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.GroupProjectionService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.ParallelReadService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.TrafficLightService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.AopTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CacheConfigTest {
+
+    private AnnotationConfigApplicationContext context;
+    private AcademicPeriodRepository academicPeriodRepository;
+    private AcademicPeriodRepository academicPeriodMock;
+    private CourseRepository courseRepository;
+    private CourseRepository courseMock;
+    private GeneralManagementService generalManagementService;
+    private GroupProjectionService groupProjectionService;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(TestConfig.class);
+        academicPeriodRepository = context.getBean(AcademicPeriodRepository.class);
+        courseRepository = context.getBean(CourseRepository.class);
+        academicPeriodMock = AopTestUtils.getUltimateTargetObject(academicPeriodRepository);
+        courseMock = AopTestUtils.getUltimateTargetObject(courseRepository);
+        generalManagementService = context.getBean(GeneralManagementService.class);
+        groupProjectionService = context.getBean(GroupProjectionService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - referenceDataCacheNames crea las cachés de datos de referencia")
+    @SuppressWarnings("unchecked")
+    void testReferenceDataCacheNames() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        CacheManagerCustomizer<CaffeineCacheManager> customizer = new CacheConfig().referenceDataCacheNames();
+
+        customizer.customize(cacheManager);
+
+        assertAll("Verificar cachés creadas",
+                () -> assertNotNull(cacheManager.getCache(CacheConfig.COURSES)),
+                () -> assertNotNull(cacheManager.getCache(CacheConfig.CLASSROOMS)),
+                () -> assertNotNull(cacheManager.getCache(CacheConfig.SCHEDULES)),
+                () -> assertNotNull(cacheManager.getCache(CacheConfig.ACTIVE_ACADEMIC_PERIOD)),
+                () -> assertNull(cacheManager.getCache("otraCache"))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - populationStatisticsCache registra la caché de estadísticas con su expiración")
+    void testPopulationStatisticsCache() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        new CacheConfig().referenceDataCacheNames().customize(cacheManager);
+
+        new CacheConfig().populationStatisticsCache(30).customize(cacheManager);
+
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.POPULATION_STATISTICS);
+        assertAll("Verificar caché de estadísticas",
+                () -> assertNotNull(cache),
+                () -> assertEquals(Duration.ofSeconds(30), cache.getNativeCache().policy().expireAfterWrite()
+                        .orElseThrow().getExpiresAfter()),
+                () -> assertNotNull(cacheManager.getCache(CacheConfig.COURSES))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - el período activo se consulta una sola vez y se invalida al activar otro")
+    void testActiveAcademicPeriod_CacheadoEInvalidado() {
+        AcademicPeriod active = AcademicPeriod.builder().periodId("2025-1").isActive(true).build();
+        AcademicPeriod next = AcademicPeriod.builder().periodId("2025-2").build();
+        when(academicPeriodMock.findByIsActiveTrue()).thenReturn(Optional.of(active));
+        when(academicPeriodMock.findById("2025-2")).thenReturn(Optional.of(next));
+        when(academicPeriodMock.save(any(AcademicPeriod.class))).thenAnswer(i -> i.getArgument(0));
+
+        academicPeriodRepository.findByIsActiveTrue();
+        academicPeriodRepository.findByIsActiveTrue();
+        generalManagementService.activateAcademicPeriod("2025-2");
+        academicPeriodRepository.findByIsActiveTrue();
+
+        verify(academicPeriodMock, times(2)).findByIsActiveTrue();
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - un curso se cachea y updateCourse invalida solo su entrada")
+    void testCourse_CacheadoEInvalidado() {
+        Course course = new Course("CS101", "Programación", 3, null, "Sistemas", true);
+        Course other = new Course("CS102", "Estructuras", 4, null, "Sistemas", true);
+        when(courseMock.findById("CS101")).thenReturn(Optional.of(course));
+        when(courseMock.findById("CS102")).thenReturn(Optional.of(other));
+        when(courseMock.existsById("CS101")).thenReturn(true);
+        when(courseMock.save(any(Course.class))).thenAnswer(i -> i.getArgument(0));
+
+        courseRepository.findById("CS101");
+        courseRepository.findById("CS102");
+        generalManagementService.updateCourse("CS101", course);
+        courseRepository.findById("CS101");
+        courseRepository.findById("CS102");
+
+        assertAll("Verificar consultas al repositorio",
+                () -> verify(courseMock, times(2)).findById("CS101"),
+                () -> verify(courseMock, times(1)).findById("CS102")
+        );
+    }
+
+    @Test
+    @DisplayName("Caso error - toggleCourseStatus fallido no altera el curso en caché")
+    void testToggleCourseStatus_FalloNoAlteraCache() {
+        Course course = new Course("CS101", "Programación", 3, null, "Sistemas", true);
+        when(courseMock.findById("CS101")).thenReturn(Optional.of(course));
+        when(courseMock.save(any(Course.class))).thenThrow(new RuntimeException("Error de conexión"));
+
+        courseRepository.findById("CS101");
+        assertThrows(RuntimeException.class, () -> generalManagementService.toggleCourseStatus("CS101", false));
+        Course cached = courseRepository.findById("CS101").orElseThrow();
+
+        assertAll("Verificar curso en caché",
+                () -> assertTrue(cached.getIsActive()),
+                () -> assertTrue(course.getIsActive())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso error - updateCourse invalida el curso aunque falle la propagación")
+    void testUpdateCourse_FalloPropagacionInvalida() {
+        Course course = new Course("CS101", "Programación", 3, null, "Sistemas", true);
+        Course updated = new Course("CS101", "Programación I", 3, null, "Sistemas", true);
+        when(courseMock.findById("CS101")).thenReturn(Optional.of(course), Optional.of(updated));
+        when(courseMock.existsById("CS101")).thenReturn(true);
+        when(courseMock.save(any(Course.class))).thenAnswer(i -> i.getArgument(0));
+        doThrow(new RuntimeException("Error de conexión")).when(groupProjectionService).propagateCourse(any());
+
+        courseRepository.findById("CS101");
+        assertThrows(RuntimeException.class, () -> generalManagementService.updateCourse("CS101", updated));
+        Course cached = courseRepository.findById("CS101").orElseThrow();
+
+        assertAll("Verificar que la caché se invalidó",
+                () -> assertEquals("Programación I", cached.getName()),
+                () -> verify(courseMock, times(2)).findById("CS101")
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - updateCourse descarta el curso viejo cacheado por una lectura concurrente")
+    void testUpdateCourse_LecturaConcurrenteInvalidada() {
+        Course course = new Course("CS101", "Programación", 3, null, "Sistemas", true);
+        Course updated = new Course("CS101", "Programación I", 3, null, "Sistemas", true);
+        when(courseMock.findById("CS101")).thenReturn(Optional.of(course), Optional.of(updated));
+        when(courseMock.existsById("CS101")).thenReturn(true);
+        when(courseMock.save(any(Course.class))).thenAnswer(i -> {
+            courseRepository.findById("CS101");
+            return i.getArgument(0);
+        });
+
+        generalManagementService.updateCourse("CS101", updated);
+        Course cached = courseRepository.findById("CS101").orElseThrow();
+
+        assertAll("Verificar que la lectura concurrente no quedó en caché",
+                () -> assertEquals("Programación I", cached.getName()),
+                () -> verify(courseMock, times(2)).findById("CS101")
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - los cursos inexistentes no se cachean")
+    void testCourse_FalloNoCacheado() {
+        Course course = new Course("CS103", "Redes", 3, null, "Sistemas", true);
+        when(courseMock.findById("CS103")).thenReturn(Optional.empty(), Optional.of(course));
+
+        Optional<Course> missing = courseRepository.findById("CS103");
+        Optional<Course> created = courseRepository.findById("CS103");
+
+        assertAll("Verificar que el fallo no queda en caché",
+                () -> assertTrue(missing.isEmpty()),
+                () -> assertEquals(Optional.of(course), created),
+                () -> verify(courseMock, times(2)).findById("CS103")
+        );
+    }
+
+    @Configuration
+    @Import(CacheConfig.class)
+    static class TestConfig {
+
+        @Bean
+        CaffeineCacheManager cacheManager(CacheManagerCustomizer<CaffeineCacheManager> referenceDataCacheNames) {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+            referenceDataCacheNames.customize(cacheManager);
+            return cacheManager;
+        }
+
+        @Bean
+        AcademicPeriodRepository academicPeriodRepository() {
+            return mock(AcademicPeriodRepository.class);
+        }
+
+        @Bean
+        ClassroomRepository classroomRepository() {
+            return mock(ClassroomRepository.class);
+        }
+
+        @Bean
+        CourseRepository courseRepository() {
+            return mock(CourseRepository.class);
+        }
+
+        @Bean
+        ScheduleRepository scheduleRepository() {
+            return mock(ScheduleRepository.class);
+        }
+
+        @Bean
+        GroupProjectionService groupProjectionService() {
+            return mock(GroupProjectionService.class);
+        }
+
+        @Bean
+        GeneralManagementService generalManagementService(AcademicPeriodRepository academicPeriodRepository,
+                                                          ClassroomRepository classroomRepository,
+                                                          CourseRepository courseRepository,
+                                                          ScheduleRepository scheduleRepository,
+                                                          GroupProjectionService groupProjectionService) {
+            return new GeneralManagementService(academicPeriodRepository, classroomRepository, courseRepository,
+                    mock(CourseStatusDetailRepository.class), mock(GroupRepository.class),
+                    mock(ReviewStepRepository.class), scheduleRepository,
+                    mock(StudentAcademicProgressRepository.class), mock(TrafficLightService.class),
+                    groupProjectionService, mock(GroupEnrollmentService.class),
+                    new ParallelReadService(Runnable::run));
+        }
+    }
+}
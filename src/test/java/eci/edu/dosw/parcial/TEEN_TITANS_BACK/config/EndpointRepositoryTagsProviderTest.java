@@ -0,0 +1,85 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.config;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.GroupRepository;
+import io.micrometer.core.instrument.Tag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointRepositoryTagsProviderTest {
+
+    private final EndpointRepositoryTagsProvider tagsProvider = new EndpointRepositoryTagsProvider();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - repositoryTags agrega el patrón del endpoint de la petición")
+    void testRepositoryTags_ConPeticion() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/student-portal/STU001/current-schedule");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                "/api/student-portal/{studentId}/current-schedule");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        Map<String, String> tags = tagsOf(invocation());
+
+        assertAll("Verificar etiquetas de la invocación",
+                () -> assertEquals("GET /api/student-portal/{studentId}/current-schedule", tags.get("endpoint")),
+                () -> assertEquals("GroupRepository", tags.get("repository")),
+                () -> assertEquals("findById", tags.get("method")),
+                () -> assertEquals("SUCCESS", tags.get("state"))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - repositoryTags no usa la URI cuando no hay patrón de ruta")
+    void testRepositoryTags_SinPatron() throws Exception {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(
+                new MockHttpServletRequest("POST", "/api/requests/group-change")));
+
+        assertEquals(EndpointRepositoryTagsProvider.UNMATCHED_ENDPOINT, tagsOf(invocation()).get("endpoint"));
+    }
+
+    @Test
+    @DisplayName("Caso borde - repositoryTags marca las invocaciones fuera de una petición")
+    void testRepositoryTags_SinPeticion() throws Exception {
+        assertEquals(EndpointRepositoryTagsProvider.NO_ENDPOINT, tagsOf(invocation()).get("endpoint"));
+    }
+
+    private Map<String, String> tagsOf(RepositoryMethodInvocation invocation) {
+        Map<String, String> tags = new HashMap<>();
+        for (Tag tag : tagsProvider.repositoryTags(invocation)) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+        return tags;
+    }
+
+    private RepositoryMethodInvocation invocation() throws NoSuchMethodException {
+        RepositoryMethodInvocationResult result = new RepositoryMethodInvocationResult() {
+            @Override
+            public State getState() {
+                return State.SUCCESS;
+            }
+
+            @Override
+            public Throwable getError() {
+                return null;
+            }
+        };
+        return new RepositoryMethodInvocation(GroupRepository.class,
+                GroupRepository.class.getMethod("findById", Object.class), result, 1_000L);
+    }
+}
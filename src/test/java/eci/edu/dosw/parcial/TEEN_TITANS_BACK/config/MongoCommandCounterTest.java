@@ -0,0 +1,76 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MongoCommandCounterTest {
+
+    private final MongoCommandCounter counter = new MongoCommandCounter();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - commandStarted acumula los comandos de la petición en curso")
+    void testCommandStarted_ConPeticion() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        counter.commandStarted(null);
+        counter.commandStarted(null);
+        counter.commandStarted(null);
+
+        assertEquals(3, MongoCommandCounter.currentCount());
+    }
+
+    @Test
+    @DisplayName("Caso borde - cada petición tiene su propio conteo")
+    void testCommandStarted_PeticionesIndependientes() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        counter.commandStarted(null);
+        counter.commandStarted(null);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        counter.commandStarted(null);
+
+        assertEquals(1, MongoCommandCounter.currentCount());
+    }
+
+    @Test
+    @DisplayName("Caso borde - los comandos de hilos que comparten la petición se suman sin perderse")
+    void testCommandStarted_HilosDeLaMismaPeticion() {
+        RequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        CompletableFuture.allOf(IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    RequestContextHolder.setRequestAttributes(attributes);
+                    try {
+                        IntStream.range(0, 100).forEach(j -> counter.commandStarted(null));
+                    } finally {
+                        RequestContextHolder.resetRequestAttributes();
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).join();
+
+        assertEquals(800, MongoCommandCounter.currentCount());
+    }
+
+    @Test
+    @DisplayName("Caso borde - sin petición en curso no se cuenta")
+    void testCommandStarted_SinPeticion() {
+        assertDoesNotThrow(() -> counter.commandStarted(null));
+        assertEquals(0, MongoCommandCounter.currentCount());
+    }
+}
@@ -0,0 +1,151 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.config;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.CourseStatusDetail;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MongoIndexInitializerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    private MongoIndexInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setInitialEntitySet(Set.of(ScheduleChangeRequest.class, Student.class,
+                UserIdentity.class, CourseStatusDetail.class));
+        mappingContext.afterPropertiesSet();
+        initializer = new MongoIndexInitializer(mongoTemplate, mappingContext);
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - getDeclaredIndexes reúne los índices declarados en los modelos")
+    void testGetDeclaredIndexes_Exitoso() {
+        Map<String, Set<String>> declared = declaredNames();
+
+        assertAll("Verificar índices declarados por colección",
+                () -> assertTrue(declared.get("schedule_change_requests").containsAll(Set.of(
+                        "faculty_submissionDate_idx", "student_submissionDate_idx", "student_status_idx",
+                        "status_submissionDate_idx", "submissionDate_id_idx", "requestedGroup_status_idx",
+                        "currentGroup_status_idx"))),
+                () -> assertEquals(Set.of("userCollection_userId_idx"), declared.get("user_identities")),
+                () -> assertEquals(Set.of("studentId_semester_idx", "group_idx"), declared.get("course_status_details")),
+                () -> assertEquals(Set.of("academicProgram_active_idx", "email_idx"), declared.get("students"))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - ensureIndexes crea cada índice declarado y no reporta faltantes")
+    void testEnsureIndexes_Exitoso() {
+        stubIndexOperations();
+        when(indexOperations.getIndexInfo()).thenAnswer(invocation -> allDeclaredIndexInfo());
+
+        MongoIndexInitializer.IndexReport report = initializer.ensureIndexes();
+
+        int declaredCount = initializer.getDeclaredIndexes().values().stream().mapToInt(List::size).sum();
+        verify(indexOperations, times(declaredCount)).ensureIndex(any(IndexDefinition.class));
+        assertTrue(report.getMissing().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Caso borde - ensureIndexes reporta el índice que no se pudo crear y continúa")
+    void testEnsureIndexes_IndiceEnConflicto() {
+        stubIndexOperations();
+        doThrow(new UncategorizedMongoDbException("IndexOptionsConflict", null))
+                .when(indexOperations).ensureIndex(argThat(definition ->
+                        "email_idx".equals(definition.getIndexOptions().get("name"))));
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(indexInfo("academicProgram_active_idx")));
+
+        MongoIndexInitializer.IndexReport report = initializer.ensureIndexes();
+
+        assertEquals(List.of("email_idx"), report.getMissing().get("students"));
+        assertTrue(report.getMissing().containsKey("schedule_change_requests"));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - ensureIndexes reporta los índices sin accesos según $indexStats")
+    void testEnsureIndexes_IndicesSinUso() {
+        stubIndexOperations();
+        when(indexOperations.getIndexInfo()).thenAnswer(invocation -> allDeclaredIndexInfo());
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("students"), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(
+                        new Document("name", "_id_").append("accesses", new Document("ops", 0L)),
+                        new Document("name", "email_idx").append("accesses", new Document("ops", 42L)),
+                        new Document("name", "legacy_idx").append("accesses", new Document("ops", 0L))),
+                        new Document()));
+
+        MongoIndexInitializer.IndexReport report = initializer.ensureIndexes();
+
+        assertEquals(Map.of("students", List.of("legacy_idx")), report.getUnused());
+    }
+
+    @Test
+    @DisplayName("Caso error - ensureIndexes se detiene si el servidor no está disponible")
+    void testEnsureIndexes_ServidorNoDisponible() {
+        when(mongoTemplate.indexOps(anyString())).thenReturn(indexOperations);
+        doThrow(new DataAccessResourceFailureException("Timed out"))
+                .when(indexOperations).ensureIndex(any(IndexDefinition.class));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> initializer.ensureIndexes());
+        verify(indexOperations, times(1)).ensureIndex(any(IndexDefinition.class));
+    }
+
+    private void stubIndexOperations() {
+        when(mongoTemplate.indexOps(anyString())).thenReturn(indexOperations);
+        when(mongoTemplate.aggregate(any(Aggregation.class), anyString(), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(), new Document()));
+    }
+
+    private Map<String, Set<String>> declaredNames() {
+        return initializer.getDeclaredIndexes().entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().stream()
+                        .map(definition -> definition.getIndexOptions().getString("name"))
+                        .collect(Collectors.toSet())));
+    }
+
+    private List<IndexInfo> allDeclaredIndexInfo() {
+        return declaredNames().values().stream()
+                .flatMap(Set::stream)
+                .map(this::indexInfo)
+                .collect(Collectors.toList());
+    }
+
+    private IndexInfo indexInfo(String name) {
+        return IndexInfo.indexInfoOf(new Document("name", name).append("key", new Document("field", 1)));
+    }
+}
@@ -0,0 +1,67 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCountHeaderAdviceTest {
+
+    private final QueryCountHeaderAdvice advice = new QueryCountHeaderAdvice();
+    private final MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/students");
+    private final ServletServerHttpResponse response = new ServletServerHttpResponse(new MockHttpServletResponse());
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - beforeBodyWrite publica el número de comandos enviados a MongoDB")
+    void testBeforeBodyWrite_ConInvocaciones() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+        MongoCommandCounter counter = new MongoCommandCounter();
+        counter.commandStarted(null);
+        counter.commandStarted(null);
+        Map<String, String> body = Map.of("status", "ok");
+
+        Object written = writeBody(body);
+
+        assertAll("Verificar encabezado de conteo",
+                () -> assertSame(body, written),
+                () -> assertEquals("2", response.getHeaders().getFirst(QueryCountHeaderAdvice.QUERY_COUNT_HEADER))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - beforeBodyWrite publica 0 si la petición no consultó MongoDB")
+    void testBeforeBodyWrite_SinInvocaciones() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+
+        writeBody(null);
+
+        assertEquals("0", response.getHeaders().getFirst(QueryCountHeaderAdvice.QUERY_COUNT_HEADER));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - supports aplica a todas las respuestas")
+    void testSupports() {
+        assertTrue(advice.supports(null, MappingJackson2HttpMessageConverter.class));
+    }
+
+    private Object writeBody(Object body) {
+        return advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, new ServletServerHttpRequest(servletRequest), response);
+    }
+}
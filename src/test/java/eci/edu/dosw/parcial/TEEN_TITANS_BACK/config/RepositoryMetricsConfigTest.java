@@ -0,0 +1,75 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.config;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.event.CommandListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryMetricsConfigTest {
+
+    private final RepositoryMetricsConfig config = new RepositoryMetricsConfig();
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(RepositoryMetricsConfig.class, QueryCountHeaderAdvice.class);
+
+    @Test
+    @DisplayName("Caso exitoso - repositoryTagsProvider agrega la etiqueta del endpoint")
+    void testRepositoryTagsProvider() {
+        assertInstanceOf(EndpointRepositoryTagsProvider.class, config.repositoryTagsProvider());
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - el contador de comandos queda registrado en el cliente de MongoDB")
+    void testMongoCommandCounter_RegistradoEnElCliente() {
+        MongoCommandCounter counter = RepositoryMetricsConfig.mongoCommandCounter();
+        MongoConfig mongoConfig = new MongoConfig(new StaticListableBeanFactory(Map.of("mongoCommandCounter", counter))
+                .getBeanProvider(CommandListener.class));
+        ReflectionTestUtils.setField(mongoConfig, "connectionString", "mongodb://localhost:27017/teen_titans");
+        MongoClientSettings.Builder builder = MongoClientSettings.builder();
+
+        mongoConfig.configureClientSettings(builder);
+
+        assertEquals(List.of(counter), builder.build().getCommandListeners());
+    }
+
+    @Test
+    @DisplayName("Caso borde - sin contador el cliente de MongoDB no tiene listeners")
+    void testMongoCommandCounter_SinContador() {
+        MongoConfig mongoConfig = new MongoConfig(new StaticListableBeanFactory()
+                .getBeanProvider(CommandListener.class));
+        ReflectionTestUtils.setField(mongoConfig, "connectionString", "mongodb://localhost:27017/teen_titans");
+        MongoClientSettings.Builder builder = MongoClientSettings.builder();
+
+        mongoConfig.configureClientSettings(builder);
+
+        assertTrue(builder.build().getCommandListeners().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Caso borde - sin la propiedad no se registran el contador ni el encabezado")
+    void testQueryCountHeader_DesactivadoPorDefecto() {
+        contextRunner.run(context -> assertAll("Verificar beans desactivados",
+                () -> assertTrue(context.getBeansOfType(MongoCommandCounter.class).isEmpty()),
+                () -> assertTrue(context.getBeansOfType(QueryCountHeaderAdvice.class).isEmpty()),
+                () -> assertEquals(1, context.getBeansOfType(EndpointRepositoryTagsProvider.class).size())
+        ));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - la propiedad habilita el contador y el encabezado")
+    void testQueryCountHeader_Habilitado() {
+        contextRunner.withPropertyValues("app.metrics.query-count-header.enabled=true")
+                .run(context -> assertAll("Verificar beans habilitados",
+                        () -> assertEquals(1, context.getBeansOfType(MongoCommandCounter.class).size()),
+                        () -> assertEquals(1, context.getBeansOfType(QueryCountHeaderAdvice.class).size())
+                ));
+    }
+}
@@ -3,6 +3,7 @@ package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.*;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.AdminGroupService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.GroupProjectionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,9 @@ public class AdminGroupControllerTest {
     @Mock
     private AdminGroupService adminGroupService;
 
+    @Mock
+    private GroupProjectionService groupProjectionService;
+
     @InjectMocks
     private AdminGroupController adminGroupController;
 
@@ -45,6 +49,28 @@ public class AdminGroupControllerTest {
         scheduleChangeRequest = new ScheduleChangeRequest("1", null, group, group, "Schedule conflict");
     }
 
+    @Test
+    @DisplayName("Caso exitoso - refreshGroupProjections retorna número de grupos regenerados")
+    void testRefreshGroupProjections_Exitoso() {
+        when(groupProjectionService.refreshAllGroups()).thenReturn(3);
+
+        ResponseEntity<?> response = adminGroupController.refreshGroupProjections();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Map.of("refreshedGroups", 3), response.getBody());
+        verify(groupProjectionService, times(1)).refreshAllGroups();
+    }
+
+    @Test
+    @DisplayName("Caso error - refreshGroupProjections retorna error interno ante excepción")
+    void testRefreshGroupProjections_Error() {
+        when(groupProjectionService.refreshAllGroups()).thenThrow(new RuntimeException("Mongo caído"));
+
+        ResponseEntity<?> response = adminGroupController.refreshGroupProjections();
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
     @Test
     @DisplayName("Caso exitoso - createGroup retorna grupo creado")
     void testCreateGroup_Exitoso() {
@@ -1,20 +1,35 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ScheduleChangeRequestExportDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.MigrationStatus;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.MigrationJob;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.AdminRequestService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.MigrationJobService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,6 +40,12 @@ public class AdminRequestControllerTest {
     @Mock
     private AdminRequestService adminRequestService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private MigrationJobService migrationJobService;
+
     @InjectMocks
     private AdminRequestController adminRequestController;
 
@@ -74,42 +95,43 @@ public class AdminRequestControllerTest {
     @DisplayName("Caso exitoso - getGlobalRequests retorna lista de solicitudes")
     void testGetGlobalRequests_Exitoso() {
         List<ScheduleChangeRequest> requests = Arrays.asList(request);
-        when(adminRequestService.getGlobalRequests()).thenReturn(requests);
+        when(adminRequestService.getGlobalRequestsPage(null, 20))
+                .thenReturn(CursorPageDTO.of(requests, 20, ScheduleChangeRequest::getRequestId));
 
-        ResponseEntity<?> response = adminRequestController.getGlobalRequests();
+        ResponseEntity<?> response = adminRequestController.getGlobalRequests(null, 20);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertInstanceOf(List.class, response.getBody());
         assertEquals(1, ((List<?>) response.getBody()).size());
-        verify(adminRequestService, times(1)).getGlobalRequests();
+        verify(adminRequestService, times(1)).getGlobalRequestsPage(null, 20);
     }
 
     @Test
     @DisplayName("Caso error - getGlobalRequests lanza excepción general")
     void testGetGlobalRequests_ExcepcionGeneral() {
-        when(adminRequestService.getGlobalRequests()).thenThrow(new RuntimeException("Error de base de datos"));
+        when(adminRequestService.getGlobalRequestsPage(null, 20)).thenThrow(new RuntimeException("Error de base de datos"));
 
-        ResponseEntity<?> response = adminRequestController.getGlobalRequests();
+        ResponseEntity<?> response = adminRequestController.getGlobalRequests(null, 20);
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertEquals("Error interno del servidor al obtener las solicitudes globales", response.getBody());
-        verify(adminRequestService, times(1)).getGlobalRequests();
+        verify(adminRequestService, times(1)).getGlobalRequestsPage(null, 20);
     }
 
     @Test
     @DisplayName("Caso exitoso - getRequestsByFaculty retorna solicitudes por facultad")
     void testGetRequestsByFaculty_Exitoso() {
-        List<ScheduleChangeRequest> requests = Arrays.asList(request);
-        when(adminRequestService.getRequestsByFaculty("Engineering")).thenReturn(requests);
+        Page<ScheduleChangeRequest> requests = new PageImpl<>(Arrays.asList(request));
+        when(adminRequestService.getRequestsByFaculty("Engineering", 0, 20)).thenReturn(requests);
 
-        ResponseEntity<?> response = adminRequestController.getRequestsByFaculty("Engineering");
+        ResponseEntity<?> response = adminRequestController.getRequestsByFaculty("Engineering", 0, 20);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertInstanceOf(List.class, response.getBody());
-        assertEquals(1, ((List<?>) response.getBody()).size());
-        verify(adminRequestService, times(1)).getRequestsByFaculty("Engineering");
+        assertInstanceOf(Page.class, response.getBody());
+        assertEquals(1, ((Page<?>) response.getBody()).getContent().size());
+        verify(adminRequestService, times(1)).getRequestsByFaculty("Engineering", 0, 20);
     }
 
     @Test
@@ -155,6 +177,55 @@ public class AdminRequestControllerTest {
         verify(adminRequestService, times(1)).respondToRequest("1", RequestStatus.REJECTED, "Solicitud rechazada");
     }
 
+    @Test
+    @DisplayName("Caso exitoso - respondToRequests responde un lote de solicitudes")
+    void testRespondToRequests_Exitoso() {
+        Map<String, Object> bulkBody = new HashMap<>();
+        bulkBody.put("requestIds", List.of("1", "2"));
+        bulkBody.put("decision", "approved");
+        bulkBody.put("comments", "Cierre del periodo");
+        AdminRequestService.BulkDecisionResult result = new AdminRequestService.BulkDecisionResult(List.of(
+                AdminRequestService.BulkDecisionOutcome.success("1", RequestStatus.APPROVED),
+                AdminRequestService.BulkDecisionOutcome.failure("2", "Solicitud no encontrada: 2")));
+        when(adminRequestService.respondToRequests(List.of("1", "2"), RequestStatus.APPROVED, "Cierre del periodo"))
+                .thenReturn(result);
+
+        ResponseEntity<?> response = adminRequestController.respondToRequests(bulkBody);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(result, response.getBody());
+        assertEquals(1, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+    }
+
+    @Test
+    @DisplayName("Caso error - respondToRequests sin lista de solicitudes")
+    void testRespondToRequests_SinSolicitudes() {
+        Map<String, Object> bulkBody = new HashMap<>();
+        bulkBody.put("decision", "APPROVED");
+
+        ResponseEntity<?> response = adminRequestController.respondToRequests(bulkBody);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("El campo 'requestIds' es requerido", response.getBody());
+        verify(adminRequestService, never()).respondToRequests(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Caso error - respondToRequests lanza AppException")
+    void testRespondToRequests_AppException() {
+        Map<String, Object> bulkBody = new HashMap<>();
+        bulkBody.put("requestIds", List.of("1"));
+        bulkBody.put("decision", "PENDING");
+        when(adminRequestService.respondToRequests(List.of("1"), RequestStatus.PENDING, null))
+                .thenThrow(new AppException("La decisión debe ser APPROVED o REJECTED"));
+
+        ResponseEntity<?> response = adminRequestController.respondToRequests(bulkBody);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("La decisión debe ser APPROVED o REJECTED", response.getBody());
+    }
+
     @Test
     @DisplayName("Caso error - respondToRequest con decision nula")
     void testRespondToRequest_DecisionNula() {
@@ -311,15 +382,27 @@ public class AdminRequestControllerTest {
     @Test
     @DisplayName("Caso borde - getRequestsByFaculty retorna lista vacía")
     void testGetRequestsByFaculty_ListaVacia() {
-        when(adminRequestService.getRequestsByFaculty("Arts")).thenReturn(Collections.emptyList());
+        when(adminRequestService.getRequestsByFaculty("Arts", 0, 20)).thenReturn(Page.empty());
 
-        ResponseEntity<?> response = adminRequestController.getRequestsByFaculty("Arts");
+        ResponseEntity<?> response = adminRequestController.getRequestsByFaculty("Arts", 0, 20);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertInstanceOf(List.class, response.getBody());
-        assertTrue(((List<?>) response.getBody()).isEmpty());
-        verify(adminRequestService, times(1)).getRequestsByFaculty("Arts");
+        assertInstanceOf(Page.class, response.getBody());
+        assertTrue(((Page<?>) response.getBody()).isEmpty());
+        verify(adminRequestService, times(1)).getRequestsByFaculty("Arts", 0, 20);
+    }
+
+    @Test
+    @DisplayName("Caso error - getRequestsByFaculty con paginación no válida retorna BAD_REQUEST")
+    void testGetRequestsByFaculty_PaginacionInvalida() {
+        when(adminRequestService.getRequestsByFaculty("Arts", 0, 500))
+                .thenThrow(new AppException("Parámetros de paginación no válidos"));
+
+        ResponseEntity<?> response = adminRequestController.getRequestsByFaculty("Arts", 0, 500);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Parámetros de paginación no válidos", response.getBody());
     }
 
     @Test
@@ -349,4 +432,127 @@ public class AdminRequestControllerTest {
         assertEquals("Caso especial no encontrado", response.getBody());
         verify(adminRequestService, times(1)).approveSpecialCase("1", "Caso especial");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Caso exitoso - getGlobalRequests envía el cursor siguiente en el encabezado")
+    void testGetGlobalRequests_ConCursorSiguiente() {
+        when(adminRequestService.getGlobalRequestsPage("abc", 1))
+                .thenReturn(new CursorPageDTO<>(Collections.singletonList(request), "next", 1));
+
+        ResponseEntity<?> response = adminRequestController.getGlobalRequests("abc", 1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("next", response.getHeaders().getFirst(CursorPageDTO.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("Caso error - getGlobalRequests retorna 400 con cursor no válido")
+    void testGetGlobalRequests_CursorInvalido() {
+        when(adminRequestService.getGlobalRequestsPage("%%", 20))
+                .thenThrow(new AppException("Cursor de paginación no válido"));
+
+        ResponseEntity<?> response = adminRequestController.getGlobalRequests("%%", 20);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Cursor de paginación no válido", response.getBody());
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - exportRequests escribe una solicitud por línea y cierra el cursor")
+    void testExportRequests_Exitoso() throws Exception {
+        ScheduleChangeRequestExportDTO row = ScheduleChangeRequestExportDTO.builder()
+                .requestId("1")
+                .studentId("STU001")
+                .status(RequestStatus.APPROVED)
+                .build();
+        ScheduleChangeRequestExportDTO otherRow = ScheduleChangeRequestExportDTO.builder()
+                .requestId("2")
+                .status(RequestStatus.APPROVED)
+                .build();
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Date from = new Date(1735689600000L);
+        when(adminRequestService.streamRequestsForExport(RequestStatus.APPROVED, from, null))
+                .thenReturn(Stream.of(row, otherRow).onClose(() -> closed.set(true)));
+
+        ResponseEntity<StreamingResponseBody> response = adminRequestController.exportRequests("approved", from, null);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals(2, lines.length);
+        assertEquals("1", objectMapper.readTree(lines[0]).get("requestId").asText());
+        assertEquals("2", objectMapper.readTree(lines[1]).get("requestId").asText());
+        assertEquals("STU001", objectMapper.readTree(lines[0]).get("studentId").asText());
+        assertFalse(out.toString(StandardCharsets.UTF_8).contains("password"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("Caso error - exportRequests con estado no válido")
+    void testExportRequests_EstadoInvalido() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = adminRequestController.exportRequests("INVALIDO", null, null);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Estado no válido: INVALIDO", out.toString(StandardCharsets.UTF_8));
+        verifyNoInteractions(adminRequestService);
+    }
+
+    @Test
+    @DisplayName("Caso error - exportRequests con rango de fechas no válido")
+    void testExportRequests_RangoInvalido() {
+        Date from = new Date(1735689600000L);
+        when(adminRequestService.streamRequestsForExport(null, from, from))
+                .thenThrow(new AppException("Rango de fechas no válido: 'from' debe ser anterior a 'to'"));
+
+        ResponseEntity<StreamingResponseBody> response = adminRequestController.exportRequests(null, from, from);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - migrateRequestFaculties lanza la migración en segundo plano")
+    void testMigrateRequestFaculties_Exitoso() {
+        MigrationJob job = new MigrationJob("faculty-backfill-schedule_change_requests", "schedule_change_requests",
+                MigrationStatus.RUNNING, 10, 0, null, null, null, null, null);
+        when(migrationJobService.startFacultyBackfill()).thenReturn(job);
+
+        ResponseEntity<?> response = adminRequestController.migrateRequestFaculties();
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
+        assertAll("Verificar respuesta de la migración",
+                () -> assertEquals("Migración de facultades de las solicitudes en curso", responseBody.get("message")),
+                () -> assertSame(job, responseBody.get("job")),
+                () -> verifyNoInteractions(adminRequestService)
+        );
+    }
+
+    @Test
+    @DisplayName("Caso error - migrateRequestFaculties con excepción")
+    void testMigrateRequestFaculties_ConExcepcion() {
+        when(migrationJobService.startFacultyBackfill()).thenThrow(new RuntimeException("Error de base de datos"));
+
+        ResponseEntity<?> response = adminRequestController.migrateRequestFaculties();
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Caso borde - getRequestFacultyMigration cuando nunca se ha lanzado")
+    void testGetRequestFacultyMigration_SinLanzar() {
+        when(migrationJobService.getFacultyBackfill()).thenReturn(Optional.empty());
+
+        ResponseEntity<?> response = adminRequestController.getRequestFacultyMigration();
+
+        assertAll("Verificar migración sin lanzar",
+                () -> assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode()),
+                () -> assertEquals("La migración de facultades no se ha lanzado", response.getBody())
+        );
+    }
+}
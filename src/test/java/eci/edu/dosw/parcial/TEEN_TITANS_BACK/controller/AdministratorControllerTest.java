@@ -3,14 +3,18 @@ package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.AdministratorDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Administrator;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.MigrationJobService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.AdministratorService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.AdministratorMapper;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.AdministratorMapperImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -30,6 +34,12 @@ class AdministratorControllerTest {
     @Mock
     private AdministratorService administratorService;
 
+    @Mock
+    private MigrationJobService migrationJobService;
+
+    @Spy
+    private AdministratorMapper administratorMapper = new AdministratorMapperImpl();
+
     @InjectMocks
     private AdministratorController administratorController;
 
@@ -1,15 +1,24 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.DeanDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.DeanSummaryDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.MigrationStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Dean;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.MigrationJob;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.MigrationJobService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.PopulationStatisticsService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.DeanService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.DeanMapper;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.DeanMapperImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +26,7 @@ import org.springframework.http.ResponseEntity;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -28,6 +38,15 @@ class DeanControllerTest {
     @Mock
     private DeanService deanService;
 
+    @Mock
+    private PopulationStatisticsService populationStatisticsService;
+
+    @Mock
+    private MigrationJobService migrationJobService;
+
+    @Spy
+    private DeanMapper deanMapper = new DeanMapperImpl();
+
     @InjectMocks
     private DeanController deanController;
 
@@ -118,17 +137,17 @@ class DeanControllerTest {
     @Test
     @DisplayName("Caso exitoso - Obtener todos los decanos")
     void testGetAllDeans_Exitoso() {
-        List<Dean> deans = Arrays.asList(dean1, dean2);
-        when(deanService.getAllDeans()).thenReturn(deans);
+        List<DeanSummaryDTO> deans = Arrays.asList(summaryOf(dean1), summaryOf(dean2));
+        when(deanService.getDeanSummaries()).thenReturn(deans);
 
         ResponseEntity<?> response = deanController.getAllDeans();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
-        List<DeanDTO> deansDTO = (List<DeanDTO>) responseBody.get("deans");
         assertEquals(2, responseBody.get("count"));
-        assertEquals(2, deansDTO.size());
-        verify(deanService, times(1)).getAllDeans();
+        assertSame(deans, responseBody.get("deans"));
+        verify(deanService, times(1)).getDeanSummaries();
+        verify(deanService, never()).getAllDeans();
     }
 
     @Test
@@ -319,26 +338,25 @@ class DeanControllerTest {
     @Test
     @DisplayName("Caso exitoso - Obtener decanos activos")
     void testFindActiveDeans_Exitoso() {
-        List<Dean> deans = Arrays.asList(dean1, dean2);
-        when(deanService.findActiveDeans()).thenReturn(deans);
+        List<DeanSummaryDTO> deans = Arrays.asList(summaryOf(dean1), summaryOf(dean2));
+        when(deanService.getActiveDeanSummaries()).thenReturn(deans);
 
         ResponseEntity<?> response = deanController.findActiveDeans();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
-        List<DeanDTO> deansDTO = (List<DeanDTO>) responseBody.get("activeDeans");
         assertEquals(2, responseBody.get("count"));
-        assertEquals(2, deansDTO.size());
-        verify(deanService, times(1)).findActiveDeans();
+        assertSame(deans, responseBody.get("activeDeans"));
+        verify(deanService, times(1)).getActiveDeanSummaries();
     }
 
     @Test
     @DisplayName("Caso exitoso - Búsqueda de decanos con criterios")
     void testSearchDeans_Exitoso() {
         List<Dean> deans = Arrays.asList(dean1);
-        when(deanService.getAllDeans()).thenReturn(deans);
+        when(deanService.searchDeans("Engineering", "Building A", true, 100)).thenReturn(deans);
 
-        ResponseEntity<?> response = deanController.searchDeans("Engineering", "Building A", true);
+        ResponseEntity<?> response = deanController.searchDeans("Engineering", "Building A", true, 100);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
@@ -349,7 +367,23 @@ class DeanControllerTest {
         List<DeanDTO> deansDTO = (List<DeanDTO>) responseBody.get("deans");
         assertEquals(1, responseBody.get("count"));
         assertEquals(1, deansDTO.size());
-        verify(deanService, times(1)).getAllDeans();
+        verify(deanService, times(1)).searchDeans("Engineering", "Building A", true, 100);
+        verify(deanService, never()).getAllDeans();
+    }
+
+    @Test
+    @DisplayName("Caso borde - Búsqueda de decanos solo por facultad")
+    void testSearchDeans_SoloFacultad() {
+        when(deanService.searchDeans("Engineering", null, null, 100)).thenReturn(List.of(dean1));
+
+        ResponseEntity<?> response = deanController.searchDeans("Engineering", null, null, 100);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
+        Map<String, Object> searchCriteria = (Map<String, Object>) responseBody.get("searchCriteria");
+        assertEquals("Engineering", searchCriteria.get("faculty"));
+        assertNull(searchCriteria.get("officeLocation"));
+        assertEquals(1, responseBody.get("count"));
     }
 
 
@@ -446,69 +480,100 @@ class DeanControllerTest {
     @Test
     @DisplayName("Caso error - Obtener estadísticas de decanos con excepción")
     void testGetDeanStatistics_ConExcepcion() {
-        when(deanService.getAllDeans()).thenThrow(new RuntimeException("Error inesperado"));
+        when(populationStatisticsService.getDeanStatistics()).thenThrow(new RuntimeException("Error inesperado"));
 
         ResponseEntity<?> response = deanController.getDeanStatistics();
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         Map<String, String> errorResponse = (Map<String, String>) response.getBody();
         assertEquals("Error al obtener estadísticas de decanos", errorResponse.get("error"));
-        verify(deanService, times(1)).getAllDeans();
+        verify(populationStatisticsService, times(1)).getDeanStatistics();
     }
 
     @Test
-    @DisplayName("Caso exitoso - Migrar roles de decanos")
-    void testMigrateDeanRoles_Exitoso() {
-        // Configurar decanos con roles nulos
-        dean1.setRole(null);
-        dean2.setRole(null);
-        List<Dean> deans = Arrays.asList(dean1, dean2);
+    @DisplayName("Caso exitoso - Obtener estadísticas de decanos por facultad y oficina")
+    void testGetDeanStatistics_Exitoso() {
+        when(populationStatisticsService.getDeanStatistics()).thenReturn(
+                new PopulationStatisticsService.PopulationStatistics(4, 3,
+                        Map.of("faculty", Map.of("Engineering", 3L, "Sciences", 1L),
+                                "officeLocation", Map.of("Building A", 4L)),
+                        Map.of()));
 
-        when(deanService.getAllDeans()).thenReturn(deans);
-        when(deanService.updateDean(anyString(), any(Dean.class))).thenReturn(dean1);
+        ResponseEntity<?> response = deanController.getDeanStatistics();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
+        assertEquals(4L, responseBody.get("totalDeans"));
+        assertEquals(1L, responseBody.get("inactiveDeans"));
+        assertEquals(75.0, responseBody.get("activePercentage"));
+        assertEquals(Map.of("Engineering", 3L, "Sciences", 1L), responseBody.get("deansByFaculty"));
+        verify(deanService, never()).getAllDeans();
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - Migrar roles de decanos lanza la migración en segundo plano")
+    void testMigrateDeanRoles_Exitoso() {
+        MigrationJob job = new MigrationJob("role-backfill-deans", "deans", MigrationStatus.RUNNING,
+                2, 0, null, null, null, null, null);
+        when(migrationJobService.startRoleBackfill(Dean.class, UserRole.DEAN)).thenReturn(job);
 
         ResponseEntity<?> response = deanController.migrateDeanRoles();
 
-        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
         Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
-        assertEquals("Migración de roles de decanos completada", responseBody.get("message"));
-        assertEquals(2, responseBody.get("deansUpdated"));
-        assertEquals(2, responseBody.get("totalDeans"));
-        verify(deanService, times(2)).updateDean(anyString(), any(Dean.class));
+        assertAll("Verificar respuesta de la migración",
+                () -> assertEquals("Migración de roles de decanos en curso", responseBody.get("message")),
+                () -> assertSame(job, responseBody.get("job")),
+                () -> verify(deanService, never()).getAllDeans(),
+                () -> verify(deanService, never()).updateDean(anyString(), any(Dean.class))
+        );
     }
 
     @Test
     @DisplayName("Caso error - Migrar roles de decanos con excepción")
     void testMigrateDeanRoles_ConExcepcion() {
-        when(deanService.getAllDeans()).thenThrow(new RuntimeException("Error de base de datos"));
+        when(migrationJobService.startRoleBackfill(Dean.class, UserRole.DEAN))
+                .thenThrow(new RuntimeException("Error de base de datos"));
 
         ResponseEntity<?> response = deanController.migrateDeanRoles();
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         Map<String, String> errorResponse = (Map<String, String>) response.getBody();
         assertTrue(errorResponse.get("error").contains("Error durante la migración"));
-        verify(deanService, times(1)).getAllDeans();
     }
 
     @Test
-    @DisplayName("Caso borde - Migrar roles cuando no hay decanos para actualizar")
-    void testMigrateDeanRoles_SinActualizaciones() {
-        // Los decanos ya tienen rol asignado
-        List<Dean> deans = Arrays.asList(dean1, dean2);
-        when(deanService.getAllDeans()).thenReturn(deans);
+    @DisplayName("Caso exitoso - Consultar el avance de la migración de roles de decanos")
+    void testGetDeanRoleMigration_Exitoso() {
+        MigrationJob job = new MigrationJob("role-backfill-deans", "deans", MigrationStatus.COMPLETED,
+                2, 2, "2", null, null, null, null);
+        when(migrationJobService.getRoleBackfill(Dean.class)).thenReturn(Optional.of(job));
 
-        ResponseEntity<?> response = deanController.migrateDeanRoles();
+        ResponseEntity<?> response = deanController.getDeanRoleMigration();
 
-        assertEquals(HttpStatus.OK, response.getStatusCode());
-        Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
-        assertEquals(0, responseBody.get("deansUpdated"));
-        verify(deanService, never()).updateDean(anyString(), any(Dean.class));
+        assertAll("Verificar avance de la migración",
+                () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                () -> assertSame(job, response.getBody()),
+                () -> assertEquals(100.0, job.getProgressPercentage())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - Consultar la migración de roles cuando nunca se ha lanzado")
+    void testGetDeanRoleMigration_SinLanzar() {
+        when(migrationJobService.getRoleBackfill(Dean.class)).thenReturn(Optional.empty());
+
+        ResponseEntity<?> response = deanController.getDeanRoleMigration();
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        Map<String, String> errorResponse = (Map<String, String>) response.getBody();
+        assertEquals("La migración de roles de decanos no se ha lanzado", errorResponse.get("error"));
     }
 
     @Test
     @DisplayName("Caso error - Obtener todos los decanos con excepción")
     void testGetAllDeans_ConExcepcion() {
-        when(deanService.getAllDeans()).thenThrow(new RuntimeException("Error de base de datos"));
+        when(deanService.getDeanSummaries()).thenThrow(new RuntimeException("Error de base de datos"));
 
         ResponseEntity<?> response = deanController.getAllDeans();
 
@@ -585,7 +650,7 @@ class DeanControllerTest {
     @Test
     @DisplayName("Caso error - Obtener decanos activos con excepción")
     void testFindActiveDeans_ConExcepcion() {
-        when(deanService.findActiveDeans())
+        when(deanService.getActiveDeanSummaries())
                 .thenThrow(new RuntimeException("Error de base de datos"));
 
         ResponseEntity<?> response = deanController.findActiveDeans();
@@ -598,10 +663,10 @@ class DeanControllerTest {
     @Test
     @DisplayName("Caso error - Búsqueda de decanos con excepción")
     void testSearchDeans_ConExcepcion() {
-        when(deanService.getAllDeans())
+        when(deanService.searchDeans("Engineering", "Building A", true, 100))
                 .thenThrow(new RuntimeException("Error de base de datos"));
 
-        ResponseEntity<?> response = deanController.searchDeans("Engineering", "Building A", true);
+        ResponseEntity<?> response = deanController.searchDeans("Engineering", "Building A", true, 100);
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         Map<String, String> errorResponse = (Map<String, String>) response.getBody();
@@ -647,6 +712,8 @@ class DeanControllerTest {
         assertEquals("Error al contar decanos por ubicación de oficina", errorResponse.get("error"));
     }
 
-
-
-}
\ No newline at end of file
+    private DeanSummaryDTO summaryOf(Dean dean) {
+        return new DeanSummaryDTO(dean.getId(), dean.getName(), dean.getEmail(), dean.getRole(), dean.isActive(),
+                dean.getFaculty(), dean.getOfficeLocation());
+    }
+}
@@ -1,5 +1,6 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.CourseStatus;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RoomType;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
@@ -274,25 +275,26 @@ public class GeneralManagementControllerTest {
     @DisplayName("Caso exitoso - Obtener todas las aulas")
     void testGetAllClassrooms_Exitoso() {
         List<Classroom> classrooms = Arrays.asList(classroom);
-        when(generalManagementService.getAllClassrooms()).thenReturn(classrooms);
+        when(generalManagementService.getClassroomsPage(null, 20))
+                .thenReturn(CursorPageDTO.of(classrooms, 20, Classroom::getClassroomId));
 
-        ResponseEntity<List<Classroom>> respuesta = generalManagementController.getAllClassrooms();
+        ResponseEntity<List<Classroom>> respuesta = generalManagementController.getAllClassrooms(null, 20);
 
         assertEquals(HttpStatus.OK, respuesta.getStatusCode());
         assertEquals(classrooms, respuesta.getBody());
-        verify(generalManagementService, times(1)).getAllClassrooms();
+        verify(generalManagementService, times(1)).getClassroomsPage(null, 20);
     }
 
     @Test
     @DisplayName("Caso error - Obtener aulas con excepción")
     void testGetAllClassrooms_Error() {
-        when(generalManagementService.getAllClassrooms()).thenThrow(new RuntimeException("Error"));
+        when(generalManagementService.getClassroomsPage(null, 20)).thenThrow(new RuntimeException("Error"));
 
-        ResponseEntity<List<Classroom>> respuesta = generalManagementController.getAllClassrooms();
+        ResponseEntity<List<Classroom>> respuesta = generalManagementController.getAllClassrooms(null, 20);
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, respuesta.getStatusCode());
         assertNull(respuesta.getBody());
-        verify(generalManagementService, times(1)).getAllClassrooms();
+        verify(generalManagementService, times(1)).getClassroomsPage(null, 20);
     }
 
     @Test
@@ -469,25 +471,26 @@ public class GeneralManagementControllerTest {
     @DisplayName("Caso exitoso - Obtener todos los cursos")
     void testGetAllCourses_Exitoso() {
         List<Course> courses = Arrays.asList(course);
-        when(generalManagementService.getAllCourses()).thenReturn(courses);
+        when(generalManagementService.getCoursesPage(null, 20))
+                .thenReturn(CursorPageDTO.of(courses, 20, Course::getCourseCode));
 
-        ResponseEntity<List<Course>> respuesta = generalManagementController.getAllCourses();
+        ResponseEntity<List<Course>> respuesta = generalManagementController.getAllCourses(null, 20);
 
         assertEquals(HttpStatus.OK, respuesta.getStatusCode());
         assertEquals(courses, respuesta.getBody());
-        verify(generalManagementService, times(1)).getAllCourses();
+        verify(generalManagementService, times(1)).getCoursesPage(null, 20);
     }
 
     @Test
     @DisplayName("Caso error - Obtener cursos con excepción")
     void testGetAllCourses_Error() {
-        when(generalManagementService.getAllCourses()).thenThrow(new RuntimeException("Error"));
+        when(generalManagementService.getCoursesPage(null, 20)).thenThrow(new RuntimeException("Error"));
 
-        ResponseEntity<List<Course>> respuesta = generalManagementController.getAllCourses();
+        ResponseEntity<List<Course>> respuesta = generalManagementController.getAllCourses(null, 20);
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, respuesta.getStatusCode());
         assertNull(respuesta.getBody());
-        verify(generalManagementService, times(1)).getAllCourses();
+        verify(generalManagementService, times(1)).getCoursesPage(null, 20);
     }
 
     @Test
@@ -1054,25 +1057,26 @@ public class GeneralManagementControllerTest {
     @DisplayName("Caso exitoso - Obtener todos los horarios")
     void testGetAllSchedules_Exitoso() {
         List<Schedule> schedules = Arrays.asList(schedule);
-        when(generalManagementService.getAllSchedules()).thenReturn(schedules);
+        when(generalManagementService.getSchedulesPage(null, 20))
+                .thenReturn(CursorPageDTO.of(schedules, 20, Schedule::getScheduleId));
 
-        ResponseEntity<List<Schedule>> respuesta = generalManagementController.getAllSchedules();
+        ResponseEntity<List<Schedule>> respuesta = generalManagementController.getAllSchedules(null, 20);
 
         assertEquals(HttpStatus.OK, respuesta.getStatusCode());
         assertEquals(schedules, respuesta.getBody());
-        verify(generalManagementService, times(1)).getAllSchedules();
+        verify(generalManagementService, times(1)).getSchedulesPage(null, 20);
     }
 
     @Test
     @DisplayName("Caso error - Obtener horarios con excepción")
     void testGetAllSchedules_Error() {
-        when(generalManagementService.getAllSchedules()).thenThrow(new RuntimeException("Error"));
+        when(generalManagementService.getSchedulesPage(null, 20)).thenThrow(new RuntimeException("Error"));
 
-        ResponseEntity<List<Schedule>> respuesta = generalManagementController.getAllSchedules();
+        ResponseEntity<List<Schedule>> respuesta = generalManagementController.getAllSchedules(null, 20);
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, respuesta.getStatusCode());
         assertNull(respuesta.getBody());
-        verify(generalManagementService, times(1)).getAllSchedules();
+        verify(generalManagementService, times(1)).getSchedulesPage(null, 20);
     }
 
     @Test
@@ -1364,4 +1368,30 @@ public class GeneralManagementControllerTest {
         assertNull(respuesta.getBody());
         verify(generalManagementService, times(1)).getStudentAcademicProgressByProgram("Ingeniería de Sistemas");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Caso exitoso - getAllClassrooms envía el cursor siguiente en el encabezado")
+    void testGetAllClassrooms_ConCursorSiguiente() {
+        when(generalManagementService.getClassroomsPage(null, 1))
+                .thenReturn(new CursorPageDTO<>(Collections.singletonList(classroom), "next", 1));
+
+        ResponseEntity<List<Classroom>> respuesta = generalManagementController.getAllClassrooms(null, 1);
+
+        assertAll("Verificar página de aulas",
+                () -> assertEquals(HttpStatus.OK, respuesta.getStatusCode()),
+                () -> assertEquals(1, respuesta.getBody().size()),
+                () -> assertEquals("next", respuesta.getHeaders().getFirst(CursorPageDTO.NEXT_CURSOR_HEADER))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso error - getAllCourses retorna 400 con paginación no válida")
+    void testGetAllCourses_PaginacionInvalida() {
+        when(generalManagementService.getCoursesPage(null, 0))
+                .thenThrow(new AppException("Parámetros de paginación no válidos: 1 <= size <= 100"));
+
+        ResponseEntity<List<Course>> respuesta = generalManagementController.getAllCourses(null, 0);
+
+        assertEquals(HttpStatus.BAD_REQUEST, respuesta.getStatusCode());
+    }
+}
@@ -1,15 +1,22 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ProfessorDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ProfessorSummaryDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Professor;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.MigrationJobService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.PopulationStatisticsService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.ProfessorService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.ProfessorMapper;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.ProfessorMapperImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +38,15 @@ public class ProfessorControllerTest {
     @Mock
     private ProfessorService professorService;
 
+    @Mock
+    private PopulationStatisticsService populationStatisticsService;
+
+    @Mock
+    private MigrationJobService migrationJobService;
+
+    @Spy
+    private ProfessorMapper professorMapper = new ProfessorMapperImpl();
+
     @InjectMocks
     private ProfessorController professorController;
 
@@ -171,8 +187,8 @@ public class ProfessorControllerTest {
     @Test
     @DisplayName("Caso exitoso - getAllProfessors retorna lista de profesores")
     void testGetAllProfessors_Exitoso() {
-        List<Professor> professors = Arrays.asList(professor1, professor2);
-        when(professorService.getAllProfessors()).thenReturn(professors);
+        List<ProfessorSummaryDTO> professors = Arrays.asList(summaryOf(professor1), summaryOf(professor2));
+        when(professorService.getProfessorSummaries()).thenReturn(professors);
 
         ResponseEntity<?> response = professorController.getAllProfessors();
 
@@ -185,13 +201,13 @@ public class ProfessorControllerTest {
                 () -> assertEquals(2, ((Map<?, ?>) response.getBody()).get("count"))
         );
 
-        verify(professorService, times(1)).getAllProfessors();
+        verify(professorService, times(1)).getProfessorSummaries();
     }
 
     @Test
     @DisplayName("Caso error - getAllProfessors retorna error interno")
     void testGetAllProfessors_ErrorInterno() {
-        when(professorService.getAllProfessors()).thenThrow(new RuntimeException("Error de base de datos"));
+        when(professorService.getProfessorSummaries()).thenThrow(new RuntimeException("Error de base de datos"));
 
         ResponseEntity<?> response = professorController.getAllProfessors();
 
@@ -201,7 +217,7 @@ public class ProfessorControllerTest {
                 () -> assertTrue(((Map<?, ?>) response.getBody()).containsKey("error"))
         );
 
-        verify(professorService, times(1)).getAllProfessors();
+        verify(professorService, times(1)).getProfessorSummaries();
     }
 
     @Test
@@ -310,7 +326,7 @@ public class ProfessorControllerTest {
     @Test
     @DisplayName("Caso borde - getAllProfessors retorna lista vacía cuando no hay profesores")
     void testGetAllProfessors_ListaVacia() {
-        when(professorService.getAllProfessors()).thenReturn(Collections.emptyList());
+        when(professorService.getProfessorSummaries()).thenReturn(Collections.emptyList());
 
         ResponseEntity<?> response = professorController.getAllProfessors();
 
@@ -319,7 +335,7 @@ public class ProfessorControllerTest {
                 () -> assertEquals(0, ((Map<?, ?>) response.getBody()).get("count"))
         );
 
-        verify(professorService, times(1)).getAllProfessors();
+        verify(professorService, times(1)).getProfessorSummaries();
     }
 
     @Test
@@ -400,8 +416,8 @@ public class ProfessorControllerTest {
     @Test
     @DisplayName("Caso exitoso - findActiveProfessors retorna profesores activos")
     void testFindActiveProfessors_Exitoso() {
-        List<Professor> professors = Arrays.asList(professor1, professor2);
-        when(professorService.findActiveProfessors()).thenReturn(professors);
+        List<ProfessorSummaryDTO> professors = Arrays.asList(summaryOf(professor1), summaryOf(professor2));
+        when(professorService.getActiveProfessorSummaries()).thenReturn(professors);
 
         ResponseEntity<?> response = professorController.findActiveProfessors();
 
@@ -411,13 +427,13 @@ public class ProfessorControllerTest {
                 () -> assertEquals(2, ((Map<?, ?>) response.getBody()).get("count"))
         );
 
-        verify(professorService, times(1)).findActiveProfessors();
+        verify(professorService, times(1)).getActiveProfessorSummaries();
     }
 
     @Test
     @DisplayName("Caso borde - findActiveProfessors retorna lista vacía sin profesores activos")
     void testFindActiveProfessors_SinActivos() {
-        when(professorService.findActiveProfessors()).thenReturn(Collections.emptyList());
+        when(professorService.getActiveProfessorSummaries()).thenReturn(Collections.emptyList());
 
         ResponseEntity<?> response = professorController.findActiveProfessors();
 
@@ -426,7 +442,7 @@ public class ProfessorControllerTest {
                 () -> assertEquals(0, ((Map<?, ?>) response.getBody()).get("count"))
         );
 
-        verify(professorService, times(1)).findActiveProfessors();
+        verify(professorService, times(1)).getActiveProfessorSummaries();
     }
 
 
@@ -435,12 +451,34 @@ public class ProfessorControllerTest {
     @Test
     @DisplayName("Caso error - getProfessorStats retorna error interno")
     void testGetProfessorStats_ErrorInterno() {
-        when(professorService.getAllProfessors()).thenThrow(new RuntimeException("Error de base de datos"));
+        when(populationStatisticsService.getProfessorStatistics())
+                .thenThrow(new RuntimeException("Error de base de datos"));
 
         ResponseEntity<?> response = professorController.getProfessorStats();
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        verify(professorService, times(1)).getAllProfessors();
+        verify(populationStatisticsService, times(1)).getProfessorStatistics();
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - getProfessorStats calcula la titularidad desde la agregación")
+    @SuppressWarnings("unchecked")
+    void testGetProfessorStats_Exitoso() {
+        when(populationStatisticsService.getProfessorStatistics()).thenReturn(
+                new PopulationStatisticsService.PopulationStatistics(3, 2,
+                        Map.of("isTenured", Map.of(true, 1L, false, 2L)), Map.of()));
+
+        ResponseEntity<?> response = professorController.getProfessorStats();
+
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertAll("Verificar estadísticas de profesores",
+                () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                () -> assertEquals(3L, body.get("totalProfessors")),
+                () -> assertEquals(1L, body.get("tenuredProfessors")),
+                () -> assertEquals(1L, body.get("inactiveProfessors")),
+                () -> assertEquals(33.33, body.get("tenuredPercentage"))
+        );
+        verify(professorService, never()).getAllProfessors();
     }
 
     @Test
@@ -603,5 +641,9 @@ public class ProfessorControllerTest {
         verify(professorService, times(1)).createProfessor(any(Professor.class));
     }
 
-
-}
\ No newline at end of file
+    private ProfessorSummaryDTO summaryOf(Professor professor) {
+        return new ProfessorSummaryDTO(professor.getId(), professor.getName(), professor.getEmail(),
+                professor.getRole(), professor.isActive(), professor.getDepartment(), professor.getIsTenured(),
+                professor.getAreasOfExpertise());
+    }
+}
@@ -1,15 +1,23 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentSummaryDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.MigrationJobService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.PopulationStatisticsService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.StudentService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.StudentMapper;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.StudentMapperImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +39,15 @@ public class StudentControllerTest {
     @Mock
     private StudentService studentService;
 
+    @Mock
+    private PopulationStatisticsService populationStatisticsService;
+
+    @Mock
+    private MigrationJobService migrationJobService;
+
+    @Spy
+    private StudentMapper studentMapper = new StudentMapperImpl();
+
     @InjectMocks
     private StudentController studentController;
 
@@ -151,12 +168,15 @@ public class StudentControllerTest {
     @Test
     @DisplayName("Caso exitoso - getAllStudents retorna lista de estudiantes")
     void testGetAllStudents_Exitoso() {
-        List<Student> students = Arrays.asList(student1, student2);
-        when(studentService.getAllStudents()).thenReturn(students);
+        List<StudentSummaryDTO> students = Arrays.asList(summaryOf(student1), summaryOf(student2));
+        when(studentService.getStudentsPage(null, 20))
+                .thenReturn(CursorPageDTO.of(students, 20, StudentSummaryDTO::getId));
 
-        ResponseEntity<?> response = studentController.getAllStudents();
+        ResponseEntity<?> response = studentController.getAllStudents(null, 20);
 
         assertAll("Verificar obtención exitosa de todos los estudiantes",
+                () -> assertSame(students.get(0), ((List<?>) ((Map<?, ?>) response.getBody()).get("students")).get(0)),
+                () -> assertEquals(UserRole.STUDENT, students.get(0).getRole()),
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
                 () -> assertNotNull(response.getBody()),
                 () -> assertInstanceOf(Map.class, response.getBody()),
@@ -165,15 +185,15 @@ public class StudentControllerTest {
                 () -> assertEquals(2, ((Map<?, ?>) response.getBody()).get("count"))
         );
 
-        verify(studentService, times(1)).getAllStudents();
+        verify(studentService, times(1)).getStudentsPage(null, 20);
     }
 
     @Test
     @DisplayName("Caso error - getAllStudents retorna error interno")
     void testGetAllStudents_ErrorInterno() {
-        when(studentService.getAllStudents()).thenThrow(new RuntimeException("Error de base de datos"));
+        when(studentService.getStudentsPage(null, 20)).thenThrow(new RuntimeException("Error de base de datos"));
 
-        ResponseEntity<?> response = studentController.getAllStudents();
+        ResponseEntity<?> response = studentController.getAllStudents(null, 20);
 
         assertAll("Verificar error interno del servidor",
                 () -> assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode()),
@@ -181,7 +201,7 @@ public class StudentControllerTest {
                 () -> assertTrue(((Map<?, ?>) response.getBody()).containsKey("error"))
         );
 
-        verify(studentService, times(1)).getAllStudents();
+        verify(studentService, times(1)).getStudentsPage(null, 20);
     }
 
     @Test
@@ -332,29 +352,32 @@ public class StudentControllerTest {
     @Test
     @DisplayName("Caso exitoso - getStudentStatistics retorna estadísticas")
     void testGetStudentStatistics_Exitoso() {
-        List<Student> allStudents = Arrays.asList(student1, student2);
-        when(studentService.getAllStudents()).thenReturn(allStudents);
+        when(populationStatisticsService.getStudentStatistics()).thenReturn(
+                new PopulationStatisticsService.PopulationStatistics(2, 1,
+                        Map.of("academicProgram", Map.of("Ingeniería", 2L), "semester", Map.of(5, 1L, 3, 1L)),
+                        Map.of("gradeAverage", 4.256)));
 
         ResponseEntity<?> response = studentController.getStudentStatistics();
 
+        Map<?, ?> body = (Map<?, ?>) response.getBody();
         assertAll("Verificar obtención de estadísticas",
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
-                () -> assertNotNull(response.getBody()),
-                () -> assertTrue(((Map<?, ?>) response.getBody()).containsKey("totalStudents")),
-                () -> assertTrue(((Map<?, ?>) response.getBody()).containsKey("averageGrade")),
-                () -> assertTrue(((Map<?, ?>) response.getBody()).containsKey("studentsByProgram"))
+                () -> assertEquals(2L, body.get("totalStudents")),
+                () -> assertEquals(1L, body.get("inactiveStudents")),
+                () -> assertEquals(4.26, body.get("averageGrade")),
+                () -> assertEquals(Map.of("Ingeniería", 2L), body.get("studentsByProgram"))
         );
 
-        verify(studentService, times(1)).getAllStudents();
+        verify(populationStatisticsService, times(1)).getStudentStatistics();
+        verify(studentService, never()).getAllStudents();
     }
 
     @Test
     @DisplayName("Caso exitoso - searchStudents retorna estudiantes filtrados")
     void testSearchStudents_Exitoso() {
-        List<Student> allStudents = Arrays.asList(student1, student2);
-        when(studentService.getAllStudents()).thenReturn(allStudents);
+        when(studentService.searchStudents("Ingeniería", 5, 4.0, true, 100)).thenReturn(List.of(student1));
 
-        ResponseEntity<?> response = studentController.searchStudents("Ingeniería", 5, 4.0, true);
+        ResponseEntity<?> response = studentController.searchStudents("Ingeniería", 5, 4.0, true, 100);
 
         assertAll("Verificar búsqueda con filtros",
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
@@ -363,22 +386,53 @@ public class StudentControllerTest {
                 () -> assertTrue(((Map<?, ?>) response.getBody()).containsKey("students"))
         );
 
-        verify(studentService, times(1)).getAllStudents();
+        verify(studentService, times(1)).searchStudents("Ingeniería", 5, 4.0, true, 100);
+        verify(studentService, never()).getAllStudents();
+    }
+
+    @Test
+    @DisplayName("Caso borde - searchStudents sin filtros devuelve los criterios nulos")
+    @SuppressWarnings("unchecked")
+    void testSearchStudents_SinFiltros() {
+        when(studentService.searchStudents(null, null, null, null, 100)).thenReturn(List.of(student1, student2));
+
+        ResponseEntity<?> response = studentController.searchStudents(null, null, null, null, 100);
+
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        Map<String, Object> searchCriteria = (Map<String, Object>) body.get("searchCriteria");
+        assertAll("Verificar búsqueda sin filtros",
+                () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                () -> assertEquals(2, body.get("count")),
+                () -> assertTrue(searchCriteria.containsKey("program")),
+                () -> assertNull(searchCriteria.get("program"))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso error - searchStudents con límite no válido retorna BAD_REQUEST")
+    void testSearchStudents_LimiteInvalido() {
+        when(studentService.searchStudents("Ingeniería", null, null, null, 500))
+                .thenThrow(new AppException("Parámetros de paginación no válidos: 1 <= size <= 100"));
+
+        ResponseEntity<?> response = studentController.searchStudents("Ingeniería", null, null, null, 500);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
     @Test
     @DisplayName("Caso borde - getAllStudents retorna lista vacía cuando no hay estudiantes")
     void testGetAllStudents_ListaVacia() {
-        when(studentService.getAllStudents()).thenReturn(Collections.emptyList());
+        when(studentService.getStudentsPage(null, 20))
+                .thenReturn(CursorPageDTO.of(Collections.emptyList(), 20, StudentSummaryDTO::getId));
 
-        ResponseEntity<?> response = studentController.getAllStudents();
+        ResponseEntity<?> response = studentController.getAllStudents(null, 20);
 
         assertAll("Verificar lista vacía de estudiantes",
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
                 () -> assertEquals(0, ((Map<?, ?>) response.getBody()).get("count"))
         );
 
-        verify(studentService, times(1)).getAllStudents();
+        verify(studentService, times(1)).getStudentsPage(null, 20);
     }
 
     @Test
@@ -412,17 +466,50 @@ public class StudentControllerTest {
     @Test
     @DisplayName("Caso borde - getStudentStatistics con lista vacía")
     void testGetStudentStatistics_ListaVacia() {
-        when(studentService.getAllStudents()).thenReturn(Collections.emptyList());
+        when(populationStatisticsService.getStudentStatistics()).thenReturn(
+                new PopulationStatisticsService.PopulationStatistics(0, 0, Map.of(), Map.of()));
 
         ResponseEntity<?> response = studentController.getStudentStatistics();
 
         assertAll("Verificar estadísticas con lista vacía",
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
-                () -> assertEquals(0, ((Map<?, ?>) response.getBody()).get("totalStudents")),
-                () -> assertEquals(0.0, ((Map<?, ?>) response.getBody()).get("averageGrade"))
+                () -> assertEquals(0L, ((Map<?, ?>) response.getBody()).get("totalStudents")),
+                () -> assertEquals(0.0, ((Map<?, ?>) response.getBody()).get("averageGrade")),
+                () -> assertEquals(Map.of(), ((Map<?, ?>) response.getBody()).get("studentsBySemester"))
         );
+    }
 
-        verify(studentService, times(1)).getAllStudents();
+    @Test
+    @DisplayName("Caso exitoso - getAllStudents incluye el cursor de la página siguiente")
+    void testGetAllStudents_ConCursorSiguiente() {
+        when(studentService.getStudentsPage("abc", 1))
+                .thenReturn(new CursorPageDTO<>(Collections.singletonList(summaryOf(student1)), "next", 1));
+
+        ResponseEntity<?> response = studentController.getAllStudents("abc", 1);
+
+        assertAll("Verificar página de estudiantes",
+                () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                () -> assertEquals(1, ((Map<?, ?>) response.getBody()).get("count")),
+                () -> assertEquals("next", ((Map<?, ?>) response.getBody()).get("nextCursor"))
+        );
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Caso error - getAllStudents retorna 400 con paginación no válida")
+    void testGetAllStudents_PaginacionInvalida() {
+        when(studentService.getStudentsPage(null, 0))
+                .thenThrow(new AppException("Parámetros de paginación no válidos: 1 <= size <= 100"));
+
+        ResponseEntity<?> response = studentController.getAllStudents(null, 0);
+
+        assertAll("Verificar error de paginación",
+                () -> assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode()),
+                () -> assertTrue(((Map<?, ?>) response.getBody()).containsKey("error"))
+        );
+    }
+
+    private StudentSummaryDTO summaryOf(Student student) {
+        return new StudentSummaryDTO(student.getId(), student.getName(), student.getEmail(), student.getRole(),
+                student.isActive(), student.getAcademicProgram(), student.getSemester(), student.getGradeAverage());
+    }
+}
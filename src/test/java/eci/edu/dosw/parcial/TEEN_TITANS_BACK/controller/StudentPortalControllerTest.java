@@ -1,17 +1,21 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CourseStatusDetailDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentDashboardDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentProgressDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.CourseStatus;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.*;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.StudentPortalService;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.StudentProgressMapper;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.StudentProgressMapperImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -27,6 +31,9 @@ public class StudentPortalControllerTest {
     @Mock
     private StudentPortalService studentPortalService;
 
+    @Spy
+    private StudentProgressMapper studentProgressMapper = new StudentProgressMapperImpl();
+
     @InjectMocks
     private StudentPortalController studentPortalController;
 
@@ -95,6 +102,41 @@ public class StudentPortalControllerTest {
         verify(studentPortalService, times(1)).getCurrentSchedule("STU-123");
     }
 
+    @Test
+    @DisplayName("Caso exitoso - getDashboard retorna el tablero completo del estudiante")
+    void testGetDashboard_Exitoso() {
+        StudentPortalService.StudentDashboard dashboard = new StudentPortalService.StudentDashboard(
+                academicProgress, List.of(group), List.of("Alerta"), List.of(course), academicPeriod, "GREEN");
+        when(studentPortalService.getDashboard("STU-123")).thenReturn(dashboard);
+
+        ResponseEntity<?> response = studentPortalController.getDashboard("STU-123");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertInstanceOf(StudentDashboardDTO.class, response.getBody());
+        StudentDashboardDTO dto = (StudentDashboardDTO) response.getBody();
+        assertAll("Verificar tablero",
+                () -> assertEquals("STU-123", dto.getStudentId()),
+                () -> assertEquals("Juan Pérez", dto.getProgress().getStudentName()),
+                () -> assertEquals(List.of(group), dto.getCurrentSchedule()),
+                () -> assertEquals(1, dto.getAlertCount()),
+                () -> assertEquals(List.of(course), dto.getCourseRecommendations()),
+                () -> assertSame(academicPeriod, dto.getEnrollmentDeadlines()),
+                () -> assertEquals("GREEN", dto.getTrafficLight())
+        );
+        verify(studentPortalService, times(1)).getDashboard("STU-123");
+    }
+
+    @Test
+    @DisplayName("Caso error - getDashboard lanza AppException")
+    void testGetDashboard_AppException() {
+        when(studentPortalService.getDashboard("STU-123")).thenThrow(new AppException("Progreso no encontrado"));
+
+        ResponseEntity<?> response = studentPortalController.getDashboard("STU-123");
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("Progreso no encontrado", ((Map<?, ?>) response.getBody()).get("error"));
+    }
+
     @Test
     @DisplayName("Caso exitoso - getAvailableGroups retorna grupos disponibles")
     void testGetAvailableGroups_Exitoso() {
@@ -1,16 +1,22 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.controller;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.UserSummaryDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.UserDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.User;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.PopulationStatisticsService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.service.UserService;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.UserMapper;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper.UserMapperImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +38,12 @@ public class UserControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private PopulationStatisticsService populationStatisticsService;
+
+    @Spy
+    private UserMapper userMapper = new UserMapperImpl();
+
     @InjectMocks
     private UserController userController;
 
@@ -143,10 +155,11 @@ public class UserControllerTest {
     @Test
     @DisplayName("Caso exitoso - getAllUsers retorna lista de usuarios")
     void testGetAllUsers_Exitoso() {
-        List<User> users = Arrays.asList(user1, user2);
-        when(userService.getAllUsers()).thenReturn(users);
+        List<UserSummaryDTO> users = Arrays.asList(summaryOf(user1), summaryOf(user2));
+        when(userService.getUsersPage(null, 20))
+                .thenReturn(CursorPageDTO.of(users, 20, UserSummaryDTO::getId));
 
-        ResponseEntity<?> response = userController.getAllUsers();
+        ResponseEntity<?> response = userController.getAllUsers(null, 20);
 
         assertAll("Verificar obtención exitosa de todos los usuarios",
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
@@ -154,18 +167,19 @@ public class UserControllerTest {
                 () -> assertInstanceOf(Map.class, response.getBody()),
                 () -> assertTrue(((Map<?, ?>) response.getBody()).containsKey("users")),
                 () -> assertTrue(((Map<?, ?>) response.getBody()).containsKey("count")),
-                () -> assertEquals(2, ((Map<?, ?>) response.getBody()).get("count"))
+                () -> assertEquals(2, ((Map<?, ?>) response.getBody()).get("count")),
+                () -> assertEquals(users, ((Map<?, ?>) response.getBody()).get("users"))
         );
 
-        verify(userService, times(1)).getAllUsers();
+        verify(userService, times(1)).getUsersPage(null, 20);
     }
 
     @Test
     @DisplayName("Caso error - getAllUsers retorna error interno")
     void testGetAllUsers_ErrorInterno() {
-        when(userService.getAllUsers()).thenThrow(new RuntimeException("Error de base de datos"));
+        when(userService.getUsersPage(null, 20)).thenThrow(new RuntimeException("Error de base de datos"));
 
-        ResponseEntity<?> response = userController.getAllUsers();
+        ResponseEntity<?> response = userController.getAllUsers(null, 20);
 
         assertAll("Verificar error interno del servidor",
                 () -> assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode()),
@@ -173,7 +187,7 @@ public class UserControllerTest {
                 () -> assertTrue(((Map<?, ?>) response.getBody()).containsKey("error"))
         );
 
-        verify(userService, times(1)).getAllUsers();
+        verify(userService, times(1)).getUsersPage(null, 20);
     }
 
     @Test
@@ -298,29 +312,30 @@ public class UserControllerTest {
     @Test
     @DisplayName("Caso exitoso - getUserStatistics retorna estadísticas")
     void testGetUserStatistics_Exitoso() {
-        List<User> allUsers = Arrays.asList(user1, user2);
-        when(userService.getAllUsers()).thenReturn(allUsers);
+        when(populationStatisticsService.getUserStatistics()).thenReturn(
+                new PopulationStatisticsService.PopulationStatistics(2, 2,
+                        Map.of("role", Map.of("STUDENT", 1L, "DEAN", 1L)), Map.of()));
 
         ResponseEntity<?> response = userController.getUserStatistics();
 
         assertAll("Verificar obtención de estadísticas",
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
                 () -> assertNotNull(response.getBody()),
-                () -> assertTrue(((Map<?, ?>) response.getBody()).containsKey("totalUsers")),
-                () -> assertTrue(((Map<?, ?>) response.getBody()).containsKey("activeUsers")),
-                () -> assertTrue(((Map<?, ?>) response.getBody()).containsKey("usersByRole"))
+                () -> assertEquals(2L, ((Map<?, ?>) response.getBody()).get("totalUsers")),
+                () -> assertEquals(2L, ((Map<?, ?>) response.getBody()).get("activeUsers")),
+                () -> assertEquals(100.0, ((Map<?, ?>) response.getBody()).get("activePercentage")),
+                () -> assertEquals(Map.of("STUDENT", 1L, "DEAN", 1L), ((Map<?, ?>) response.getBody()).get("usersByRole"))
         );
 
-        verify(userService, times(1)).getAllUsers();
+        verify(userService, never()).getAllUsers();
     }
 
     @Test
     @DisplayName("Caso exitoso - searchUsers retorna usuarios filtrados")
     void testSearchUsers_Exitoso() {
-        List<User> allUsers = Arrays.asList(user1, user2);
-        when(userService.getAllUsers()).thenReturn(allUsers);
+        when(userService.searchUsers("STUDENT", true, 100)).thenReturn(List.of(user1));
 
-        ResponseEntity<?> response = userController.searchUsers("STUDENT", true);
+        ResponseEntity<?> response = userController.searchUsers("STUDENT", true, 100);
 
         assertAll("Verificar búsqueda con filtros",
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
@@ -329,7 +344,24 @@ public class UserControllerTest {
                 () -> assertTrue(((Map<?, ?>) response.getBody()).containsKey("users"))
         );
 
-        verify(userService, times(1)).getAllUsers();
+        verify(userService, times(1)).searchUsers("STUDENT", true, 100);
+        verify(userService, never()).getAllUsers();
+    }
+
+    @Test
+    @DisplayName("Caso borde - searchUsers solo por estado no falla con el rol nulo")
+    @SuppressWarnings("unchecked")
+    void testSearchUsers_SinRol() {
+        when(userService.searchUsers(null, true, 100)).thenReturn(List.of(user1, user2));
+
+        ResponseEntity<?> response = userController.searchUsers(null, true, 100);
+
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertAll("Verificar búsqueda sin rol",
+                () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                () -> assertEquals(2, body.get("count")),
+                () -> assertNull(((Map<String, Object>) body.get("searchCriteria")).get("role"))
+        );
     }
 
     @Test
@@ -366,16 +398,17 @@ public class UserControllerTest {
     @Test
     @DisplayName("Caso borde - getAllUsers retorna lista vacía cuando no hay usuarios")
     void testGetAllUsers_ListaVacia() {
-        when(userService.getAllUsers()).thenReturn(Collections.emptyList());
+        when(userService.getUsersPage(null, 20))
+                .thenReturn(CursorPageDTO.of(Collections.emptyList(), 20, UserSummaryDTO::getId));
 
-        ResponseEntity<?> response = userController.getAllUsers();
+        ResponseEntity<?> response = userController.getAllUsers(null, 20);
 
         assertAll("Verificar lista vacía de usuarios",
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
                 () -> assertEquals(0, ((Map<?, ?>) response.getBody()).get("count"))
         );
 
-        verify(userService, times(1)).getAllUsers();
+        verify(userService, times(1)).getUsersPage(null, 20);
     }
 
 
@@ -405,4 +438,21 @@ public class UserControllerTest {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         verify(userService, times(1)).deactivateUser("99");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Caso error - getAllUsers retorna 400 con cursor no válido")
+    void testGetAllUsers_CursorInvalido() {
+        when(userService.getUsersPage("%%", 20)).thenThrow(new AppException("Cursor de paginación no válido"));
+
+        ResponseEntity<?> response = userController.getAllUsers("%%", 20);
+
+        assertAll("Verificar error de paginación",
+                () -> assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode()),
+                () -> assertEquals("Cursor de paginación no válido", ((Map<?, ?>) response.getBody()).get("error"))
+        );
+    }
+
+    private UserSummaryDTO summaryOf(User user) {
+        return new UserSummaryDTO(user.getId(), user.getName(), user.getEmail(), user.getRole(), user.isActive());
+    }
+}
@@ -0,0 +1,96 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPageDTOTest {
+
+    @Test
+    @DisplayName("Caso exitoso - of genera cursor cuando se consultó un elemento extra")
+    void testOf_ConPaginaSiguiente() {
+        List<String> fetched = Arrays.asList("A", "B", "C");
+
+        CursorPageDTO<String> page = CursorPageDTO.of(fetched, 2, Function.identity());
+
+        assertAll("Verificación de página con siguiente",
+                () -> assertEquals(Arrays.asList("A", "B"), page.getItems()),
+                () -> assertEquals(2, page.getSize()),
+                () -> assertNotNull(page.getNextCursor()),
+                () -> assertEquals("B", CursorPageDTO.decodeCursor(page.getNextCursor()))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - of no genera cursor en la última página")
+    void testOf_UltimaPagina() {
+        CursorPageDTO<String> page = CursorPageDTO.of(Arrays.asList("A", "B"), 2, Function.identity());
+
+        assertAll("Verificación de última página",
+                () -> assertEquals(2, page.getItems().size()),
+                () -> assertNull(page.getNextCursor())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - of con lista vacía")
+    void testOf_ListaVacia() {
+        CursorPageDTO<String> page = CursorPageDTO.of(Collections.emptyList(), 20, Function.identity());
+
+        assertAll("Verificación de página vacía",
+                () -> assertTrue(page.getItems().isEmpty()),
+                () -> assertEquals(0, page.getSize()),
+                () -> assertNull(page.getNextCursor())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - encodeCursor y decodeCursor son inversos")
+    void testEncodeDecodeCursor_Exitoso() {
+        String key = "1735689600000|REQ-001";
+
+        String cursor = CursorPageDTO.encodeCursor(key);
+
+        assertAll("Verificación de cursor opaco",
+                () -> assertNotEquals(key, cursor),
+                () -> assertEquals(key, CursorPageDTO.decodeCursor(cursor))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - decodeCursor retorna null sin cursor")
+    void testDecodeCursor_Vacio() {
+        assertAll("Verificación de primera página",
+                () -> assertNull(CursorPageDTO.decodeCursor(null)),
+                () -> assertNull(CursorPageDTO.decodeCursor("  "))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso error - decodeCursor rechaza un cursor mal formado")
+    void testDecodeCursor_Invalido() {
+        AppException exception = assertThrows(AppException.class,
+                () -> CursorPageDTO.decodeCursor("%%no-base64%%"));
+
+        assertEquals("Cursor de paginación no válido", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Caso error - validateSize rechaza tamaños fuera de rango")
+    void testValidateSize_FueraDeRango() {
+        assertAll("Verificación de límites de tamaño",
+                () -> assertThrows(AppException.class, () -> CursorPageDTO.validateSize(0)),
+                () -> assertThrows(AppException.class,
+                        () -> CursorPageDTO.validateSize(CursorPageDTO.MAX_PAGE_SIZE + 1)),
+                () -> assertDoesNotThrow(() -> CursorPageDTO.validateSize(1)),
+                () -> assertDoesNotThrow(() -> CursorPageDTO.validateSize(CursorPageDTO.MAX_PAGE_SIZE))
+        );
+    }
+}
@@ -0,0 +1,92 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CourseStatusDetailDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentProgressDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudentProgressMapperTest {
+
+    private final StudentProgressMapper studentProgressMapper = new StudentProgressMapperImpl();
+
+    @Test
+    @DisplayName("Caso exitoso - toDTO calcula el avance y los créditos y semestres restantes")
+    void testToDTO_Progreso() {
+        StudentAcademicProgress progress = progress(60, 160, 4, 10);
+
+        StudentProgressDTO dto = studentProgressMapper.toDTO(progress);
+
+        assertAll("Verificar progreso",
+                () -> assertEquals("p1", dto.getId()),
+                () -> assertEquals("s1", dto.getStudentId()),
+                () -> assertEquals("Ana", dto.getStudentName()),
+                () -> assertEquals(37.5, dto.getProgressPercentage()),
+                () -> assertEquals(100, dto.getRemainingCredits()),
+                () -> assertEquals(6, dto.getRemainingSemesters()),
+                () -> assertNull(dto.getCoursesStatus())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - toDTO no calcula el porcentaje si no hay créditos requeridos")
+    void testToDTO_SinCreditosRequeridos() {
+        StudentProgressDTO dto = studentProgressMapper.toDTO(progress(0, 0, 1, 10));
+
+        assertAll("Verificar progreso sin créditos",
+                () -> assertNull(dto.getProgressPercentage()),
+                () -> assertEquals(0, dto.getRemainingCredits())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - toDTO aplana el curso, el grupo y el profesor de cada curso")
+    void testToDTO_Cursos() {
+        Course course = new Course();
+        course.setCourseCode("DOSW");
+        course.setName("Desarrollo y Operaciones de Software");
+        Group group = new Group();
+        group.setGroupId("g1");
+        group.setSection("A");
+        CourseStatusDetail withGroup = new CourseStatusDetail();
+        withGroup.setCourse(course);
+        withGroup.setGroup(group);
+        withGroup.setCreditsEarned(4);
+        CourseStatusDetail withoutGroup = new CourseStatusDetail();
+        StudentAcademicProgress progress = progress(60, 160, 4, 10);
+        progress.setCoursesStatus(List.of(withGroup, withoutGroup));
+
+        List<CourseStatusDetailDTO> courses = studentProgressMapper.toDTO(progress).getCoursesStatus();
+
+        assertAll("Verificar cursos",
+                () -> assertEquals(2, courses.size()),
+                () -> assertEquals("DOSW", courses.get(0).getCourseId()),
+                () -> assertEquals("DOSW", courses.get(0).getCourseCode()),
+                () -> assertEquals("Desarrollo y Operaciones de Software", courses.get(0).getCourseName()),
+                () -> assertEquals("g1", courses.get(0).getGroupId()),
+                () -> assertEquals("A", courses.get(0).getGroupCode()),
+                () -> assertNull(courses.get(0).getProfessorId()),
+                () -> assertEquals(4, courses.get(0).getCreditsEarned()),
+                () -> assertNull(courses.get(1).getCourseCode()),
+                () -> assertNull(courses.get(1).getGroupId())
+        );
+    }
+
+    private StudentAcademicProgress progress(int completed, int required, int semester, int totalSemesters) {
+        Student student = new Student();
+        student.setId("s1");
+        student.setName("Ana");
+        StudentAcademicProgress progress = new StudentAcademicProgress();
+        progress.setId("p1");
+        progress.setStudent(student);
+        progress.setCompletedCredits(completed);
+        progress.setTotalCreditsRequired(required);
+        progress.setCurrentSemester(semester);
+        progress.setTotalSemesters(totalSemesters);
+        return progress;
+    }
+}
@@ -0,0 +1,98 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.mapper;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.UserDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserMapperTest {
+
+    private final UserMapper userMapper = new UserMapperImpl();
+
+    @Test
+    @DisplayName("Caso exitoso - toDTO copia los datos y expone el rol por su nombre")
+    void testToDTO() {
+        User user = new User("u1", "Ana", "ana@escuelaing.edu.co", "secreta", UserRole.DEAN);
+
+        UserDTO dto = userMapper.toDTO(user);
+
+        assertAll("Verificar DTO del usuario",
+                () -> assertEquals("u1", dto.getId()),
+                () -> assertEquals("Ana", dto.getName()),
+                () -> assertEquals("ana@escuelaing.edu.co", dto.getEmail()),
+                () -> assertEquals("DEAN", dto.getRole()),
+                () -> assertTrue(dto.getActive()),
+                () -> assertEquals(user.getCreatedAt(), dto.getCreatedAt())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - toEntity interpreta el rol sin distinguir mayúsculas")
+    void testToEntity_Rol() {
+        UserDTO dto = new UserDTO();
+        dto.setRole("professor");
+        dto.setActive(false);
+
+        User user = userMapper.toEntity(dto);
+
+        assertAll("Verificar entidad del usuario",
+                () -> assertEquals(UserRole.PROFESSOR, user.getRole()),
+                () -> assertFalse(user.isActive()),
+                () -> assertNotNull(user.getCreatedAt()),
+                () -> assertNotNull(user.getUpdatedAt())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - toEntity usa STUDENT cuando el rol falta o no existe")
+    void testToEntity_RolPorDefecto() {
+        UserDTO sinRol = new UserDTO();
+        UserDTO rolDesconocido = new UserDTO();
+        rolDesconocido.setRole("rector");
+
+        assertAll("Verificar rol por defecto",
+                () -> assertEquals(UserRole.STUDENT, userMapper.toEntity(sinRol).getRole()),
+                () -> assertEquals(UserRole.STUDENT, userMapper.toEntity(rolDesconocido).getRole()),
+                () -> assertTrue(userMapper.toEntity(sinRol).isActive())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - toEntity conserva la fecha de creación del DTO")
+    void testToEntity_FechaCreacion() {
+        Date createdAt = new Date(0);
+        UserDTO dto = new UserDTO();
+        dto.setCreatedAt(createdAt);
+        dto.setUpdatedAt(createdAt);
+
+        User user = userMapper.toEntity(dto);
+
+        assertAll("Verificar fechas",
+                () -> assertEquals(createdAt, user.getCreatedAt()),
+                () -> assertTrue(user.getUpdatedAt().after(createdAt))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - toDTOs conserva el orden y maneja listas nulas")
+    void testToDTOs() {
+        List<User> users = List.of(
+                new User("u1", "Ana", "ana@escuelaing.edu.co", "x", UserRole.STUDENT),
+                new User("u2", "Luis", "luis@escuelaing.edu.co", "y", UserRole.ADMINISTRATOR));
+
+        List<UserDTO> dtos = userMapper.toDTOs(users);
+
+        assertAll("Verificar lista de DTOs",
+                () -> assertEquals(2, dtos.size()),
+                () -> assertEquals("u1", dtos.get(0).getId()),
+                () -> assertEquals("ADMINISTRATOR", dtos.get(1).getRole()),
+                () -> assertNull(userMapper.toDTOs(null))
+        );
+    }
+}
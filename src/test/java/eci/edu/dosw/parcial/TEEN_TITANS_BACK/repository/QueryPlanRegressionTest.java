@@ -0,0 +1,418 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.config.MongoIndexInitializer;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.CourseStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RoomType;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Classroom;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.CourseStatusDetail;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Group;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.StudentAcademicProgress;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de regresión de planes de consulta sobre un MongoDB embebido.
+ *
+ * Se cargan volúmenes realistas (20k estudiantes, 200k detalles de curso, 50k solicitudes),
+ * se crean los índices declarados en los modelos con {@link MongoIndexInitializer} y se
+ * ejecutan los métodos de consulta de los repositorios con el profiler de MongoDB activo.
+ * Cada consulta falla si el plan usado es un {@code COLLSCAN} o si examina demasiados
+ * documentos por cada documento devuelto.
+ *
+ * Se ejecutan con el perfil {@code query-plans} ({@code mvn test -Pquery-plans}); si el
+ * binario de MongoDB no se puede descargar o iniciar, las pruebas fallan en lugar de omitirse
+ * para que el perfil nunca termine en verde sin haber revisado ningún plan.
+ *
+ * @author Equipo Teen Titans
+ * @version 1.0
+ * @since 2025
+ */
+@Tag("query-plan")
+class QueryPlanRegressionTest {
+
+    private static final String DATABASE = "teen_titans_query_plans";
+    private static final double SCALE = Double.parseDouble(System.getProperty("queryplan.scale", "1.0"));
+    private static final int STUDENTS = (int) (20_000 * SCALE);
+    private static final int COURSE_STATUS_DETAILS_PER_STUDENT = 10;
+    private static final int REQUESTS = (int) (50_000 * SCALE);
+    private static final int GROUPS = 500;
+    private static final int CLASSROOMS = 300;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int MAX_DOCS_EXAMINED_RATIO = 10;
+
+    private static final String[] PROGRAMS = {"Ingeniería de Sistemas", "Ingeniería Civil", "Matemáticas",
+            "Ingeniería Electrónica", "Economía"};
+    private static final String[] SEMESTERS = {"2023-1", "2023-2", "2024-1", "2024-2", "2025-1"};
+    private static final CourseStatus[] COURSE_STATUSES = CourseStatus.values();
+
+    private static TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private static ScheduleChangeRequestRepository scheduleChangeRequestRepository;
+    private static CourseStatusDetailRepository courseStatusDetailRepository;
+    private static ClassroomRepository classroomRepository;
+    private static StudentRepository studentRepository;
+    private static StudentAcademicProgressRepository studentAcademicProgressRepository;
+
+    @BeforeAll
+    static void startMongoAndSeed() {
+        try {
+            mongod = Mongod.instance().start(Version.Main.V7_0);
+        } catch (RuntimeException e) {
+            fail("MongoDB embebido no disponible: " + e.getMessage(), e);
+        }
+
+        mongoClient = MongoClients.create("mongodb://" + mongod.current().getServerAddress());
+        mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        Set.of(ScheduleChangeRequest.class, CourseStatusDetail.class, Classroom.class, Student.class,
+                StudentAcademicProgress.class, UserIdentity.class).forEach(mappingContext::getPersistentEntity);
+        MongoIndexInitializer.IndexReport report = new MongoIndexInitializer(mongoTemplate, mappingContext)
+                .ensureIndexes();
+        assertTrue(report.getMissing().isEmpty(), "Índices declarados sin crear: " + report.getMissing());
+
+        MongoRepositoryFactory factory = new MongoRepositoryFactory(mongoTemplate);
+        scheduleChangeRequestRepository = factory.getRepository(ScheduleChangeRequestRepository.class,
+                RepositoryFragments.just(new ScheduleChangeRequestRepositoryImpl(mongoTemplate)));
+        courseStatusDetailRepository = factory.getRepository(CourseStatusDetailRepository.class);
+        classroomRepository = factory.getRepository(ClassroomRepository.class);
+        studentRepository = factory.getRepository(StudentRepository.class,
+                RepositoryFragments.just(new StudentRepositoryImpl(mongoTemplate)));
+        studentAcademicProgressRepository = factory.getRepository(StudentAcademicProgressRepository.class,
+                RepositoryFragments.just(new StudentAcademicProgressRepositoryImpl(mongoTemplate)));
+
+        seed();
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        if (mongoClient != null) {
+            mongoClient.close();
+        }
+        if (mongod != null) {
+            mongod.close();
+        }
+    }
+
+    @BeforeEach
+    void resetProfiler() {
+        mongoTemplate.getDb().runCommand(new Document("profile", 0));
+        mongoTemplate.getDb().getCollection("system.profile").drop();
+        mongoTemplate.getDb().runCommand(new Document("profile", 2));
+    }
+
+    @Test
+    @DisplayName("Plan - ScheduleChangeRequestRepository.findByStudentIdAndStatus usa índice")
+    void testFindRequestsByStudentIdAndStatus() {
+        scheduleChangeRequestRepository.findByStudentIdAndStatus(studentId(42), RequestStatus.APPROVED);
+
+        assertIndexedPlan("schedule_change_requests");
+    }
+
+    @Test
+    @DisplayName("Plan - ScheduleChangeRequestRepository.findByStatus usa índice")
+    void testFindRequestsByStatus() {
+        scheduleChangeRequestRepository.findByStatus(RequestStatus.UNDER_REVIEW);
+
+        assertIndexedPlan("schedule_change_requests");
+    }
+
+    @Test
+    @DisplayName("Plan - ScheduleChangeRequestRepository.countByStatus usa índice")
+    void testCountRequestsByStatus() {
+        scheduleChangeRequestRepository.countByStatus(RequestStatus.PENDING);
+
+        assertIndexedPlan("schedule_change_requests");
+    }
+
+    @Test
+    @DisplayName("Plan - ScheduleChangeRequestRepository.findByRequestedGroupId usa índice")
+    void testFindRequestsByRequestedGroupId() {
+        scheduleChangeRequestRepository.findByRequestedGroupId(groupId(7));
+
+        assertIndexedPlan("schedule_change_requests");
+    }
+
+    @Test
+    @DisplayName("Plan - ScheduleChangeRequestRepository.findByStudentIdOrderBySubmissionDateDesc usa índice")
+    void testFindRequestsByStudentIdOrdered() {
+        scheduleChangeRequestRepository.findByStudentIdOrderBySubmissionDateDesc(studentId(1234));
+
+        assertIndexedPlan("schedule_change_requests");
+    }
+
+    @Test
+    @DisplayName("Plan - ScheduleChangeRequestRepository.findGlobalPage recorre el índice por fecha")
+    void testFindGlobalRequestsPage() {
+        List<ScheduleChangeRequest> firstPage = scheduleChangeRequestRepository.findGlobalPage(null, null, 21);
+        ScheduleChangeRequest last = firstPage.get(firstPage.size() - 1);
+        scheduleChangeRequestRepository.findGlobalPage(last.getSubmissionDate(), last.getRequestId(), 21);
+
+        assertIndexedPlan("schedule_change_requests");
+    }
+
+    @Test
+    @DisplayName("Plan - ScheduleChangeRequestRepository.findPageByFaculty usa índice")
+    void testFindRequestsPageByFaculty() {
+        scheduleChangeRequestRepository.findPageByFaculty(PROGRAMS[1], List.of(studentId(7), studentId(42)),
+                PageRequest.of(3, 20, Sort.by(Sort.Direction.DESC, "submissionDate")));
+
+        assertIndexedPlan("schedule_change_requests");
+    }
+
+    @Test
+    @DisplayName("Plan - StudentAcademicProgressRepository.findProgressByStudentIds usa índice")
+    void testFindProgressByStudentIds() {
+        Map<String, StudentAcademicProgress> progress = studentAcademicProgressRepository
+                .findProgressByStudentIds(List.of(studentId(7), studentId(42), studentId(1234)));
+
+        assertEquals(3, progress.size());
+        assertIndexedPlan("student_progress");
+    }
+
+    @Test
+    @DisplayName("Plan - StudentAcademicProgressRepository.findStudentIdsByFaculty usa índice")
+    void testFindStudentIdsByFaculty() {
+        studentAcademicProgressRepository.findStudentIdsByFaculty(PROGRAMS[2]);
+
+        assertIndexedPlan("student_progress");
+    }
+
+    @Test
+    @DisplayName("Plan - CourseStatusDetailRepository.findByStudentIdAndSemester usa índice")
+    void testFindCourseStatusByStudentIdAndSemester() {
+        courseStatusDetailRepository.findByStudentIdAndSemester(studentId(42), SEMESTERS[2]);
+
+        assertIndexedPlan("course_status_details");
+    }
+
+    @Test
+    @DisplayName("Plan - CourseStatusDetailRepository.findByStudentId usa índice")
+    void testFindCourseStatusByStudentId() {
+        courseStatusDetailRepository.findByStudentId(studentId(4321));
+
+        assertIndexedPlan("course_status_details");
+    }
+
+    @Test
+    @DisplayName("Plan - CourseStatusDetailRepository.findByStudentIdAndStatus usa índice")
+    void testFindCourseStatusByStudentIdAndStatus() {
+        courseStatusDetailRepository.findByStudentIdAndStatus(studentId(42), CourseStatus.PASSED);
+
+        assertIndexedPlan("course_status_details");
+    }
+
+    @Test
+    @DisplayName("Plan - CourseStatusDetailRepository.countByGroup_GroupId usa índice")
+    void testCountCourseStatusByGroup() {
+        courseStatusDetailRepository.countByGroup_GroupId(groupId(7));
+
+        assertIndexedPlan("course_status_details");
+    }
+
+    @Test
+    @DisplayName("Plan - ClassroomRepository.findByBuildingRegex usa índice")
+    void testFindClassroomsByBuildingRegex() {
+        classroomRepository.findByBuildingRegex("bloque c");
+
+        assertIndexedPlan("classrooms");
+    }
+
+    @Test
+    @DisplayName("Plan - ClassroomRepository.findByRoomNumberRegex usa índice")
+    void testFindClassroomsByRoomNumberRegex() {
+        classroomRepository.findByRoomNumberRegex("^1");
+
+        assertIndexedPlan("classrooms");
+    }
+
+    @Test
+    @DisplayName("Plan - StudentRepository.findByAcademicProgramAndActive usa índice")
+    void testFindStudentsByProgramAndActive() {
+        studentRepository.findByAcademicProgramAndActive(PROGRAMS[3], false);
+
+        assertIndexedPlan("students");
+    }
+
+    @Test
+    @DisplayName("Plan - StudentRepository.findByEmail usa índice")
+    void testFindStudentsByEmail() {
+        studentRepository.findByEmail("estudiante42@escuelaing.edu.co");
+
+        assertIndexedPlan("students");
+    }
+
+    @Test
+    @DisplayName("Plan - StudentRepository.search por programa y estado usa índice")
+    void testSearchStudentsByProgramAndActive() {
+        studentRepository.search(PROGRAMS[2], null, null, false, 100);
+
+        assertIndexedPlan("students");
+    }
+
+    /**
+     * Verifica las operaciones registradas por el profiler sobre la colección: ninguna puede
+     * recorrer la colección completa y, en conjunto, no pueden examinar más de
+     * {@link #MAX_DOCS_EXAMINED_RATIO} documentos por cada documento devuelto.
+     */
+    private void assertIndexedPlan(String collection) {
+        List<Document> operations = mongoTemplate.getDb().getCollection("system.profile")
+                .find(new Document("ns", DATABASE + "." + collection)
+                        .append("planSummary", new Document("$exists", true)))
+                .into(new ArrayList<>());
+        assertFalse(operations.isEmpty(), "El profiler no registró consultas sobre " + collection);
+
+        long docsExamined = 0;
+        long returned = 0;
+        for (Document operation : operations) {
+            String planSummary = operation.getString("planSummary");
+            assertFalse(planSummary.contains("COLLSCAN"),
+                    "Recorrido completo de " + collection + ": " + operation.get("command"));
+            docsExamined += operation.get("docsExamined", Number.class) != null
+                    ? operation.get("docsExamined", Number.class).longValue() : 0;
+            returned += operation.get("nreturned", Number.class) != null
+                    ? operation.get("nreturned", Number.class).longValue() : 0;
+        }
+        assertTrue(docsExamined <= Math.max(returned, 1) * MAX_DOCS_EXAMINED_RATIO,
+                "Se examinaron " + docsExamined + " documentos para devolver " + returned + " en " + collection);
+    }
+
+    private static void seed() {
+        List<Classroom> classrooms = new ArrayList<>();
+        for (int i = 0; i < CLASSROOMS; i++) {
+            Classroom classroom = new Classroom("Bloque " + (char) ('A' + i % 10), String.valueOf(100 + i),
+                    20 + i % 40, RoomType.values()[i % RoomType.values().length]);
+            classroom.setClassroomId("CLS" + i);
+            classrooms.add(classroom);
+        }
+        mongoTemplate.insert(classrooms, Classroom.class);
+
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < GROUPS; i++) {
+            Group group = new Group();
+            group.setGroupId(groupId(i));
+            group.setSection(String.valueOf((char) ('A' + i % 5)));
+            group.setClassroom(classrooms.get(i % CLASSROOMS));
+            groups.add(group);
+        }
+        mongoTemplate.insert(groups, Group.class);
+
+        insertInBatches(Student.class, STUDENTS, i -> {
+            Student student = new Student(studentId(i), "Estudiante " + i, "estudiante" + i + "@escuelaing.edu.co",
+                    "secreto", PROGRAMS[i % PROGRAMS.length], 1 + i % 10);
+            student.setActive(i % 20 != 0);
+            return student;
+        });
+
+        insertInBatches(CourseStatusDetail.class, STUDENTS * COURSE_STATUS_DETAILS_PER_STUDENT, i -> {
+            CourseStatusDetail detail = new CourseStatusDetail();
+            detail.setId("CSD" + i);
+            detail.setStudentId(studentId(i / COURSE_STATUS_DETAILS_PER_STUDENT));
+            detail.setSemester(SEMESTERS[i % SEMESTERS.length]);
+            detail.setStatus(COURSE_STATUSES[i % COURSE_STATUSES.length]);
+            detail.setGroup(groups.get(i % GROUPS));
+            return detail;
+        });
+
+        insertInBatches(StudentAcademicProgress.class, STUDENTS, i -> {
+            Student student = new Student();
+            student.setId(studentId(i));
+            StudentAcademicProgress progress = new StudentAcademicProgress();
+            progress.setId("PRG" + i);
+            progress.setStudent(student);
+            progress.setAcademicProgram(PROGRAMS[i % PROGRAMS.length]);
+            progress.setFaculty(PROGRAMS[i % PROGRAMS.length]);
+            progress.setCurrentSemester(1 + i % 10);
+            return progress;
+        });
+
+        long now = System.currentTimeMillis();
+        insertInBatches(ScheduleChangeRequest.class, REQUESTS, i -> {
+            Student student = new Student();
+            student.setId(studentId(i % STUDENTS));
+            return ScheduleChangeRequest.builder()
+                    .requestId("REQ" + i)
+                    .student(student)
+                    .faculty(PROGRAMS[i % PROGRAMS.length])
+                    .currentGroup(groups.get(i % GROUPS))
+                    .requestedGroup(groups.get((i * 7 + 1) % GROUPS))
+                    .reason("Cruce de horario")
+                    .status(requestStatus(i))
+                    .submissionDate(new Date(now - i * 60_000L))
+                    .reviewHistory(new ArrayList<>())
+                    .build();
+        });
+    }
+
+    /**
+     * Inserta documentos por lotes convirtiéndolos con el mismo mapeo que usan los repositorios.
+     */
+    private static <T> void insertInBatches(Class<T> type, int total, IntFunction<T> factory) {
+        MongoConverter converter = mongoTemplate.getConverter();
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(type));
+        List<Document> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < total; i++) {
+            Document document = new Document();
+            converter.write(factory.apply(i), document);
+            batch.add(document);
+            if (batch.size() == BATCH_SIZE) {
+                collection.insertMany(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            collection.insertMany(batch);
+        }
+    }
+
+    private static RequestStatus requestStatus(int i) {
+        int bucket = i % 100;
+        if (bucket < 50) return RequestStatus.APPROVED;
+        if (bucket < 80) return RequestStatus.REJECTED;
+        if (bucket < 90) return RequestStatus.PENDING;
+        if (bucket < 97) return RequestStatus.UNDER_REVIEW;
+        return RequestStatus.CANCELLED;
+    }
+
+    private static String studentId(int i) {
+        return String.format("STU%05d", i);
+    }
+
+    private static String groupId(int i) {
+        return String.format("GRP%04d", i);
+    }
+}
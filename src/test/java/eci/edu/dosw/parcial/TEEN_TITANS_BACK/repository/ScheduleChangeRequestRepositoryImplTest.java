@@ -0,0 +1,427 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import com.mongodb.DBRef;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ScheduleChangeRequestExportDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ReviewStep;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ScheduleChangeRequestRepositoryImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private ScheduleChangeRequestRepositoryImpl repository;
+
+    @Test
+    @DisplayName("Caso exitoso - countGroupedByStatus convierte el resultado del $group")
+    void testCountGroupedByStatus_Exitoso() {
+        when(mongoTemplate.getCollectionName(ScheduleChangeRequest.class)).thenReturn("schedule_change_requests");
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("schedule_change_requests"), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(
+                        new Document("_id", "APPROVED").append("count", 3),
+                        new Document("_id", "PENDING").append("count", 2L)), new Document()));
+
+        Map<RequestStatus, Long> resultado = repository.countGroupedByStatus();
+
+        assertEquals(Map.of(RequestStatus.APPROVED, 3L, RequestStatus.PENDING, 2L), resultado);
+
+        ArgumentCaptor<Aggregation> captor = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(captor.capture(), eq("schedule_change_requests"), eq(Document.class));
+        List<Document> pipeline = captor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertEquals(1, pipeline.size());
+        assertTrue(pipeline.get(0).containsKey("$group"));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - countGroupedByStatusForFaculty filtra por la facultad registrada")
+    void testCountGroupedByStatusForFaculty_Exitoso() {
+        when(mongoTemplate.getCollectionName(ScheduleChangeRequest.class)).thenReturn("schedule_change_requests");
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("schedule_change_requests"), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(), new Document()));
+
+        Map<RequestStatus, Long> resultado = repository.countGroupedByStatusForFaculty("Ingeniería", List.of());
+
+        assertTrue(resultado.isEmpty());
+
+        ArgumentCaptor<Aggregation> captor = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(captor.capture(), eq("schedule_change_requests"), eq(Document.class));
+        List<Document> pipeline = captor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertEquals(2, pipeline.size());
+        assertEquals(new Document("faculty", "Ingeniería"), pipeline.get(0).get("$match", Document.class));
+    }
+
+    @Test
+    @DisplayName("Caso borde - countGroupedByStatusForFaculty incluye por estudiante las solicitudes sin facultad")
+    void testCountGroupedByStatusForFaculty_SolicitudesSinFacultad() {
+        when(mongoTemplate.getCollectionName(ScheduleChangeRequest.class)).thenReturn("schedule_change_requests");
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("schedule_change_requests"), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(), new Document()));
+
+        repository.countGroupedByStatusForFaculty("Ingeniería", List.of("STU001"));
+
+        ArgumentCaptor<Aggregation> captor = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(captor.capture(), eq("schedule_change_requests"), eq(Document.class));
+        Document match = captor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).get(0).get("$match", Document.class);
+        assertEquals(2, match.get("$or", List.class).size());
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - findSpecialCases combina los criterios con $or")
+    void testFindSpecialCases_Exitoso() {
+        when(mongoTemplate.find(any(Query.class), eq(ScheduleChangeRequest.class))).thenReturn(List.of());
+
+        repository.findSpecialCases(3, List.of("médico", "emergencia"), new Date());
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(ScheduleChangeRequest.class));
+        List<?> conditions = captor.getValue().getQueryObject().get("$or", List.class);
+        assertEquals(3, conditions.size());
+        assertTrue(((Document) conditions.get(0)).containsKey("reviewHistory.3"));
+        assertEquals(new Document("submissionDate", -1), captor.getValue().getSortObject());
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - findPageByFaculty pagina y ordena en la consulta")
+    void testFindPageByFaculty_Exitoso() {
+        ScheduleChangeRequest request = new ScheduleChangeRequest();
+        request.setRequestId("REQ001");
+        PageRequest pageable = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "submissionDate"));
+        when(mongoTemplate.find(any(Query.class), eq(ScheduleChangeRequest.class))).thenReturn(List.of(request));
+        when(mongoTemplate.count(any(Query.class), eq(ScheduleChangeRequest.class))).thenReturn(5L);
+
+        Page<ScheduleChangeRequest> resultado = repository.findPageByFaculty("Ingeniería", List.of(), pageable);
+
+        assertAll("Verificar página de la facultad",
+                () -> assertEquals(1, resultado.getContent().size()),
+                () -> assertEquals(5, resultado.getTotalElements())
+        );
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(ScheduleChangeRequest.class));
+        Query query = captor.getValue();
+        assertAll("Verificar consulta paginada",
+                () -> assertEquals(1, query.getSkip()),
+                () -> assertEquals(1, query.getLimit()),
+                () -> assertEquals(new Document("submissionDate", -1), query.getSortObject()),
+                () -> assertEquals(new Document("faculty", "Ingeniería"), query.getQueryObject())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - findPageByFaculty incluye por estudiante las solicitudes sin facultad")
+    void testFindPageByFaculty_SolicitudesSinFacultad() {
+        String objectId = new ObjectId().toHexString();
+        when(mongoTemplate.find(any(Query.class), eq(ScheduleChangeRequest.class))).thenReturn(List.of());
+
+        repository.findPageByFaculty("Ingeniería", List.of(objectId, "STU001"), PageRequest.of(0, 20));
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(ScheduleChangeRequest.class));
+        List<?> scope = captor.getValue().getQueryObject().get("$or", List.class);
+        Document legacy = (Document) ((Document) scope.get(1)).get("$and", List.class).get(1);
+        assertAll("Verificar filtro de solicitudes sin facultad",
+                () -> assertEquals(new Document("faculty", "Ingeniería"), scope.get(0)),
+                () -> assertEquals(new Document("$in", List.of(new ObjectId(objectId), "STU001")),
+                        legacy.get("student.$id"))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - findPageByFaculty sin resultados no cuenta el total")
+    void testFindPageByFaculty_SinResultados() {
+        when(mongoTemplate.find(any(Query.class), eq(ScheduleChangeRequest.class))).thenReturn(List.of());
+
+        Page<ScheduleChangeRequest> resultado = repository.findPageByFaculty("Artes", null, PageRequest.of(0, 20));
+
+        assertTrue(resultado.isEmpty());
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(ScheduleChangeRequest.class));
+        assertEquals(new Document("faculty", "Artes"), captor.getValue().getQueryObject());
+        verify(mongoTemplate, never()).count(any(Query.class), eq(ScheduleChangeRequest.class));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - decideIfUndecided solo actualiza solicitudes pendientes o en revisión")
+    void testDecideIfUndecided_Exitoso() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ScheduleChangeRequest.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        ReviewStep step = new ReviewStep();
+        step.setAction("SOLICITUD_APROBADA");
+        Date resolutionDate = new Date();
+
+        assertTrue(repository.decideIfUndecided("REQ001", RequestStatus.APPROVED, resolutionDate, step));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(ScheduleChangeRequest.class));
+        assertAll("Verificar actualización condicional",
+                () -> assertEquals("REQ001", query.getValue().getQueryObject().get("_id")),
+                () -> assertEquals(new Document("$in", List.of(RequestStatus.PENDING, RequestStatus.UNDER_REVIEW)),
+                        query.getValue().getQueryObject().get("status")),
+                () -> assertEquals(RequestStatus.APPROVED,
+                        update.getValue().getUpdateObject().get("$set", Document.class).get("status")),
+                () -> assertEquals(step, update.getValue().getUpdateObject().get("$push", Document.class).get("reviewHistory"))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - decideIfUndecided informa cuando la solicitud ya estaba resuelta")
+    void testDecideIfUndecided_YaResuelta() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ScheduleChangeRequest.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        assertFalse(repository.decideIfUndecided("REQ001", RequestStatus.REJECTED, new Date(), new ReviewStep()));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - applyDecision envía un lote desordenado con $set y $push")
+    void testApplyDecision_Exitoso() {
+        BulkOperations bulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ScheduleChangeRequest.class)).thenReturn(bulk);
+        when(bulk.execute()).thenReturn(matched(2));
+        ReviewStep step = new ReviewStep();
+        step.setAction("SOLICITUD_APROBADA");
+        Date resolutionDate = new Date();
+
+        Set<String> fallidas = repository.applyDecision(List.of("REQ001", "REQ002"), RequestStatus.APPROVED,
+                resolutionDate, step);
+
+        assertTrue(fallidas.isEmpty());
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulk, times(2)).updateOne(query.capture(), update.capture());
+        assertEquals(new Document("$in", List.of(RequestStatus.PENDING, RequestStatus.UNDER_REVIEW)),
+                query.getValue().getQueryObject().get("status"));
+        Document updateObject = update.getValue().getUpdateObject();
+        assertEquals(RequestStatus.APPROVED, ((Document) updateObject.get("$set")).get("status"));
+        assertEquals(resolutionDate, ((Document) updateObject.get("$set")).get("resolutionDate"));
+        assertSame(step, ((Document) updateObject.get("$push")).get("reviewHistory"));
+        verify(bulk, times(1)).execute();
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Document.class), anyString());
+    }
+
+    @Test
+    @DisplayName("Caso borde - applyDecision informa como fallidas las solicitudes resueltas por otra operación")
+    void testApplyDecision_SolicitudYaResuelta() {
+        BulkOperations bulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ScheduleChangeRequest.class)).thenReturn(bulk);
+        when(bulk.execute()).thenReturn(matched(1));
+        when(mongoTemplate.getCollectionName(ScheduleChangeRequest.class)).thenReturn("schedule_change_requests");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("schedule_change_requests")))
+                .thenReturn(List.of(new Document("_id", "REQ002")));
+
+        Set<String> fallidas = repository.applyDecision(List.of("REQ001", "REQ002"), RequestStatus.APPROVED,
+                new Date(), new ReviewStep());
+
+        assertEquals(Set.of("REQ001"), fallidas);
+    }
+
+    @Test
+    @DisplayName("Caso error - applyDecision verifica el lote cuando la operación masiva falla por completo")
+    void testApplyDecision_ErrorDeConexion() {
+        BulkOperations bulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ScheduleChangeRequest.class)).thenReturn(bulk);
+        when(bulk.execute()).thenThrow(new RuntimeException("Conexión perdida"));
+        when(mongoTemplate.getCollectionName(ScheduleChangeRequest.class)).thenReturn("schedule_change_requests");
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("schedule_change_requests")))
+                .thenThrow(new RuntimeException("Conexión perdida"));
+
+        Set<String> fallidas = repository.applyDecision(List.of("REQ001", "REQ002"), RequestStatus.REJECTED,
+                new Date(), new ReviewStep());
+
+        assertEquals(Set.of("REQ001", "REQ002"), fallidas);
+    }
+
+    @Test
+    @DisplayName("Caso error - applyDecision informa las solicitudes cuyo update falló")
+    void testApplyDecision_ErroresParciales() {
+        BulkOperations bulk = mock(BulkOperations.class);
+        BulkOperationException exception = mock(BulkOperationException.class);
+        when(exception.getErrors()).thenReturn(List.of(new BulkWriteError(121, "Document failed validation",
+                new BsonDocument(), 1)));
+        when(exception.getResult()).thenReturn(matched(2));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ScheduleChangeRequest.class)).thenReturn(bulk);
+        when(bulk.execute()).thenThrow(exception);
+
+        Set<String> fallidas = repository.applyDecision(List.of("REQ001", "REQ002", "REQ003"),
+                RequestStatus.REJECTED, new Date(), new ReviewStep());
+
+        assertEquals(Set.of("REQ002"), fallidas);
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Document.class), anyString());
+    }
+
+    @Test
+    @DisplayName("Caso borde - applyDecision sin solicitudes no consulta la base de datos")
+    void testApplyDecision_ListaVacia() {
+        assertTrue(repository.applyDecision(List.of(), RequestStatus.APPROVED, new Date(), new ReviewStep()).isEmpty());
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - findGlobalPage sin cursor solo ordena y limita")
+    void testFindGlobalPage_PrimeraPagina() {
+        when(mongoTemplate.find(any(Query.class), eq(ScheduleChangeRequest.class))).thenReturn(List.of());
+
+        repository.findGlobalPage(null, null, 21);
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(ScheduleChangeRequest.class));
+        Query query = captor.getValue();
+        assertAll("Verificar consulta de primera página",
+                () -> assertTrue(query.getQueryObject().isEmpty()),
+                () -> assertEquals(21, query.getLimit()),
+                () -> assertEquals(new Document("submissionDate", -1).append("_id", -1), query.getSortObject())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - findGlobalPage con cursor continúa después de la clave (fecha, id)")
+    void testFindGlobalPage_ConCursor() {
+        Date after = new Date(1735689600000L);
+        when(mongoTemplate.find(any(Query.class), eq(ScheduleChangeRequest.class))).thenReturn(List.of());
+
+        repository.findGlobalPage(after, "REQ002", 21);
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(ScheduleChangeRequest.class));
+        List<?> branches = captor.getValue().getQueryObject().get("$or", List.class);
+        assertAll("Verificar criterio keyset",
+                () -> assertEquals(3, branches.size()),
+                () -> assertEquals(new Document("submissionDate", new Document("$lt", after)), branches.get(0)),
+                () -> assertEquals(new Document("submissionDate", after).append("_id", new Document("$lt", "REQ002")),
+                        branches.get(1))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - findGlobalPage con cursor sin fecha recorre solo las solicitudes sin fecha")
+    void testFindGlobalPage_CursorSinFecha() {
+        when(mongoTemplate.find(any(Query.class), eq(ScheduleChangeRequest.class))).thenReturn(List.of());
+
+        repository.findGlobalPage(null, "REQ002", 21);
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(ScheduleChangeRequest.class));
+        Document queryObject = captor.getValue().getQueryObject();
+        assertAll("Verificar criterio de solicitudes sin fecha",
+                () -> assertFalse(queryObject.containsKey("$or")),
+                () -> assertNull(queryObject.get("submissionDate")),
+                () -> assertEquals(new Document("$lt", "REQ002"), queryObject.get("_id"))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - streamForExport lee por cursor con los filtros de estado y fecha")
+    void testStreamForExport_ConFiltros() {
+        Date from = new Date(1735689600000L);
+        Date to = new Date(1751328000000L);
+        when(mongoTemplate.getCollectionName(ScheduleChangeRequest.class)).thenReturn("schedule_change_requests");
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("schedule_change_requests")))
+                .thenReturn(Stream.empty());
+
+        repository.streamForExport(RequestStatus.APPROVED, from, to);
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(captor.capture(), eq(Document.class), eq("schedule_change_requests"));
+        verify(mongoTemplate, never()).stream(any(Query.class), eq(ScheduleChangeRequest.class));
+        Query query = captor.getValue();
+        Document fields = query.getFieldsObject();
+        assertAll("Verificar consulta de exportación",
+                () -> assertEquals(1, fields.get("currentGroup._id")),
+                () -> assertEquals(1, fields.get("requestedGroup._id")),
+                () -> assertFalse(fields.containsKey("currentGroup")),
+                () -> assertFalse(fields.containsKey("requestedGroup")),
+                () -> assertEquals(RequestStatus.APPROVED, query.getQueryObject().get("status")),
+                () -> assertEquals(new Document("$gte", from).append("$lt", to),
+                        query.getQueryObject().get("submissionDate")),
+                () -> assertEquals(new Document("submissionDate", -1), query.getSortObject()),
+                () -> assertEquals(ScheduleChangeRequestRepositoryImpl.EXPORT_BATCH_SIZE,
+                        query.getMeta().getCursorBatchSize())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - streamForExport sin filtros recorre toda la colección")
+    void testStreamForExport_SinFiltros() {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), any())).thenReturn(Stream.empty());
+
+        repository.streamForExport(null, null, null);
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(captor.capture(), eq(Document.class), any());
+        assertTrue(captor.getValue().getQueryObject().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - streamForExport entrega las referencias solo por ID")
+    void testStreamForExport_ReferenciasPorId() {
+        Date submitted = new Date(1735689600000L);
+        Document document = new Document("_id", "REQ001")
+                .append("student", new DBRef("users", "STU001"))
+                .append("faculty", "Ingeniería")
+                .append("currentGroup", new Document("_id", "G1"))
+                .append("requestedGroup", new Document("_id", "G2"))
+                .append("reason", "Cruce de horario")
+                .append("status", "APPROVED")
+                .append("submissionDate", submitted)
+                .append("reviewHistory", List.of(new DBRef("review_steps", "RS1"), new DBRef("review_steps", "RS2")));
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), any())).thenReturn(Stream.of(document));
+
+        List<ScheduleChangeRequestExportDTO> rows = repository.streamForExport(null, null, null).toList();
+
+        ScheduleChangeRequestExportDTO row = rows.get(0);
+        assertAll("Verificar fila de exportación",
+                () -> assertEquals(1, rows.size()),
+                () -> assertEquals("REQ001", row.getRequestId()),
+                () -> assertEquals("STU001", row.getStudentId()),
+                () -> assertEquals("Ingeniería", row.getFaculty()),
+                () -> assertEquals("G1", row.getCurrentGroupId()),
+                () -> assertEquals("G2", row.getRequestedGroupId()),
+                () -> assertEquals(RequestStatus.APPROVED, row.getStatus()),
+                () -> assertEquals(submitted, row.getSubmissionDate()),
+                () -> assertNull(row.getResolutionDate()),
+                () -> assertEquals(List.of("RS1", "RS2"), row.getReviewStepIds())
+        );
+    }
+
+    private BulkWriteResult matched(int count) {
+        return BulkWriteResult.acknowledged(0, count, 0, count, List.of(), List.of());
+    }
+}
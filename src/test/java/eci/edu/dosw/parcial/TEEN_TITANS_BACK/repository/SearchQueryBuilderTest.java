@@ -0,0 +1,57 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchQueryBuilderTest {
+
+    @Test
+    @DisplayName("Caso exitoso - build incluye solo los filtros con valor")
+    void testBuild_FiltrosOpcionales() {
+        Query query = SearchQueryBuilder.create()
+                .whereEquals("academicProgram", "Ingeniería de Sistemas")
+                .whereEquals("semester", null)
+                .whereAtLeast("gradeAverage", 4.0)
+                .whereAtLeast("credits", null)
+                .build();
+
+        Document filtro = query.getQueryObject();
+        assertAll("Verificar filtros de la consulta",
+                () -> assertEquals(2, filtro.size()),
+                () -> assertEquals("Ingeniería de Sistemas", filtro.get("academicProgram")),
+                () -> assertEquals(new Document("$gte", 4.0), filtro.get("gradeAverage"))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - build sin filtros consulta todos los documentos ordenados por ID")
+    void testBuild_SinFiltros() {
+        Query query = SearchQueryBuilder.create().build();
+
+        assertAll("Verificar consulta sin filtros",
+                () -> assertTrue(query.getQueryObject().isEmpty()),
+                () -> assertEquals(new Document("id", 1), query.getSortObject()),
+                () -> assertFalse(query.isLimited())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - build aplica la proyección y el límite")
+    void testBuild_ProyeccionYLimite() {
+        Query query = SearchQueryBuilder.create()
+                .whereEquals("active", true)
+                .excluding("password")
+                .limit(30)
+                .build();
+
+        assertAll("Verificar proyección y límite",
+                () -> assertEquals(new Document("password", 0), query.getFieldsObject()),
+                () -> assertEquals(30, query.getLimit()),
+                () -> assertEquals(true, query.getQueryObject().get("active"))
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StudentRepositoryImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private StudentRepositoryImpl repository;
+
+    @Test
+    @DisplayName("Caso exitoso - search traduce los filtros a una consulta sin contraseña y con límite")
+    void testSearch_Exitoso() {
+        Student student = new Student("STU001", "Ana", "ana@escuelaing.edu.co", null, "Matemáticas", 3);
+        when(mongoTemplate.find(any(Query.class), eq(Student.class))).thenReturn(List.of(student));
+
+        List<Student> resultado = repository.search("Matemáticas", null, 3.5, true, 30);
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(Student.class));
+        Query query = captor.getValue();
+        assertAll("Verificar consulta de búsqueda",
+                () -> assertEquals(List.of(student), resultado),
+                () -> assertEquals(new Document("academicProgram", "Matemáticas")
+                        .append("active", true)
+                        .append("gradeAverage", new Document("$gte", 3.5)), query.getQueryObject()),
+                () -> assertEquals(new Document("password", 0), query.getFieldsObject()),
+                () -> assertEquals(30, query.getLimit())
+        );
+    }
+}
@@ -1,12 +1,25 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository;
 
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
 
 import java.util.List;
 import java.util.Arrays;
@@ -14,6 +27,8 @@ import java.util.Collections;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +61,37 @@ public class StudentRepositoryTest {
         student4.setGradeAverage(3.5);
     }
 
+    @Test
+    @DisplayName("Caso exitoso - findSummaryByOrderByIdAsc lee solo los campos del resumen")
+    @SuppressWarnings("unchecked")
+    void testFindSummaryByOrderByIdAsc_Proyeccion() {
+        MongoDatabaseFactory databaseFactory = mock(MongoDatabaseFactory.class);
+        MongoDatabase database = mock(MongoDatabase.class);
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+        FindIterable<Document> iterable = mock(FindIterable.class, withSettings().defaultAnswer(RETURNS_SELF));
+        when(databaseFactory.getExceptionTranslator()).thenReturn(new MongoExceptionTranslator());
+        when(databaseFactory.getMongoDatabase()).thenReturn(database);
+        when(database.getCollection("students", Document.class)).thenReturn(collection);
+        when(collection.find(any(Bson.class), eq(Document.class))).thenReturn(iterable);
+        when(iterable.iterator()).thenReturn(mock(MongoCursor.class));
+        MongoTemplate mongoTemplate = new MongoTemplate(databaseFactory);
+        StudentRepository repository = new MongoRepositoryFactory(mongoTemplate).getRepository(StudentRepository.class,
+                RepositoryFragments.just(new StudentRepositoryImpl(mongoTemplate)));
+
+        repository.findSummaryByOrderByIdAsc(Limit.of(20));
+
+        ArgumentCaptor<Bson> projection = ArgumentCaptor.forClass(Bson.class);
+        verify(iterable).projection(projection.capture());
+        Document fields = (Document) projection.getValue();
+        assertAll("Verificar campos leídos",
+                () -> assertTrue(fields.containsKey("name")),
+                () -> assertTrue(fields.containsKey("academicProgram")),
+                () -> assertFalse(fields.containsKey("password")),
+                () -> assertFalse(fields.containsKey("createdAt")),
+                () -> assertFalse(fields.containsKey("updatedAt"))
+        );
+    }
+
     @Test
     @DisplayName("Caso exitoso - save guarda estudiante correctamente")
     void testSave_Exitoso() {
@@ -49,6 +49,9 @@ public class AdminGroupServiceTest {
     @Mock
     private ScheduleChangeRequestRepository scheduleChangeRequestRepository;
 
+    @Mock
+    private GroupEnrollmentService groupEnrollmentService;
+
     @InjectMocks
     private AdminGroupService adminGroupService;
 
@@ -132,6 +135,7 @@ public class AdminGroupServiceTest {
     @DisplayName("Éxito - getCurrentEnrollment retorna inscripción actual")
     void testGetCurrentEnrollment_Exitoso() {
         when(groupRepository.findById("G001")).thenReturn(Optional.of(testGroup));
+        when(groupEnrollmentService.getEnrollment("G001")).thenReturn(18);
 
         Integer inscripcion = adminGroupService.getCurrentEnrollment("G001");
 
@@ -141,6 +145,7 @@ public class AdminGroupServiceTest {
         );
 
         verify(groupRepository, times(1)).findById("G001");
+        verify(groupEnrollmentService, times(1)).getEnrollment("G001");
     }
 
     @Test
@@ -337,18 +342,19 @@ public class AdminGroupServiceTest {
     void testGetTotalEnrolledByCourse_Exitoso() {
         when(courseRepository.existsById("CS101")).thenReturn(true);
         when(groupRepository.findByCourse_CourseCode("CS101")).thenReturn(List.of(testGroup));
-        when(groupRepository.findById("G001")).thenReturn(Optional.of(testGroup));
+        when(groupEnrollmentService.getEnrollments(List.of("G001"))).thenReturn(Map.of("G001", 12));
 
         Map<String, Integer> resultado = adminGroupService.getTotalEnrolledByCourse("CS101");
 
         assertAll("Verificar mapa de inscripciones",
                 () -> assertNotNull(resultado),
                 () -> assertFalse(resultado.isEmpty()),
-                () -> assertTrue(resultado.containsKey("G001"))
+                () -> assertEquals(12, resultado.get("G001"))
         );
 
         verify(courseRepository, times(1)).existsById("CS101");
         verify(groupRepository, times(1)).findByCourse_CourseCode("CS101");
+        verify(groupRepository, never()).findById(anyString());
     }
 
     @Test
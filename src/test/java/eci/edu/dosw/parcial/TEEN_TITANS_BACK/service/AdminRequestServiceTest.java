@@ -1,5 +1,7 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ScheduleChangeRequestExportDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.*;
@@ -11,9 +13,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,6 +45,15 @@ public class AdminRequestServiceTest {
     @Mock
     private StudentAcademicProgressRepository studentAcademicProgressRepository;
 
+    @Mock
+    private GroupEnrollmentService groupEnrollmentService;
+
+    @Mock
+    private RequestPriorityQueueService requestPriorityQueueService;
+
+    @Mock
+    private MigrationJobService migrationJobService;
+
     @InjectMocks
     private AdminRequestService adminRequestService;
 
@@ -83,40 +101,72 @@ public class AdminRequestServiceTest {
     @DisplayName("Caso exitoso - getRequestsByFaculty retorna solicitudes de la facultad")
     void testGetRequestsByFaculty_Exitoso() {
         String faculty = "Ingeniería";
-        List<StudentAcademicProgress> facultyProgress = List.of(progress1);
-        List<ScheduleChangeRequest> allRequests = List.of(request1, request2);
+        PageRequest pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "submissionDate"));
 
-        when(studentAcademicProgressRepository.findByFaculty(faculty)).thenReturn(facultyProgress);
-        when(scheduleChangeRequestRepository.findAll()).thenReturn(allRequests);
+        when(migrationJobService.isFacultyBackfillCompleted()).thenReturn(true);
+        when(scheduleChangeRequestRepository.findPageByFaculty(faculty, List.of(), pageable))
+                .thenReturn(new PageImpl<>(List.of(request1), pageable, 1));
 
-        List<ScheduleChangeRequest> resultado = adminRequestService.getRequestsByFaculty(faculty);
+        Page<ScheduleChangeRequest> resultado = adminRequestService.getRequestsByFaculty(faculty, 0, 20);
 
         assertAll("Verificar solicitudes por facultad",
                 () -> assertNotNull(resultado),
-                () -> assertEquals(1, resultado.size()),
-                () -> assertEquals("REQ001", resultado.get(0).getRequestId())
+                () -> assertEquals(1, resultado.getContent().size()),
+                () -> assertEquals(1, resultado.getTotalElements()),
+                () -> assertEquals("REQ001", resultado.getContent().get(0).getRequestId())
         );
 
-        verify(studentAcademicProgressRepository, times(1)).findByFaculty(faculty);
-        verify(scheduleChangeRequestRepository, times(1)).findAll();
+        verify(scheduleChangeRequestRepository, times(1)).findPageByFaculty(faculty, List.of(), pageable);
+        verify(studentAcademicProgressRepository, never()).findStudentIdsByFaculty(faculty);
+        verify(scheduleChangeRequestRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Caso borde - getRequestsByFaculty incluye las solicitudes sin facultad mientras la migración no termina")
+    void testGetRequestsByFaculty_MigracionPendiente() {
+        String faculty = "Ingeniería";
+        PageRequest pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "submissionDate"));
+
+        when(migrationJobService.isFacultyBackfillCompleted()).thenReturn(false);
+        when(studentAcademicProgressRepository.findStudentIdsByFaculty(faculty)).thenReturn(List.of("STU001", "STU002"));
+        when(scheduleChangeRequestRepository.findPageByFaculty(faculty, List.of("STU001", "STU002"), pageable))
+                .thenReturn(new PageImpl<>(List.of(request1, request2), pageable, 2));
+
+        Page<ScheduleChangeRequest> resultado = adminRequestService.getRequestsByFaculty(faculty, 0, 20);
+
+        assertEquals(2, resultado.getTotalElements());
+        verify(scheduleChangeRequestRepository, times(1))
+                .findPageByFaculty(faculty, List.of("STU001", "STU002"), pageable);
     }
 
     @Test
     @DisplayName("Caso error - getRequestsByFaculty retorna lista vacía para facultad sin solicitudes")
     void testGetRequestsByFaculty_FacultadSinSolicitudes() {
         String faculty = "Artes";
-        List<StudentAcademicProgress> facultyProgress = Collections.emptyList();
 
-        when(studentAcademicProgressRepository.findByFaculty(faculty)).thenReturn(facultyProgress);
+        when(scheduleChangeRequestRepository.findPageByFaculty(eq(faculty), anyCollection(), any(Pageable.class)))
+                .thenReturn(Page.empty());
 
-        List<ScheduleChangeRequest> resultado = adminRequestService.getRequestsByFaculty(faculty);
+        Page<ScheduleChangeRequest> resultado = adminRequestService.getRequestsByFaculty(faculty, 0, 20);
 
         assertAll("Verificar lista vacía para facultad sin solicitudes",
                 () -> assertNotNull(resultado),
                 () -> assertTrue(resultado.isEmpty())
         );
 
-        verify(studentAcademicProgressRepository, times(1)).findByFaculty(faculty);
+        verify(scheduleChangeRequestRepository, times(1)).findPageByFaculty(eq(faculty), anyCollection(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Caso error - getRequestsByFaculty rechaza parámetros de paginación no válidos")
+    void testGetRequestsByFaculty_PaginacionInvalida() {
+        assertAll("Verificar validación de paginación",
+                () -> assertThrows(AppException.class, () -> adminRequestService.getRequestsByFaculty("Ingeniería", -1, 20)),
+                () -> assertThrows(AppException.class, () -> adminRequestService.getRequestsByFaculty("Ingeniería", 0, 0)),
+                () -> assertThrows(AppException.class, () -> adminRequestService.getRequestsByFaculty("Ingeniería", 0, 101))
+        );
+
+        verifyNoInteractions(scheduleChangeRequestRepository, studentAcademicProgressRepository);
     }
 
     @Test
@@ -127,7 +177,9 @@ public class AdminRequestServiceTest {
         String comments = "Solicitud aprobada por cumplir requisitos";
 
         when(scheduleChangeRequestRepository.findById(requestId)).thenReturn(Optional.of(request1));
-        when(scheduleChangeRequestRepository.save(any(ScheduleChangeRequest.class))).thenReturn(request1);
+        when(groupEnrollmentService.reserveApprovedChange(request1)).thenReturn(true);
+        when(scheduleChangeRequestRepository.decideIfUndecided(eq(requestId), eq(RequestStatus.APPROVED), any(Date.class), any(ReviewStep.class)))
+                .thenReturn(true);
 
         ScheduleChangeRequest resultado = adminRequestService.respondToRequest(requestId, decision, comments);
 
@@ -139,10 +191,157 @@ public class AdminRequestServiceTest {
         );
 
         verify(scheduleChangeRequestRepository, times(1)).findById(requestId);
-        verify(scheduleChangeRequestRepository, times(1)).save(request1);
+        verify(groupEnrollmentService, times(1)).reserveApprovedChange(request1);
+        verify(scheduleChangeRequestRepository, never()).save(any(ScheduleChangeRequest.class));
+        verify(requestPriorityQueueService, times(1)).remove(requestId);
+    }
+
+    @Test
+    @DisplayName("Caso error - respondToRequest no aprueba cuando el grupo solicitado no tiene cupo")
+    void testRespondToRequest_GrupoSinCupo() {
+        Classroom classroom = new Classroom();
+        classroom.setCapacity(25);
+        Group grupoLleno = new Group();
+        grupoLleno.setGroupId("GROUP_LLENO");
+        grupoLleno.setClassroom(classroom);
+        request1.setRequestedGroup(grupoLleno);
+
+        when(scheduleChangeRequestRepository.findById("REQ001")).thenReturn(Optional.of(request1));
+        when(groupEnrollmentService.reserveApprovedChange(request1)).thenReturn(false);
+
+        AppException exception = assertThrows(AppException.class, () -> {
+            adminRequestService.respondToRequest("REQ001", RequestStatus.APPROVED, "Comentarios");
+        });
+
+        assertEquals("No se puede aprobar la solicitud: el grupo solicitado ya no tiene capacidad disponible",
+                exception.getMessage());
+        assertEquals(RequestStatus.PENDING, request1.getStatus());
+        verify(scheduleChangeRequestRepository, never()).decideIfUndecided(anyString(), any(), any(), any());
+        verify(scheduleChangeRequestRepository, never()).save(any(ScheduleChangeRequest.class));
     }
 
+    @Test
+    @DisplayName("Caso error - respondToRequest libera el cupo reservado si falla el guardado")
+    void testRespondToRequest_FallaGuardadoLiberaCupo() {
+        when(scheduleChangeRequestRepository.findById("REQ001")).thenReturn(Optional.of(request1));
+        when(groupEnrollmentService.reserveApprovedChange(request1)).thenReturn(true);
+        when(scheduleChangeRequestRepository.decideIfUndecided(eq("REQ001"), eq(RequestStatus.APPROVED), any(Date.class), any(ReviewStep.class)))
+                .thenThrow(new RuntimeException("Error de escritura"));
+
+        assertThrows(RuntimeException.class, () -> {
+            adminRequestService.respondToRequest("REQ001", RequestStatus.APPROVED, "Comentarios");
+        });
 
+        verify(groupEnrollmentService, times(1)).releaseApprovedChange(request1);
+    }
+
+    @Test
+    @DisplayName("Caso borde - respondToRequest libera el cupo si otra aprobación se adelanta")
+    void testRespondToRequest_AprobacionConcurrente() {
+        when(scheduleChangeRequestRepository.findById("REQ001")).thenReturn(Optional.of(request1));
+        when(groupEnrollmentService.reserveApprovedChange(request1)).thenReturn(true);
+        when(scheduleChangeRequestRepository.decideIfUndecided(eq("REQ001"), eq(RequestStatus.APPROVED), any(Date.class), any(ReviewStep.class)))
+                .thenReturn(false);
+
+        AppException exception = assertThrows(AppException.class, () -> {
+            adminRequestService.respondToRequest("REQ001", RequestStatus.APPROVED, "Comentarios");
+        });
+
+        assertAll("Verificar liberación del cupo",
+                () -> assertEquals("La solicitud ya fue resuelta por otro revisor: REQ001", exception.getMessage()),
+                () -> assertEquals(RequestStatus.PENDING, request1.getStatus()),
+                () -> verify(groupEnrollmentService, times(1)).releaseApprovedChange(request1),
+                () -> verify(scheduleChangeRequestRepository, never()).save(any(ScheduleChangeRequest.class))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - respondToRequests rechaza en bloque e informa cada desenlace")
+    void testRespondToRequests_RechazoEnBloque() {
+        when(scheduleChangeRequestRepository.findAllById(List.of("REQ001", "REQ002", "REQ404")))
+                .thenReturn(List.of(request1, request2));
+        when(scheduleChangeRequestRepository.applyDecision(eq(List.of("REQ001")), eq(RequestStatus.REJECTED),
+                any(Date.class), any(ReviewStep.class))).thenReturn(Collections.emptySet());
+
+        AdminRequestService.BulkDecisionResult resultado = adminRequestService.respondToRequests(
+                List.of("REQ001", "REQ002", "REQ404", "REQ001"), RequestStatus.REJECTED, "Fin del periodo");
+
+        List<AdminRequestService.BulkDecisionOutcome> outcomes = resultado.getOutcomes();
+        assertAll("Verificar desenlaces del lote",
+                () -> assertEquals(3, resultado.getTotalRequests()),
+                () -> assertEquals(1, resultado.getSucceeded()),
+                () -> assertEquals(2, resultado.getFailed()),
+                () -> assertTrue(outcomes.get(0).isSuccess()),
+                () -> assertEquals(RequestStatus.REJECTED, outcomes.get(0).getStatus()),
+                () -> assertEquals("La solicitud ya fue resuelta con estado APPROVED", outcomes.get(1).getMessage()),
+                () -> assertEquals("Solicitud no encontrada: REQ404", outcomes.get(2).getMessage())
+        );
+
+        verify(scheduleChangeRequestRepository, never()).save(any(ScheduleChangeRequest.class));
+        verify(requestPriorityQueueService, times(1)).remove("REQ001");
+        verifyNoInteractions(groupEnrollmentService);
+    }
+
+    @Test
+    @DisplayName("Caso borde - respondToRequests verifica la capacidad una vez por grupo solicitado")
+    void testRespondToRequests_AprobacionConCapacidad() {
+        Classroom classroom = new Classroom();
+        classroom.setCapacity(25);
+        Group grupo = new Group();
+        grupo.setGroupId("GROUP_002");
+        grupo.setClassroom(classroom);
+        request1.setRequestedGroup(grupo);
+        request2.setStatus(RequestStatus.PENDING);
+        request2.setRequestedGroup(grupo);
+
+        when(scheduleChangeRequestRepository.findAllById(List.of("REQ002", "REQ001")))
+                .thenReturn(List.of(request2, request1));
+        when(groupEnrollmentService.reserveApprovedChanges("GROUP_002", List.of(request1, request2)))
+                .thenReturn(List.of(request1));
+        when(scheduleChangeRequestRepository.applyDecision(eq(List.of("REQ001")), eq(RequestStatus.APPROVED),
+                any(Date.class), any(ReviewStep.class))).thenReturn(Collections.emptySet());
+
+        AdminRequestService.BulkDecisionResult resultado = adminRequestService.respondToRequests(
+                List.of("REQ002", "REQ001"), RequestStatus.APPROVED, "Aprobación masiva");
+
+        assertAll("Verificar asignación de cupos",
+                () -> assertEquals(1, resultado.getSucceeded()),
+                () -> assertFalse(resultado.getOutcomes().get(0).isSuccess()),
+                () -> assertTrue(resultado.getOutcomes().get(0).getMessage().contains("capacidad")),
+                () -> assertTrue(resultado.getOutcomes().get(1).isSuccess())
+        );
+
+        verify(groupEnrollmentService, times(1)).reserveApprovedChanges(anyString(), anyList());
+        verify(groupEnrollmentService, never()).releaseApprovedChanges(any());
+    }
+
+    @Test
+    @DisplayName("Caso error - respondToRequests libera los cupos de las solicitudes que no se guardaron")
+    void testRespondToRequests_FallaGuardado() {
+        when(scheduleChangeRequestRepository.findAllById(List.of("REQ001"))).thenReturn(List.of(request1));
+        when(groupEnrollmentService.reserveApprovedChanges(null, List.of(request1)))
+                .thenReturn(List.of(request1));
+        when(scheduleChangeRequestRepository.applyDecision(eq(List.of("REQ001")), eq(RequestStatus.APPROVED),
+                any(Date.class), any(ReviewStep.class))).thenReturn(Set.of("REQ001"));
+
+        AdminRequestService.BulkDecisionResult resultado = adminRequestService.respondToRequests(
+                List.of("REQ001"), RequestStatus.APPROVED, "Aprobación masiva");
+
+        assertEquals(1, resultado.getFailed());
+        assertEquals("No se pudo guardar la decisión", resultado.getOutcomes().get(0).getMessage());
+        verify(groupEnrollmentService, times(1)).releaseApprovedChanges(List.of(request1));
+        verify(requestPriorityQueueService, never()).remove(anyString());
+    }
+
+    @Test
+    @DisplayName("Caso error - respondToRequests rechaza una decisión no válida")
+    void testRespondToRequests_DecisionInvalida() {
+        AppException exception = assertThrows(AppException.class, () ->
+                adminRequestService.respondToRequests(List.of("REQ001"), RequestStatus.PENDING, "Comentarios"));
+
+        assertEquals("La decisión debe ser APPROVED o REJECTED", exception.getMessage());
+        verifyNoInteractions(scheduleChangeRequestRepository);
+    }
 
     @Test
     @DisplayName("Caso error - respondToRequest lanza excepción cuando solicitud no existe")
@@ -207,7 +406,9 @@ public class AdminRequestServiceTest {
         String comments = "Caso especial por situación médica";
 
         when(scheduleChangeRequestRepository.findById(requestId)).thenReturn(Optional.of(request1));
-        when(scheduleChangeRequestRepository.save(any(ScheduleChangeRequest.class))).thenReturn(request1);
+        when(groupEnrollmentService.reserveApprovedChange(request1)).thenReturn(true);
+        when(scheduleChangeRequestRepository.decideIfUndecided(eq(requestId), eq(RequestStatus.APPROVED), any(Date.class), any(ReviewStep.class)))
+                .thenReturn(true);
 
         ScheduleChangeRequest resultado = adminRequestService.approveSpecialCase(requestId, comments);
 
@@ -220,7 +421,9 @@ public class AdminRequestServiceTest {
         );
 
         verify(scheduleChangeRequestRepository, times(1)).findById(requestId);
-        verify(scheduleChangeRequestRepository, times(1)).save(request1);
+        verify(scheduleChangeRequestRepository, times(1))
+                .decideIfUndecided(eq(requestId), eq(RequestStatus.APPROVED), any(Date.class), any(ReviewStep.class));
+        verify(scheduleChangeRequestRepository, never()).save(any(ScheduleChangeRequest.class));
     }
 
     @Test
@@ -233,8 +436,8 @@ public class AdminRequestServiceTest {
         specialRequest.setSubmissionDate(new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(20)));
         specialRequest.setReviewHistory(new ArrayList<>());
 
-        List<ScheduleChangeRequest> allRequests = List.of(request1, specialRequest);
-        when(scheduleChangeRequestRepository.findAll()).thenReturn(allRequests);
+        when(scheduleChangeRequestRepository.findSpecialCases(eq(3), anyCollection(), any(Date.class)))
+                .thenReturn(List.of(specialRequest));
 
         List<ScheduleChangeRequest> resultado = adminRequestService.getSpecialCases();
 
@@ -244,18 +447,21 @@ public class AdminRequestServiceTest {
                 () -> assertEquals("REQ_ESPECIAL", resultado.get(0).getRequestId())
         );
 
-        verify(scheduleChangeRequestRepository, times(1)).findAll();
+        verify(scheduleChangeRequestRepository, times(1)).findSpecialCases(
+                eq(3),
+                argThat(keywords -> keywords.contains("médico") && keywords.contains("emergencia")),
+                argThat(cutoff -> cutoff.getTime() <= System.currentTimeMillis() - TimeUnit.DAYS.toMillis(15)
+                        && cutoff.getTime() > System.currentTimeMillis() - TimeUnit.DAYS.toMillis(16)));
+        verify(scheduleChangeRequestRepository, never()).findAll();
     }
 
     @Test
     @DisplayName("Caso exitoso - getApprovalRateByFaculty calcula estadísticas correctamente")
     void testGetApprovalRateByFaculty_Exitoso() {
         String faculty = "Ingeniería";
-        List<StudentAcademicProgress> facultyProgress = List.of(progress1);
-        List<ScheduleChangeRequest> allRequests = List.of(request1, request2);
-
-        when(studentAcademicProgressRepository.findByFaculty(faculty)).thenReturn(facultyProgress);
-        when(scheduleChangeRequestRepository.findAll()).thenReturn(allRequests);
+        when(migrationJobService.isFacultyBackfillCompleted()).thenReturn(true);
+        when(scheduleChangeRequestRepository.countGroupedByStatusForFaculty(faculty, List.of()))
+                .thenReturn(Map.of(RequestStatus.PENDING, 1L));
 
         AdminRequestService.ApprovalStats resultado = adminRequestService.getApprovalRateByFaculty(faculty);
 
@@ -268,15 +474,16 @@ public class AdminRequestServiceTest {
                 () -> assertEquals(0.0, resultado.getApprovalRate())
         );
 
-        verify(studentAcademicProgressRepository, times(1)).findByFaculty(faculty);
-        verify(scheduleChangeRequestRepository, times(1)).findAll();
+        verify(scheduleChangeRequestRepository, times(1)).countGroupedByStatusForFaculty(faculty, List.of());
+        verify(studentAcademicProgressRepository, never()).findStudentIdsByFaculty(faculty);
+        verify(scheduleChangeRequestRepository, never()).findAll();
     }
 
     @Test
     @DisplayName("Caso exitoso - getGlobalApprovalRate calcula estadísticas globales correctamente")
     void testGetGlobalApprovalRate_Exitoso() {
-        List<ScheduleChangeRequest> allRequests = List.of(request1, request2);
-        when(scheduleChangeRequestRepository.findAll()).thenReturn(allRequests);
+        when(scheduleChangeRequestRepository.countGroupedByStatus())
+                .thenReturn(Map.of(RequestStatus.PENDING, 1L, RequestStatus.APPROVED, 1L));
 
         AdminRequestService.ApprovalStats resultado = adminRequestService.getGlobalApprovalRate();
 
@@ -289,14 +496,15 @@ public class AdminRequestServiceTest {
                 () -> assertEquals(50.0, resultado.getApprovalRate())
         );
 
-        verify(scheduleChangeRequestRepository, times(1)).findAll();
+        verify(scheduleChangeRequestRepository, times(1)).countGroupedByStatus();
+        verify(scheduleChangeRequestRepository, never()).findAll();
     }
 
     @Test
     @DisplayName("Caso exitoso - generateGlobalReport genera reporte completo")
     void testGenerateGlobalReport_Exitoso() {
-        List<ScheduleChangeRequest> allRequests = List.of(request1, request2);
-        when(scheduleChangeRequestRepository.findAll()).thenReturn(allRequests);
+        when(scheduleChangeRequestRepository.countGroupedByStatus())
+                .thenReturn(Map.of(RequestStatus.PENDING, 1L, RequestStatus.APPROVED, 1L));
 
         AdminRequestService.GlobalStats resultado = adminRequestService.generateGlobalReport();
 
@@ -307,10 +515,52 @@ public class AdminRequestServiceTest {
                 () -> assertEquals(0, resultado.getTotalRejected()),
                 () -> assertEquals(1, resultado.getTotalPending()),
                 () -> assertEquals(50.0, resultado.getOverallApprovalRate()),
-                () -> assertNotNull(resultado.getRequestsByStatus())
+                () -> assertEquals(Map.of("PENDING", 1, "APPROVED", 1), resultado.getRequestsByStatus())
         );
 
-        verify(scheduleChangeRequestRepository, times(2)).findAll();
+        verify(scheduleChangeRequestRepository, times(1)).countGroupedByStatus();
+        verify(scheduleChangeRequestRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - generateFacultyReport usa el conteo agregado de la facultad")
+    void testGenerateFacultyReport_Exitoso() {
+        String faculty = "Ingeniería";
+        when(migrationJobService.isFacultyBackfillCompleted()).thenReturn(false);
+        when(studentAcademicProgressRepository.findStudentIdsByFaculty(faculty)).thenReturn(List.of("STU001"));
+        when(scheduleChangeRequestRepository.countGroupedByStatusForFaculty(faculty, List.of("STU001")))
+                .thenReturn(Map.of(RequestStatus.APPROVED, 3L, RequestStatus.REJECTED, 1L));
+
+        AdminRequestService.FacultyStats resultado = adminRequestService.generateFacultyReport(faculty);
+
+        assertAll("Verificar reporte por facultad",
+                () -> assertEquals(faculty, resultado.getFaculty()),
+                () -> assertEquals(1, resultado.getTotalStudents()),
+                () -> assertEquals(4, resultado.getTotalRequests()),
+                () -> assertEquals(75.0, resultado.getApprovalRate())
+        );
+
+        verify(scheduleChangeRequestRepository, times(1)).countGroupedByStatusForFaculty(faculty, List.of("STU001"));
+        verify(studentAcademicProgressRepository, times(1)).findStudentIdsByFaculty(faculty);
+        verify(scheduleChangeRequestRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Caso borde - generateFacultyReport cuenta solo por la facultad registrada cuando la migración terminó")
+    void testGenerateFacultyReport_MigracionCompletada() {
+        String faculty = "Ingeniería";
+        when(migrationJobService.isFacultyBackfillCompleted()).thenReturn(true);
+        when(studentAcademicProgressRepository.findStudentIdsByFaculty(faculty)).thenReturn(List.of("STU001", "STU002"));
+        when(scheduleChangeRequestRepository.countGroupedByStatusForFaculty(faculty, List.of()))
+                .thenReturn(Map.of(RequestStatus.PENDING, 2L));
+
+        AdminRequestService.FacultyStats resultado = adminRequestService.generateFacultyReport(faculty);
+
+        assertAll("Verificar reporte por facultad",
+                () -> assertEquals(2, resultado.getTotalStudents()),
+                () -> assertEquals(2, resultado.getTotalRequests())
+        );
+        verify(scheduleChangeRequestRepository, times(1)).countGroupedByStatusForFaculty(faculty, List.of());
     }
 
 
@@ -323,7 +573,8 @@ public class AdminRequestServiceTest {
         String comments = "Solicitud rechazada por falta de cupos";
 
         when(scheduleChangeRequestRepository.findById(requestId)).thenReturn(Optional.of(request1));
-        when(scheduleChangeRequestRepository.save(any(ScheduleChangeRequest.class))).thenReturn(request1);
+        when(scheduleChangeRequestRepository.decideIfUndecided(eq(requestId), eq(RequestStatus.REJECTED), any(Date.class), any(ReviewStep.class)))
+                .thenReturn(true);
 
         ScheduleChangeRequest resultado = adminRequestService.respondToRequest(requestId, decision, comments);
 
@@ -335,13 +586,65 @@ public class AdminRequestServiceTest {
         );
 
         verify(scheduleChangeRequestRepository, times(1)).findById(requestId);
-        verify(scheduleChangeRequestRepository, times(1)).save(request1);
+        verify(scheduleChangeRequestRepository, never()).save(any(ScheduleChangeRequest.class));
+        verify(groupEnrollmentService, never()).reserveApprovedChange(any());
+        verify(requestPriorityQueueService, times(1)).remove(requestId);
+    }
+
+    @Test
+    @DisplayName("Caso error - respondToRequest no rechaza una solicitud ya aprobada")
+    void testRespondToRequest_RechazoSolicitudAprobada() {
+        when(scheduleChangeRequestRepository.findById("REQ002")).thenReturn(Optional.of(request2));
+
+        AppException exception = assertThrows(AppException.class, () -> {
+            adminRequestService.respondToRequest("REQ002", RequestStatus.REJECTED, "Comentarios");
+        });
+
+        assertAll("Verificar que la solicitud aprobada conserva su estado",
+                () -> assertEquals("La solicitud ya fue resuelta con estado APPROVED", exception.getMessage()),
+                () -> assertEquals(RequestStatus.APPROVED, request2.getStatus()),
+                () -> verify(scheduleChangeRequestRepository, never()).decideIfUndecided(anyString(), any(), any(), any()),
+                () -> verify(scheduleChangeRequestRepository, never()).save(any(ScheduleChangeRequest.class))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - respondToRequest informa cuando una aprobación se adelanta al rechazo")
+    void testRespondToRequest_RechazoConcurrente() {
+        when(scheduleChangeRequestRepository.findById("REQ001")).thenReturn(Optional.of(request1));
+        when(scheduleChangeRequestRepository.decideIfUndecided(eq("REQ001"), eq(RequestStatus.REJECTED), any(Date.class), any(ReviewStep.class)))
+                .thenReturn(false);
+
+        AppException exception = assertThrows(AppException.class, () -> {
+            adminRequestService.respondToRequest("REQ001", RequestStatus.REJECTED, "Comentarios");
+        });
+
+        assertAll("Verificar que la solicitud no cambia",
+                () -> assertEquals("La solicitud ya fue resuelta por otro revisor: REQ001", exception.getMessage()),
+                () -> assertEquals(RequestStatus.PENDING, request1.getStatus()),
+                () -> verify(requestPriorityQueueService, never()).remove(anyString())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso error - approveSpecialCase no aprueba una solicitud cancelada")
+    void testApproveSpecialCase_Cancelada() {
+        request1.setStatus(RequestStatus.CANCELLED);
+        when(scheduleChangeRequestRepository.findById("REQ001")).thenReturn(Optional.of(request1));
+
+        AppException exception = assertThrows(AppException.class, () -> {
+            adminRequestService.approveSpecialCase("REQ001", "Comentarios");
+        });
+
+        assertEquals("La solicitud ya fue resuelta con estado CANCELLED", exception.getMessage());
+        verify(groupEnrollmentService, never()).reserveApprovedChange(any());
+        verify(scheduleChangeRequestRepository, never()).decideIfUndecided(anyString(), any(), any(), any());
     }
 
     @Test
     @DisplayName("Caso borde - getGlobalApprovalRate con lista vacía")
     void testGetGlobalApprovalRate_ListaVacia() {
-        when(scheduleChangeRequestRepository.findAll()).thenReturn(Collections.emptyList());
+        when(scheduleChangeRequestRepository.countGroupedByStatus()).thenReturn(Collections.emptyMap());
 
         AdminRequestService.ApprovalStats resultado = adminRequestService.getGlobalApprovalRate();
 
@@ -354,7 +657,7 @@ public class AdminRequestServiceTest {
                 () -> assertEquals(0.0, resultado.getApprovalRate())
         );
 
-        verify(scheduleChangeRequestRepository, times(1)).findAll();
+        verify(scheduleChangeRequestRepository, times(1)).countGroupedByStatus();
     }
 
     @Test
@@ -388,4 +691,73 @@ public class AdminRequestServiceTest {
         assertEquals("Solicitud no encontrada: " + requestId, exception.getMessage());
         verify(scheduleChangeRequestRepository, times(1)).findById(requestId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Caso exitoso - getGlobalRequestsPage codifica fecha e id en el cursor")
+    void testGetGlobalRequestsPage_PrimeraPagina() {
+        when(scheduleChangeRequestRepository.findGlobalPage(null, null, 2))
+                .thenReturn(Arrays.asList(request2, request1));
+
+        CursorPageDTO<ScheduleChangeRequest> resultado = adminRequestService.getGlobalRequestsPage(null, 1);
+
+        assertAll("Verificar primera página de solicitudes",
+                () -> assertEquals(Collections.singletonList(request2), resultado.getItems()),
+                () -> assertEquals(request2.getSubmissionDate().getTime() + "|REQ002",
+                        CursorPageDTO.decodeCursor(resultado.getNextCursor()))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - getGlobalRequestsPage consulta a partir del cursor recibido")
+    void testGetGlobalRequestsPage_PaginaSiguiente() {
+        Date after = request2.getSubmissionDate();
+        String cursor = CursorPageDTO.encodeCursor(after.getTime() + "|REQ002");
+        when(scheduleChangeRequestRepository.findGlobalPage(after, "REQ002", 21))
+                .thenReturn(Collections.singletonList(request1));
+
+        CursorPageDTO<ScheduleChangeRequest> resultado = adminRequestService.getGlobalRequestsPage(cursor, 20);
+
+        assertAll("Verificar última página de solicitudes",
+                () -> assertEquals(Collections.singletonList(request1), resultado.getItems()),
+                () -> assertNull(resultado.getNextCursor())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso error - getGlobalRequestsPage rechaza un cursor sin separador")
+    void testGetGlobalRequestsPage_CursorInvalido() {
+        String cursor = CursorPageDTO.encodeCursor("REQ002");
+
+        assertThrows(AppException.class, () -> adminRequestService.getGlobalRequestsPage(cursor, 20));
+
+        verifyNoInteractions(scheduleChangeRequestRepository);
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - streamRequestsForExport delega en el cursor del repositorio")
+    void testStreamRequestsForExport_Exitoso() {
+        Date from = new Date(1735689600000L);
+        Date to = new Date(1751328000000L);
+        ScheduleChangeRequestExportDTO row1 = ScheduleChangeRequestExportDTO.builder().requestId("REQ001").build();
+        ScheduleChangeRequestExportDTO row2 = ScheduleChangeRequestExportDTO.builder().requestId("REQ002").build();
+        when(scheduleChangeRequestRepository.streamForExport(RequestStatus.PENDING, from, to))
+                .thenReturn(Stream.of(row1, row2));
+
+        List<ScheduleChangeRequestExportDTO> resultado = adminRequestService
+                .streamRequestsForExport(RequestStatus.PENDING, from, to).toList();
+
+        assertEquals(Arrays.asList(row1, row2), resultado);
+        verify(scheduleChangeRequestRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Caso error - streamRequestsForExport rechaza un rango de fechas invertido")
+    void testStreamRequestsForExport_RangoInvalido() {
+        Date from = new Date(1751328000000L);
+        Date to = new Date(1735689600000L);
+
+        assertThrows(AppException.class, () -> adminRequestService.streamRequestsForExport(null, from, to));
+
+        verifyNoInteractions(scheduleChangeRequestRepository);
+    }
+}
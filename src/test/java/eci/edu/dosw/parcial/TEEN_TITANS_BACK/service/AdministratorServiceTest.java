@@ -28,6 +28,9 @@ class AdministratorServiceTest {
     @Mock
     private AdministratorRepository adminRepository;
 
+    @Mock
+    private UserIdentityService userIdentityService;
+
     @InjectMocks
     private AdministratorService administratorService;
 
@@ -1,6 +1,7 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Dean;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.DeanSummaryDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.DeanRepository;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
@@ -28,6 +29,9 @@ class DeanServiceTest {
     @Mock
     private DeanRepository deanRepository;
 
+    @Mock
+    private UserIdentityService userIdentityService;
+
     @InjectMocks
     private DeanService deanService;
 
@@ -142,6 +146,21 @@ class DeanServiceTest {
         verify(deanRepository, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("Caso exitoso - getDeanSummaries lee la proyección de listado sin cargar entidades")
+    void testGetDeanSummaries_Exitoso() {
+        List<DeanSummaryDTO> summaries = Collections.singletonList(
+                new DeanSummaryDTO("1", "Dean One", "dean1@titans.edu", UserRole.DEAN, true, "Engineering", "A-101"));
+        when(deanRepository.findSummaryByOrderByIdAsc()).thenReturn(summaries);
+
+        List<DeanSummaryDTO> result = deanService.getDeanSummaries();
+
+        assertAll("Verificar listado de decanos",
+                () -> assertSame(summaries, result),
+                () -> verify(deanRepository, never()).findAll()
+        );
+    }
+
 
     @Test
     @DisplayName("Caso error - updateDean lanza excepción cuando no existe")
@@ -459,4 +478,23 @@ class DeanServiceTest {
         assertEquals("Dean One", result.getName());
         verify(deanRepository, times(1)).findByFaculty("Engineering");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Caso exitoso - searchDeans delega los filtros en una sola consulta del repositorio")
+    void testSearchDeans_Exitoso() {
+        when(deanRepository.search("Engineering", null, true, 100)).thenReturn(List.of(dean1));
+
+        List<Dean> result = deanService.searchDeans("Engineering", null, true, 100);
+
+        assertEquals(List.of(dean1), result);
+        verify(deanRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Caso error - searchDeans rechaza un límite no válido")
+    void testSearchDeans_LimiteInvalido() {
+        assertThrows(AppException.class, () -> deanService.searchDeans("Engineering", null, null, 0));
+
+        verifyNoInteractions(deanRepository);
+    }
+}
@@ -1,5 +1,6 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RoomType;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
@@ -9,9 +10,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.*;
 
@@ -45,6 +49,18 @@ public class GeneralManagementServiceTest {
     @Mock
     private StudentAcademicProgressRepository studentAcademicProgressRepository;
 
+    @Mock
+    private TrafficLightService trafficLightService;
+
+    @Mock
+    private GroupProjectionService groupProjectionService;
+
+    @Mock
+    private GroupEnrollmentService groupEnrollmentService;
+
+    @Spy
+    private ParallelReadService parallelReadService = new ParallelReadService(Runnable::run);
+
     @InjectMocks
     private GeneralManagementService generalManagementService;
 
@@ -511,6 +527,7 @@ public class GeneralManagementServiceTest {
 
         verify(courseRepository, times(1)).existsById("CS101");
         verify(courseRepository, times(1)).save(course);
+        verify(groupProjectionService, times(1)).propagateCourse(course);
     }
 
     @Test
@@ -544,6 +561,7 @@ public class GeneralManagementServiceTest {
     @Test
     @DisplayName("Caso exitoso - createCourseStatusDetail crea detalle correctamente")
     void testCreateCourseStatusDetail_Exitoso() {
+        courseStatusDetail.setGroup(group);
         when(courseStatusDetailRepository.save(any(CourseStatusDetail.class))).thenReturn(courseStatusDetail);
 
         CourseStatusDetail resultado = generalManagementService.createCourseStatusDetail(courseStatusDetail);
@@ -555,6 +573,56 @@ public class GeneralManagementServiceTest {
         );
 
         verify(courseStatusDetailRepository, times(1)).save(courseStatusDetail);
+        verify(groupEnrollmentService, times(1)).increment("GROUP_001");
+        verify(trafficLightService, times(1)).recomputeSnapshot("STU001");
+    }
+
+    @Test
+    @DisplayName("Caso error - createCourseStatusDetail devuelve el cupo si no se pudo guardar el detalle")
+    void testCreateCourseStatusDetail_FallaAlGuardar() {
+        courseStatusDetail.setGroup(group);
+        when(courseStatusDetailRepository.save(any(CourseStatusDetail.class)))
+                .thenThrow(new RuntimeException("Error de base de datos"));
+
+        assertThrows(RuntimeException.class,
+                () -> generalManagementService.createCourseStatusDetail(courseStatusDetail));
+
+        InOrder inOrder = inOrder(groupEnrollmentService, courseStatusDetailRepository);
+        inOrder.verify(groupEnrollmentService).increment("GROUP_001");
+        inOrder.verify(courseStatusDetailRepository).save(courseStatusDetail);
+        inOrder.verify(groupEnrollmentService).decrement("GROUP_001");
+        verify(trafficLightService, never()).recomputeSnapshot(anyString());
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - updateCourseStatusDetail mueve la matrícula al cambiar de grupo")
+    void testUpdateCourseStatusDetail_CambioDeGrupo() {
+        Group nuevoGrupo = new Group();
+        nuevoGrupo.setGroupId("GROUP_002");
+        courseStatusDetail.setGroup(group);
+        CourseStatusDetail actualizado = new CourseStatusDetail();
+        actualizado.setStudentId("STU001");
+        actualizado.setGroup(nuevoGrupo);
+        when(courseStatusDetailRepository.findById("CSD_001")).thenReturn(Optional.of(courseStatusDetail));
+        when(courseStatusDetailRepository.save(actualizado)).thenReturn(actualizado);
+
+        generalManagementService.updateCourseStatusDetail("CSD_001", actualizado);
+
+        verify(groupEnrollmentService, times(1)).decrement("GROUP_001");
+        verify(groupEnrollmentService, times(1)).increment("GROUP_002");
+        verify(trafficLightService, times(1)).recomputeSnapshot("STU001");
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - deleteCourseStatusDetail descuenta la matrícula del grupo")
+    void testDeleteCourseStatusDetail_Exitoso() {
+        courseStatusDetail.setGroup(group);
+        when(courseStatusDetailRepository.findById("CSD_001")).thenReturn(Optional.of(courseStatusDetail));
+
+        generalManagementService.deleteCourseStatusDetail("CSD_001");
+
+        verify(courseStatusDetailRepository, times(1)).deleteById("CSD_001");
+        verify(groupEnrollmentService, times(1)).decrement("GROUP_001");
     }
 
     @Test
@@ -785,4 +853,44 @@ public class GeneralManagementServiceTest {
                 () -> assertEquals(0L, resultado.getActiveAcademicPeriods())
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Caso exitoso - getClassroomsPage retorna la primera página de aulas")
+    void testGetClassroomsPage_Exitoso() {
+        when(classroomRepository.findByOrderByClassroomIdAsc(Limit.of(21)))
+                .thenReturn(Collections.singletonList(classroom));
+
+        CursorPageDTO<Classroom> resultado = generalManagementService.getClassroomsPage(null, 20);
+
+        assertAll("Verificar página de aulas",
+                () -> assertEquals(1, resultado.getItems().size()),
+                () -> assertNull(resultado.getNextCursor())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - getCoursesPage continúa desde el cursor recibido")
+    void testGetCoursesPage_Exitoso() {
+        Course nextCourse = new Course();
+        nextCourse.setCourseCode("CS201");
+        when(courseRepository.findByCourseCodeGreaterThanOrderByCourseCodeAsc("CS100", Limit.of(2)))
+                .thenReturn(Arrays.asList(course, nextCourse));
+
+        CursorPageDTO<Course> resultado = generalManagementService.getCoursesPage(
+                CursorPageDTO.encodeCursor("CS100"), 1);
+
+        assertAll("Verificar página de cursos",
+                () -> assertEquals(Collections.singletonList(course), resultado.getItems()),
+                () -> assertEquals("CS101", CursorPageDTO.decodeCursor(resultado.getNextCursor()))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso error - getSchedulesPage rechaza un tamaño de página no válido")
+    void testGetSchedulesPage_TamanoInvalido() {
+        assertThrows(AppException.class,
+                () -> generalManagementService.getSchedulesPage(null, CursorPageDTO.MAX_PAGE_SIZE + 1));
+
+        verifyNoInteractions(scheduleRepository);
+    }
+}
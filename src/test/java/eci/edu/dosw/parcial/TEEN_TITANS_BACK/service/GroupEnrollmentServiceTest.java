@@ -0,0 +1,360 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
+
+import com.mongodb.client.result.UpdateResult;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Classroom;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Group;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.GroupEnrollment;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.CourseStatusDetailRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.GroupEnrollmentRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.GroupRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.ScheduleChangeRequestRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GroupEnrollmentServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private GroupEnrollmentRepository groupEnrollmentRepository;
+
+    @Mock
+    private CourseStatusDetailRepository courseStatusDetailRepository;
+
+    @Mock
+    private ScheduleChangeRequestRepository scheduleChangeRequestRepository;
+
+    @Mock
+    private GroupRepository groupRepository;
+
+    @InjectMocks
+    private GroupEnrollmentService groupEnrollmentService;
+
+    @Test
+    @DisplayName("Caso exitoso - getEnrollment lee el contador existente sin recontar")
+    void testGetEnrollment_ContadorExistente() {
+        when(groupEnrollmentRepository.findById("G001"))
+                .thenReturn(Optional.of(new GroupEnrollment("G001", 12, new Date())));
+
+        assertEquals(12, groupEnrollmentService.getEnrollment("G001"));
+        verifyNoInteractions(courseStatusDetailRepository, scheduleChangeRequestRepository, mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Caso borde - getEnrollment inicializa el contador con detalles y cambios aprobados")
+    void testGetEnrollment_InicializaContador() {
+        when(groupEnrollmentRepository.findById("G001")).thenReturn(Optional.empty());
+        stubCount("G001", 10, 3, 1);
+
+        assertEquals(12, groupEnrollmentService.getEnrollment("G001"));
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(any(Query.class), update.capture(), eq(GroupEnrollment.class));
+        Document setOnInsert = (Document) update.getValue().getUpdateObject().get("$setOnInsert");
+        assertEquals(12, setOnInsert.get("enrolled"));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - getEnrollments consulta en bloque e inicializa solo los faltantes")
+    void testGetEnrollments_InicializaFaltantes() {
+        when(groupEnrollmentRepository.findByGroupIdIn(List.of("G001", "G002")))
+                .thenReturn(List.of(new GroupEnrollment("G001", 7, new Date())));
+        stubCount("G002", 4, 0, 0);
+
+        Map<String, Integer> resultado = groupEnrollmentService.getEnrollments(List.of("G001", "G002"));
+
+        assertAll("Verificar matrícula en bloque",
+                () -> assertEquals(7, resultado.get("G001")),
+                () -> assertEquals(4, resultado.get("G002"))
+        );
+        verify(courseStatusDetailRepository, never()).countByGroup_GroupId("G001");
+        verify(groupEnrollmentRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - increment aplica $inc sobre el contador existente")
+    void testIncrement_ContadorExistente() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GroupEnrollment.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        groupEnrollmentService.increment("G001");
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(GroupEnrollment.class));
+        assertEquals(1, ((Document) update.getValue().getUpdateObject().get("$inc")).get("enrolled"));
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(GroupEnrollment.class));
+    }
+
+    @Test
+    @DisplayName("Caso borde - increment inicializa el contador sin el cambio y luego lo aplica")
+    void testIncrement_SinContador() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GroupEnrollment.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null), UpdateResult.acknowledged(1, 1L, null));
+        when(groupEnrollmentRepository.existsById("G001")).thenReturn(false);
+        stubCount("G001", 5, 0, 0);
+
+        groupEnrollmentService.increment("G001");
+
+        ArgumentCaptor<Update> seed = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(any(Query.class), seed.capture(), eq(GroupEnrollment.class));
+        assertEquals(5, seed.getValue().getUpdateObject().get("$setOnInsert", Document.class).get("enrolled"));
+        ArgumentCaptor<Update> deltas = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateFirst(any(Query.class), deltas.capture(), eq(GroupEnrollment.class));
+        assertEquals(new Document("enrolled", 1), deltas.getValue().getUpdateObject().get("$inc"));
+    }
+
+    @Test
+    @DisplayName("Caso borde - decrement no baja de cero un contador existente")
+    void testDecrement_ContadorEnCero() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GroupEnrollment.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        when(groupEnrollmentRepository.existsById("G001")).thenReturn(true);
+
+        groupEnrollmentService.decrement("G001");
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateFirst(query.capture(), any(Update.class), eq(GroupEnrollment.class));
+        assertEquals(new Document("$gte", 1), query.getValue().getQueryObject().get("enrolled"));
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(GroupEnrollment.class));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - registerApprovedChange mueve un estudiante entre grupos")
+    void testRegisterApprovedChange_MueveEstudiante() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GroupEnrollment.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        groupEnrollmentService.registerApprovedChange(buildRequest("G001", "G002"));
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateFirst(any(Query.class), update.capture(), eq(GroupEnrollment.class));
+        assertEquals(-1, ((Document) update.getAllValues().get(0).getUpdateObject().get("$inc")).get("enrolled"));
+        assertEquals(1, ((Document) update.getAllValues().get(1).getUpdateObject().get("$inc")).get("enrolled"));
+    }
+
+    @Test
+    @DisplayName("Caso borde - registerApprovedChange no modifica contadores si el grupo es el mismo")
+    void testRegisterApprovedChange_MismoGrupo() {
+        groupEnrollmentService.registerApprovedChange(buildRequest("G001", "G001"));
+
+        verifyNoInteractions(mongoTemplate, groupEnrollmentRepository);
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - reserveSeat compara e incrementa el contador en una sola operación")
+    void testReserveSeat_ConCupo() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(GroupEnrollment.class)))
+                .thenReturn(new GroupEnrollment("G001", 11, new Date()));
+
+        assertTrue(groupEnrollmentService.reserveSeat("G001", 20));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndModify(query.capture(), any(Update.class),
+                any(FindAndModifyOptions.class), eq(GroupEnrollment.class));
+        assertEquals(new Document("$lt", 20), query.getValue().getQueryObject().get("enrolled"));
+        verifyNoInteractions(groupEnrollmentRepository);
+    }
+
+    @Test
+    @DisplayName("Caso borde - reserveSeat rechaza la reserva cuando el grupo alcanzó el límite")
+    void testReserveSeat_GrupoLleno() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(GroupEnrollment.class))).thenReturn(null);
+        when(groupEnrollmentRepository.existsById("G001")).thenReturn(true);
+
+        assertFalse(groupEnrollmentService.reserveSeat("G001", 20));
+
+        verify(mongoTemplate, times(1)).findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(GroupEnrollment.class));
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(GroupEnrollment.class));
+    }
+
+    @Test
+    @DisplayName("Caso borde - reserveSeat inicializa el contador y reintenta cuando el grupo no lo tiene")
+    void testReserveSeat_SinContador() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(GroupEnrollment.class)))
+                .thenReturn(null)
+                .thenReturn(new GroupEnrollment("G001", 6, new Date()));
+        when(groupEnrollmentRepository.existsById("G001")).thenReturn(false);
+        stubCount("G001", 5, 0, 0);
+
+        assertTrue(groupEnrollmentService.reserveSeat("G001", 20));
+
+        verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq(GroupEnrollment.class));
+        verify(mongoTemplate, times(2)).findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(GroupEnrollment.class));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - reserveApprovedChange libera el grupo actual solo si reserva el solicitado")
+    void testReserveApprovedChange_Exitoso() {
+        when(groupRepository.findById("G002")).thenReturn(Optional.of(groupWithCapacity("G002", 20)));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(GroupEnrollment.class)))
+                .thenReturn(new GroupEnrollment("G002", 3, new Date()));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GroupEnrollment.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        assertTrue(groupEnrollmentService.reserveApprovedChange(buildRequest("G001", "G002")));
+
+        ArgumentCaptor<Query> reserve = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndModify(reserve.capture(), any(Update.class),
+                any(FindAndModifyOptions.class), eq(GroupEnrollment.class));
+        assertEquals(new Document("$lt", 20), reserve.getValue().getQueryObject().get("enrolled"));
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(GroupEnrollment.class));
+        assertEquals(-1, ((Document) update.getValue().getUpdateObject().get("$inc")).get("enrolled"));
+    }
+
+    @Test
+    @DisplayName("Caso borde - reserveApprovedChange no modifica el grupo actual si el solicitado está lleno")
+    void testReserveApprovedChange_GrupoLleno() {
+        when(groupRepository.findById("G002")).thenReturn(Optional.of(groupWithCapacity("G002", 20)));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(GroupEnrollment.class))).thenReturn(null);
+        when(groupEnrollmentRepository.existsById("G002")).thenReturn(true);
+
+        assertFalse(groupEnrollmentService.reserveApprovedChange(buildRequest("G001", "G002")));
+
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(GroupEnrollment.class));
+    }
+
+    @Test
+    @DisplayName("Caso borde - reserveApprovedChange sin aula registrada ocupa el cupo sin límite")
+    void testReserveApprovedChange_SinLimite() {
+        when(groupRepository.findById("G002")).thenReturn(Optional.of(new Group()));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GroupEnrollment.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        assertTrue(groupEnrollmentService.reserveApprovedChange(buildRequest("G001", "G002")));
+
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(GroupEnrollment.class));
+        verify(mongoTemplate, times(2)).updateFirst(any(Query.class), any(Update.class), eq(GroupEnrollment.class));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - releaseApprovedChange devuelve el cupo al grupo actual")
+    void testReleaseApprovedChange_Exitoso() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GroupEnrollment.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        groupEnrollmentService.releaseApprovedChange(buildRequest("G001", "G002"));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateFirst(query.capture(), update.capture(), eq(GroupEnrollment.class));
+        assertEquals("G002", query.getAllValues().get(0).getQueryObject().get("_id"));
+        assertEquals(-1, ((Document) update.getAllValues().get(0).getUpdateObject().get("$inc")).get("enrolled"));
+        assertEquals("G001", query.getAllValues().get(1).getQueryObject().get("_id"));
+        assertEquals(1, ((Document) update.getAllValues().get(1).getUpdateObject().get("$inc")).get("enrolled"));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - reserveSeats reserva solo los cupos disponibles y reintenta ante contención")
+    void testReserveSeats_CuposParciales() {
+        when(groupEnrollmentRepository.findById("G001"))
+                .thenReturn(Optional.of(new GroupEnrollment("G001", 16, new Date())))
+                .thenReturn(Optional.of(new GroupEnrollment("G001", 17, new Date())));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GroupEnrollment.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        int reservados = groupEnrollmentService.reserveSeats("G001", 5, 20);
+
+        assertEquals(3, reservados);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateFirst(query.capture(), update.capture(), eq(GroupEnrollment.class));
+        assertEquals(17, query.getValue().getQueryObject().get("enrolled"));
+        assertEquals(3, ((Document) update.getValue().getUpdateObject().get("$inc")).get("enrolled"));
+    }
+
+    @Test
+    @DisplayName("Caso borde - reserveApprovedChanges acepta solo las solicitudes con cupo y descuenta por grupo")
+    void testReserveApprovedChanges_CupoParcial() {
+        ScheduleChangeRequest primera = buildRequest("G001", "G002");
+        ScheduleChangeRequest segunda = buildRequest("G001", "G002");
+        ScheduleChangeRequest tercera = buildRequest("G003", "G002");
+        when(groupRepository.findById("G002")).thenReturn(Optional.of(groupWithCapacity("G002", 20)));
+        when(groupEnrollmentRepository.findById("G002"))
+                .thenReturn(Optional.of(new GroupEnrollment("G002", 18, new Date())));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GroupEnrollment.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        List<ScheduleChangeRequest> aceptadas = groupEnrollmentService.reserveApprovedChanges(
+                "G002", List.of(primera, segunda, tercera));
+
+        assertEquals(List.of(primera, segunda), aceptadas);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateFirst(query.capture(), update.capture(), eq(GroupEnrollment.class));
+        assertEquals("G001", query.getAllValues().get(1).getQueryObject().get("_id"));
+        assertEquals(-2, ((Document) update.getAllValues().get(1).getUpdateObject().get("$inc")).get("enrolled"));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - recount reemplaza el contador con el conteo actual")
+    void testRecount_Exitoso() {
+        stubCount("G001", 2, 0, 5);
+
+        int resultado = groupEnrollmentService.recount("G001");
+
+        assertEquals(0, resultado);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(any(Query.class), update.capture(), eq(GroupEnrollment.class));
+        assertEquals(0, ((Document) update.getValue().getUpdateObject().get("$set")).get("enrolled"));
+    }
+
+    private void stubCount(String groupId, long details, long approvedIn, long approvedOut) {
+        when(courseStatusDetailRepository.countByGroup_GroupId(groupId)).thenReturn(details);
+        when(scheduleChangeRequestRepository.countByRequestedGroupIdAndStatus(groupId, RequestStatus.APPROVED))
+                .thenReturn(approvedIn);
+        when(scheduleChangeRequestRepository.countByCurrentGroupIdAndStatus(groupId, RequestStatus.APPROVED))
+                .thenReturn(approvedOut);
+    }
+
+    private Group groupWithCapacity(String groupId, int capacity) {
+        Classroom classroom = new Classroom();
+        classroom.setCapacity(capacity);
+        Group group = new Group();
+        group.setGroupId(groupId);
+        group.setClassroom(classroom);
+        return group;
+    }
+
+    private ScheduleChangeRequest buildRequest(String fromGroupId, String toGroupId) {
+        Group from = new Group();
+        from.setGroupId(fromGroupId);
+        Group to = new Group();
+        to.setGroupId(toGroupId);
+        return ScheduleChangeRequest.builder()
+                .requestId("REQ001")
+                .currentGroup(from)
+                .requestedGroup(to)
+                .status(RequestStatus.APPROVED)
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
+
+import com.mongodb.client.result.UpdateResult;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RoomType;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GroupProjectionServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private GroupProjectionService groupProjectionService;
+
+    private Course course;
+    private Professor professor;
+    private Schedule schedule;
+    private Classroom classroom;
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        course = new Course("MATH101", "Cálculo I", 4, "Curso básico de cálculo", "Ingeniería", true);
+        professor = new Professor("P1", "Dr. Strange", "strange@titans.edu", "secreto",
+                "Matemáticas", true, Arrays.asList("Álgebra", "Cálculo"));
+        schedule = new Schedule("S1", "MONDAY", "08:00", "10:00", "2025-1");
+        classroom = new Classroom("C1", "Bloque B", "101", 30, RoomType.REGULAR);
+        group = new Group("G1", "A", course, professor, schedule, classroom);
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - project conserva los identificadores y datos de lectura")
+    void testProject_Exitoso() {
+        Group resultado = groupProjectionService.project(group);
+
+        assertAll("Verificar proyección del grupo",
+                () -> assertEquals("G1", resultado.getGroupId()),
+                () -> assertEquals("MATH101", resultado.getCourse().getCourseCode()),
+                () -> assertEquals("Cálculo I", resultado.getCourse().getName()),
+                () -> assertEquals("P1", resultado.getProfessor().getId()),
+                () -> assertEquals("Dr. Strange", resultado.getProfessor().getName()),
+                () -> assertEquals(schedule, resultado.getSchedule()),
+                () -> assertEquals(classroom, resultado.getClassroom())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - project descarta datos pesados o sensibles del profesor y curso")
+    void testProject_Exitoso_DescartaCamposPesados() {
+        Group resultado = groupProjectionService.project(group);
+
+        assertNull(resultado.getProfessor().getPassword());
+        assertNull(resultado.getProfessor().getAreasOfExpertise());
+        assertNull(resultado.getCourse().getDescription());
+        assertEquals("secreto", group.getProfessor().getPassword());
+    }
+
+    @Test
+    @DisplayName("Caso borde - project admite grupos sin referencias")
+    void testProject_Borde_SinReferencias() {
+        Group resultado = groupProjectionService.project(new Group("G2", "B", null, null, null, null));
+
+        assertNull(resultado.getCourse());
+        assertNull(resultado.getProfessor());
+        assertNull(resultado.getSchedule());
+        assertNull(resultado.getClassroom());
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - onBeforeConvert proyecta el grupo antes de guardarlo")
+    void testOnBeforeConvert_Exitoso() {
+        Group resultado = groupProjectionService.onBeforeConvert(group, "groups");
+
+        assertNull(resultado.getProfessor().getPassword());
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - propagateCourse actualiza todos los grupos del curso en una operación")
+    void testPropagateCourse_Exitoso() {
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Group.class)))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null));
+
+        long resultado = groupProjectionService.propagateCourse(course);
+
+        assertEquals(2L, resultado);
+        verify(mongoTemplate, times(1)).updateMulti(
+                argThat((Query query) -> "MATH101".equals(query.getQueryObject().get("course.courseCode"))),
+                any(Update.class), eq(Group.class));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - propagateProfessor filtra por el ID del profesor")
+    void testPropagateProfessor_Exitoso() {
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Group.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        assertEquals(1L, groupProjectionService.propagateProfessor(professor));
+        verify(mongoTemplate, times(1)).updateMulti(
+                argThat((Query query) -> "P1".equals(query.getQueryObject().get("professor.id"))),
+                any(Update.class), eq(Group.class));
+    }
+
+    @Test
+    @DisplayName("Caso borde - propagateSchedule sin ID no consulta la base de datos")
+    void testPropagateSchedule_Borde_SinId() {
+        assertEquals(0L, groupProjectionService.propagateSchedule(new Schedule()));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - refreshAllGroups reescribe cada grupo")
+    void testRefreshAllGroups_Exitoso() {
+        when(mongoTemplate.findAll(Group.class)).thenReturn(List.of(group, new Group()));
+
+        int resultado = groupProjectionService.refreshAllGroups();
+
+        assertEquals(2, resultado);
+        verify(mongoTemplate, times(2)).save(any(Group.class));
+    }
+}
@@ -33,6 +33,9 @@ public class GroupServiceTest {
     @Mock
     private ScheduleChangeRequestRepository scheduleChangeRequestRepository;
 
+    @Mock
+    private GroupEnrollmentService groupEnrollmentService;
+
     @InjectMocks
     private GroupService groupService;
 
@@ -130,7 +133,7 @@ public class GroupServiceTest {
     @Test
     @DisplayName("Caso borde - getCurrentEnrollment retorna 0 cuando no hay estudiantes")
     void testGetCurrentEnrollment_SinEstudiantes() {
-        when(courseStatusDetailRepository.findByGroup_GroupId("GROUP_001")).thenReturn(Collections.emptyList());
+        when(groupEnrollmentService.getEnrollment("GROUP_001")).thenReturn(0);
 
         Integer resultado = groupService.getCurrentEnrollment("GROUP_001");
 
@@ -139,7 +142,8 @@ public class GroupServiceTest {
                 () -> assertEquals(0, resultado)
         );
 
-        verify(courseStatusDetailRepository, times(1)).findByGroup_GroupId("GROUP_001");
+        verify(groupEnrollmentService, times(1)).getEnrollment("GROUP_001");
+        verify(courseStatusDetailRepository, never()).findByGroup_GroupId(anyString());
     }
 
     @Test
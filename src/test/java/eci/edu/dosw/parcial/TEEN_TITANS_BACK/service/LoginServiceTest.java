@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
@@ -40,6 +41,12 @@ class LoginServiceTest {
     @Mock
     private DeanRepository deanRepository;
 
+    @Mock
+    private UserIdentityService userIdentityService;
+
+    @Spy
+    private ParallelReadService parallelReadService = new ParallelReadService(Runnable::run);
+
     @InjectMocks
     private LoginService loginService;
 
@@ -420,6 +427,7 @@ class LoginServiceTest {
         assertNotNull(result);
         assertTrue(result.contains("juan@test.com"));
         assertTrue(result.contains("Student"));
+        assertFalse(result.contains("password123"));
     }
 
     @Test
@@ -470,4 +478,74 @@ class LoginServiceTest {
 
         assertTrue(exception.getMessage().contains("El usuario no tiene el rol especificado"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void authenticate_ResolvesFromIdentityIndexWithoutScanningCollections() {
+        LoginDTO loginDTO = new LoginDTO("profesor@test.com", "prof123", UserRole.PROFESSOR);
+        UserIdentity identity = new UserIdentity("profesor@test.com", UserIdentity.PROFESSORS, "3",
+                UserRole.PROFESSOR, true);
+
+        when(userIdentityService.findByEmail("profesor@test.com")).thenReturn(Optional.of(identity));
+        when(professorRepository.findById("3")).thenReturn(Optional.of(professor));
+
+        LoginResponseDTO response = loginService.authenticate(loginDTO);
+
+        assertEquals("3", response.getId());
+        assertEquals("Carlos Ruiz", response.getName());
+        assertEquals(UserRole.PROFESSOR, response.getRole());
+        verify(professorRepository, never()).findByEmail(anyString());
+        verifyNoInteractions(studentRepository, administratorRepository, deanRepository, userRepository);
+    }
+
+    @Test
+    void authenticate_ChecksPasswordAgainstOwningCollection() {
+        LoginDTO loginDTO = new LoginDTO("profesor@test.com", "otra", UserRole.PROFESSOR);
+        UserIdentity identity = new UserIdentity("profesor@test.com", UserIdentity.PROFESSORS, "3",
+                UserRole.PROFESSOR, true);
+
+        when(userIdentityService.findByEmail("profesor@test.com")).thenReturn(Optional.of(identity));
+        when(professorRepository.findById("3")).thenReturn(Optional.of(professor));
+
+        AppException exception = assertThrows(AppException.class, () -> loginService.authenticate(loginDTO));
+
+        assertEquals("Contraseña incorrecta", exception.getMessage());
+    }
+
+    @Test
+    void authenticate_StaleIdentityFallsBackToCollections() {
+        LoginDTO loginDTO = new LoginDTO("juan@test.com", "password123", UserRole.STUDENT);
+        UserIdentity stale = new UserIdentity("juan@test.com", UserIdentity.STUDENTS, "99",
+                UserRole.STUDENT, true);
+
+        when(userIdentityService.findByEmail("juan@test.com")).thenReturn(Optional.of(stale));
+        when(studentRepository.findById("99")).thenReturn(Optional.empty());
+        when(studentRepository.findByEmail("juan@test.com")).thenReturn(Arrays.asList(activeStudent));
+
+        LoginResponseDTO response = loginService.authenticate(loginDTO);
+
+        assertEquals("1", response.getId());
+        verify(userIdentityService, times(1)).index(activeStudent, UserIdentity.STUDENTS);
+    }
+
+    @Test
+    void authenticate_IndexesAccountFoundOutsideIdentityIndex() {
+        LoginDTO loginDTO = new LoginDTO("juan@test.com", "password123", UserRole.STUDENT);
+
+        when(studentRepository.findByEmail("juan@test.com")).thenReturn(Arrays.asList(activeStudent));
+
+        loginService.authenticate(loginDTO);
+
+        verify(userIdentityService, times(1)).index(activeStudent, UserIdentity.STUDENTS);
+    }
+
+    @Test
+    void emailExists_IdentityIndexed() {
+        when(userIdentityService.existsByEmail("test@test.com")).thenReturn(true);
+
+        boolean result = loginService.emailExists("test@test.com");
+
+        assertTrue(result);
+        verifyNoInteractions(studentRepository, professorRepository, administratorRepository,
+                deanRepository, userRepository);
+    }
+}
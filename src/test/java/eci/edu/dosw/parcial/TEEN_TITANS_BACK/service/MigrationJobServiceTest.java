@@ -0,0 +1,287 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
+
+import com.mongodb.DBRef;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.MigrationStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Dean;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.MigrationJob;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.StudentAcademicProgress;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.MigrationJobRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentAcademicProgressRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MigrationJobServiceTest {
+
+    private static final String JOB_ID = "role-backfill-deans";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MigrationJobRepository migrationJobRepository;
+
+    @Mock
+    private StudentAcademicProgressRepository studentAcademicProgressRepository;
+
+    private MigrationJobService migrationJobService;
+
+    @BeforeEach
+    void setUp() {
+        migrationJobService = new MigrationJobService(mongoTemplate, migrationJobRepository,
+                studentAcademicProgressRepository, Runnable::run, 2);
+        lenient().when(mongoTemplate.getCollectionName(Dean.class)).thenReturn("deans");
+        lenient().when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(UserIdentity.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - startRoleBackfill actualiza los decanos sin rol por bloques")
+    void testStartRoleBackfill_PorBloques() {
+        when(migrationJobRepository.findById(JOB_ID)).thenReturn(Optional.empty());
+        when(migrationJobRepository.save(any(MigrationJob.class))).thenAnswer(i -> i.getArgument(0));
+        when(mongoTemplate.count(any(Query.class), eq(Dean.class))).thenReturn(3L);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("deans")))
+                .thenReturn(ids("d1", "d2"), ids("d3"));
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Dean.class)))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null), UpdateResult.acknowledged(1, 1L, null));
+
+        MigrationJob job = migrationJobService.startRoleBackfill(Dean.class, UserRole.DEAN);
+
+        assertAll("Verificar avance de la migración",
+                () -> assertEquals(MigrationStatus.COMPLETED, job.getStatus()),
+                () -> assertEquals(3, job.getTotal()),
+                () -> assertEquals(3, job.getProcessed()),
+                () -> assertEquals("d3", job.getLastProcessedId()),
+                () -> assertEquals(100.0, job.getProgressPercentage()),
+                () -> assertNotNull(job.getFinishedAt())
+        );
+
+        List<Query> chunks = capturedChunkQueries(2);
+        assertAll("Verificar consultas de los bloques",
+                () -> assertNull(chunks.get(0).getQueryObject().get("_id")),
+                () -> assertEquals(new Document("$gt", "d2"), chunks.get(1).getQueryObject().get("_id")),
+                () -> assertEquals(2, chunks.get(0).getLimit())
+        );
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateMulti(any(Query.class), update.capture(), eq(Dean.class));
+        assertEquals(new Document("role", UserRole.DEAN), update.getValue().getUpdateObject().get("$set"));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - startRoleBackfill asigna el rol en el índice de identidades antes que en los usuarios")
+    void testStartRoleBackfill_ActualizaIdentidades() {
+        when(migrationJobRepository.findById(JOB_ID)).thenReturn(Optional.empty());
+        when(migrationJobRepository.save(any(MigrationJob.class))).thenAnswer(i -> i.getArgument(0));
+        when(mongoTemplate.count(any(Query.class), eq(Dean.class))).thenReturn(2L);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("deans")))
+                .thenReturn(ids("d1", "d2"), ids());
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Dean.class)))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null));
+
+        migrationJobService.startRoleBackfill(Dean.class, UserRole.DEAN);
+
+        ArgumentCaptor<Query> identities = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        InOrder inOrder = inOrder(mongoTemplate);
+        inOrder.verify(mongoTemplate).updateMulti(identities.capture(), update.capture(), eq(UserIdentity.class));
+        inOrder.verify(mongoTemplate).updateMulti(any(Query.class), any(Update.class), eq(Dean.class));
+        Document filter = identities.getValue().getQueryObject();
+        assertAll("Verificar actualización de identidades",
+                () -> assertEquals("deans", filter.get("userCollection")),
+                () -> assertEquals(new Document("$in", List.of("d1", "d2")), filter.get("userId")),
+                () -> assertEquals(new Document("role", UserRole.DEAN), update.getValue().getUpdateObject().get("$set"))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - startRoleBackfill continúa una migración interrumpida desde el último ID")
+    void testStartRoleBackfill_Reanuda() {
+        MigrationJob failed = new MigrationJob(JOB_ID, "deans", MigrationStatus.FAILED,
+                3, 2, "d2", "Tiempo de espera agotado", null, null, null);
+        when(migrationJobRepository.findById(JOB_ID)).thenReturn(Optional.of(failed));
+        when(migrationJobRepository.save(any(MigrationJob.class))).thenAnswer(i -> i.getArgument(0));
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("deans"))).thenReturn(ids("d3"));
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Dean.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        MigrationJob job = migrationJobService.startRoleBackfill(Dean.class, UserRole.DEAN);
+
+        List<Query> chunks = capturedChunkQueries(1);
+        assertAll("Verificar reanudación",
+                () -> assertEquals(MigrationStatus.COMPLETED, job.getStatus()),
+                () -> assertEquals(3, job.getProcessed()),
+                () -> assertNull(job.getError()),
+                () -> assertEquals(new Document("$gt", "d2"), chunks.get(0).getQueryObject().get("_id")),
+                () -> verify(mongoTemplate, never()).count(any(Query.class), eq(Dean.class))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso error - un fallo al actualizar deja la migración en estado FAILED")
+    void testStartRoleBackfill_Falla() {
+        when(migrationJobRepository.findById(JOB_ID)).thenReturn(Optional.empty());
+        when(migrationJobRepository.save(any(MigrationJob.class))).thenAnswer(i -> i.getArgument(0));
+        when(mongoTemplate.count(any(Query.class), eq(Dean.class))).thenReturn(2L);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("deans"))).thenReturn(ids("d1", "d2"));
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Dean.class)))
+                .thenThrow(new RuntimeException("Conexión perdida"));
+
+        MigrationJob job = migrationJobService.startRoleBackfill(Dean.class, UserRole.DEAN);
+
+        assertAll("Verificar estado de la migración fallida",
+                () -> assertEquals(MigrationStatus.FAILED, job.getStatus()),
+                () -> assertEquals("Conexión perdida", job.getError()),
+                () -> assertEquals(0, job.getProcessed()),
+                () -> assertNull(job.getLastProcessedId())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - lanzar una migración en curso devuelve su avance sin lanzarla de nuevo")
+    void testStartRoleBackfill_EnCurso() {
+        List<Runnable> pending = new ArrayList<>();
+        migrationJobService = new MigrationJobService(mongoTemplate, migrationJobRepository,
+                studentAcademicProgressRepository, pending::add, 2);
+        when(migrationJobRepository.save(any(MigrationJob.class))).thenAnswer(i -> i.getArgument(0));
+        when(mongoTemplate.count(any(Query.class), eq(Dean.class))).thenReturn(5L);
+        MigrationJob[] first = new MigrationJob[1];
+        when(migrationJobRepository.findById(JOB_ID)).thenAnswer(i -> Optional.ofNullable(first[0]));
+
+        first[0] = migrationJobService.startRoleBackfill(Dean.class, UserRole.DEAN);
+        MigrationJob second = migrationJobService.startRoleBackfill(Dean.class, UserRole.DEAN);
+
+        assertAll("Verificar que no se lanza dos veces",
+                () -> assertSame(first[0], second),
+                () -> assertEquals(MigrationStatus.RUNNING, second.getStatus()),
+                () -> assertEquals(1, pending.size()),
+                () -> verify(migrationJobRepository, times(1)).save(any(MigrationJob.class))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - startFacultyBackfill registra en cada solicitud la facultad de su estudiante")
+    void testStartFacultyBackfill_AgrupaPorFacultad() {
+        String collection = "schedule_change_requests";
+        when(mongoTemplate.getCollectionName(ScheduleChangeRequest.class)).thenReturn(collection);
+        when(migrationJobRepository.findById(MigrationJobService.FACULTY_BACKFILL_JOB_ID)).thenReturn(Optional.empty());
+        when(migrationJobRepository.save(any(MigrationJob.class))).thenAnswer(i -> i.getArgument(0));
+        when(mongoTemplate.count(any(Query.class), eq(ScheduleChangeRequest.class))).thenReturn(2L);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(collection)))
+                .thenReturn(ids("REQ001", "REQ002"),
+                        List.of(request("REQ001", "STU001"), request("REQ002", "STU002")),
+                        List.of());
+        when(studentAcademicProgressRepository.findProgressByStudentIds(Set.of("STU001", "STU002")))
+                .thenReturn(Map.of("STU001", progress("Ingeniería"), "STU002", progress("Artes")));
+        BulkOperations bulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ScheduleChangeRequest.class)).thenReturn(bulk);
+        when(bulk.execute()).thenReturn(BulkWriteResult.acknowledged(0, 2, 0, 2, List.of(), List.of()));
+
+        MigrationJob job = migrationJobService.startFacultyBackfill();
+
+        assertAll("Verificar avance de la migración de facultades",
+                () -> assertEquals(MigrationStatus.COMPLETED, job.getStatus()),
+                () -> assertEquals(2, job.getProcessed()),
+                () -> assertEquals("REQ002", job.getLastProcessedId())
+        );
+
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulk, times(2)).updateMulti(any(Query.class), updates.capture());
+        assertEquals(Set.of(new Document("faculty", "Ingeniería"), new Document("faculty", "Artes")),
+                Set.copyOf(updates.getAllValues().stream()
+                        .map(update -> update.getUpdateObject().get("$set", Document.class))
+                        .toList()));
+    }
+
+    @Test
+    @DisplayName("Caso borde - startFacultyBackfill deja sin facultad las solicitudes de estudiantes sin progreso")
+    void testStartFacultyBackfill_SinProgreso() {
+        String collection = "schedule_change_requests";
+        when(mongoTemplate.getCollectionName(ScheduleChangeRequest.class)).thenReturn(collection);
+        when(migrationJobRepository.findById(MigrationJobService.FACULTY_BACKFILL_JOB_ID)).thenReturn(Optional.empty());
+        when(migrationJobRepository.save(any(MigrationJob.class))).thenAnswer(i -> i.getArgument(0));
+        when(mongoTemplate.count(any(Query.class), eq(ScheduleChangeRequest.class))).thenReturn(1L);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(collection)))
+                .thenReturn(ids("REQ001"), List.of(request("REQ001", "STU009")));
+        when(studentAcademicProgressRepository.findProgressByStudentIds(Set.of("STU009"))).thenReturn(Map.of());
+
+        MigrationJob job = migrationJobService.startFacultyBackfill();
+
+        assertAll("Verificar migración sin facultades conocidas",
+                () -> assertEquals(MigrationStatus.COMPLETED, job.getStatus()),
+                () -> assertEquals(0, job.getProcessed()),
+                () -> assertEquals("REQ001", job.getLastProcessedId()),
+                () -> verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class),
+                        eq(ScheduleChangeRequest.class))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - isFacultyBackfillCompleted solo es verdadero cuando la migración terminó")
+    void testIsFacultyBackfillCompleted() {
+        MigrationJob running = new MigrationJob(MigrationJobService.FACULTY_BACKFILL_JOB_ID, "schedule_change_requests",
+                MigrationStatus.RUNNING, 4, 2, "REQ002", null, null, null, null);
+        MigrationJob completed = new MigrationJob(MigrationJobService.FACULTY_BACKFILL_JOB_ID, "schedule_change_requests",
+                MigrationStatus.COMPLETED, 4, 4, "REQ004", null, null, null, null);
+        when(migrationJobRepository.findById(MigrationJobService.FACULTY_BACKFILL_JOB_ID))
+                .thenReturn(Optional.empty(), Optional.of(running), Optional.of(completed));
+
+        assertAll("Verificar estado de la migración de facultades",
+                () -> assertFalse(migrationJobService.isFacultyBackfillCompleted()),
+                () -> assertFalse(migrationJobService.isFacultyBackfillCompleted()),
+                () -> assertTrue(migrationJobService.isFacultyBackfillCompleted())
+        );
+    }
+
+    private List<Query> capturedChunkQueries(int expected) {
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(expected)).find(captor.capture(), eq(Document.class), eq("deans"));
+        return captor.getAllValues();
+    }
+
+    private Document request(String requestId, String studentId) {
+        return new Document("_id", requestId).append("student", new DBRef("students", studentId));
+    }
+
+    private StudentAcademicProgress progress(String faculty) {
+        StudentAcademicProgress progress = new StudentAcademicProgress();
+        progress.setFaculty(faculty);
+        return progress;
+    }
+
+    private List<Document> ids(String... ids) {
+        List<Document> documents = new ArrayList<>();
+        for (String id : ids) {
+            documents.add(new Document("_id", id));
+        }
+        return documents;
+    }
+}
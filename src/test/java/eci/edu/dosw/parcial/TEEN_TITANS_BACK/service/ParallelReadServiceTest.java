@@ -0,0 +1,170 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelReadServiceTest {
+
+    private ParallelReadService parallelReadService;
+
+    @AfterEach
+    void tearDown() {
+        if (parallelReadService != null) {
+            parallelReadService.shutdown();
+        }
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - readAll ejecuta las lecturas al mismo tiempo y respeta su orden")
+    void testReadAll_EnParalelo() {
+        parallelReadService = new ParallelReadService(3);
+        CountDownLatch allStarted = new CountDownLatch(3);
+
+        List<String> results = parallelReadService.readAll(List.<Supplier<String>>of(
+                () -> awaitOthers(allStarted, "A"),
+                () -> awaitOthers(allStarted, "B"),
+                () -> awaitOthers(allStarted, "C")));
+
+        assertEquals(List.of("A", "B", "C"), results);
+    }
+
+    @Test
+    @DisplayName("Caso borde - readAll no supera el límite de lecturas simultáneas")
+    void testReadAll_LimiteDeConcurrencia() {
+        parallelReadService = new ParallelReadService(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Supplier<Integer> read = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(20);
+            running.decrementAndGet();
+            return 1;
+        };
+
+        List<Integer> results = parallelReadService.readAll(List.of(read, read, read, read, read, read));
+
+        assertAll("Verificar límite de concurrencia",
+                () -> assertEquals(6, results.size()),
+                () -> assertTrue(maxRunning.get() <= 2)
+        );
+    }
+
+    @Test
+    @DisplayName("Caso error - join relanza la excepción original de la lectura")
+    void testJoin_RelanzaAppException() {
+        parallelReadService = new ParallelReadService(2);
+
+        AppException exception = assertThrows(AppException.class, () -> parallelReadService.readAll(
+                List.<Supplier<String>>of(() -> "ok", () -> {
+                    throw new AppException("Estudiante no encontrado: 99");
+                })));
+
+        assertEquals("Estudiante no encontrado: 99", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Caso error - readAll espera las demás lecturas antes de relanzar el error")
+    void testReadAll_FalloEsperaLasDemas() {
+        parallelReadService = new ParallelReadService(2);
+        AtomicInteger finished = new AtomicInteger();
+
+        assertThrows(AppException.class, () -> parallelReadService.readAll(List.<Supplier<String>>of(
+                () -> {
+                    throw new AppException("Estudiante no encontrado: 99");
+                },
+                () -> {
+                    sleep(100);
+                    finished.incrementAndGet();
+                    return "ok";
+                })));
+
+        assertEquals(1, finished.get());
+    }
+
+    @Test
+    @DisplayName("Caso borde - awaitAll espera las lecturas sin relanzar sus errores")
+    void testAwaitAll_IgnoraErrores() {
+        parallelReadService = new ParallelReadService(2);
+        AtomicInteger finished = new AtomicInteger();
+        CompletableFuture<String> failed = parallelReadService.submit(() -> {
+            throw new AppException("Progreso curricular no encontrado");
+        });
+        CompletableFuture<String> slow = parallelReadService.submit(() -> {
+            sleep(100);
+            finished.incrementAndGet();
+            return "ok";
+        });
+
+        assertDoesNotThrow(() -> parallelReadService.awaitAll(failed, slow));
+
+        assertAll("Verificar lecturas terminadas",
+                () -> assertEquals(1, finished.get()),
+                () -> assertTrue(failed.isDone()),
+                () -> assertTrue(slow.isDone())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - una lectura lanzada desde otra se ejecuta en el mismo hilo")
+    void testSubmit_Anidado() {
+        parallelReadService = new ParallelReadService(1);
+
+        String result = parallelReadService.join(parallelReadService.submit(() -> {
+            Thread outer = Thread.currentThread();
+            CompletableFuture<Thread> inner = parallelReadService.submit(Thread::currentThread);
+            return parallelReadService.join(inner) == outer ? "mismo hilo" : "otro hilo";
+        }));
+
+        assertEquals("mismo hilo", result);
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - las lecturas ven los atributos de la petición en curso")
+    void testSubmit_PropagaPeticion() {
+        parallelReadService = new ParallelReadService(1);
+        ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        RequestAttributes seen = parallelReadService.join(
+                parallelReadService.submit(RequestContextHolder::getRequestAttributes));
+
+        assertSame(attributes, seen);
+    }
+
+    private String awaitOthers(CountDownLatch allStarted, String value) {
+        allStarted.countDown();
+        try {
+            if (!allStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Las lecturas no se ejecutaron en paralelo");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
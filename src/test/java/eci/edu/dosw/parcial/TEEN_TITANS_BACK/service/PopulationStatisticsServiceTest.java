@@ -0,0 +1,114 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Professor;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.User;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopulationStatisticsServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private PopulationStatisticsService populationStatisticsService;
+
+    @Test
+    @DisplayName("Caso exitoso - getStudentStatistics resume el $facet de estudiantes")
+    void testGetStudentStatistics_Exitoso() {
+        when(mongoTemplate.getCollectionName(Student.class)).thenReturn("students");
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("students"), eq(Document.class)))
+                .thenReturn(results(new Document()
+                        .append("byActive", List.of(count(true, 18), count(false, 2)))
+                        .append("academicProgram", List.of(count("Matemáticas", 12), count("Economía", 8)))
+                        .append("semester", List.of(count(1, 15), count(null, 5)))
+                        .append("averages", List.of(new Document("_id", null).append("gradeAverage", 3.8)))));
+
+        PopulationStatisticsService.PopulationStatistics statistics = populationStatisticsService.getStudentStatistics();
+
+        assertAll("Verificar estadísticas de estudiantes",
+                () -> assertEquals(20, statistics.getTotal()),
+                () -> assertEquals(18, statistics.getActive()),
+                () -> assertEquals(2, statistics.getInactive()),
+                () -> assertEquals(90.0, statistics.getActivePercentage()),
+                () -> assertEquals(Map.of("Matemáticas", 12L, "Economía", 8L), statistics.getBreakdown("academicProgram")),
+                () -> assertEquals(Map.of(1, 15L), statistics.getBreakdown("semester")),
+                () -> assertEquals(3.8, statistics.getAverage("gradeAverage"))
+        );
+
+        ArgumentCaptor<Aggregation> captor = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(captor.capture(), eq("students"), eq(Document.class));
+        List<Document> pipeline = captor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertEquals(1, pipeline.size());
+        Document facet = pipeline.get(0).get("$facet", Document.class);
+        assertEquals(List.of("byActive", "academicProgram", "semester", "averages"), List.copyOf(facet.keySet()));
+    }
+
+    @Test
+    @DisplayName("Caso borde - getUserStatistics con la colección vacía retorna ceros")
+    void testGetUserStatistics_ColeccionVacia() {
+        when(mongoTemplate.getCollectionName(User.class)).thenReturn("users");
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("users"), eq(Document.class)))
+                .thenReturn(results(new Document("byActive", List.of()).append("role", List.of())));
+
+        PopulationStatisticsService.PopulationStatistics statistics = populationStatisticsService.getUserStatistics();
+
+        assertAll("Verificar estadísticas vacías",
+                () -> assertEquals(0, statistics.getTotal()),
+                () -> assertEquals(0.0, statistics.getActivePercentage()),
+                () -> assertTrue(statistics.getBreakdown("role").isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - getProfessorStatistics cuenta como activos los documentos sin estado")
+    void testGetProfessorStatistics_SinEstado() {
+        when(mongoTemplate.getCollectionName(Professor.class)).thenReturn("professors");
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("professors"), eq(Document.class)))
+                .thenReturn(results(new Document()
+                        .append("byActive", List.of(count(true, 4), count(false, 1)))
+                        .append("isTenured", List.of(count(true, 2), count(false, 3)))));
+
+        PopulationStatisticsService.PopulationStatistics statistics = populationStatisticsService.getProfessorStatistics();
+
+        ArgumentCaptor<Aggregation> captor = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(captor.capture(), eq("professors"), eq(Document.class));
+        List<Document> byActive = captor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).get(0)
+                .get("$facet", Document.class).getList("byActive", Document.class);
+        assertAll("Verificar estadísticas de profesores",
+                () -> assertEquals(5, statistics.getTotal()),
+                () -> assertEquals(4, statistics.getActive()),
+                () -> assertEquals(2L, statistics.getBreakdown("isTenured").get(true)),
+                () -> assertEquals(new Document("$ifNull", List.of("$active", true)),
+                        byActive.get(0).get("$project", Document.class).get("active")),
+                () -> assertEquals("$active", byActive.get(1).get("$group", Document.class).get("_id"))
+        );
+    }
+
+    private static AggregationResults<Document> results(Document facetResult) {
+        return new AggregationResults<>(List.of(facetResult), new Document());
+    }
+
+    private static Document count(Object value, int count) {
+        return new Document("_id", value).append("count", count);
+    }
+}
@@ -1,6 +1,8 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
 
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Professor;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.ProfessorSummaryDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.ProfessorRepository;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
@@ -28,6 +30,12 @@ public class ProfessorServiceTest {
     @Mock
     private ProfessorRepository professorRepository;
 
+    @Mock
+    private UserIdentityService userIdentityService;
+
+    @Mock
+    private GroupProjectionService groupProjectionService;
+
     @InjectMocks
     private ProfessorService professorService;
 
@@ -166,6 +174,7 @@ public class ProfessorServiceTest {
 
         verify(professorRepository, times(1)).existsById("1");
         verify(professorRepository, times(1)).deleteById("1");
+        verify(userIdentityService, times(1)).remove(UserIdentity.PROFESSORS, "1");
     }
 
     @Test
@@ -284,6 +293,21 @@ public class ProfessorServiceTest {
         verify(professorRepository, times(1)).findByActive(true);
     }
 
+    @Test
+    @DisplayName("Caso exitoso - getActiveProfessorSummaries lee la proyección de los profesores activos")
+    void testGetActiveProfessorSummaries_Exitoso() {
+        List<ProfessorSummaryDTO> summaries = Collections.singletonList(new ProfessorSummaryDTO(
+                "1", "Profesor Uno", "profesor1@titans.edu", UserRole.PROFESSOR, true, "Sistemas", true, List.of()));
+        when(professorRepository.findSummaryByActiveOrderByIdAsc(true)).thenReturn(summaries);
+
+        List<ProfessorSummaryDTO> resultado = professorService.getActiveProfessorSummaries();
+
+        assertAll("Verificar listado de profesores activos",
+                () -> assertSame(summaries, resultado),
+                () -> verify(professorRepository, never()).findByActive(anyBoolean())
+        );
+    }
+
     @Test
     @DisplayName("Caso exitoso - findByAreasOfExpertiseIn retorna profesores por múltiples áreas")
     void testFindByAreasOfExpertiseIn_Exitoso() {
@@ -0,0 +1,181 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.RequestStatus;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.ScheduleChangeRequest;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.StudentAcademicProgress;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.ScheduleChangeRequestRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentAcademicProgressRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RequestPriorityQueueServiceTest {
+
+    @Mock
+    private ScheduleChangeRequestRepository scheduleChangeRequestRepository;
+
+    @Mock
+    private StudentAcademicProgressRepository studentAcademicProgressRepository;
+
+    @InjectMocks
+    private RequestPriorityQueueService requestPriorityQueueService;
+
+    private ScheduleChangeRequest lowPriority;
+    private ScheduleChangeRequest highPriority;
+
+    @BeforeEach
+    void setUp() {
+        lowPriority = buildRequest("REQ001", "STU001", "Prefiero otro profesor", 2);
+        highPriority = buildRequest("REQ002", "STU002", "Cita médica", 1);
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - getPosition construye la cola con una sola consulta de progreso")
+    void testGetPosition_ConstruyeCola() {
+        when(scheduleChangeRequestRepository.findByStatus(RequestStatus.PENDING))
+                .thenReturn(List.of(lowPriority, highPriority));
+        when(studentAcademicProgressRepository.findProgressByStudentIds(List.of("STU001", "STU002")))
+                .thenReturn(Map.of("STU001", progress(3.0), "STU002", progress(4.5)));
+
+        assertAll("Verificar orden de la cola",
+                () -> assertEquals(1, requestPriorityQueueService.getPosition("REQ002")),
+                () -> assertEquals(2, requestPriorityQueueService.getPosition("REQ001")),
+                () -> assertEquals(-1, requestPriorityQueueService.getPosition("REQ999")),
+                () -> assertEquals(2, requestPriorityQueueService.size())
+        );
+
+        verify(scheduleChangeRequestRepository, times(1)).findByStatus(RequestStatus.PENDING);
+        verify(studentAcademicProgressRepository, times(1)).findProgressByStudentIds(anyCollection());
+        verify(studentAcademicProgressRepository, never()).findByStudentId(anyString());
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - update inserta una solicitud pendiente en su posición")
+    void testUpdate_InsertaSolicitudPendiente() {
+        when(scheduleChangeRequestRepository.findByStatus(RequestStatus.PENDING)).thenReturn(List.of(lowPriority));
+        when(studentAcademicProgressRepository.findProgressByStudentIds(List.of("STU001")))
+                .thenReturn(Map.of("STU001", progress(3.0)));
+        when(studentAcademicProgressRepository.findByStudentId("STU002")).thenReturn(Optional.of(progress(4.5)));
+        requestPriorityQueueService.rebuild();
+
+        requestPriorityQueueService.onAfterSave(new AfterSaveEvent<>(highPriority, new Document(), "schedule_change_requests"));
+
+        assertAll("Verificar inserción incremental",
+                () -> assertEquals(1, requestPriorityQueueService.getPosition("REQ002")),
+                () -> assertEquals(2, requestPriorityQueueService.getPosition("REQ001"))
+        );
+        verify(scheduleChangeRequestRepository, times(1)).findByStatus(RequestStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - update retira de la cola una solicitud que deja de estar pendiente")
+    void testUpdate_RetiraSolicitudResuelta() {
+        when(scheduleChangeRequestRepository.findByStatus(RequestStatus.PENDING))
+                .thenReturn(List.of(lowPriority, highPriority));
+        when(studentAcademicProgressRepository.findProgressByStudentIds(anyCollection())).thenReturn(Map.of());
+        requestPriorityQueueService.rebuild();
+
+        highPriority.setStatus(RequestStatus.APPROVED);
+        requestPriorityQueueService.update(highPriority);
+
+        assertAll("Verificar retiro de la solicitud",
+                () -> assertEquals(-1, requestPriorityQueueService.getPosition("REQ002")),
+                () -> assertEquals(1, requestPriorityQueueService.getPosition("REQ001")),
+                () -> assertEquals(1, requestPriorityQueueService.size())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - onAfterDelete retira la solicitud eliminada")
+    void testOnAfterDelete_RetiraSolicitud() {
+        when(scheduleChangeRequestRepository.findByStatus(RequestStatus.PENDING))
+                .thenReturn(List.of(lowPriority, highPriority));
+        when(studentAcademicProgressRepository.findProgressByStudentIds(anyCollection())).thenReturn(Map.of());
+        requestPriorityQueueService.rebuild();
+
+        requestPriorityQueueService.onAfterDelete(new AfterDeleteEvent<>(
+                new Document("_id", "REQ001"), ScheduleChangeRequest.class, "schedule_change_requests"));
+
+        assertEquals(-1, requestPriorityQueueService.getPosition("REQ001"));
+        assertEquals(1, requestPriorityQueueService.getPosition("REQ002"));
+    }
+
+    @Test
+    @DisplayName("Caso borde - update consulta el progreso académico sin retener el candado de la cola")
+    void testUpdate_ConsultaFueraDelCandado() {
+        when(scheduleChangeRequestRepository.findByStatus(RequestStatus.PENDING)).thenReturn(List.of(lowPriority));
+        when(studentAcademicProgressRepository.findProgressByStudentIds(List.of("STU001")))
+                .thenReturn(Map.of("STU001", progress(3.0)));
+        requestPriorityQueueService.rebuild();
+        boolean[] lockHeld = new boolean[1];
+        when(studentAcademicProgressRepository.findByStudentId("STU002")).thenAnswer(invocation -> {
+            lockHeld[0] = Thread.holdsLock(requestPriorityQueueService);
+            return Optional.of(progress(4.5));
+        });
+
+        requestPriorityQueueService.update(highPriority);
+
+        assertAll("Verificar consulta fuera del candado",
+                () -> assertFalse(lockHeld[0]),
+                () -> assertEquals(1, requestPriorityQueueService.getPosition("REQ002"))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso borde - update antes de construir la cola no consulta la base de datos")
+    void testUpdate_ColaNoConstruida() {
+        requestPriorityQueueService.update(highPriority);
+
+        verifyNoInteractions(scheduleChangeRequestRepository, studentAcademicProgressRepository);
+    }
+
+    @Test
+    @DisplayName("Caso borde - a igual puntaje se atiende primero la solicitud más antigua")
+    void testGetPosition_DesempatePorFecha() {
+        ScheduleChangeRequest older = buildRequest("REQ010", "STU010", "Otro motivo", 3);
+        ScheduleChangeRequest newer = buildRequest("REQ011", "STU011", "Otro motivo", 3);
+        older.setSubmissionDate(new Date(older.getSubmissionDate().getTime() - TimeUnit.HOURS.toMillis(1)));
+        when(scheduleChangeRequestRepository.findByStatus(RequestStatus.PENDING)).thenReturn(List.of(newer, older));
+        when(studentAcademicProgressRepository.findProgressByStudentIds(anyCollection())).thenReturn(Map.of());
+
+        assertEquals(1, requestPriorityQueueService.getPosition("REQ010"));
+        assertEquals(2, requestPriorityQueueService.getPosition("REQ011"));
+    }
+
+    private ScheduleChangeRequest buildRequest(String requestId, String studentId, String reason, int daysOld) {
+        Student student = new Student();
+        student.setId(studentId);
+        student.setSemester(5);
+
+        return ScheduleChangeRequest.builder()
+                .requestId(requestId)
+                .student(student)
+                .reason(reason)
+                .status(RequestStatus.PENDING)
+                .submissionDate(new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(daysOld)))
+                .reviewHistory(new ArrayList<>())
+                .build();
+    }
+
+    private StudentAcademicProgress progress(double gpa) {
+        StudentAcademicProgress progress = new StudentAcademicProgress();
+        progress.setCumulativeGPA(gpa);
+        return progress;
+    }
+}
@@ -36,6 +36,15 @@ public class RequestServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private StudentAcademicProgressRepository studentAcademicProgressRepository;
+
+    @Mock
+    private GroupEnrollmentService groupEnrollmentService;
+
+    @Mock
+    private RequestPriorityQueueService requestPriorityQueueService;
+
     @InjectMocks
     private RequestService requestService;
 
@@ -155,9 +164,12 @@ public class RequestServiceTest {
         when(groupRepository.findByCourse_CourseCode("CS102")).thenReturn(Arrays.asList(requestedGroup));
         when(groupRepository.findById("GROUP_001")).thenReturn(Optional.of(currentGroup));
         when(groupRepository.findById("GROUP_002")).thenReturn(Optional.of(requestedGroup));
-        when(scheduleChangeRequestRepository.findByRequestedGroupId("GROUP_001")).thenReturn(Collections.emptyList());
-        when(scheduleChangeRequestRepository.findByRequestedGroupId("GROUP_002")).thenReturn(Collections.emptyList());
+        when(groupEnrollmentService.getEnrollment("GROUP_001")).thenReturn(0);
+        when(groupEnrollmentService.getEnrollment("GROUP_002")).thenReturn(0);
         when(scheduleChangeRequestRepository.save(any(ScheduleChangeRequest.class))).thenReturn(pendingRequest);
+        StudentAcademicProgress progress = new StudentAcademicProgress();
+        progress.setFaculty("Ingeniería");
+        when(studentAcademicProgressRepository.findByStudentId("STU001")).thenReturn(Optional.of(progress));
 
         ScheduleChangeRequest resultado = requestService.createCourseChangeRequest("STU001", "CS101", "CS102", "Cambio de interés");
 
@@ -170,28 +182,51 @@ public class RequestServiceTest {
         verify(studentRepository, times(1)).findById("STU001");
         verify(courseRepository, times(1)).findById("CS101");
         verify(courseRepository, times(1)).findById("CS102");
-        verify(scheduleChangeRequestRepository, times(1)).save(any(ScheduleChangeRequest.class));
+        verify(scheduleChangeRequestRepository, times(1))
+                .save(argThat(request -> "Ingeniería".equals(request.getFaculty())));
     }
 
     @Test
     @DisplayName("Caso exitoso - approveRequest aprueba solicitud correctamente")
     void testApproveRequest_Exitoso() {
         when(scheduleChangeRequestRepository.findById("REQ001")).thenReturn(Optional.of(pendingRequest));
-        when(groupRepository.findById("GROUP_002")).thenReturn(Optional.of(requestedGroup));
-        when(scheduleChangeRequestRepository.findByRequestedGroupId("GROUP_002")).thenReturn(Collections.emptyList());
-        when(scheduleChangeRequestRepository.save(any(ScheduleChangeRequest.class))).thenReturn(approvedRequest);
+        when(groupEnrollmentService.reserveApprovedChange(pendingRequest)).thenReturn(true);
+        when(scheduleChangeRequestRepository.decideIfUndecided(eq("REQ001"), eq(RequestStatus.APPROVED), any(Date.class), any(ReviewStep.class)))
+                .thenReturn(true);
 
         ScheduleChangeRequest resultado = requestService.approveRequest("REQ001", "ADMIN001", UserRole.ADMINISTRATOR, "Solicitud aprobada");
 
         assertAll("Verificar aprobación de solicitud",
                 () -> assertNotNull(resultado),
                 () -> assertEquals(RequestStatus.APPROVED, resultado.getStatus()),
-                () -> assertNotNull(resultado.getResolutionDate())
+                () -> assertNotNull(resultado.getResolutionDate()),
+                () -> assertEquals("SOLICITUD_APROBADA", resultado.getReviewHistory().get(0).getAction())
         );
 
         verify(scheduleChangeRequestRepository, times(1)).findById("REQ001");
-        verify(groupRepository, times(1)).findById("GROUP_002");
-        verify(scheduleChangeRequestRepository, times(1)).save(pendingRequest);
+        verify(scheduleChangeRequestRepository, never()).save(any(ScheduleChangeRequest.class));
+        verify(groupEnrollmentService, times(1)).reserveApprovedChange(pendingRequest);
+        verify(groupEnrollmentService, never()).releaseApprovedChange(any());
+        verify(requestPriorityQueueService, times(1)).remove("REQ001");
+    }
+
+    @Test
+    @DisplayName("Caso borde - approveRequest libera el cupo si otra aprobación se adelanta")
+    void testApproveRequest_AprobacionConcurrente() {
+        when(scheduleChangeRequestRepository.findById("REQ001")).thenReturn(Optional.of(pendingRequest));
+        when(groupEnrollmentService.reserveApprovedChange(pendingRequest)).thenReturn(true);
+        when(scheduleChangeRequestRepository.decideIfUndecided(eq("REQ001"), eq(RequestStatus.APPROVED), any(Date.class), any(ReviewStep.class)))
+                .thenReturn(false);
+
+        AppException exception = assertThrows(AppException.class, () ->
+                requestService.approveRequest("REQ001", "ADMIN001", UserRole.ADMINISTRATOR, "Comentarios"));
+
+        assertAll("Verificar liberación del cupo",
+                () -> assertEquals("La solicitud ya fue resuelta por otro revisor: REQ001", exception.getMessage()),
+                () -> assertEquals(RequestStatus.PENDING, pendingRequest.getStatus()),
+                () -> verify(groupEnrollmentService, times(1)).releaseApprovedChange(pendingRequest),
+                () -> verify(requestPriorityQueueService, never()).remove(anyString())
+        );
     }
 
     @Test
@@ -207,15 +242,7 @@ public class RequestServiceTest {
         pendingRequest.setRequestedGroup(grupoLleno);
 
         when(scheduleChangeRequestRepository.findById("REQ001")).thenReturn(Optional.of(pendingRequest));
-        when(groupRepository.findById("GROUP_LLENO")).thenReturn(Optional.of(grupoLleno));
-
-        List<ScheduleChangeRequest> solicitudesAprobadas = new ArrayList<>();
-        for (int i = 0; i < 10; i++) {
-            ScheduleChangeRequest req = new ScheduleChangeRequest();
-            req.setStatus(RequestStatus.APPROVED);
-            solicitudesAprobadas.add(req);
-        }
-        when(scheduleChangeRequestRepository.findByRequestedGroupId("GROUP_LLENO")).thenReturn(solicitudesAprobadas);
+        when(groupEnrollmentService.reserveApprovedChange(pendingRequest)).thenReturn(false);
 
         AppException exception = assertThrows(AppException.class, () -> {
             requestService.approveRequest("REQ001", "ADMIN001", UserRole.ADMINISTRATOR, "Comentarios");
@@ -223,14 +250,16 @@ public class RequestServiceTest {
 
         assertTrue(exception.getMessage().contains("No se puede aprobar la solicitud: el grupo solicitado ya no tiene capacidad disponible"));
         verify(scheduleChangeRequestRepository, times(1)).findById("REQ001");
-        verify(groupRepository, times(1)).findById("GROUP_LLENO");
+        verify(scheduleChangeRequestRepository, never()).decideIfUndecided(anyString(), any(), any(), any());
+        verify(scheduleChangeRequestRepository, never()).save(any(ScheduleChangeRequest.class));
     }
 
     @Test
     @DisplayName("Caso exitoso - rejectRequest rechaza solicitud correctamente")
     void testRejectRequest_Exitoso() {
         when(scheduleChangeRequestRepository.findById("REQ001")).thenReturn(Optional.of(pendingRequest));
-        when(scheduleChangeRequestRepository.save(any(ScheduleChangeRequest.class))).thenReturn(pendingRequest);
+        when(scheduleChangeRequestRepository.decideIfUndecided(eq("REQ001"), eq(RequestStatus.REJECTED), any(Date.class), any(ReviewStep.class)))
+                .thenReturn(true);
 
         ScheduleChangeRequest resultado = requestService.rejectRequest("REQ001", "ADMIN001", UserRole.ADMINISTRATOR, "Solicitud rechazada");
 
@@ -241,7 +270,53 @@ public class RequestServiceTest {
         );
 
         verify(scheduleChangeRequestRepository, times(1)).findById("REQ001");
-        verify(scheduleChangeRequestRepository, times(1)).save(pendingRequest);
+        verify(scheduleChangeRequestRepository, never()).save(any(ScheduleChangeRequest.class));
+        verify(requestPriorityQueueService, times(1)).remove("REQ001");
+    }
+
+    @Test
+    @DisplayName("Caso error - rejectRequest no rechaza una solicitud ya aprobada")
+    void testRejectRequest_YaAprobada() {
+        pendingRequest.setStatus(RequestStatus.APPROVED);
+        when(scheduleChangeRequestRepository.findById("REQ001")).thenReturn(Optional.of(pendingRequest));
+
+        AppException exception = assertThrows(AppException.class, () ->
+                requestService.rejectRequest("REQ001", "ADMIN001", UserRole.ADMINISTRATOR, "Comentarios"));
+
+        assertEquals("La solicitud ya fue resuelta con estado APPROVED", exception.getMessage());
+        verify(scheduleChangeRequestRepository, never()).decideIfUndecided(anyString(), any(), any(), any());
+        verify(groupEnrollmentService, never()).releaseApprovedChange(any());
+    }
+
+    @Test
+    @DisplayName("Caso borde - rejectRequest informa cuando otra decisión se adelanta")
+    void testRejectRequest_DecisionConcurrente() {
+        when(scheduleChangeRequestRepository.findById("REQ001")).thenReturn(Optional.of(pendingRequest));
+        when(scheduleChangeRequestRepository.decideIfUndecided(eq("REQ001"), eq(RequestStatus.REJECTED), any(Date.class), any(ReviewStep.class)))
+                .thenReturn(false);
+
+        AppException exception = assertThrows(AppException.class, () ->
+                requestService.rejectRequest("REQ001", "ADMIN001", UserRole.ADMINISTRATOR, "Comentarios"));
+
+        assertAll("Verificar que la solicitud no cambia",
+                () -> assertEquals("La solicitud ya fue resuelta por otro revisor: REQ001", exception.getMessage()),
+                () -> assertEquals(RequestStatus.PENDING, pendingRequest.getStatus()),
+                () -> verify(requestPriorityQueueService, never()).remove(anyString())
+        );
+    }
+
+    @Test
+    @DisplayName("Caso error - approveRequest no aprueba una solicitud cancelada")
+    void testApproveRequest_Cancelada() {
+        pendingRequest.setStatus(RequestStatus.CANCELLED);
+        when(scheduleChangeRequestRepository.findById("REQ001")).thenReturn(Optional.of(pendingRequest));
+
+        AppException exception = assertThrows(AppException.class, () ->
+                requestService.approveRequest("REQ001", "ADMIN001", UserRole.ADMINISTRATOR, "Comentarios"));
+
+        assertEquals("La solicitud ya fue resuelta con estado CANCELLED", exception.getMessage());
+        verify(groupEnrollmentService, never()).reserveApprovedChange(any());
+        verify(scheduleChangeRequestRepository, never()).decideIfUndecided(anyString(), any(), any(), any());
     }
 
     @Test
@@ -346,7 +421,7 @@ public class RequestServiceTest {
     @DisplayName("Caso exitoso - getGroupCapacityAlert retorna false para grupo con capacidad")
     void testGetGroupCapacityAlert_ConCapacidad() {
         when(groupRepository.findById("GROUP_001")).thenReturn(Optional.of(currentGroup));
-        when(scheduleChangeRequestRepository.findByRequestedGroupId("GROUP_001")).thenReturn(Collections.emptyList());
+        when(groupEnrollmentService.getEnrollment("GROUP_001")).thenReturn(0);
 
         boolean resultado = requestService.getGroupCapacityAlert("GROUP_001");
 
@@ -446,13 +521,7 @@ public class RequestServiceTest {
 
         when(groupRepository.findById("GROUP_CAPACIDAD")).thenReturn(Optional.of(grupoCercaCapacidad));
 
-        List<ScheduleChangeRequest> solicitudesAprobadas = new ArrayList<>();
-        for (int i = 0; i < 25; i++) {
-            ScheduleChangeRequest req = new ScheduleChangeRequest();
-            req.setStatus(RequestStatus.APPROVED);
-            solicitudesAprobadas.add(req);
-        }
-        when(scheduleChangeRequestRepository.findByRequestedGroupId("GROUP_CAPACIDAD")).thenReturn(solicitudesAprobadas);
+        when(groupEnrollmentService.getEnrollment("GROUP_CAPACIDAD")).thenReturn(21);
 
         boolean resultado = requestService.getGroupCapacityAlert("GROUP_CAPACIDAD");
 
@@ -14,6 +14,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +39,12 @@ public class StudentPortalServiceTest {
     @Mock
     private GroupRepository groupRepository;
 
+    @Mock
+    private GroupEnrollmentService groupEnrollmentService;
+
+    @Mock
+    private TrafficLightService trafficLightService;
+
     @InjectMocks
     private StudentPortalService studentPortalService;
 
@@ -138,18 +146,20 @@ public class StudentPortalServiceTest {
     }
 
     @Test
-    @DisplayName("Caso exitoso - getCurrentEnrollment retorna matrícula estimada")
+    @DisplayName("Caso exitoso - getCurrentEnrollment retorna el contador de inscritos")
     void testGetCurrentEnrollment_Exitoso() {
-        when(groupRepository.findById("GROUP_001")).thenReturn(Optional.of(group));
+        when(groupRepository.existsById("GROUP_001")).thenReturn(true);
+        when(groupEnrollmentService.getEnrollment("GROUP_001")).thenReturn(18);
 
         Integer resultado = studentPortalService.getCurrentEnrollment("GROUP_001");
 
-        assertAll("Verificar cálculo de matrícula estimada",
+        assertAll("Verificar lectura del contador de inscritos",
                 () -> assertNotNull(resultado),
                 () -> assertEquals(18, resultado)
         );
 
-        verify(groupRepository, times(1)).findById("GROUP_001");
+        verify(groupRepository, times(1)).existsById("GROUP_001");
+        verify(groupEnrollmentService, times(1)).getEnrollment("GROUP_001");
     }
 
     @Test
@@ -168,7 +178,7 @@ public class StudentPortalServiceTest {
     void testGetTotalEnrolledByCourse_Exitoso() {
         List<Group> grupos = Arrays.asList(group);
         when(groupRepository.findByCourse_CourseCode("CS101")).thenReturn(grupos);
-        when(groupRepository.findById("GROUP_001")).thenReturn(Optional.of(group));
+        when(groupEnrollmentService.getEnrollments(List.of("GROUP_001"))).thenReturn(Map.of("GROUP_001", 18));
 
         Map<String, Integer> resultado = studentPortalService.getTotalEnrolledByCourse("CS101");
 
@@ -179,7 +189,7 @@ public class StudentPortalServiceTest {
         );
 
         verify(groupRepository, times(1)).findByCourse_CourseCode("CS101");
-        verify(groupRepository, times(1)).findById("GROUP_001");
+        verify(groupEnrollmentService, times(1)).getEnrollments(List.of("GROUP_001"));
     }
 
     @Test
@@ -199,7 +209,7 @@ public class StudentPortalServiceTest {
     @DisplayName("Caso exitoso - getCurrentSchedule retorna horario del estudiante")
     void testGetCurrentSchedule_Exitoso() {
         when(studentAcademicProgressRepository.findByStudentId("STU001")).thenReturn(Optional.of(progress));
-        when(groupRepository.findById("GROUP_001")).thenReturn(Optional.of(group));
+        when(groupRepository.findAllById(List.of("GROUP_001"))).thenReturn(List.of(group));
 
         List<Group> resultado = studentPortalService.getCurrentSchedule("STU001");
 
@@ -210,7 +220,7 @@ public class StudentPortalServiceTest {
         );
 
         verify(studentAcademicProgressRepository, times(1)).findByStudentId("STU001");
-        verify(groupRepository, times(1)).findById("GROUP_001");
+        verify(groupRepository, times(1)).findAllById(List.of("GROUP_001"));
     }
 
     @Test
@@ -232,6 +242,7 @@ public class StudentPortalServiceTest {
         List<Group> grupos = Arrays.asList(group);
         when(groupRepository.findByCourse_CourseCode("CS101")).thenReturn(grupos);
         when(groupRepository.findById("GROUP_001")).thenReturn(Optional.of(group));
+        when(groupEnrollmentService.getEnrollment("GROUP_001")).thenReturn(18);
 
         List<Group> resultado = studentPortalService.getAvailableGroups("CS101");
 
@@ -242,7 +253,7 @@ public class StudentPortalServiceTest {
         );
 
         verify(groupRepository, times(1)).findByCourse_CourseCode("CS101");
-        verify(groupRepository, times(2)).findById("GROUP_001");
+        verify(groupRepository, times(1)).findById("GROUP_001");
     }
 
     @Test
@@ -266,11 +277,13 @@ public class StudentPortalServiceTest {
     @DisplayName("Caso exitoso - checkGroupAvailability retorna true para grupo con cupos")
     void testCheckGroupAvailability_ConCupos() {
         when(groupRepository.findById("GROUP_001")).thenReturn(Optional.of(group));
+        when(groupEnrollmentService.getEnrollment("GROUP_001")).thenReturn(18);
 
         boolean resultado = studentPortalService.checkGroupAvailability("GROUP_001");
 
         assertTrue(resultado);
-        verify(groupRepository, times(2)).findById("GROUP_001");
+        verify(groupRepository, times(1)).findById("GROUP_001");
+        verify(groupEnrollmentService, times(1)).getEnrollment("GROUP_001");
     }
 
 
@@ -389,4 +402,67 @@ public class StudentPortalServiceTest {
         verify(studentAcademicProgressRepository, times(1)).findByStudentId("STU001");
         verify(courseRepository, times(1)).findByAcademicProgramAndIsActive("Computer Science", true);
     }
+
+    @Test
+    @DisplayName("Caso exitoso - getDashboard arma el tablero leyendo el progreso una sola vez")
+    void testGetDashboard_Exitoso() {
+        Course recomendado = new Course();
+        recomendado.setCourseCode("CS201");
+        recomendado.setIsActive(true);
+        recomendado.setAcademicProgram("Computer Science");
+        progress.setCumulativeGPA(2.5);
+        when(studentAcademicProgressRepository.findByStudentId("STU001")).thenReturn(Optional.of(progress));
+        when(groupRepository.findAllById(List.of("GROUP_001"))).thenReturn(List.of(group));
+        when(courseRepository.findByAcademicProgramAndIsActive("Computer Science", true))
+                .thenReturn(List.of(course, recomendado));
+        when(academicPeriodRepository.findByIsActiveTrue()).thenReturn(Optional.of(academicPeriod));
+        when(trafficLightService.getAcademicTrafficLight(student, progress)).thenReturn("YELLOW");
+
+        StudentPortalService.StudentDashboard resultado = studentPortalService.getDashboard("STU001");
+
+        assertAll("Verificar tablero del estudiante",
+                () -> assertSame(progress, resultado.getProgress()),
+                () -> assertEquals(List.of(group), resultado.getCurrentSchedule()),
+                () -> assertEquals(1, resultado.getAlerts().size()),
+                () -> assertEquals(List.of(recomendado), resultado.getRecommendations()),
+                () -> assertSame(academicPeriod, resultado.getEnrollmentDeadlines()),
+                () -> assertEquals("YELLOW", resultado.getTrafficLight())
+        );
+
+        verify(studentAcademicProgressRepository, times(1)).findByStudentId("STU001");
+        verify(groupRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Caso borde - getDashboard sin período activo ni grupos actuales")
+    void testGetDashboard_SinPeriodoNiGrupos() {
+        courseStatusDetail.setIsApproved(true);
+        courseStatusDetail.setCompletionDate(new Date());
+        when(studentAcademicProgressRepository.findByStudentId("STU001")).thenReturn(Optional.of(progress));
+        when(courseRepository.findByAcademicProgramAndIsActive("Computer Science", true)).thenReturn(List.of());
+        when(academicPeriodRepository.findByIsActiveTrue()).thenReturn(Optional.empty());
+        when(trafficLightService.getAcademicTrafficLight(student, progress)).thenReturn("GREEN");
+
+        StudentPortalService.StudentDashboard resultado = studentPortalService.getDashboard("STU001");
+
+        assertAll("Verificar tablero sin período ni grupos",
+                () -> assertTrue(resultado.getCurrentSchedule().isEmpty()),
+                () -> assertNull(resultado.getEnrollmentDeadlines()),
+                () -> assertEquals("GREEN", resultado.getTrafficLight())
+        );
+
+        verify(groupRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Caso error - getDashboard lanza excepción cuando no hay progreso")
+    void testGetDashboard_SinProgreso() {
+        when(studentAcademicProgressRepository.findByStudentId("STU_INEXISTENTE")).thenReturn(Optional.empty());
+
+        AppException exception = assertThrows(AppException.class,
+                () -> studentPortalService.getDashboard("STU_INEXISTENTE"));
+
+        assertEquals("Progreso académico no encontrado para el estudiante: STU_INEXISTENTE", exception.getMessage());
+        verifyNoInteractions(groupRepository, courseRepository, academicPeriodRepository, trafficLightService);
+    }
 }
\ No newline at end of file
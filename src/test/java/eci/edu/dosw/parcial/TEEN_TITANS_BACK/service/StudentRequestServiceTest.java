@@ -33,7 +33,10 @@ public class StudentRequestServiceTest {
     private ReviewStepRepository reviewStepRepository;
 
     @Mock
-    private StudentAcademicProgressRepository studentAcademicProgressRepository;
+    private RequestPriorityQueueService requestPriorityQueueService;
+
+    @Mock
+    private GroupEnrollmentService groupEnrollmentService;
 
     @InjectMocks
     private StudentRequestService studentRequestService;
@@ -205,16 +208,37 @@ public class StudentRequestServiceTest {
     @Test
     @DisplayName("Caso exitoso - getRequestPriorityPosition calcula posición correctamente")
     void testGetRequestPriorityPosition_Exitoso() {
-        when(scheduleChangeRequestRepository.findById("REQ001")).thenReturn(Optional.of(pendingRequest));
-        when(studentAcademicProgressRepository.findByStudentId("STU001")).thenReturn(Optional.of(progress));
-        when(scheduleChangeRequestRepository.findByStatus(RequestStatus.PENDING))
-                .thenReturn(Arrays.asList(pendingRequest));
+        when(requestPriorityQueueService.getPosition("REQ001")).thenReturn(1);
 
         int resultado = studentRequestService.getRequestPriorityPosition("REQ001");
 
         assertEquals(1, resultado);
-        verify(scheduleChangeRequestRepository, times(1)).findById("REQ001");
-        verify(scheduleChangeRequestRepository, times(1)).findByStatus(RequestStatus.PENDING);
+        verify(requestPriorityQueueService, times(1)).getPosition("REQ001");
+        verifyNoInteractions(scheduleChangeRequestRepository);
+    }
+
+    @Test
+    @DisplayName("Caso borde - getRequestPriorityPosition encola una solicitud pendiente ausente de la cola")
+    void testGetRequestPriorityPosition_SolicitudFueraDeCola() {
+        when(requestPriorityQueueService.getPosition("REQ001")).thenReturn(-1, -1, 2);
+        when(scheduleChangeRequestRepository.findById("REQ001")).thenReturn(Optional.of(pendingRequest));
+
+        int resultado = studentRequestService.getRequestPriorityPosition("REQ001");
+
+        assertEquals(2, resultado);
+        verify(requestPriorityQueueService, times(1)).update(pendingRequest);
+    }
+
+    @Test
+    @DisplayName("Caso borde - getRequestPriorityPosition retorna -1 para solicitud que no está pendiente")
+    void testGetRequestPriorityPosition_SolicitudNoPendiente() {
+        when(requestPriorityQueueService.getPosition("REQ002")).thenReturn(-1);
+        when(scheduleChangeRequestRepository.findById("REQ002")).thenReturn(Optional.of(approvedRequest));
+
+        int resultado = studentRequestService.getRequestPriorityPosition("REQ002");
+
+        assertEquals(-1, resultado);
+        verify(requestPriorityQueueService, never()).update(any());
     }
 
 
@@ -344,6 +368,7 @@ public class StudentRequestServiceTest {
     @Test
     @DisplayName("Caso error - getRequestPriorityPosition lanza excepción cuando solicitud no existe")
     void testGetRequestPriorityPosition_SolicitudNoExiste() {
+        when(requestPriorityQueueService.getPosition("REQ_INEXISTENTE")).thenReturn(-1);
         when(scheduleChangeRequestRepository.findById("REQ_INEXISTENTE")).thenReturn(Optional.empty());
 
         AppException exception = assertThrows(AppException.class, () -> {
@@ -1,6 +1,9 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.StudentSummaryDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentRepository;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +31,12 @@ public class StudentServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private UserIdentityService userIdentityService;
+
+    @Mock
+    private TrafficLightService trafficLightService;
+
     @InjectMocks
     private StudentService studentService;
 
@@ -207,6 +217,8 @@ public class StudentServiceTest {
 
         verify(studentRepository, times(1)).existsById("1");
         verify(studentRepository, times(1)).deleteById("1");
+        verify(userIdentityService, times(1)).remove(UserIdentity.STUDENTS, "1");
+        verify(trafficLightService, times(1)).evictSnapshot("1");
     }
 
     @Test
@@ -221,6 +233,7 @@ public class StudentServiceTest {
 
         verify(studentRepository, times(1)).existsById("99");
         verify(studentRepository, never()).deleteById(anyString());
+        verifyNoInteractions(trafficLightService);
     }
 
     @Test
@@ -406,4 +419,70 @@ public class StudentServiceTest {
 
         verify(studentRepository, times(1)).findTopStudents(4.0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Caso exitoso - getStudentsPage retorna la primera página con cursor siguiente")
+    void testGetStudentsPage_PrimeraPagina() {
+        when(studentRepository.findSummaryByOrderByIdAsc(Limit.of(3)))
+                .thenReturn(Arrays.asList(summaryOf(student1), summaryOf(student2), summaryOf(student3)));
+
+        CursorPageDTO<StudentSummaryDTO> resultado = studentService.getStudentsPage(null, 2);
+
+        assertAll("Verificar primera página de estudiantes",
+                () -> assertEquals(Arrays.asList(summaryOf(student1), summaryOf(student2)), resultado.getItems()),
+                () -> assertEquals("2", CursorPageDTO.decodeCursor(resultado.getNextCursor()))
+        );
+
+        verify(studentRepository, never()).findSummaryByIdGreaterThanOrderByIdAsc(anyString(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - getStudentsPage continúa desde el cursor recibido")
+    void testGetStudentsPage_PaginaSiguiente() {
+        String cursor = CursorPageDTO.encodeCursor("2");
+        when(studentRepository.findSummaryByIdGreaterThanOrderByIdAsc("2", Limit.of(3)))
+                .thenReturn(Collections.singletonList(summaryOf(student3)));
+
+        CursorPageDTO<StudentSummaryDTO> resultado = studentService.getStudentsPage(cursor, 2);
+
+        assertAll("Verificar última página de estudiantes",
+                () -> assertEquals(Collections.singletonList(summaryOf(student3)), resultado.getItems()),
+                () -> assertNull(resultado.getNextCursor())
+        );
+
+        verify(studentRepository, never()).findSummaryByOrderByIdAsc(any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Caso error - getStudentsPage rechaza un tamaño de página no válido")
+    void testGetStudentsPage_TamanoInvalido() {
+        assertThrows(AppException.class, () -> studentService.getStudentsPage(null, 0));
+
+        verifyNoInteractions(studentRepository);
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - searchStudents delega los filtros en una sola consulta del repositorio")
+    void testSearchStudents_Exitoso() {
+        when(studentRepository.search("Ingeniería de Sistemas", null, 4.0, true, 30))
+                .thenReturn(Arrays.asList(student1, student2));
+
+        List<Student> resultado = studentService.searchStudents("Ingeniería de Sistemas", null, 4.0, true, 30);
+
+        assertEquals(Arrays.asList(student1, student2), resultado);
+        verify(studentRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Caso error - searchStudents rechaza un límite no válido")
+    void testSearchStudents_LimiteInvalido() {
+        assertThrows(AppException.class, () -> studentService.searchStudents(null, null, null, null, 101));
+
+        verifyNoInteractions(studentRepository);
+    }
+
+    private StudentSummaryDTO summaryOf(Student student) {
+        return new StudentSummaryDTO(student.getId(), student.getName(), student.getEmail(), student.getRole(),
+                student.isActive(), student.getAcademicProgram(), student.getSemester(), student.getGradeAverage());
+    }
+}
@@ -4,18 +4,23 @@ import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.StudentAcademicProgress;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.CourseStatusDetail;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.TrafficLightSnapshot;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentRepository;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.StudentAcademicProgressRepository;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.CourseStatusDetailRepository;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.TrafficLightSnapshotRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,6 +38,12 @@ public class TrafficLightServiceTest {
     @Mock
     private CourseStatusDetailRepository courseStatusDetailRepository;
 
+    @Mock
+    private TrafficLightSnapshotRepository trafficLightSnapshotRepository;
+
+    @Spy
+    private ParallelReadService parallelReadService = new ParallelReadService(Runnable::run);
+
     @InjectMocks
     private TrafficLightService trafficLightService;
 
@@ -68,9 +79,10 @@ public class TrafficLightServiceTest {
         String resultado = trafficLightService.getAcademicTrafficLight("1");
 
         assertEquals("GREEN", resultado);
-        verify(studentRepository, times(2)).findById("1");
+        verify(studentRepository, times(1)).findById("1");
         verify(studentAcademicProgressRepository, times(1)).findByStudentId("1");
         verify(courseStatusDetailRepository, times(1)).findByStudentIdAndSemester("1", "5");
+        verify(trafficLightSnapshotRepository, times(1)).save(any(TrafficLightSnapshot.class));
     }
 
     @Test
@@ -204,7 +216,7 @@ public class TrafficLightServiceTest {
         boolean resultado = trafficLightService.isStudentAtAcademicRisk("1");
 
         assertFalse(resultado);
-        verify(studentRepository, times(2)).findById("1");
+        verify(studentRepository, times(1)).findById("1");
     }
 
 
@@ -222,8 +234,8 @@ public class TrafficLightServiceTest {
         assertTrue(resultado.contains("Estudiante: Robin"));
         assertTrue(resultado.contains("Programa: Ingeniería"));
         assertTrue(resultado.contains("Semáforo académico: GREEN"));
-        verify(studentRepository, times(3)).findById("1");
-        verify(studentAcademicProgressRepository, times(3)).findByStudentId("1");
+        verify(studentRepository, times(1)).findById("1");
+        verify(studentAcademicProgressRepository, times(1)).findByStudentId("1");
     }
 
     @Test
@@ -232,19 +244,26 @@ public class TrafficLightServiceTest {
         Student student2 = new Student("2", "Starfire", "starfire@titans.edu", "5678", "Ingeniería", 3);
         student2.setActive(true);
 
+        StudentAcademicProgress lowProgress = new StudentAcademicProgress();
+        lowProgress.setCurrentSemester(3);
+        lowProgress.setTotalSemesters(10);
+        lowProgress.setCompletedCredits(10);
+        lowProgress.setTotalCreditsRequired(160);
+        lowProgress.setCumulativeGPA(2.0);
+
         when(studentRepository.findByAcademicProgramAndActive("Ingeniería", true))
                 .thenReturn(List.of(student, student2));
-        when(studentRepository.findById("1")).thenReturn(Optional.of(student));
-        when(studentRepository.findById("2")).thenReturn(Optional.of(student2));
-        when(studentAcademicProgressRepository.findByStudentId("1")).thenReturn(Optional.of(progress));
-        when(studentAcademicProgressRepository.findByStudentId("2")).thenReturn(Optional.of(progress));
-        when(courseStatusDetailRepository.findByStudentIdAndSemester("1", "5")).thenReturn(List.of(courseStatus));
-        when(courseStatusDetailRepository.findByStudentIdAndSemester("2", "3")).thenReturn(List.of(courseStatus));
+        when(studentAcademicProgressRepository.findProgressByStudentIds(List.of("1", "2")))
+                .thenReturn(Map.of("1", progress, "2", lowProgress));
+        when(courseStatusDetailRepository.findFailedCourseMarksByStudentIdIn(anyCollection()))
+                .thenReturn(List.of());
 
         List<Student> resultado = trafficLightService.getStudentsAtRiskByProgram("Ingeniería");
 
-        assertNotNull(resultado);
+        assertEquals(List.of(student2), resultado);
         verify(studentRepository, times(1)).findByAcademicProgramAndActive("Ingeniería", true);
+        verify(studentRepository, never()).findById(anyString());
+        verify(studentAcademicProgressRepository, never()).findByStudentId(anyString());
     }
 
     @Test
@@ -252,24 +271,74 @@ public class TrafficLightServiceTest {
     void testGetTrafficLightStatisticsByProgram_Exitoso() {
         Student student2 = new Student("2", "Starfire", "starfire@titans.edu", "5678", "Ingeniería", 3);
         student2.setActive(true);
+        Student student3 = new Student("3", "Raven", "raven@titans.edu", "9012", "Ingeniería", 5);
+        student3.setActive(true);
+
+        CourseStatusDetail failedCourse = new CourseStatusDetail();
+        failedCourse.setStudentId("2");
+        failedCourse.setSemester("3");
+        failedCourse.setIsApproved(false);
+        CourseStatusDetail failedPreviousSemester = new CourseStatusDetail();
+        failedPreviousSemester.setStudentId("1");
+        failedPreviousSemester.setSemester("4");
+        failedPreviousSemester.setIsApproved(false);
+
+        StudentAcademicProgress regularProgress = new StudentAcademicProgress();
+        regularProgress.setCurrentSemester(3);
+        regularProgress.setTotalSemesters(10);
+        regularProgress.setCompletedCredits(40);
+        regularProgress.setTotalCreditsRequired(160);
+        regularProgress.setCumulativeGPA(2.7);
 
         when(studentRepository.findByAcademicProgramAndActive("Ingeniería", true))
-                .thenReturn(List.of(student, student2));
-        when(studentRepository.findById("1")).thenReturn(Optional.of(student));
-        when(studentRepository.findById("2")).thenReturn(Optional.of(student2));
-        when(studentAcademicProgressRepository.findByStudentId("1")).thenReturn(Optional.of(progress));
-        when(studentAcademicProgressRepository.findByStudentId("2")).thenReturn(Optional.of(progress));
-        when(courseStatusDetailRepository.findByStudentIdAndSemester("1", "5")).thenReturn(List.of(courseStatus));
-        when(courseStatusDetailRepository.findByStudentIdAndSemester("2", "3")).thenReturn(List.of(courseStatus));
+                .thenReturn(List.of(student, student2, student3));
+        when(studentAcademicProgressRepository.findProgressByStudentIds(List.of("1", "2", "3")))
+                .thenReturn(Map.of("1", progress, "2", regularProgress));
+        when(courseStatusDetailRepository.findFailedCourseMarksByStudentIdIn(anyCollection()))
+                .thenReturn(List.of(failedCourse, failedPreviousSemester));
 
         int[] resultado = trafficLightService.getTrafficLightStatisticsByProgram("Ingeniería");
 
-        assertNotNull(resultado);
-        assertEquals(3, resultado.length);
-        assertTrue(resultado[0] >= 0);
-        assertTrue(resultado[1] >= 0);
-        assertTrue(resultado[2] >= 0);
+        assertArrayEquals(new int[]{1, 1, 1}, resultado);
         verify(studentRepository, times(1)).findByAcademicProgramAndActive("Ingeniería", true);
+        verify(studentAcademicProgressRepository, times(1)).findProgressByStudentIds(anyCollection());
+        verify(courseStatusDetailRepository, times(1)).findFailedCourseMarksByStudentIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - classifyStudents coincide con getAcademicTrafficLight")
+    void testClassifyStudents_CoincideConCalculoIndividual() {
+        progress.setCumulativeGPA(2.5);
+        progress.setCompletedCredits(56);
+
+        CourseStatusDetail failedCourse = new CourseStatusDetail();
+        failedCourse.setStudentId("1");
+        failedCourse.setSemester("5");
+        failedCourse.setIsApproved(false);
+
+        when(studentRepository.findById("1")).thenReturn(Optional.of(student));
+        when(studentAcademicProgressRepository.findByStudentId("1")).thenReturn(Optional.of(progress));
+        when(courseStatusDetailRepository.findByStudentIdAndSemester("1", "5"))
+                .thenReturn(List.of(courseStatus, failedCourse));
+        when(studentAcademicProgressRepository.findProgressByStudentIds(List.of("1")))
+                .thenReturn(Map.of("1", progress));
+        when(courseStatusDetailRepository.findFailedCourseMarksByStudentIdIn(anyCollection()))
+                .thenReturn(List.of(failedCourse));
+
+        String individual = trafficLightService.getAcademicTrafficLight("1");
+        Map<String, String> masivo = trafficLightService.classifyStudents(List.of(student));
+
+        assertEquals("YELLOW", individual);
+        assertEquals(individual, masivo.get("1"));
+    }
+
+    @Test
+    @DisplayName("Caso borde - classifyStudents con lista vacía no consulta la base de datos")
+    void testClassifyStudents_Borde_ListaVacia() {
+        Map<String, String> resultado = trafficLightService.classifyStudents(List.of());
+
+        assertTrue(resultado.isEmpty());
+        verifyNoInteractions(studentAcademicProgressRepository, courseStatusDetailRepository);
     }
 
     @Test
@@ -286,8 +355,85 @@ public class TrafficLightServiceTest {
         assertEquals(progress, resultado.getProgress());
         assertEquals("GREEN", resultado.getTrafficLight());
         assertEquals(50.0, resultado.getProgressPercentage());
-        verify(studentRepository, times(3)).findById("1");
-        verify(studentAcademicProgressRepository, times(3)).findByStudentId("1");
+        verify(studentRepository, times(1)).findById("1");
+        verify(studentAcademicProgressRepository, times(1)).findByStudentId("1");
+    }
+
+    @Test
+    @DisplayName("Caso error - getStudentProgressInfo espera las lecturas lanzadas si el estudiante no existe")
+    void testGetStudentProgressInfo_EstudianteNoEncontrado() {
+        when(studentRepository.findById("99")).thenReturn(Optional.empty());
+        when(studentAcademicProgressRepository.findByStudentId("99")).thenReturn(Optional.empty());
+        when(trafficLightSnapshotRepository.findById("99")).thenReturn(Optional.empty());
+
+        AppException exception = assertThrows(AppException.class,
+                () -> trafficLightService.getStudentProgressInfo("99"));
+
+        assertEquals("Estudiante no encontrado: 99", exception.getMessage());
+        verify(parallelReadService).awaitAll(any(), any());
+        verify(trafficLightSnapshotRepository, never()).save(any(TrafficLightSnapshot.class));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - getAcademicTrafficLight usa el semáforo precalculado sin recalcular")
+    void testGetAcademicTrafficLight_Exitoso_DesdeSnapshot() {
+        TrafficLightSnapshot snapshot = new TrafficLightSnapshot("1", "Ingeniería", "YELLOW", 40.0, 1L, new Date());
+        when(trafficLightSnapshotRepository.findById("1")).thenReturn(Optional.of(snapshot));
+
+        String resultado = trafficLightService.getAcademicTrafficLight("1");
+
+        assertEquals("YELLOW", resultado);
+        verifyNoInteractions(studentRepository, studentAcademicProgressRepository, courseStatusDetailRepository);
+        verify(trafficLightSnapshotRepository, never()).save(any(TrafficLightSnapshot.class));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - getCurriculumProgressPercentage usa el semáforo precalculado")
+    void testGetCurriculumProgressPercentage_Exitoso_DesdeSnapshot() {
+        TrafficLightSnapshot snapshot = new TrafficLightSnapshot("1", "Ingeniería", "GREEN", 75.0, 0L, new Date());
+        when(trafficLightSnapshotRepository.findById("1")).thenReturn(Optional.of(snapshot));
+
+        Double resultado = trafficLightService.getCurriculumProgressPercentage("1");
+
+        assertEquals(75.0, resultado);
+        verifyNoInteractions(studentAcademicProgressRepository);
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - recomputeSnapshot guarda el semáforo calculado")
+    void testRecomputeSnapshot_Exitoso() {
+        when(studentRepository.findById("1")).thenReturn(Optional.of(student));
+        when(studentAcademicProgressRepository.findByStudentId("1")).thenReturn(Optional.of(progress));
+        when(courseStatusDetailRepository.findByStudentIdAndSemester("1", "5")).thenReturn(List.of(courseStatus));
+
+        trafficLightService.recomputeSnapshot("1");
+
+        verify(trafficLightSnapshotRepository, times(1)).save(argThat(snapshot ->
+                "1".equals(snapshot.getStudentId())
+                        && "GREEN".equals(snapshot.getTrafficLight())
+                        && snapshot.getProgressPercentage() == 50.0
+                        && snapshot.getFailedCoursesCount() == 0L));
+        verify(trafficLightSnapshotRepository, never()).deleteById(anyString());
+    }
+
+    @Test
+    @DisplayName("Caso borde - recomputeSnapshot elimina el semáforo si el progreso ya no existe")
+    void testRecomputeSnapshot_Borde_SinProgreso() {
+        when(studentRepository.findById("1")).thenReturn(Optional.of(student));
+        when(studentAcademicProgressRepository.findByStudentId("1")).thenReturn(Optional.empty());
+
+        trafficLightService.recomputeSnapshot("1");
+
+        verify(trafficLightSnapshotRepository, times(1)).deleteById("1");
+        verify(trafficLightSnapshotRepository, never()).save(any(TrafficLightSnapshot.class));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - evictSnapshot elimina el semáforo del estudiante")
+    void testEvictSnapshot_Exitoso() {
+        trafficLightService.evictSnapshot("1");
+
+        verify(trafficLightSnapshotRepository, times(1)).deleteById("1");
     }
 
     @Test
@@ -329,4 +475,27 @@ public class TrafficLightServiceTest {
 
         assertEquals("RED", resultado);
     }
+
+    @Test
+    @DisplayName("Caso exitoso - getAcademicTrafficLight con datos cargados no vuelve a consultarlos")
+    void testGetAcademicTrafficLight_ConDatosCargados() {
+        TrafficLightSnapshot snapshot = new TrafficLightSnapshot("1", "Ingeniería", "YELLOW", 40.0, 1L, new Date());
+        when(trafficLightSnapshotRepository.findById("1")).thenReturn(Optional.of(snapshot));
+
+        String resultado = trafficLightService.getAcademicTrafficLight(student, progress);
+
+        assertEquals("YELLOW", resultado);
+        verifyNoInteractions(studentRepository, studentAcademicProgressRepository, courseStatusDetailRepository);
+    }
+
+    @Test
+    @DisplayName("Caso borde - getAcademicTrafficLight con datos cargados retorna RED para estudiante inactivo")
+    void testGetAcademicTrafficLight_ConDatosCargados_Inactivo() {
+        student.setActive(false);
+
+        String resultado = trafficLightService.getAcademicTrafficLight(student, progress);
+
+        assertEquals("RED", resultado);
+        verifyNoInteractions(trafficLightSnapshotRepository);
+    }
 }
\ No newline at end of file
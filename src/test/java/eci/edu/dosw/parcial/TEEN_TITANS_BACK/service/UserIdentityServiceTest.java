@@ -0,0 +1,143 @@
+package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
+
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.exceptions.AppException;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.Student;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.UserIdentity;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.UserIdentityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserIdentityServiceTest {
+
+    @Mock
+    private UserIdentityRepository userIdentityRepository;
+
+    @InjectMocks
+    private UserIdentityService userIdentityService;
+
+    private Student student;
+    private UserIdentity identity;
+
+    @BeforeEach
+    void setUp() {
+        student = new Student("1", "Robin", "robin@titans.edu", "1234", "Ingeniería", 5);
+        identity = new UserIdentity("robin@titans.edu", UserIdentity.STUDENTS, "1",
+                UserRole.STUDENT, true);
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - findByEmail lee la identidad por clave primaria")
+    void testFindByEmail_Exitoso() {
+        when(userIdentityRepository.findById("robin@titans.edu")).thenReturn(Optional.of(identity));
+
+        Optional<UserIdentity> resultado = userIdentityService.findByEmail("robin@titans.edu");
+
+        assertTrue(resultado.isPresent());
+        assertEquals("1", resultado.get().getUserId());
+        verify(userIdentityRepository, times(1)).findById("robin@titans.edu");
+    }
+
+    @Test
+    @DisplayName("Caso borde - findByEmail con email nulo no consulta el repositorio")
+    void testFindByEmail_Borde_EmailNulo() {
+        assertTrue(userIdentityService.findByEmail(null).isEmpty());
+        verifyNoInteractions(userIdentityRepository);
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - index inserta un email nuevo y elimina la entrada anterior de la cuenta")
+    void testIndex_Exitoso() {
+        when(userIdentityRepository.findById("robin@titans.edu")).thenReturn(Optional.empty());
+
+        UserIdentity resultado = userIdentityService.index(student, UserIdentity.STUDENTS);
+
+        assertEquals(identity, resultado);
+        verify(userIdentityRepository, times(1)).insert(identity);
+        verify(userIdentityRepository, never()).save(any(UserIdentity.class));
+        verify(userIdentityRepository, times(1))
+                .deleteByUserCollectionAndUserIdAndEmailNot(UserIdentity.STUDENTS, "1", "robin@titans.edu");
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - index actualiza la entrada que ya pertenece a la cuenta")
+    void testIndex_Exitoso_MismaCuenta() {
+        student.setActive(false);
+        UserIdentity anterior = new UserIdentity("robin@titans.edu", UserIdentity.STUDENTS, "1",
+                UserRole.STUDENT, true);
+        when(userIdentityRepository.findById("robin@titans.edu")).thenReturn(Optional.of(anterior));
+        when(userIdentityRepository.save(any(UserIdentity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserIdentity resultado = userIdentityService.index(student, UserIdentity.STUDENTS);
+
+        assertFalse(resultado.isActive());
+        verify(userIdentityRepository, never()).insert(any(UserIdentity.class));
+        verify(userIdentityRepository, never()).deleteByUserCollectionAndUserIdAndEmailNot(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Caso error - index no sobrescribe el email indexado para otra cuenta")
+    void testIndex_Error_EmailDeOtraCuenta() {
+        when(userIdentityRepository.findById("robin@titans.edu")).thenReturn(Optional.empty());
+        when(userIdentityRepository.insert(any(UserIdentity.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+        AppException exception = assertThrows(AppException.class, () ->
+                userIdentityService.index(student, UserIdentity.STUDENTS));
+
+        assertEquals("El email ya está registrado: robin@titans.edu", exception.getMessage());
+        verify(userIdentityRepository, never()).save(any(UserIdentity.class));
+        verify(userIdentityRepository, never()).deleteByUserCollectionAndUserIdAndEmailNot(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Caso borde - index ignora cuentas sin ID")
+    void testIndex_Borde_SinId() {
+        student.setId(null);
+
+        assertNull(userIdentityService.index(student, UserIdentity.STUDENTS));
+        verify(userIdentityRepository, never()).save(any(UserIdentity.class));
+        verify(userIdentityRepository, never()).insert(any(UserIdentity.class));
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - ensureEmailAvailable acepta el email de la misma cuenta")
+    void testEnsureEmailAvailable_Exitoso_MismaCuenta() {
+        when(userIdentityRepository.findById("robin@titans.edu")).thenReturn(Optional.of(identity));
+
+        assertDoesNotThrow(() ->
+                userIdentityService.ensureEmailAvailable("robin@titans.edu", UserIdentity.STUDENTS, "1"));
+    }
+
+    @Test
+    @DisplayName("Caso error - ensureEmailAvailable rechaza el email de otra cuenta")
+    void testEnsureEmailAvailable_Error_OtraCuenta() {
+        when(userIdentityRepository.findById("robin@titans.edu")).thenReturn(Optional.of(identity));
+
+        AppException exception = assertThrows(AppException.class, () ->
+                userIdentityService.ensureEmailAvailable("robin@titans.edu", UserIdentity.PROFESSORS, null));
+
+        assertEquals("El email ya está registrado: robin@titans.edu", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - remove elimina la identidad de la cuenta")
+    void testRemove_Exitoso() {
+        userIdentityService.remove(UserIdentity.DEANS, "5");
+
+        verify(userIdentityRepository, times(1)).deleteByUserCollectionAndUserId(UserIdentity.DEANS, "5");
+    }
+}
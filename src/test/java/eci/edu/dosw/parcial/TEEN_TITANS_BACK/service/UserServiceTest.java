@@ -1,5 +1,7 @@
 package eci.edu.dosw.parcial.TEEN_TITANS_BACK.service;
 
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.UserSummaryDTO;
+import eci.edu.dosw.parcial.TEEN_TITANS_BACK.dto.CursorPageDTO;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.model.User;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.enums.UserRole;
 import eci.edu.dosw.parcial.TEEN_TITANS_BACK.repository.UserRepository;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +32,9 @@ public class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserIdentityService userIdentityService;
+
     @InjectMocks
     private UserService userService;
 
@@ -427,4 +433,61 @@ public class UserServiceTest {
         assertTrue(resultado.isEmpty());
         verify(userRepository, times(1)).findByNameContainingIgnoreCase("Inexistente");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Caso exitoso - getUsersPage retorna la página siguiente al cursor")
+    void testGetUsersPage_Exitoso() {
+        String cursor = CursorPageDTO.encodeCursor("1");
+        when(userRepository.findSummaryByIdGreaterThanOrderByIdAsc("1", Limit.of(2)))
+                .thenReturn(Arrays.asList(summaryOf(user2), summaryOf(user3)));
+
+        CursorPageDTO<UserSummaryDTO> resultado = userService.getUsersPage(cursor, 1);
+
+        assertAll("Verificar página de usuarios",
+                () -> assertEquals(Collections.singletonList(summaryOf(user2)), resultado.getItems()),
+                () -> assertEquals("2", CursorPageDTO.decodeCursor(resultado.getNextCursor()))
+        );
+    }
+
+    @Test
+    @DisplayName("Caso error - getUsersPage rechaza un cursor mal formado")
+    void testGetUsersPage_CursorInvalido() {
+        assertThrows(AppException.class, () -> userService.getUsersPage("%%", 20));
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Caso exitoso - searchUsers convierte el rol sin distinguir mayúsculas")
+    void testSearchUsers_Exitoso() {
+        when(userRepository.search(UserRole.ADMINISTRATOR, true, 50)).thenReturn(List.of(user1));
+
+        List<User> resultado = userService.searchUsers("administrator", true, 50);
+
+        assertEquals(List.of(user1), resultado);
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Caso borde - searchUsers sin rol busca solo por estado")
+    void testSearchUsers_SinRol() {
+        when(userRepository.search(null, false, 100)).thenReturn(List.of(user2));
+
+        List<User> resultado = userService.searchUsers(null, false, 100);
+
+        assertEquals(List.of(user2), resultado);
+    }
+
+    @Test
+    @DisplayName("Caso borde - searchUsers con un rol inexistente retorna lista vacía")
+    void testSearchUsers_RolInexistente() {
+        List<User> resultado = userService.searchUsers("SUPERHEROE", null, 100);
+
+        assertTrue(resultado.isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+
+    private UserSummaryDTO summaryOf(User user) {
+        return new UserSummaryDTO(user.getId(), user.getName(), user.getEmail(), user.getRole(), user.isActive());
+    }
+}